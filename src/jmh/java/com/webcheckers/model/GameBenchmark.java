@@ -0,0 +1,106 @@
+package com.webcheckers.model;
+
+import com.webcheckers.util.Message;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of the move validation and board copying of {@link Game}
+ *
+ * <p>
+ * The simple move is the first move of red from the starting board. The jump is made on the starting board with
+ * a white piece placed in front of that red piece. Moves made on the game are taken back in the same
+ * invocation, so every invocation starts from the same board.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class GameBenchmark {
+
+    /**
+     * Attributes
+     */
+    private final Move simpleMove = new Move(new Position(2, 7), new Position(3, 6));
+    private final Move jumpMove = new Move(new Position(2, 7), new Position(4, 5));
+    private final Player redPlayer = new Player("red");
+    private Game game;
+    private Game jumpGame;
+    private Space[][] board;
+    private Space[][] jumpBoard;
+
+    @Setup
+    public void setup() {
+        game = new Game(1, redPlayer, new Player("white"));
+        board = game.getBoard();
+
+        jumpBoard = game.createBoardCopy(board);
+        jumpBoard[3][6].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        jumpGame = new Game(2, new Player("red 2"), new Player("white 2"));
+        jumpGame.modifyActualBoard(game.createBoardCopy(jumpBoard));
+    }
+
+    @Benchmark
+    public Message validateMoveSimple() {
+        Message message = game.validateMove(simpleMove);
+        game.backupMove();
+        return message;
+    }
+
+    @Benchmark
+    public Message validateMoveJump() {
+        Message message = jumpGame.validateMove(jumpMove);
+        jumpGame.backupMove();
+        return message;
+    }
+
+    @Benchmark
+    public boolean validateSimpleMove() {
+        return game.validateSimpleMove(simpleMove, board, false);
+    }
+
+    @Benchmark
+    public boolean validateJumpMove() {
+        return game.validateJumpMove(jumpMove, jumpBoard, false);
+    }
+
+    @Benchmark
+    public boolean searchForJumps() {
+        return game.searchForJumps(Piece.PieceColor.RED, jumpBoard);
+    }
+
+    @Benchmark
+    public Space[][] createBoardCopy() {
+        return game.createBoardCopy(board);
+    }
+
+    /**
+     * The views shared by every request until the next commit
+     */
+    @Benchmark
+    public BoardView getBoardViewCached() {
+        return game.getBoardView(redPlayer);
+    }
+
+    /**
+     * The views built again, as they are by the first request after a commit
+     */
+    @Benchmark
+    public BoardView getBoardViewBuilt() {
+        game.modifyActualBoard(board);
+        return game.getBoardView(redPlayer);
+    }
+}
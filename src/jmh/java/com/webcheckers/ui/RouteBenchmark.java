@@ -0,0 +1,116 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import com.webcheckers.model.Space;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Microbenchmarks of the full {@code handle()} of the routes that make a turn, with the Spark request stubbed the
+ * same way the route tests stub it
+ *
+ * <p>
+ * The stubs add a small constant cost to every call, which is the same from one release to the next. A
+ * submitted turn is committed, so the game is set back to the starting board with the move pending before each
+ * submit; that setup is not measured.
+ * </p>
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class RouteBenchmark {
+
+    private static final String SIMPLE_MOVE_JSON = "{\"start\":{\"row\":2,\"cell\":7},\"end\":{\"row\":3,\"cell\":6}}";
+
+    /**
+     * Attributes
+     */
+    private final Move simpleMove = new Move(new Position(2, 7), new Position(3, 6));
+    private Request request;
+    private Response response;
+    private Game game;
+    private Space[][] startBoard;
+    private PostValidateMoveRoute validateMoveRoute;
+    private PostSubmitTurnRoute submitTurnRoute;
+
+    @Setup
+    public void setup() {
+        PlayerLobby playerLobby = new PlayerLobby();
+        Player red = new Player("red");
+        Player white = new Player("white");
+        playerLobby.signIn(red);
+        playerLobby.signIn(white);
+        playerLobby.startGame(red, white.getName());
+        game = red.getGame();
+        startBoard = game.createBoardCopy(game.getBoard());
+
+        request = mock(Request.class);
+        Session session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        when(session.attribute(PostValidateMoveRoute.CURRENT_USER_ATTR)).thenReturn(red);
+        when(request.queryParams(PostValidateMoveRoute.ACTION_DATA_QUERY_PARAM)).thenReturn(SIMPLE_MOVE_JSON);
+        response = mock(Response.class);
+
+        validateMoveRoute = new PostValidateMoveRoute(new Gson(), playerLobby);
+        submitTurnRoute = new PostSubmitTurnRoute(playerLobby);
+    }
+
+    /**
+     * Sets the game back to the starting board with red to move
+     */
+    private void resetGame() {
+        game.modifyActualBoard(game.createBoardCopy(startBoard));
+        if (!game.isRedPlayerTurn()) {
+            game.changeTurn();
+        }
+    }
+
+    /**
+     * Pending moves for {@link #submitTurn()}, made before each invocation
+     */
+    @State(Scope.Thread)
+    public static class PendingTurn {
+        @Setup(Level.Invocation)
+        public void setup(RouteBenchmark benchmark) {
+            benchmark.resetGame();
+            benchmark.game.validateMove(benchmark.simpleMove);
+        }
+    }
+
+    @Benchmark
+    public Object validateMove() {
+        Object body = validateMoveRoute.handle(request, response);
+        game.backupMove();
+        return body;
+    }
+
+    @Benchmark
+    public Object submitTurn(PendingTurn pendingTurn) {
+        return submitTurnRoute.handle(request, response);
+    }
+}
@@ -0,0 +1,48 @@
+package com.webcheckers.util;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Microbenchmarks of the JSON of {@link Message}, for a message written once and for a constant message written
+ * again
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+@State(Scope.Thread)
+public class MessageBenchmark {
+
+    private static final String TEXT = "You submitted a valid turn.";
+
+    /**
+     * Attributes
+     */
+    private final Message constant = Message.info(TEXT);
+
+    @Benchmark
+    public String toJsonNew() {
+        return Message.info(TEXT).toJson();
+    }
+
+    @Benchmark
+    public String toJsonConstant() {
+        return constant.toJson();
+    }
+
+    @Benchmark
+    public byte[] toJsonBytesConstant() {
+        return constant.toJsonBytes();
+    }
+}
@@ -6,8 +6,12 @@ import java.util.logging.LogManager;
 import java.util.logging.Logger;
 
 import com.google.gson.Gson;
+import com.webcheckers.appl.BotCenter;
+import com.webcheckers.appl.GameCenter;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.ui.WebServer;
+import com.webcheckers.util.AsyncConsoleHandler;
+import com.webcheckers.util.Log;
 
 import spark.TemplateEngine;
 import spark.template.freemarker.FreeMarkerEngine;
@@ -19,7 +23,7 @@ import spark.template.freemarker.FreeMarkerEngine;
  * @author <a href='mailto:bdbvse@rit.edu'>Bryan Basham</a>
  */
 public final class Application {
-  private static final Logger LOG = Logger.getLogger(Application.class.getName());
+  private static final Log LOG = Log.getLog(Application.class);
 
   /**
    * Queries whether the application is being run in demo-mode.
@@ -40,6 +44,9 @@ public final class Application {
     return inDemoMode;
   }
   private static final String DEMO_MODE_PROPERTY = "demoMode";
+  private static final String BOT_THREADS_PROPERTY = "botThreads";
+  private static final String ARCHIVE_TTL_PROPERTY = "archiveTtlMillis";
+  private static final String ARCHIVE_CAP_PROPERTY = "archiveCap";
   private static Boolean inDemoMode = null;
 
   /**
@@ -53,8 +60,8 @@ public final class Application {
       try {
         return Boolean.parseBoolean(demoModeStr);
       } catch (Exception e) {
-        LOG.warning(String.format("Bad '%s' value, '%s'; must be a boolean.",
-            DEMO_MODE_PROPERTY, demoModeStr));
+        // MessageFormat takes a doubled apostrophe for a quote
+        LOG.warning("Bad ''{0}'' value, ''{1}''; must be a boolean.", DEMO_MODE_PROPERTY, demoModeStr);
         return false;
       }
     }
@@ -81,6 +88,10 @@ public final class Application {
       ClassLoader classLoader = Application.class.getClassLoader();
       final InputStream logConfig = classLoader.getResourceAsStream("log.properties");
       LogManager.getLogManager().readConfiguration(logConfig);
+      // The LogManager only loads handlers from the system class path, which does
+      // not hold the application under 'mvn exec:java', so the console handler is
+      // added here; log.properties still configures it.
+      Logger.getLogger("").addHandler(new AsyncConsoleHandler());
     } catch (Exception e) {
       e.printStackTrace();
       System.err.println("Could not initialize log manager because: " + e.getMessage());
@@ -96,8 +107,16 @@ public final class Application {
     // response to Ajax requests.
     final Gson gson = new Gson();
 
-    // create a player lobby
-    final PlayerLobby playerLobby = new PlayerLobby();
+    // create a player lobby, whose computer players search on at most 'botThreads' threads
+    // and whose game center keeps 'archiveCap' ended games for 'archiveTtlMillis'
+    final int botThreads = Integer.getInteger(BOT_THREADS_PROPERTY, BotCenter.DEFAULT_THREADS);
+    LOG.config("Computer players search on up to {0} threads.", botThreads);
+    final long archiveTtlMillis = Long.getLong(ARCHIVE_TTL_PROPERTY, GameCenter.DEFAULT_ARCHIVE_TTL_MILLIS);
+    final int archiveCap = Integer.getInteger(ARCHIVE_CAP_PROPERTY, GameCenter.DEFAULT_ARCHIVE_CAP);
+    LOG.config("Up to {0} ended games are kept for {1,number,#} ms.", archiveCap, archiveTtlMillis);
+    final PlayerLobby playerLobby = new PlayerLobby(botThreads, archiveTtlMillis, archiveCap);
+    // sign out the players who closed the browser without signing out
+    playerLobby.getIdlePlayerReaper().start();
 
     // inject the game center and freemarker engine into web server
     final WebServer webServer = new WebServer(templateEngine, gson, playerLobby);
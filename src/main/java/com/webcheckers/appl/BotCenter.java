@@ -0,0 +1,256 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.BitBoard;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameListener;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Piece;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.ParallelSearch;
+import com.webcheckers.model.TranspositionTable;
+import com.webcheckers.model.TurnValidator;
+import com.webcheckers.util.Log;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.logging.Level;
+
+/**
+ * BotCenter, starts games against computer players and makes their turns.
+ *
+ * <p>
+ * A computer player is a {@link Player} that never signs in. Its name holds a character no username may hold,
+ * so it can never be taken by a person. When it becomes the computer's turn, the search runs on a work-stealing
+ * pool of daemon threads, so the server threads are never held up and the game is not locked while the computer
+ * thinks. The turn found is only made if the board did not change meanwhile.
+ * </p>
+ *
+ * <p>
+ * The pool has a fixed thread budget, by default half the processors, so however many games are played
+ * against the computer, the rest of the processors are left to the threads serving requests. Idle threads of
+ * the pool help the searches of the busy ones through a {@link ParallelSearch}, and every search shares one
+ * {@link TranspositionTable}, so a position searched for one game is not searched again for another game that
+ * reaches it. The table is only allocated once the first game against the computer starts.
+ * </p>
+ */
+public class BotCenter {
+    private static final Log LOG = Log.getLog(BotCenter.class);
+
+    /**
+     * Constants
+     */
+    static final String BOT_NAME_PREFIX = "Computer #";
+    static final long DEFAULT_MOVE_BUDGET_MILLIS = 500;
+    static final int DEFAULT_MAX_DEPTH = 32;
+    static final int TABLE_BITS = 18;
+    public static final int DEFAULT_THREADS = Math.max(1, Runtime.getRuntime().availableProcessors() / 2);
+
+    /**
+     * Attributes
+     */
+    private final GameCenter gameCenter;
+    private final long moveBudgetMillis;
+    private final int maxDepth;
+    private final int threads;
+    private final ForkJoinPool searchers;
+    private volatile ParallelSearch search;
+
+    /**
+     * The computer players of games that have not ended
+     */
+    private final Set<Player> bots = ConcurrentHashMap.newKeySet();
+    private final AtomicInteger lastBotID = new AtomicInteger();
+
+    /**
+     * Creates a {@link BotCenter} that thinks for half a second a turn, with the default thread budget
+     *
+     * @param gameCenter  the {@link GameCenter} to start games in
+     */
+    public BotCenter(GameCenter gameCenter) {
+        this(gameCenter, DEFAULT_MOVE_BUDGET_MILLIS, DEFAULT_MAX_DEPTH, DEFAULT_THREADS);
+    }
+
+    /**
+     * Creates a {@link BotCenter}
+     *
+     * @param gameCenter        the {@link GameCenter} to start games in
+     * @param moveBudgetMillis  how long the computer thinks about a turn
+     * @param maxDepth          the deepest the computer searches, in turns
+     * @param threads           the most threads searching at once, for every game together
+     */
+    public BotCenter(GameCenter gameCenter, long moveBudgetMillis, int maxDepth, int threads) {
+        this.gameCenter = Objects.requireNonNull(gameCenter, "gameCenter is required");
+        this.moveBudgetMillis = moveBudgetMillis;
+        this.maxDepth = maxDepth;
+        this.threads = Math.max(threads, 1);
+
+        // Pool threads are daemon threads, so they do not keep the server from shutting down
+        this.searchers = new ForkJoinPool(this.threads, pool -> {
+            ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+            thread.setName("bot-search-" + thread.getPoolIndex());
+            return thread;
+        }, null, false);
+    }
+
+    /**
+     * Starts a game of a player against a new computer player. The player plays red and moves first.
+     *
+     * @param player  the {@link Player} to play the computer
+     * @return the new {@link Game}
+     */
+    public Game startGame(Player player) {
+        Player bot = new Player(BOT_NAME_PREFIX + lastBotID.incrementAndGet());
+        bots.add(bot);
+
+        Game game = gameCenter.startGame(player, bot);
+        BotListener listener = new BotListener(bot);
+        game.addListener(listener);
+        // The turn may have changed before the listener was added
+        listener.turnChanged(game);
+        return game;
+    }
+
+    /**
+     * Checks if a player is the computer player of a game that has not ended
+     *
+     * @param player  the {@link Player} to check
+     * @return boolean
+     */
+    public boolean isBot(Player player) {
+        return bots.contains(player);
+    }
+
+    /**
+     * Returns the thread budget of the computer players
+     *
+     * @return int
+     */
+    public int getThreads() {
+        return threads;
+    }
+
+    /**
+     * Returns the search shared by every game against the computer, creating it and its table if this is the
+     * first search
+     *
+     * @return {@link ParallelSearch}
+     */
+    ParallelSearch getSearch() {
+        ParallelSearch shared = search;
+        if (shared == null) {
+            synchronized (this) {
+                shared = search;
+                if (shared == null) {
+                    shared = new ParallelSearch(searchers, new TranspositionTable(TABLE_BITS), threads);
+                    search = shared;
+                }
+            }
+        }
+        return shared;
+    }
+
+    /**
+     * Plays the computer player of one game
+     */
+    private class BotListener implements GameListener {
+        private final Player bot;
+
+        BotListener(Player bot) {
+            this.bot = bot;
+        }
+
+        @Override
+        public void turnChanged(Game game) {
+            if (game.isActive() && game.isTurnOf(bot)) {
+                searchers.execute(() -> {
+                    try {
+                        makeTurn(game, bot);
+                    }
+                    catch (RuntimeException e) {
+                        LOG.log(Level.SEVERE, e, "The turn of {0} failed", bot.getName());
+                    }
+                });
+            }
+        }
+
+        @Override
+        public void boardChanged(Game game, List<Move> moves) {
+        }
+
+        @Override
+        public void gameEnded(Game game) {
+            game.removeListener(this);
+            bots.remove(bot);
+            // Nobody is left to show the game to, so the computer player does not keep it from being archived
+            bot.leaveGame();
+        }
+    }
+
+    /**
+     * Searches for the turn of a computer player outside the lock of the game, then makes it the same way a
+     * submitted turn is made
+     *
+     * @param game  the {@link Game} to move in
+     * @param bot   the computer {@link Player}
+     */
+    private void makeTurn(Game game, Player bot) {
+        ReentrantLock lock = game.getLock();
+        BitBoard position;
+        long boardVersion;
+        Piece.PieceColor color = game.getPlayers()[0] == bot ? Piece.PieceColor.RED : Piece.PieceColor.WHITE;
+
+        lock.lock();
+        try {
+            if (!game.isActive() || !game.isTurnOf(bot)) {
+                return;
+            }
+            position = BitBoard.fromSpaces(game.getBoard());
+            boardVersion = game.getBoardVersion();
+        }
+        finally {
+            lock.unlock();
+        }
+
+        List<Move> turn = getSearch().findTurn(position, color, moveBudgetMillis, maxDepth);
+
+        lock.lock();
+        try {
+            if (!game.isActive() || !game.isTurnOf(bot) || game.getBoardVersion() != boardVersion) {
+                return;
+            }
+            // Back out moves left on the board by anyone else, so they are not taken for part of the turn
+            while (game.backupMove()) {
+                // nothing else to do
+            }
+            for (Move move : turn) {
+                game.validateMove(move);
+            }
+            if (turn.isEmpty() || new TurnValidator(game).validate() != TurnValidator.Result.VALID) {
+                LOG.severe("{0} found no valid turn and resigns", bot.getName());
+                gameCenter.resignPlayer(bot);
+                return;
+            }
+            game.commitPendingMoves();
+
+            Player opponent = color == Piece.PieceColor.RED ? game.getPlayers()[1] : game.getPlayers()[0];
+            Piece.PieceColor opponentColor =
+                    color == Piece.PieceColor.RED ? Piece.PieceColor.WHITE : Piece.PieceColor.RED;
+            if (!game.canMove(opponentColor)) {
+                // resigning changes the turn as well
+                gameCenter.resignPlayer(opponent);
+            }
+            else {
+                game.changeTurn();
+            }
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+}
@@ -1,13 +1,30 @@
 package com.webcheckers.appl;
 
-import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
 
+import com.webcheckers.model.ArchivedGame;
 import com.webcheckers.model.Game;
+import com.webcheckers.model.GameListener;
+import com.webcheckers.model.Move;
 import com.webcheckers.model.Player;
+import com.webcheckers.model.jfr.FlightRecorder;
 
 /**
  * GameCenter, to create, store, and remove instances of games.
  *
+ * <p>
+ * A game that ended is kept until both players and every spectator have left it. It is then replaced by a
+ * compact {@link ArchivedGame}, which is dropped once it is older than the archive TTL or the archive is full.
+ * </p>
+ *
  * @author <a href='mailto:amy5049@rit.edu'>Alexander Yu</a>
  * @author <a href="mailto:sdw5588@rit.edu">Shayne Winn</a>
  * @author <a href="mailto:spm8848@rit.edu">Sean McDonnell</a>
@@ -16,23 +33,210 @@ import com.webcheckers.model.Player;
 public class GameCenter {
 
     /**
-     * List of all games
+     * Constants
+     */
+    public static final long DEFAULT_ARCHIVE_TTL_MILLIS = TimeUnit.HOURS.toMillis(1);
+    public static final int DEFAULT_ARCHIVE_CAP = 1000;
+
+    /**
+     * All games, keyed by their gameID. Requests arrive on many server threads, so the map is concurrent.
+     */
+    private final Map<Integer, Game> manager = new ConcurrentHashMap<>();
+
+    /**
+     * The last gameID handed out. IDs are never reused, even if games are removed from the manager.
+     */
+    private final AtomicInteger lastGameID = new AtomicInteger();
+
+    /**
+     * The games that ended and may be archived once everybody has left them
+     */
+    private final Set<Game> endedGames = ConcurrentHashMap.newKeySet();
+
+    /**
+     * The archived games, oldest first. Guarded by its own lock.
+     */
+    private final LinkedHashMap<Integer, ArchivedGame> archive = new LinkedHashMap<>();
+    private final AtomicLong evictedGameCount = new AtomicLong();
+
+    private final long archiveTtlMillis;
+    private final int archiveCap;
+
+    /**
+     * Remembers every game that ends, so a sweep only looks at finished games
      */
-    private HashMap<Integer, Game> manager = new HashMap<>();
+    private final GameListener endedGameListener = new GameListener() {
+        @Override
+        public void turnChanged(Game game) {
+        }
+
+        @Override
+        public void boardChanged(Game game, List<Move> moves) {
+        }
+
+        @Override
+        public void gameEnded(Game game) {
+            game.removeListener(this);
+            endedGames.add(game);
+        }
+    };
 
     /**
-     * Creates an instance of game and stores the game as a key inside of
-     * manager hashmap.  Sets the value to the gameID.  (can be adjusted)
+     * Creates a {@link GameCenter} that keeps archived games for an hour, and at most a thousand of them
+     */
+    public GameCenter() {
+        this(DEFAULT_ARCHIVE_TTL_MILLIS, DEFAULT_ARCHIVE_CAP);
+    }
+
+    /**
+     * Creates a {@link GameCenter}
+     *
+     * @param archiveTtlMillis  how long an archived game is kept
+     * @param archiveCap        the most archived games kept
+     */
+    public GameCenter(long archiveTtlMillis, int archiveCap) {
+        this.archiveTtlMillis = archiveTtlMillis;
+        this.archiveCap = archiveCap;
+    }
+
+    /**
+     * Creates an instance of game with the next gameID and stores it inside of the manager map.
      *
      * @param redPlayer:player 1 (red)
      * @param whitePlayer:player 2 (white)
+     * @return the new {@link Game}
      */
-    public void startGame(Player redPlayer, Player whitePlayer) {
-        int gameID = manager.size() + 1;
+    public Game startGame(Player redPlayer, Player whitePlayer) {
+        int gameID = lastGameID.incrementAndGet();
         Game newGame = new Game(gameID, redPlayer, whitePlayer);
+        newGame.addListener(endedGameListener);
         manager.put(gameID, newGame);
         redPlayer.joinGame(newGame);
         whitePlayer.joinGame(newGame);
+
+        FlightRecorder.gameStarted(gameID, redPlayer.getName(), whitePlayer.getName());
+        return newGame;
+    }
+
+    /**
+     * Finds a game by its gameID
+     *
+     * @param gameID
+     *      The ID of the {@link Game}
+     * @return
+     *      The {@link Game}, or null if no game has that ID
+     */
+    public Game getGame(int gameID) {
+        return manager.get(gameID);
+    }
+
+    /**
+     * Finds the archived record of a finished game by its gameID
+     *
+     * @param gameID
+     *      The ID of the game
+     * @return
+     *      The {@link ArchivedGame}, or null if the game is not archived
+     */
+    public ArchivedGame getArchivedGame(int gameID) {
+        synchronized (archive) {
+            return archive.get(gameID);
+        }
+    }
+
+    /**
+     * Returns the number of live games stored, including finished games somebody is still in
+     *
+     * @return int
+     */
+    public int getGameCount() {
+        return manager.size();
+    }
+
+    /**
+     * Returns the number of games being played
+     *
+     * @return int
+     */
+    public int getActiveGameCount() {
+        int active = 0;
+        for (Game game : manager.values()) {
+            if (game.isActive()) {
+                active++;
+            }
+        }
+        return active;
+    }
+
+    /**
+     * Returns the number of moves made in the games being played that are not yet submitted
+     *
+     * @return int
+     */
+    public int getPendingMoveCount() {
+        int pending = 0;
+        for (Game game : manager.values()) {
+            if (game.isActive()) {
+                pending += game.getSizePendingMoves();
+            }
+        }
+        return pending;
+    }
+
+    /**
+     * Returns the number of archived games kept
+     *
+     * @return int
+     */
+    public int getArchivedGameCount() {
+        synchronized (archive) {
+            return archive.size();
+        }
+    }
+
+    /**
+     * Returns the number of archived games dropped since the server started
+     *
+     * @return long
+     */
+    public long getEvictedGameCount() {
+        return evictedGameCount.get();
+    }
+
+    /**
+     * Archives the finished games nobody is in any more, and drops the archived games that are too old or
+     * do not fit in the archive
+     */
+    public void sweep() {
+        sweep(System.currentTimeMillis());
+    }
+
+    /**
+     * Archives and evicts games as of a point in time
+     *
+     * @param now
+     *      The current time, in milliseconds since the epoch
+     */
+    void sweep(long now) {
+        for (Game game : endedGames) {
+            if (game.getOccupantCount() <= 0 && endedGames.remove(game) && manager.remove(game.getGameID(), game)) {
+                synchronized (archive) {
+                    archive.put(game.getGameID(), new ArchivedGame(game, now));
+                }
+            }
+        }
+
+        synchronized (archive) {
+            Iterator<ArchivedGame> oldestFirst = archive.values().iterator();
+            while (oldestFirst.hasNext()) {
+                ArchivedGame archived = oldestFirst.next();
+                if (archive.size() <= archiveCap && now - archived.getArchivedAt() < archiveTtlMillis) {
+                    break;
+                }
+                oldestFirst.remove();
+                evictedGameCount.incrementAndGet();
+            }
+        }
     }
 
     /**
@@ -53,16 +257,29 @@ public class GameCenter {
      *      {@link Player} to remove
      */
     public void signOutPlayer(Player player) {
-        if (player.inGame() && player.getSpectatorStatus() == false) {
-            Game playerGame = player.getGame();
-            if (playerGame.getPlayers()[0] == player) {
-                playerGame.endGame(Game.Status.RED_ABANDONED);
+        // The player may leave their game on another thread, so their game is read once
+        Game playerGame = player.getGame();
+        if (playerGame == null) {
+            return;
+        }
+        Player[] gamePlayers = playerGame.getPlayers();
+        if (gamePlayers[0] == player || gamePlayers[1] == player) {
+            playerGame.getLock().lock();
+            try {
+                if (gamePlayers[0] == player) {
+                    playerGame.endGame(Game.Status.RED_ABANDONED);
+                }
+                else {
+                    playerGame.endGame(Game.Status.WHITE_ABANDONED);
+                }
+                playerGame.changeTurn();
             }
-            else {
-                playerGame.endGame(Game.Status.WHITE_ABANDONED);
+            finally {
+                playerGame.getLock().unlock();
             }
-            playerGame.changeTurn();
         }
+        // A signed out player or spectator no longer keeps their game from being archived
+        playerGame.removeOccupant(player);
     }
 
     /**
@@ -75,13 +292,19 @@ public class GameCenter {
     {
         if(player.inGame()) {
             Game playerGame = player.getGame();
-            if(playerGame.getPlayers()[0] == player) {
-                playerGame.endGame(Game.Status.RED_RESIGN);
+            playerGame.getLock().lock();
+            try {
+                if(playerGame.getPlayers()[0] == player) {
+                    playerGame.endGame(Game.Status.RED_RESIGN);
+                }
+                else {
+                    playerGame.endGame(Game.Status.WHITE_RESIGN);
+                }
+                playerGame.changeTurn();
             }
-            else {
-                playerGame.endGame(Game.Status.WHITE_RESIGN);
+            finally {
+                playerGame.getLock().unlock();
             }
-            playerGame.changeTurn();
         }
     }
 
@@ -94,11 +317,6 @@ public class GameCenter {
      *   boolean showing if the game is real
      */
     public boolean isRealGame(Game game) {
-        for(Game checkGame : manager.values()) {
-            if(checkGame == game) {
-                return true;
-            }
-        }
-        return false;
+        return game != null && manager.get(game.getGameID()) == game;
     }
 }
@@ -0,0 +1,178 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+
+/**
+ * Signs out the players of a {@link PlayerLobby} who have not made a request for a while, which ends their
+ * game the same way signing out does.
+ *
+ * <p>
+ * Every signed in player sits in one bucket of a timing wheel, the bucket of the tick their idle timeout would
+ * run out. A single timer turns the wheel one bucket per tick. A player found in the current bucket who made a
+ * request since they were placed is moved to the bucket of their new deadline instead of being signed out, so
+ * a request only writes the time of the player's last activity, and each player is looked at about once per
+ * idle timeout no matter how many players are signed in.
+ * </p>
+ */
+public class IdlePlayerReaper {
+    private static final Log LOG = Log.getLog(IdlePlayerReaper.class);
+
+    /**
+     * Constants
+     */
+    static final long DEFAULT_IDLE_TIMEOUT_MILLIS = TimeUnit.MINUTES.toMillis(30);
+    static final long DEFAULT_TICK_MILLIS = TimeUnit.SECONDS.toMillis(5);
+
+    /**
+     * Attributes
+     */
+    private final PlayerLobby playerLobby;
+    private final long idleTimeoutMillis;
+    private final long tickMillis;
+    private final List<Set<Player>> wheel;
+
+    /**
+     * The last tick whose bucket was emptied. Only the timer writes it.
+     */
+    private volatile long lastTick = -1;
+
+    /**
+     * Creates an {@link IdlePlayerReaper}
+     *
+     * @param playerLobby        the {@link PlayerLobby} to sign idle players out of
+     * @param idleTimeoutMillis  how long a player may go without a request
+     * @param tickMillis         how often the wheel turns, which is how late a player may be signed out
+     */
+    public IdlePlayerReaper(PlayerLobby playerLobby, long idleTimeoutMillis, long tickMillis) {
+        this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required");
+        this.idleTimeoutMillis = idleTimeoutMillis;
+        this.tickMillis = tickMillis;
+
+        // One turn of the wheel covers a whole idle timeout, so every deadline has a bucket
+        int buckets = (int) (idleTimeoutMillis / tickMillis) + 2;
+        this.wheel = new ArrayList<>(buckets);
+        for (int bucket = 0; bucket < buckets; bucket++) {
+            wheel.add(ConcurrentHashMap.newKeySet());
+        }
+    }
+
+    /**
+     * Starts turning the wheel on a daemon thread
+     */
+    public void start() {
+        ScheduledExecutorService timer = Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "idle-player-reaper");
+            thread.setDaemon(true);
+            return thread;
+        });
+        // A run that throws would cancel every later run, so a failed tick is logged and the timer goes on
+        timer.scheduleAtFixedRate(() -> {
+            long now = System.currentTimeMillis();
+            try {
+                tick(now);
+            }
+            catch (RuntimeException e) {
+                LOG.log(Level.SEVERE, e, "The idle player tick at {0,number,#} failed", now);
+            }
+        }, tickMillis, tickMillis, TimeUnit.MILLISECONDS);
+        LOG.config("IdlePlayerReaper is started.");
+    }
+
+    /**
+     * Starts watching a player who just signed in
+     *
+     * @param player  the {@link Player}
+     */
+    public void track(Player player) {
+        place(player, player.getLastActivity() + idleTimeoutMillis);
+    }
+
+    /**
+     * Returns the number of players being watched
+     *
+     * @return int
+     */
+    public int getTrackedCount() {
+        int count = 0;
+        for (Set<Player> bucket : wheel) {
+            count += bucket.size();
+        }
+        return count;
+    }
+
+    /**
+     * Turns the wheel up to a point in time, signing out every player whose idle timeout ran out
+     *
+     * @param now  the current time, in milliseconds since the epoch
+     */
+    void tick(long now) {
+        long currentTick = now / tickMillis;
+        if (lastTick < 0) {
+            lastTick = currentTick - 1;
+        }
+        // A late timer catches up, but never turns more than once around
+        long firstTick = Math.max(lastTick + 1, currentTick - wheel.size() + 1);
+
+        for (long tick = firstTick; tick <= currentTick; tick++) {
+            Set<Player> bucket = wheel.get(bucketOf(tick));
+            List<Player> due = new ArrayList<>(bucket);
+            bucket.removeAll(due);
+            lastTick = tick;
+
+            for (Player player : due) {
+                if (playerLobby.findPlayer(player.getName()) != player) {
+                    // the player already signed out
+                    continue;
+                }
+                long deadline = player.getLastActivity() + idleTimeoutMillis;
+                if (deadline <= now) {
+                    LOG.fine("Signing out idle player {0}", player.getName());
+                    try {
+                        playerLobby.signOut(player);
+                    }
+                    catch (RuntimeException e) {
+                        // the rest of the bucket is still signed out
+                        LOG.log(Level.SEVERE, e, "Could not sign out idle player {0}", player.getName());
+                    }
+                }
+                else {
+                    place(player, deadline);
+                }
+            }
+        }
+        // The same timer archives the games the signed out players left
+        playerLobby.sweepGames();
+    }
+
+    /**
+     * Puts a player in the bucket of their deadline
+     *
+     * @param player    the {@link Player}
+     * @param deadline  when the player will be idle for too long, in milliseconds since the epoch
+     */
+    private void place(Player player, long deadline) {
+        long tick = Math.max(deadline / tickMillis, lastTick + 1);
+        wheel.get(bucketOf(tick)).add(player);
+    }
+
+    /**
+     * Returns the index of the bucket of a tick
+     *
+     * @param tick  the tick
+     * @return int
+     */
+    private int bucketOf(long tick) {
+        return (int) (tick % wheel.size());
+    }
+}
@@ -0,0 +1,169 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.Player;
+
+import java.util.AbstractSequentialList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.ListIterator;
+import java.util.NoSuchElementException;
+import java.util.Map;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * PlayerIndex, the {@link Player}s of a {@link PlayerLobby} that have one {@link Player.Status}, sorted by name.
+ *
+ * <p>
+ * The index is updated as players change status, so listing it never scans the whole lobby. Its size is
+ * counted as players are added and removed, because the size of a skip list is found by walking it.
+ * </p>
+ */
+class PlayerIndex {
+
+    /**
+     * Attributes
+     */
+    private final ConcurrentSkipListMap<String, Player> players = new ConcurrentSkipListMap<>();
+    private final AtomicInteger size = new AtomicInteger();
+
+    /**
+     * A live, read-only view of the players, in name order. It is a sequential list, so it can be walked
+     * and compared like any other list, but it cannot be indexed in constant time.
+     */
+    private final List<Player> view = Collections.unmodifiableList(new AbstractSequentialList<Player>() {
+        @Override
+        public ListIterator<Player> listIterator(int index) {
+            return new ForwardIterator(players.values().iterator(), index);
+        }
+
+        @Override
+        public int size() {
+            return size.get();
+        }
+    });
+
+    /**
+     * A {@link ListIterator} that only walks forward over a skip list
+     */
+    private static class ForwardIterator implements ListIterator<Player> {
+        private final Iterator<Player> iterator;
+        private int nextIndex;
+
+        ForwardIterator(Iterator<Player> iterator, int index) {
+            this.iterator = iterator;
+            while (nextIndex < index) {
+                next();
+            }
+        }
+
+        @Override
+        public boolean hasNext() {
+            return iterator.hasNext();
+        }
+
+        @Override
+        public Player next() {
+            Player player = iterator.next();
+            nextIndex++;
+            return player;
+        }
+
+        @Override
+        public int nextIndex() {
+            return nextIndex;
+        }
+
+        @Override
+        public boolean hasPrevious() {
+            return false;
+        }
+
+        @Override
+        public Player previous() {
+            throw new NoSuchElementException();
+        }
+
+        @Override
+        public int previousIndex() {
+            return nextIndex - 1;
+        }
+
+        @Override
+        public void remove() {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void set(Player player) {
+            throw new UnsupportedOperationException();
+        }
+
+        @Override
+        public void add(Player player) {
+            throw new UnsupportedOperationException();
+        }
+    }
+
+    /**
+     * Adds a player, unless a player with their name is already in the index
+     *
+     * @param player  the {@link Player} to add
+     */
+    void add(Player player) {
+        if (players.putIfAbsent(player.getName(), player) == null) {
+            size.incrementAndGet();
+        }
+    }
+
+    /**
+     * Removes a player, if they are in the index
+     *
+     * @param player  the {@link Player} to remove
+     */
+    void remove(Player player) {
+        if (players.remove(player.getName(), player)) {
+            size.decrementAndGet();
+        }
+    }
+
+    /**
+     * Returns a page of the players whose names start with a prefix, in name order. The skip list is entered
+     * at the first possible name, so a page costs the same however many players there are.
+     *
+     * @param prefix  the start of the names to find, or an empty string for every name
+     * @param cursor  the name of the last player of the previous page, or null for the first page
+     * @param limit   the most players on the page
+     * @return {@link PlayerPage}
+     */
+    PlayerPage page(String prefix, String cursor, int limit) {
+        ConcurrentNavigableMap<String, Player> names = cursor == null || cursor.compareTo(prefix) < 0
+                ? players.tailMap(prefix, true)
+                : players.tailMap(cursor, false);
+
+        List<Player> page = new ArrayList<>(limit);
+        for (Map.Entry<String, Player> entry : names.entrySet()) {
+            if (!entry.getKey().startsWith(prefix)) {
+                break;
+            }
+            if (page.size() == limit) {
+                // there is at least one more player, so there is a next page
+                return new PlayerPage(page, page.get(page.size() - 1).getName());
+            }
+            page.add(entry.getValue());
+        }
+        return new PlayerPage(page, null);
+    }
+
+    /**
+     * Returns a live, read-only view of the players, in name order
+     *
+     * @return {@link List<Player>}
+     */
+    List<Player> view() {
+        return view;
+    }
+}
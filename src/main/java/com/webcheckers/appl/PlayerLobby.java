@@ -1,12 +1,19 @@
 package com.webcheckers.appl;
 
 import com.webcheckers.model.Game;
+import com.webcheckers.model.GameListener;
+import com.webcheckers.model.Move;
 import com.webcheckers.model.Player;
+import com.webcheckers.model.PlayerStatusListener;
+import com.webcheckers.util.Log;
 import com.webcheckers.util.Message;
 
 import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
 import java.util.logging.Level;
-import java.util.logging.Logger;
 import java.util.regex.Pattern;
 
 /**
@@ -19,14 +26,50 @@ import java.util.regex.Pattern;
  * @author <a href='mailto:gjv9138@rit.edu'>Geran Vaughn</a>
  */
 public class PlayerLobby {
-    private static final Logger LOG = Logger.getLogger(PlayerLobby.class.getName());
+    private static final Log LOG = Log.getLog(PlayerLobby.class);
 
-    /** List of all players */
-    private Map<String, Player> players = new HashMap<>();
+    /** List of all players. The idle player reaper signs players out on its own thread, so the map is concurrent. */
+    private Map<String, Player> players = new ConcurrentHashMap<>();
 
     /** {@link GameCenter} used to handle game events. */
     private final GameCenter gameCenter;
 
+    /** {@link BotCenter} that plays the computer players of the games against the computer */
+    private final BotCenter botCenter;
+
+    /** The players of each {@link Player.Status}, kept up to date as players join and leave games */
+    private final Map<Player.Status, PlayerIndex> playersByStatus = new EnumMap<>(Player.Status.class);
+    private final PlayerStatusListener statusListener = this::reindex;
+
+    /**
+     * The version of the lobby, bumped whenever a player signs in or out, joins or leaves a game, or a game
+     * ends. Views of the lobby can be reused for as long as it stays the same.
+     */
+    private final AtomicLong version = new AtomicLong();
+
+    /** Bumps the version when a game started by this lobby ends */
+    private final GameListener gameEndedListener = new GameListener() {
+        @Override
+        public void turnChanged(Game game) {
+        }
+
+        @Override
+        public void boardChanged(Game game, List<Move> moves) {
+        }
+
+        @Override
+        public void gameEnded(Game game) {
+            game.removeListener(this);
+            version.incrementAndGet();
+        }
+    };
+
+    /** Told of every player who signs out, so what else is kept for them can be dropped */
+    private final List<Consumer<Player>> signOutListeners = new CopyOnWriteArrayList<>();
+
+    /** {@link IdlePlayerReaper} that signs out players who stopped making requests */
+    private final IdlePlayerReaper idlePlayerReaper;
+
     /**Patterns to validate usernames */
     private Pattern alphaNumericSpaceStrings = Pattern.compile("^[ a-zA-Z0-9]*$");
     private Pattern onlySpaceStrings = Pattern.compile("^[ ]*$");
@@ -35,7 +78,76 @@ public class PlayerLobby {
      * Creates a {@link PlayerLobby} object that creates a {@link GameCenter} object
      */
     public PlayerLobby() {
-        this.gameCenter = new GameCenter();
+        this(BotCenter.DEFAULT_THREADS);
+    }
+
+    /**
+     * Creates a {@link PlayerLobby} object that creates a {@link GameCenter} object
+     *
+     * @param botThreads
+     *   the most threads the computer players may search on at once
+     */
+    public PlayerLobby(int botThreads) {
+        this(botThreads, GameCenter.DEFAULT_ARCHIVE_TTL_MILLIS, GameCenter.DEFAULT_ARCHIVE_CAP);
+    }
+
+    /**
+     * Creates a {@link PlayerLobby} object that creates a {@link GameCenter} object
+     *
+     * @param botThreads
+     *   the most threads the computer players may search on at once
+     * @param archiveTtlMillis
+     *   how long the {@link GameCenter} keeps an archived game
+     * @param archiveCap
+     *   the most archived games the {@link GameCenter} keeps
+     */
+    public PlayerLobby(int botThreads, long archiveTtlMillis, int archiveCap) {
+        this.gameCenter = new GameCenter(archiveTtlMillis, archiveCap);
+        this.botCenter = new BotCenter(gameCenter, BotCenter.DEFAULT_MOVE_BUDGET_MILLIS,
+                BotCenter.DEFAULT_MAX_DEPTH, botThreads);
+        for (Player.Status status : Player.Status.values()) {
+            playersByStatus.put(status, new PlayerIndex());
+        }
+        this.idlePlayerReaper = new IdlePlayerReaper(this, IdlePlayerReaper.DEFAULT_IDLE_TIMEOUT_MILLIS,
+                IdlePlayerReaper.DEFAULT_TICK_MILLIS);
+    }
+
+    /**
+     * Get the {@link IdlePlayerReaper} of this lobby, which must be started to sign out idle players
+     *
+     * @return
+     *   the {@link IdlePlayerReaper}
+     */
+    public IdlePlayerReaper getIdlePlayerReaper() {
+        return idlePlayerReaper;
+    }
+
+    /**
+     * Adds a listener told of every player who signs out, after they are signed out
+     *
+     * @param listener
+     *   the listener, given the {@link Player} who signed out
+     */
+    public void addSignOutListener(Consumer<Player> listener) {
+        signOutListeners.add(Objects.requireNonNull(listener, "listener is required"));
+    }
+
+    /**
+     * Returns the version of the lobby. It only grows, and it changes whenever the players of the lobby or
+     * their games change.
+     *
+     * @return
+     *   the version
+     */
+    public long getVersion() {
+        return version.get();
+    }
+
+    /**
+     * Archives and evicts the finished games of the {@link GameCenter}
+     */
+    public void sweepGames() {
+        gameCenter.sweep();
     }
 
     /**
@@ -49,8 +161,15 @@ public class PlayerLobby {
      */
     public Message signIn(Player player) {
         if (isValid(player.getName())) {
-            if (isAvailable(player.getName())) {
-                this.players.put(player.getName(), player);
+            if (this.players.putIfAbsent(player.getName(), player) == null) {
+                // The listener is told of changes under the monitor of the player, so the status read here
+                // cannot change before the player is indexed
+                synchronized (player) {
+                    player.setStatusListener(statusListener);
+                    playersByStatus.get(player.getStatus()).add(player);
+                }
+                idlePlayerReaper.track(player);
+                version.incrementAndGet();
                 return null;
             }
             return new Message("This username is already in use.", Message.Type.ERROR);
@@ -69,7 +188,19 @@ public class PlayerLobby {
     public boolean signOut(Player player) {
         if (players.containsKey(player.getName())) {
             gameCenter.signOutPlayer(player);
-            players.remove(player.getName());
+            // Under the monitor the listener is told under, so a status change either reindexes the player
+            // before they are removed from every index or finds them signed out
+            synchronized (player) {
+                players.remove(player.getName(), player);
+                player.setStatusListener(null);
+                for (PlayerIndex index : playersByStatus.values()) {
+                    index.remove(player);
+                }
+            }
+            version.incrementAndGet();
+            for (Consumer<Player> listener : signOutListeners) {
+                listener.accept(player);
+            }
             return true;
         }
         else {
@@ -86,7 +217,7 @@ public class PlayerLobby {
      *      The resignation or failure of resignation
      */
     public boolean resignGame(Player player) {
-        if (players.containsKey(player.getName())) {
+        if (players.containsKey(player.getName()) || botCenter.isBot(player)) {
             gameCenter.resignPlayer(player);
             return true;
         }
@@ -114,10 +245,43 @@ public class PlayerLobby {
         if (requestedUser == null) {
             return new Message("Failed to create a game with " + requestedUserName, Message.Type.ERROR);
         }
-        if (requestedUser.inGame()) {
-            return new Message("This player is already in a game!", Message.Type.ERROR);
+        // Both players are claimed under their monitors, taken in name order, so two challenges to the same
+        // player cannot both find them free
+        boolean currentFirst = currentUser.getName().compareTo(requestedUser.getName()) <= 0;
+        Player first = currentFirst ? currentUser : requestedUser;
+        Player second = currentFirst ? requestedUser : currentUser;
+        synchronized (first) {
+            synchronized (second) {
+                if (requestedUser.inGame()) {
+                    return new Message("This player is already in a game!", Message.Type.ERROR);
+                }
+                if (currentUser.isGameActive() && !currentUser.getSpectatorStatus()) {
+                    return new Message("You are already in a game!", Message.Type.ERROR);
+                }
+                this.gameCenter.startGame(currentUser, requestedUser).addListener(gameEndedListener);
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Function to start a game against the computer
+     *
+     * @param currentUser
+     *      The {@link Player} calling the functions
+     * @return
+     *      {@link Message} if there is an error or null if no problem
+     */
+    public Message startBotGame(Player currentUser) {
+        if (!this.players.containsValue(currentUser)) {
+            return new Message("There was an issue with your request", Message.Type.ERROR);
+        }
+        synchronized (currentUser) {
+            if (currentUser.isGameActive() && !currentUser.getSpectatorStatus()) {
+                return new Message("You are already in a game!", Message.Type.ERROR);
+            }
+            this.botCenter.startGame(currentUser).addListener(gameEndedListener);
         }
-        this.gameCenter.startGame(currentUser, requestedUser);
         return null;
     }
 
@@ -170,35 +334,51 @@ public class PlayerLobby {
     }
 
     /**
-     * Returns a list only containing the players not in a game
+     * Returns a live view of the players not in a game, sorted by name
      *
      * @return
      *      {@link Collection<Player>} representing available players
      */
     public Collection<Player> getAvailablePlayers() {
-        List<Player> availablePlayers = new ArrayList<>();
-        for (Player player : players.values()) {
-            if (!player.inGame()) {
-                availablePlayers.add(player);
-            }
-        }
-        return availablePlayers;
+        return playersByStatus.get(Player.Status.AVAILABLE).view();
     }
 
     /**
-     * Returns a list only containing the players in a game
+     * Returns a live view of the players playing a game, sorted by name
      *
      * @return
      *      {@link Collection<Player>} representing players in game
      */
     public Collection<Player> getPlayersInGame() {
-        List<Player> playersInGame = new ArrayList<>();
-        for (Player player : players.values()) {
-            if (player.inGame() && player.getSpectatorStatus() == false) {
-                playersInGame.add(player);
-            }
-        }
-        return playersInGame;
+        return playersByStatus.get(Player.Status.PLAYING).view();
+    }
+
+    /**
+     * Returns a live view of the players spectating a game, sorted by name
+     *
+     * @return
+     *      {@link Collection<Player>} representing spectators
+     */
+    public Collection<Player> getSpectators() {
+        return playersByStatus.get(Player.Status.SPECTATING).view();
+    }
+
+    /**
+     * Returns one page of the players with a status whose names start with a prefix, in name order
+     *
+     * @param status
+     *      the {@link Player.Status} of the players
+     * @param prefix
+     *      the start of the names to find, or an empty string for every name
+     * @param cursor
+     *      the next cursor of the previous page, or null for the first page
+     * @param limit
+     *      the most players on the page
+     * @return
+     *      {@link PlayerPage} holding the players
+     */
+    public PlayerPage findPlayers(Player.Status status, String prefix, String cursor, int limit) {
+        return playersByStatus.get(status).page(prefix, cursor, limit);
     }
 
     /**
@@ -211,6 +391,56 @@ public class PlayerLobby {
         return players.size();
     }
 
+    /**
+     * Returns the count of games being played
+     *
+     * @return
+     *      integer representing number of games
+     */
+    public int getActiveGameCount() {
+        return gameCenter.getActiveGameCount();
+    }
+
+    /**
+     * Returns the count of moves made in the games being played that are not yet submitted
+     *
+     * @return
+     *      integer representing number of pending moves
+     */
+    public int getPendingMoveCount() {
+        return gameCenter.getPendingMoveCount();
+    }
+
+    /**
+     * Returns the count of live games, including finished games somebody is still in
+     *
+     * @return
+     *      integer representing number of live games
+     */
+    public int getGameCount() {
+        return gameCenter.getGameCount();
+    }
+
+    /**
+     * Returns the count of finished games kept in the archive
+     *
+     * @return
+     *      integer representing number of archived games
+     */
+    public int getArchivedGameCount() {
+        return gameCenter.getArchivedGameCount();
+    }
+
+    /**
+     * Returns the count of archived games dropped since the server started
+     *
+     * @return
+     *      long representing number of evicted games
+     */
+    public long getEvictedGameCount() {
+        return gameCenter.getEvictedGameCount();
+    }
+
     /**
      * Access {@link Player} object of a specific username
      *
@@ -248,4 +478,21 @@ public class PlayerLobby {
     public boolean isAvailable(String userName) {
         return !players.containsKey(userName);
     }
+
+    /**
+     * Moves a player to the index of their new status. The player tells the listener under their monitor.
+     *
+     * @param player
+     *   the {@link Player} whose status changed
+     * @param oldStatus
+     *   the {@link Player.Status} the player had before
+     */
+    private void reindex(Player player, Player.Status oldStatus) {
+        if (players.get(player.getName()) != player) {
+            return;
+        }
+        playersByStatus.get(oldStatus).remove(player);
+        playersByStatus.get(player.getStatus()).add(player);
+        version.incrementAndGet();
+    }
 }
@@ -0,0 +1,46 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.Player;
+
+import java.util.List;
+
+/**
+ * PlayerPage, one page of the {@link Player}s of a {@link PlayerLobby}, in name order.
+ */
+public class PlayerPage {
+
+    /**
+     * Attributes
+     */
+    private final List<Player> players;
+    private final String nextCursor;
+
+    /**
+     * Creates a {@link PlayerPage}
+     *
+     * @param players     the {@link Player}s on the page
+     * @param nextCursor  the cursor of the next page, or null if this is the last page
+     */
+    public PlayerPage(List<Player> players, String nextCursor) {
+        this.players = players;
+        this.nextCursor = nextCursor;
+    }
+
+    /**
+     * Get the players on the page
+     *
+     * @return {@link List<Player>}
+     */
+    public List<Player> getPlayers() {
+        return players;
+    }
+
+    /**
+     * Get the cursor that asks for the page after this one
+     *
+     * @return the name of the last player on the page, or null if this is the last page
+     */
+    public String getNextCursor() {
+        return nextCursor;
+    }
+}
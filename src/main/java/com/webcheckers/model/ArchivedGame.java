@@ -0,0 +1,87 @@
+package com.webcheckers.model;
+
+/**
+ * ArchivedGame, the compact record kept of a finished {@link Game} once nobody is in it any more. It holds
+ * names instead of {@link Player}s and no board, so an archived game keeps no other object alive.
+ */
+public final class ArchivedGame {
+
+    /**
+     * Attributes
+     */
+    private final int gameID;
+    private final String redPlayerName;
+    private final String whitePlayerName;
+    private final Game.Status status;
+    private final String endedReason;
+    private final long archivedAt;
+
+    /**
+     * Creates the archived record of a finished {@link Game}
+     *
+     * @param game        the finished {@link Game}
+     * @param archivedAt  when the game was archived, in milliseconds since the epoch
+     */
+    public ArchivedGame(Game game, long archivedAt) {
+        this.gameID = game.getGameID();
+        this.redPlayerName = game.getPlayers()[0].getName();
+        this.whitePlayerName = game.getPlayers()[1].getName();
+        this.status = game.getStatus();
+        this.endedReason = game.getGameEndedReason() == null ? null : game.getGameEndedReason().getText();
+        this.archivedAt = archivedAt;
+    }
+
+    /**
+     * Returns the game ID
+     *
+     * @return int
+     */
+    public int getGameID() {
+        return gameID;
+    }
+
+    /**
+     * Returns the name of the red player
+     *
+     * @return {@link String}
+     */
+    public String getRedPlayerName() {
+        return redPlayerName;
+    }
+
+    /**
+     * Returns the name of the white player
+     *
+     * @return {@link String}
+     */
+    public String getWhitePlayerName() {
+        return whitePlayerName;
+    }
+
+    /**
+     * Returns how the game ended
+     *
+     * @return {@link Game.Status}
+     */
+    public Game.Status getStatus() {
+        return status;
+    }
+
+    /**
+     * Returns the reason the game ended, as it was shown to the players
+     *
+     * @return {@link String}
+     */
+    public String getEndedReason() {
+        return endedReason;
+    }
+
+    /**
+     * Returns when the game was archived
+     *
+     * @return milliseconds since the epoch
+     */
+    public long getArchivedAt() {
+        return archivedAt;
+    }
+}
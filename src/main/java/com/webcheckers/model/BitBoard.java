@@ -0,0 +1,373 @@
+package com.webcheckers.model;
+
+/**
+ * BitBoard, a compact representation of a checkers board using three 32-bit masks
+ *
+ * <p>
+ * Only the 32 dark squares of the board can hold a piece, so each one is given a square index from 0 to 31.
+ * The dark square at (row, cell) is square {@code 4 * row + cell / 2}, so each row of the board occupies one
+ * nibble of a mask. Row 0 is the red home row, and red pieces move towards row 7.
+ * </p>
+ */
+public class BitBoard {
+
+    /**
+     * Constants
+     */
+    public static final int NUM_SQUARES = 32;
+    public static final int NO_SQUARE = -1;
+
+    private static final int NUM_ROWS = 8;
+    private static final int SQUARES_PER_ROW = 4;
+
+    static final int EVEN_ROWS = 0x0F0F0F0F;
+    static final int ODD_ROWS = 0xF0F0F0F0;
+    static final int FIRST_COLUMN = 0x11111111;
+    static final int LAST_COLUMN = 0x88888888;
+    static final int RED_KING_ROW = 0xF0000000;
+    static final int WHITE_KING_ROW = 0x0000000F;
+
+    /**
+     * Attributes
+     */
+    private int red;
+    private int white;
+    private int kings;
+
+    /**
+     * The {@link Zobrist} hash of the pieces, kept up to date by every change of the board
+     */
+    private long hash;
+
+    /**
+     * Creates a {@link BitBoard} object from the three piece masks
+     *
+     * @param red
+     *      Mask of the squares holding a red piece
+     * @param white
+     *      Mask of the squares holding a white piece
+     * @param kings
+     *      Mask of the squares holding a king of either color
+     */
+    public BitBoard(final int red, final int white, final int kings) {
+        this.red = red;
+        this.white = white;
+        this.kings = kings;
+        this.hash = Zobrist.hash(red, white, kings);
+    }
+
+    public BitBoard(BitBoard other) {
+        this.red = other.red;
+        this.white = other.white;
+        this.kings = other.kings;
+        this.hash = other.hash;
+    }
+
+    /**
+     * Builds a {@link BitBoard} from a board array of {@link Space} objects, visiting only the dark squares
+     *
+     * @param board  a Space board array
+     * @return  the BitBoard holding the same pieces
+     */
+    public static BitBoard fromSpaces(Space[][] board) {
+        int red = 0;
+        int white = 0;
+        int kings = 0;
+
+        for (int square = 0; square < NUM_SQUARES; square++) {
+            Piece piece = board[rowOf(square)][cellOf(square)].getPiece();
+            if (piece != null) {
+                int bit = 1 << square;
+                if (piece.getColor() == Piece.PieceColor.RED) {
+                    red |= bit;
+                }
+                else {
+                    white |= bit;
+                }
+                if (piece.getType() == Piece.Type.KING) {
+                    kings |= bit;
+                }
+            }
+        }
+        return new BitBoard(red, white, kings);
+    }
+
+    /**
+     * Returns the square index of a board coordinate
+     *
+     * @param row   the row of the coordinate
+     * @param cell  the cell of the coordinate
+     * @return  the square index, or {@link #NO_SQUARE} if the coordinate is off the board or on a light square
+     */
+    public static int squareOf(int row, int cell) {
+        if (row < 0 || row >= NUM_ROWS || cell < 0 || cell >= NUM_ROWS || ((row + cell) & 1) == 0) {
+            return NO_SQUARE;
+        }
+        return row * SQUARES_PER_ROW + (cell >> 1);
+    }
+
+    /**
+     * Returns the square index of a {@link Position}
+     *
+     * @param position  a Position on the board
+     * @return  the square index, or {@link #NO_SQUARE} if the position is not a dark square
+     */
+    public static int squareOf(Position position) {
+        return squareOf(position.getRow(), position.getCell());
+    }
+
+    /**
+     * Returns the row of a square index
+     *
+     * @param square  a square index
+     * @return int
+     */
+    public static int rowOf(int square) {
+        return square >> 2;
+    }
+
+    /**
+     * Returns the cell of a square index
+     *
+     * @param square  a square index
+     * @return int
+     */
+    public static int cellOf(int square) {
+        return ((square & 3) << 1) + (((square >> 2) & 1) ^ 1);
+    }
+
+    //
+    // Shifts of a whole mask one step in each diagonal direction. Squares that would leave the board are dropped.
+    //
+
+    static int upLeft(int mask) {
+        return ((mask & EVEN_ROWS) << 4) | ((mask & ODD_ROWS & ~FIRST_COLUMN) << 3);
+    }
+
+    static int upRight(int mask) {
+        return ((mask & EVEN_ROWS & ~LAST_COLUMN) << 5) | ((mask & ODD_ROWS) << 4);
+    }
+
+    static int downLeft(int mask) {
+        return ((mask & EVEN_ROWS) >>> 4) | ((mask & ODD_ROWS & ~FIRST_COLUMN) >>> 5);
+    }
+
+    static int downRight(int mask) {
+        return ((mask & EVEN_ROWS & ~LAST_COLUMN) >>> 3) | ((mask & ODD_ROWS) >>> 4);
+    }
+
+    /**
+     * Returns the mask of red pieces
+     *
+     * @return int
+     */
+    public int getRed() {
+        return red;
+    }
+
+    /**
+     * Returns the mask of white pieces
+     *
+     * @return int
+     */
+    public int getWhite() {
+        return white;
+    }
+
+    /**
+     * Returns the mask of kings of either color
+     *
+     * @return int
+     */
+    public int getKings() {
+        return kings;
+    }
+
+    /**
+     * Returns the {@link Zobrist} hash of the pieces on the board. The side to move is not part of it.
+     *
+     * @return long
+     */
+    public long getHash() {
+        return hash;
+    }
+
+    /**
+     * Returns the mask of pieces of one color
+     *
+     * @param color  the color of the pieces
+     * @return int
+     */
+    public int getPieces(Piece.PieceColor color) {
+        return color == Piece.PieceColor.RED ? red : white;
+    }
+
+    /**
+     * Returns the mask of empty dark squares
+     *
+     * @return int
+     */
+    public int getEmpty() {
+        return ~(red | white);
+    }
+
+    /**
+     * Returns the color of the piece on a square
+     *
+     * @param square  a square index
+     * @return  the {@link Piece.PieceColor}, or null if the square is empty
+     */
+    public Piece.PieceColor colorAt(int square) {
+        int bit = 1 << square;
+        if ((red & bit) != 0) {
+            return Piece.PieceColor.RED;
+        }
+        if ((white & bit) != 0) {
+            return Piece.PieceColor.WHITE;
+        }
+        return null;
+    }
+
+    /**
+     * Returns whether the piece on a square is a king
+     *
+     * @param square  a square index
+     * @return boolean
+     */
+    public boolean isKing(int square) {
+        return (kings & (1 << square)) != 0;
+    }
+
+    /**
+     * Returns the square jumped over by a jump move
+     *
+     * @param start  the square index the jump starts on
+     * @param end    the square index the jump ends on
+     * @return  the square index of the captured piece
+     */
+    public static int capturedSquare(int start, int end) {
+        return squareOf((rowOf(start) + rowOf(end)) / 2, (cellOf(start) + cellOf(end)) / 2);
+    }
+
+    /**
+     * Moves the piece on one square to another, keeping its color and type
+     *
+     * @param start  the square index the piece is on
+     * @param end    the empty square index the piece moves to
+     */
+    public void movePiece(int start, int end) {
+        int startBit = 1 << start;
+        int endBit = 1 << end;
+        boolean isRed = (red & startBit) != 0;
+        boolean isKing = (kings & startBit) != 0;
+
+        hash ^= Zobrist.pieceKey(start, isRed, isKing) ^ Zobrist.pieceKey(end, isRed, isKing);
+        if (isRed) {
+            red ^= startBit | endBit;
+        }
+        else {
+            white ^= startBit | endBit;
+        }
+        if (isKing) {
+            kings ^= startBit | endBit;
+        }
+    }
+
+    /**
+     * Removes the piece on a square
+     *
+     * @param square  a square index
+     */
+    public void removePiece(int square) {
+        int bit = 1 << square;
+        int mask = ~bit;
+
+        if (((red | white) & bit) != 0) {
+            hash ^= Zobrist.pieceKey(square, (red & bit) != 0, (kings & bit) != 0);
+        }
+        red &= mask;
+        white &= mask;
+        kings &= mask;
+    }
+
+    /**
+     * Places a piece on an empty square
+     *
+     * @param square  a square index
+     * @param color   the color of the piece
+     * @param king    whether the piece is a king
+     */
+    public void addPiece(int square, Piece.PieceColor color, boolean king) {
+        int bit = 1 << square;
+
+        hash ^= Zobrist.pieceKey(square, color == Piece.PieceColor.RED, king);
+        if (color == Piece.PieceColor.RED) {
+            red |= bit;
+        }
+        else {
+            white |= bit;
+        }
+        if (king) {
+            kings |= bit;
+        }
+    }
+
+    /**
+     * Changes whether the piece on a square is a king
+     *
+     * @param square  a square index
+     * @param king    whether the piece becomes a king
+     */
+    public void setKing(int square, boolean king) {
+        int bit = 1 << square;
+        if (((red | white) & bit) != 0 && ((kings & bit) != 0) != king) {
+            boolean isRed = (red & bit) != 0;
+            hash ^= Zobrist.pieceKey(square, isRed, false) ^ Zobrist.pieceKey(square, isRed, true);
+        }
+        if (king) {
+            kings |= bit;
+        }
+        else {
+            kings &= ~bit;
+        }
+    }
+
+    /**
+     * Returns the mask of the row where single pieces of a color are promoted to kings
+     *
+     * @param color  the color of the pieces
+     * @return int
+     */
+    public static int kingRow(Piece.PieceColor color) {
+        return color == Piece.PieceColor.RED ? RED_KING_ROW : WHITE_KING_ROW;
+    }
+
+    /**
+     * Compares two {@link BitBoard} objects.
+     *
+     * @param obj  a {@link BitBoard} object
+     *
+     * @return true if both boards hold the same pieces, and false, otherwise
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (this == obj) {
+            return true;
+        }
+        if (obj == null) {
+            return false;
+        }
+        if (this.getClass() != obj.getClass()) {
+            return false;
+        }
+
+        BitBoard bitBoard = (BitBoard) obj;
+
+        return this.red == bitBoard.red && this.white == bitBoard.white && this.kings == bitBoard.kings;
+    }
+
+    @Override
+    public int hashCode() {
+        return 31 * (31 * red + white) + kings;
+    }
+}
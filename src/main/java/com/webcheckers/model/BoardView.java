@@ -1,7 +1,9 @@
 package com.webcheckers.model;
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * BoardView, builds the initial state of the checkers board
@@ -13,7 +15,7 @@ public class BoardView implements Iterable<Row> {
     /**
      * Attributes
      */
-    private final ArrayList<Row> rows;
+    private final List<Row> rows;
 
     /**
      * Creates a {@link BoardView} object that holds the {@link Row} objects that make up the initial state of a checkers game
@@ -22,12 +24,21 @@ public class BoardView implements Iterable<Row> {
         this.rows = new ArrayList<>();
     }
 
+    /**
+     * Creates a read-only {@link BoardView} of some rows, which can be shared by any number of requests
+     *
+     * @param rows  the {@link Row}s of the view, from the top of the board down
+     */
+    public BoardView(List<Row> rows) {
+        this.rows = Collections.unmodifiableList(new ArrayList<>(rows));
+    }
+
     /**
      * Return number of rows in board.
      *
      *  @return number of rows in board
      */
-    public ArrayList<Row> getRows() {
+    public List<Row> getRows() {
         return rows;
     }
 
@@ -1,8 +1,16 @@
 package com.webcheckers.model;
 
+import com.webcheckers.model.jfr.FlightRecorder;
 import com.webcheckers.util.Message;
 
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
 import java.util.Stack;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.locks.ReentrantLock;
 
 /**
  * Game, controls the Board View and move actions
@@ -28,6 +36,12 @@ public class Game {
     private final static int MAX_NUM_ROWS = 8;
     private final static int MAX_NUM_COLS = 8;
 
+    // The outcomes of a move never change, so the same messages are handed out every time
+    private static final Message DISTANT_MOVE_MSG = new Message("You cannot move that far.", Message.Type.ERROR);
+    private static final Message INVALID_MOVE_MSG = new Message("That was not a valid move.", Message.Type.ERROR);
+    private static final Message JUMP_MOVE_MSG = new Message("You captured a piece.", Message.Type.INFO);
+    private static final Message SIMPLE_MOVE_MSG = new Message("You moved a piece.", Message.Type.INFO);
+
     /**
      * Attributes
      */
@@ -35,17 +49,44 @@ public class Game {
     private final Player redPlayer;
     private final Player whitePlayer;
 
-    private boolean isRedPlayerTurn;
-    private boolean isWhitePlayerTurn;
-    private String activeColor = "RED";
+    private final ReentrantLock lock = new ReentrantLock();
+    private final List<GameListener> listeners = new CopyOnWriteArrayList<>();
+    private final Set<Player> occupants = ConcurrentHashMap.newKeySet();
+
+    private volatile boolean isRedPlayerTurn;
+    private volatile boolean isWhitePlayerTurn;
+    private volatile String activeColor = "RED";
 
     private Space[][] board;
-    private BoardView boardView;
-    private Message gameEndedReason = null;
-    private Stack<Move> pendingMoves;
-    private Stack<Space[][]> pendingMoveBoards;
+    private volatile Message gameEndedReason = null;
+    private Stack<MoveDelta> pendingMoves;
+    private BitBoard position;
+    private LegalMoves legalMoves;
+
+    private volatile Status gameStatus;
+
+    /**
+     * Counts the commits of the board, so anything built from one committed board can tell when it is stale
+     */
+    private volatile long boardVersion;
+
+    /**
+     * The views of the committed board from each side, or null until they are needed after a commit
+     */
+    private volatile BoardViews boardViews;
 
-    private Status gameStatus;
+    /**
+     * The red and white {@link BoardView}s of one committed board
+     */
+    private static final class BoardViews {
+        final BoardView red;
+        final BoardView white;
+
+        BoardViews(BoardView red, BoardView white) {
+            this.red = red;
+            this.white = white;
+        }
+    }
 
     /**
      * Creates a {@link Game} object that holds an Iterable board and a 2D array.
@@ -59,9 +100,7 @@ public class Game {
         this.redPlayer = redPlayer;
         this.whitePlayer = whitePlayer;
         this.board = new Space[MAX_NUM_ROWS][MAX_NUM_COLS];
-        this.boardView = new BoardView();
         this.pendingMoves = new Stack();
-        this.pendingMoveBoards = new Stack();
 
         this.isRedPlayerTurn = true;
         this.isWhitePlayerTurn = false;
@@ -161,6 +200,72 @@ public class Game {
         return this.gameID;
     }
 
+    /**
+     * Returns the lock that guards the board and pending moves of this game. Requests that change the game
+     * hold it for their whole read-modify-write, so two requests on one game never interleave, while requests
+     * on different games never wait on each other.
+     *
+     * @return {@link ReentrantLock}
+     */
+    public ReentrantLock getLock() {
+        return this.lock;
+    }
+
+    /**
+     * Adds a listener that is told when the turn changes, a turn is committed, or the game ends
+     *
+     * @param listener  the {@link GameListener} to add
+     */
+    public void addListener(GameListener listener) {
+        listeners.add(listener);
+    }
+
+    /**
+     * Removes a listener added with {@link #addListener(GameListener)}
+     *
+     * @param listener  the {@link GameListener} to remove
+     */
+    public void removeListener(GameListener listener) {
+        listeners.remove(listener);
+    }
+
+    /**
+     * Records a player or spectator who joined this game
+     *
+     * @param player  the {@link Player} who joined
+     */
+    public void addOccupant(Player player) {
+        occupants.add(player);
+    }
+
+    /**
+     * Records a player or spectator who left this game
+     *
+     * @param player  the {@link Player} who left
+     */
+    public void removeOccupant(Player player) {
+        occupants.remove(player);
+    }
+
+    /**
+     * Returns the number of players and spectators who are still in this game. A finished game nobody is in
+     * can be archived.
+     *
+     * @return int
+     */
+    public int getOccupantCount() {
+        return occupants.size();
+    }
+
+    /**
+     * Returns the status of the game
+     *
+     * @return {@link Status}
+     */
+    public Status getStatus() {
+        return this.gameStatus;
+    }
+
     /**
      * Returns whether or not the game is still active
      *
@@ -188,7 +293,17 @@ public class Game {
     }
 
     /**
-     * Changes that turn from one player to the other, and clears pending boards and moves of the previous player
+     * Checks if it is the turn of a player
+     *
+     * @param player  the {@link Player} to check
+     * @return  true if the player plays the color on turn
+     */
+    public boolean isTurnOf(Player player) {
+        return isRedPlayerTurn ? redPlayer == player : whitePlayer == player;
+    }
+
+    /**
+     * Changes that turn from one player to the other, and clears pending moves of the previous player
      */
     public void changeTurn() {
         this.isRedPlayerTurn = !isRedPlayerTurn;
@@ -199,8 +314,11 @@ public class Game {
         else {
             activeColor = "WHITE";
         }
+        this.legalMoves = null;
         clearPendingMoves();
-        clearPendingMoveBoards();
+        for (GameListener listener : listeners) {
+            listener.turnChanged(this);
+        }
     }
 
     /**
@@ -251,42 +369,75 @@ public class Game {
                     this.gameEndedReason = new Message("The game has ended", Message.Type.ERROR);
                     break;
             }
+            FlightRecorder.gameEnded(gameID, reason.name(), boardVersion);
+            for (GameListener listener : listeners) {
+                listener.gameEnded(this);
+            }
             return true;
         }
         return false;
     }
 
     /**
-     * Gets the {@link BoardView} based on the current state of the game and player's POV
+     * Gets the {@link BoardView} based on the current state of the game and player's POV. The red player sees
+     * the board from the red side and everybody else from the white side. Both views are built once each time
+     * the board is committed and shared by every request until the next commit, so they must not be changed.
      *
      * @param player {@link Player} requesting the view
      * @return {@link BoardView}
      */
     public BoardView getBoardView(Player player) {
-        boolean isRedPlayer = player == redPlayer;
-        this.boardView = new BoardView();
-
-        if (isRedPlayer) {
-            for (int rowIdx = MAX_NUM_ROWS - 1; rowIdx >= 0; rowIdx--) {
-                Row row = new Row(rowIdx);
-                boardView.getRows().add(row);
-                for (int colIdx = MAX_NUM_COLS - 1; colIdx >= 0; colIdx--) {
-                    Space space = board[rowIdx][colIdx];
-                    row.getSpaces().add(space);
+        BoardViews views = boardViews;
+        if (views == null) {
+            // Built under the lock so a commit cannot change the board halfway through a copy
+            lock.lock();
+            try {
+                views = boardViews;
+                if (views == null) {
+                    views = buildBoardViews();
+                    boardViews = views;
                 }
             }
+            finally {
+                lock.unlock();
+            }
         }
-        else {
-            for (int rowIdx = 0; rowIdx < MAX_NUM_ROWS; rowIdx++) {
-                Row row = new Row(rowIdx);
-                boardView.getRows().add(row);
-                for (int colIdx = 0; colIdx < MAX_NUM_COLS; colIdx++) {
-                    Space space = board[rowIdx][colIdx];
-                    row.getSpaces().add(space);
-                }
+        return player == redPlayer ? views.red : views.white;
+    }
+
+    /**
+     * Returns the version of the committed board, which changes every time a turn is committed or the board
+     * is replaced
+     *
+     * @return long
+     */
+    public long getBoardVersion() {
+        return boardVersion;
+    }
+
+    /**
+     * Copies the committed board into a red and a white {@link BoardView}. The two views share the copied
+     * spaces, so the live board can change without changing them.
+     *
+     * @return {@link BoardViews}
+     */
+    private BoardViews buildBoardViews() {
+        Space[][] spaces = createBoardCopy(board);
+
+        List<Row> redRows = new ArrayList<>(MAX_NUM_ROWS);
+        for (int rowIdx = MAX_NUM_ROWS - 1; rowIdx >= 0; rowIdx--) {
+            List<Space> row = new ArrayList<>(MAX_NUM_COLS);
+            for (int colIdx = MAX_NUM_COLS - 1; colIdx >= 0; colIdx--) {
+                row.add(spaces[rowIdx][colIdx]);
             }
+            redRows.add(new Row(rowIdx, row));
+        }
+
+        List<Row> whiteRows = new ArrayList<>(MAX_NUM_ROWS);
+        for (int rowIdx = 0; rowIdx < MAX_NUM_ROWS; rowIdx++) {
+            whiteRows.add(new Row(rowIdx, Arrays.asList(spaces[rowIdx])));
         }
-        return this.boardView;
+        return new BoardViews(new BoardView(redRows), new BoardView(whiteRows));
     }
 
     /**
@@ -299,18 +450,198 @@ public class Game {
     }
 
     /**
-     * gets the board
+     * gets the board. Changes made to it directly are not seen by {@link #getBoardView(Player)}; use
+     * {@link #modifyActualBoard(Space[][])} instead.
      *
      * @return Board
      */
     public Space[][] getBoard() { return board; }
 
     /**
-     * modifies the actual board that is used for the game
+     * modifies the actual board that is used for the game, discarding any pending moves
      *
      * @param board
      */
-    public void modifyActualBoard(Space[][] board) { this.board = board; }
+    public void modifyActualBoard(Space[][] board) {
+        this.board = board;
+        this.boardVersion++;
+        this.boardViews = null;
+        this.legalMoves = null;
+        this.position = null;
+        this.pendingMoves.clear();
+    }
+
+    /**
+     * Returns the live position of the board with the pending moves made, building it from the board if needed
+     *
+     * @return {@link BitBoard}
+     */
+    private BitBoard getPosition() {
+        if (position == null) {
+            position = BitBoard.fromSpaces(board);
+        }
+        return position;
+    }
+
+    /**
+     * Returns a copy of the position of the board with the pending moves of the turn made
+     *
+     * @return {@link BitBoard}
+     */
+    public BitBoard getPendingPosition() {
+        return new BitBoard(getPosition());
+    }
+
+    /**
+     * Returns the {@link Zobrist} hash of the position with the pending moves of the turn made and the side to
+     * move. Each pending move updates the hash as it is made, so asking for it does not visit the board.
+     *
+     * @return long
+     */
+    public long getPositionHash() {
+        return getPosition().getHash() ^ (isRedPlayerTurn ? 0L : Zobrist.WHITE_TO_MOVE);
+    }
+
+    /**
+     * Returns every legal move of the active player for the actual board. The moves are generated once per turn
+     * and generated again after {@link #changeTurn()} or {@link #modifyActualBoard(Space[][])}.
+     *
+     * @return {@link LegalMoves}
+     */
+    public LegalMoves getLegalMoves() {
+        if (legalMoves == null) {
+            Piece.PieceColor color = isRedPlayerTurn ? Piece.PieceColor.RED : Piece.PieceColor.WHITE;
+            BitBoard turnStart = pendingMoves.empty() ? getPosition() : BitBoard.fromSpaces(board);
+            legalMoves = new LegalMoves(turnStart, color);
+        }
+        return legalMoves;
+    }
+
+    /**
+     * This function will validate the next {@link Move} of the current turn, and add it to the pending moves
+     * if it is valid. Moves that are part of a legal turn are looked up in {@link #getLegalMoves()}. Each call
+     * is recorded as a {@link com.webcheckers.model.jfr.MoveValidatedEvent} while Flight Recorder records that event.
+     *
+     * @param move
+     *      A {@link Move} object containing the starting and ending coordinates of a move
+     * @return
+     *      A {@link Message} containing the outcome of the attempted move
+     */
+    public Message validateMove(Move move) {
+        Object event = FlightRecorder.beginMoveValidated();
+        Message result = checkAndAddMove(move);
+        FlightRecorder.endMoveValidated(event, gameID, move, result.isSuccessful(), result.getText());
+        return result;
+    }
+
+    /**
+     * Validates the next {@link Move} of the current turn, and adds it to the pending moves if it is valid
+     *
+     * @param move  the move being made
+     * @return  the {@link Message} containing the outcome of the attempted move
+     */
+    private Message checkAndAddMove(Move move) {
+        if (!isDiagonalStep(move)) {
+            return DISTANT_MOVE_MSG;
+        }
+
+        int start = BitBoard.squareOf(move.getStart());
+        int end = BitBoard.squareOf(move.getEnd());
+        LegalMoves legal = getLegalMoves();
+        BitBoard position = getPosition();
+        if (start == BitBoard.NO_SQUARE || position.colorAt(start) != legal.getColor()) {
+            // Only a piece of the player on turn may move
+            return INVALID_MOVE_MSG;
+        }
+        int step = pendingMoves.empty() ? LegalMoves.ROOT : pendingMoves.peek().getStep();
+        int nextStep = legal.findStep(step, start, end);
+        boolean isJump = nextStep != LegalMoves.NO_STEP;
+        boolean isSimple = !isJump && pendingMoves.empty() && legal.isSimpleMove(start, end);
+
+        if (!isJump && !isSimple) {
+            // The move is not part of a legal turn, but it is still accepted if the piece can make it
+            // so that the turn submission can report why the turn is not legal
+            isJump = MoveGenerator.isJumpMove(position, start, end);
+            isSimple = !isJump && MoveGenerator.isSimpleMove(position, start, end);
+        }
+        if (isJump && !pendingMoves.empty() && pendingMoves.peek().getEnd() != start) {
+            // A jump can only be continued by the piece that made it
+            return INVALID_MOVE_MSG;
+        }
+        if (!isJump && !isSimple) {
+            return INVALID_MOVE_MSG;
+        }
+
+        MoveDelta delta = new MoveDelta(move, position, nextStep);
+        delta.apply(position);
+        pendingMoves.push(delta);
+
+        if (isJump) {
+            return JUMP_MOVE_MSG;
+        }
+        return SIMPLE_MOVE_MSG;
+    }
+
+    /**
+     * Takes back the latest pending move of the turn
+     *
+     * @return  true if a move was taken back, and false if there were no pending moves
+     */
+    public boolean backupMove() {
+        if (pendingMoves.empty()) {
+            return false;
+        }
+        pendingMoves.pop().undo(getPosition());
+        return true;
+    }
+
+    /**
+     * Makes the pending moves of the turn on the actual board, promoting the moved piece if it reached the
+     * far row, and clears the pending moves
+     */
+    public void commitPendingMoves() {
+        Object event = FlightRecorder.beginTurnSubmitted();
+        List<Move> moves = new ArrayList<>(pendingMoves.size());
+        for (MoveDelta delta : pendingMoves) {
+            delta.apply(board);
+            moves.add(delta.getMove());
+        }
+        pendingMoves.clear();
+        this.boardVersion++;
+        this.boardViews = null;
+        this.legalMoves = null;
+        FlightRecorder.endTurnSubmitted(event, gameID, activeColor, moves.size(), boardVersion);
+        for (GameListener listener : listeners) {
+            listener.boardChanged(this, moves);
+        }
+    }
+
+    /**
+     * Checks if the piece that made the latest pending jump can keep jumping
+     *
+     * @return  true if the jump move must continue, and false, otherwise
+     */
+    public boolean canContinueJump() {
+        if (pendingMoves.empty() || !pendingMoves.peek().isJump()) {
+            return false;
+        }
+        MoveDelta latest = pendingMoves.peek();
+        if (latest.getStep() != LegalMoves.NO_STEP) {
+            return getLegalMoves().mustContinue(latest.getStep());
+        }
+        return !latest.isPromoted() && MoveGenerator.jumpTargets(getPosition(), latest.getEnd()) != 0;
+    }
+
+    /**
+     * Checks if a color has any move on the board with the pending moves made
+     *
+     * @param color  the color of the pieces
+     * @return  true if a piece of that color can make a simple or jump move, and false, otherwise
+     */
+    public boolean canMove(Piece.PieceColor color) {
+        BitBoard position = getPosition();
+        return MoveGenerator.canJump(position, color) || MoveGenerator.canMoveSimple(position, color);
+    }
 
     /**
      * This function will validate a {@link Move}
@@ -321,28 +652,33 @@ public class Game {
      *      A {@link Message} containing the outcome of the attempted move
      */
     public Message validateMove(Move move, Space[][] board) {
-        int startRow = move.getStart().getRow();
-        int startCell = move.getStart().getCell();
-        int endRow = move.getEnd().getRow();
-        int endCell = move.getEnd().getCell();
-
-        if ((startRow != endRow - 2 || startCell != endCell - 2) && (startRow != endRow - 2 || startCell != endCell + 2) &&
-                (startRow != endRow + 2 || startCell != endCell - 2) && (startRow != endRow + 2 || startCell != endCell + 2) &&
-                (startRow != endRow - 1 || startCell != endCell - 1) && (startRow != endRow - 1 || startCell != endCell + 1) &&
-                (startRow != endRow + 1 || startCell != endCell - 1) && (startRow != endRow + 1 || startCell != endCell + 1)) {
-            return new Message("You cannot move that far.", Message.Type.ERROR);
+        if (!isDiagonalStep(move)) {
+            return DISTANT_MOVE_MSG;
         }
         else if (validateJumpMove(move, board, true)) {
-            return new Message("You captured a piece.", Message.Type.INFO);
+            return JUMP_MOVE_MSG;
         }
         else if (validateSimpleMove(move, board, true)) {
-            return new Message("You moved a piece.", Message.Type.INFO);
+            return SIMPLE_MOVE_MSG;
         }
         else {
-            return new Message("That was not a valid move.", Message.Type.ERROR);
+            return INVALID_MOVE_MSG;
         }
     }
 
+    /**
+     * Checks if a {@link Move} goes one or two spaces along a diagonal
+     *
+     * @param move  the move being made
+     * @return boolean
+     */
+    private boolean isDiagonalStep(Move move) {
+        int rowDistance = Math.abs(move.getEnd().getRow() - move.getStart().getRow());
+        int cellDistance = Math.abs(move.getEnd().getCell() - move.getStart().getCell());
+
+        return (rowDistance == 1 || rowDistance == 2) && rowDistance == cellDistance;
+    }
+
     /**
      * This function will modify the {@link Piece.Type} element of a {@link Piece} to KING
      *
@@ -363,123 +699,20 @@ public class Game {
      * @return Boolean
      */
     public boolean validateJumpMove(Move move, Space[][] board, boolean commitMove) {
+        int start = BitBoard.squareOf(move.getStart());
+        int end = BitBoard.squareOf(move.getEnd());
 
-        int startRow = move.getStart().getRow();
-        int startCell = move.getStart().getCell();
-        int endRow = move.getEnd().getRow();
-        int endCell = move.getEnd().getCell();
-
-        if (board[startRow][startCell].getPiece().getType() == Piece.Type.KING) {
-            if ((startRow - 2 == endRow) && (startCell - 2 == endCell) && (board[startRow - 2][startCell - 2].getState() == Space.State.EMPTY)
-                    && (board[startRow - 1][startCell - 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow - 1][startCell - 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow - 1][startCell - 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow - 2 == endRow) && (startCell + 2 == endCell) && (board[startRow - 2][startCell + 2].getState() == Space.State.EMPTY)
-                    && (board[startRow - 1][startCell + 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow - 1][startCell + 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow - 1][startCell + 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow + 2 == endRow) && (startCell - 2 == endCell) && (board[startRow + 2][startCell - 2].getState() == Space.State.EMPTY)
-                    && (board[startRow + 1][startCell - 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow + 1][startCell - 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow + 1][startCell - 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow + 2 == endRow) && (startCell + 2 == endCell) && (board[startRow + 2][startCell + 2].getState() == Space.State.EMPTY)
-                    && (board[startRow + 1][startCell + 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow + 1][startCell + 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow + 1][startCell + 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-        }
-        else if (board[startRow][startCell].getPiece().getColor() == Piece.PieceColor.RED) {
-            if ((startRow + 2 == endRow) && (startCell - 2 == endCell) && (board[startRow + 2][startCell - 2].getState() == Space.State.EMPTY)
-                    && (board[startRow + 1][startCell - 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow + 1][startCell - 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(Piece.Type.SINGLE, board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow + 1][startCell - 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow + 2 == endRow) && (startCell + 2 == endCell) && (board[startRow + 2][startCell + 2].getState() == Space.State.EMPTY)
-                    && (board[startRow + 1][startCell + 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow + 1][startCell + 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(Piece.Type.SINGLE, board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow + 1][startCell + 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
+        if (!MoveGenerator.isJumpMove(BitBoard.fromSpaces(board), start, end)) {
+            return false;
         }
-        else {
-            if ((startRow - 2 == endRow) && (startCell - 2 == endCell) && (board[startRow - 2][startCell - 2].getState() == Space.State.EMPTY)
-                    && (board[startRow - 1][startCell - 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow - 1][startCell - 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow - 1][startCell - 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow - 2 == endRow) && (startCell + 2 == endCell) && (board[startRow - 2][startCell + 2].getState() == Space.State.EMPTY)
-                    && (board[startRow - 1][startCell + 1].getState() == Space.State.NOT_EMPTY)
-                    && (board[startRow][startCell].getPiece().getColor() != board[startRow - 1][startCell + 1].getPiece().getColor())) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-
-                    board[startRow - 1][startCell + 1].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
+        if (commitMove == true) {
+            int capturedRow = (move.getStart().getRow() + move.getEnd().getRow()) / 2;
+            int capturedCell = (move.getStart().getCell() + move.getEnd().getCell()) / 2;
+
+            commitMove(move, board);
+            board[capturedRow][capturedCell].removePiece();
         }
-        return false;
+        return true;
     }
 
     /**
@@ -490,168 +723,44 @@ public class Game {
      * @return Boolean
      */
     public boolean validateSimpleMove(Move move, Space[][] board, boolean commitMove) {
+        int start = BitBoard.squareOf(move.getStart());
+        int end = BitBoard.squareOf(move.getEnd());
 
-        int startRow = move.getStart().getRow();
-        int startCell = move.getStart().getCell();
-        int endRow = move.getEnd().getRow();
-        int endCell = move.getEnd().getCell();
-        if (board[startRow][startCell].getPiece().getType() == Piece.Type.KING) {
-            if ((startRow - 1 == endRow) && (startCell - 1 == endCell) && (board[startRow - 1][startCell - 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow - 1 == endRow) && (startCell + 1 == endCell) && (board[startRow - 1][startCell + 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow + 1 == endRow) && (startCell - 1 == endCell) && (board[startRow + 1][startCell - 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow + 1 == endRow) && (startCell + 1 == endCell) && (board[startRow + 1][startCell + 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
+        if (!MoveGenerator.isSimpleMove(BitBoard.fromSpaces(board), start, end)) {
+            return false;
         }
-        else if (board[startRow][startCell].getPiece().getColor() == Piece.PieceColor.RED) {
-            if ((startRow + 1 == endRow) && (startCell - 1 == endCell) && (board[startRow + 1][startCell - 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow + 1 == endRow) && (startCell + 1 == endCell) && (board[startRow + 1][startCell + 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-        }
-        else {
-            if ((startRow - 1 == endRow) && (startCell - 1 == endCell) && (board[startRow - 1][startCell - 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
-            else if ((startRow - 1 == endRow) && (startCell + 1 == endCell) && (board[startRow - 1][startCell + 1].getState() == Space.State.EMPTY)) {
-                if (commitMove == true) {
-                    board[endRow][endCell].addPiece(new Piece(board[startRow][startCell].getPiece().getType(), board[startRow][startCell].getPiece().getColor()));
-                    board[startRow][startCell].removePiece();
-                    addToPendingMoves(move);
-                    addToPendingMoveBoards(board);
-                }
-                return true;
-            }
+        if (commitMove == true) {
+            commitMove(move, board);
         }
-        return false;
+        return true;
     }
 
     /**
-     * This function will iterate through the board until it finds a potential jump {@link Move}
+     * Moves the {@link Piece} at the start of a {@link Move} to its end
+     *
+     * @param move   the move being made
+     * @param board  the Space board array the move is made on
+     */
+    private void commitMove(Move move, Space[][] board) {
+        Space startSpace = board[move.getStart().getRow()][move.getStart().getCell()];
+        Piece piece = startSpace.getPiece();
+
+        board[move.getEnd().getRow()][move.getEnd().getCell()].addPiece(new Piece(piece.getType(), piece.getColor()));
+        startSpace.removePiece();
+    }
+
+    /**
+     * This function will check the whole board for a potential jump {@link Move}
      *
      * @param activePlayerColor  The active player's color
      * @return  true if there is a possible jump move, and false, otherwise
      */
     public boolean searchForJumps(Piece.PieceColor activePlayerColor, Space[][] board) {
-        Move potentialJump;
-
-        for (int x = 0; x < MAX_NUM_ROWS; x++){
-            for (int y = 0; y < MAX_NUM_COLS; y++){
-                if (board[x][y].getPiece() != null) {
-                    if (board[x][y].getPiece().getColor() == activePlayerColor){
-                        if (board[x][y].getPiece().getType() == Piece.Type.KING) {
-                            if ((x - 2 >= 0) && (y - 2 >= 0)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x - 2, y - 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x - 2 >= 0) && (y + 2 < MAX_NUM_COLS)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x - 2, y + 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x + 2 < MAX_NUM_ROWS) && (y - 2 >= 0)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x + 2, y - 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x + 2 < MAX_NUM_ROWS) && (y + 2 < MAX_NUM_COLS)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x + 2, y + 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                        }
-                        else if(board[x][y].getPiece().getColor() == Piece.PieceColor.RED) {
-                            if ((x + 2 < MAX_NUM_ROWS) && (y - 2 >= 0)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x + 2, y - 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x + 2 < MAX_NUM_ROWS) && (y + 2 < MAX_NUM_COLS)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x + 2, y + 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                        }
-                        else {
-                            if ((x - 2 >= 0) && (y - 2 >= 0)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x - 2, y - 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x - 2 >= 0) && (y + 2 < MAX_NUM_COLS)) {
-                                potentialJump = new Move(new Position(x, y), new Position(x - 2, y + 2));
-                                if (validateJumpMove(potentialJump, board, false)) {
-                                    return true;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return false;
+        return MoveGenerator.canJump(BitBoard.fromSpaces(board), activePlayerColor);
     }
 
     /**
-     * This function iterates through the current board until it finds a potential jump move, from the current piece being moved
+     * This function checks for a potential jump move from the current piece being moved
      * 
      * @param move the current move being made
      * @param board the active board
@@ -659,159 +768,21 @@ public class Game {
      * @return true if move found, false otherwise
      */
     public boolean searchForJumpsForOnePiece(Move move, Space[][] board, Piece.PieceColor activePlayerColor) {
-        Move potentialJump;
-
-        //A move is created using the end position of the previous move as the starting position of the potential move
-        int startRow = move.getEnd().getRow();
-        int startCell = move.getEnd().getCell();
-        int endRow;
-        int endCell;
-        if (board[startRow][startCell].getPiece().getType() == Piece.Type.KING) {
-            endRow = startRow - 2;
-            endCell = startCell - 2;
-            if ((endRow >= 0) && (endCell >= 0)) {
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-            endRow = startRow - 2;
-            endCell = startCell + 2;
-            if ((endRow >= 0) && (endCell < MAX_NUM_COLS)) {
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-            endRow = startRow + 2;
-            endCell = startCell - 2;
-            if ((endRow < MAX_NUM_ROWS) && (endCell >= 0)) {
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-            endRow = startRow + 2;
-            endCell = startCell + 2;
-            if ((endRow < MAX_NUM_ROWS) && (endCell < MAX_NUM_COLS)) {
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-        }
-        else if (activePlayerColor == Piece.PieceColor.RED) {
-            endRow = startRow + 2;
-            endCell = startCell - 2;
-            if ((endRow < MAX_NUM_ROWS) && (endCell >= 0)) {
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-            endRow = startRow + 2;
-            endCell = startCell + 2;
-            if ((endRow < MAX_NUM_ROWS) && (endCell < MAX_NUM_COLS)) {
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-        }
-        else {
-            endRow = startRow - 2;
-            endCell = startCell - 2;
-            if ((endRow >= 0) && (endCell >= 0)) {
-                endRow = startRow - 2;
-                endCell = startCell - 2;
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-            endRow = startRow - 2;
-            endCell = startCell + 2;
-            if ((endRow >= 0) && (endCell < MAX_NUM_COLS)) {
-                endRow = startRow - 2;
-                endCell = startCell + 2;
-                potentialJump = new Move(new Position(startRow, startCell), new Position(endRow, endCell));
-                if (validateJumpMove(potentialJump, board, false)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        //The end position of the previous move is the starting position of the potential move
+        int square = BitBoard.squareOf(move.getEnd());
+        BitBoard bitBoard = BitBoard.fromSpaces(board);
+
+        return square != BitBoard.NO_SQUARE && bitBoard.colorAt(square) == activePlayerColor
+                && MoveGenerator.jumpTargets(bitBoard, square) != 0;
     }
 
     /**
-     * This function will iterate through the board until it finds a potential simple {@link Move}
+     * This function will check the whole board for a potential simple {@link Move}
      * @param activePlayerColor  The active player's color
      * @return  true if there is a possible simple move, and false, otherwise
      */
     public boolean searchForSimples(Piece.PieceColor activePlayerColor, Space[][] board) {
-
-        Move potentialSimple;
-        for (int x = 0; x < MAX_NUM_ROWS; x++) {
-            for (int y = 0; y < MAX_NUM_COLS; y++) {
-                if (board[x][y].getPiece() != null) {
-                    if (board[x][y].getPiece().getColor() == activePlayerColor) {
-                        if (board[x][y].getPiece().getType() == Piece.Type.KING) {
-                            if ((x - 1 >= 0) && (y - 1 >= 0)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x - 1, y - 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x - 1 >= 0) && (y + 1 < MAX_NUM_COLS)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x - 1, y + 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x + 1 < MAX_NUM_ROWS) && (y - 1 >= 0)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x + 1, y - 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x + 1 < MAX_NUM_ROWS) && (y + 1 < MAX_NUM_COLS)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x + 1, y + 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                        } else if (board[x][y].getPiece().getColor() == Piece.PieceColor.RED) {
-                            if ((x + 1 < MAX_NUM_ROWS) && (y - 1 >= 0)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x + 1, y - 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x + 1 < MAX_NUM_ROWS) && (y + 1 < MAX_NUM_COLS)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x + 1, y + 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                        } else {
-                            if ((x - 1 >= 0) && (y - 1 >= 0)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x - 1, y - 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                            if ((x - 1 >= 0) && (y + 1 < MAX_NUM_COLS)) {
-                                potentialSimple = new Move(new Position(x, y), new Position(x - 1, y + 1));
-                                if (validateSimpleMove(potentialSimple, board, false)) {
-                                    return true;
-                                }
-                            }
-                        }
-                    }
-                }
-            }
-        }
-        return false;
+        return MoveGenerator.canMoveSimple(BitBoard.fromSpaces(board), activePlayerColor);
     }
 
     /**
@@ -821,6 +792,7 @@ public class Game {
      * @return  a copy of the Space board array inputted as a parameter
      */
     public Space[][] createBoardCopy(Space[][] board) {
+        Object event = FlightRecorder.beginBoardCopied();
 
         Space[][] boardCopy = new Space[MAX_NUM_ROWS][MAX_NUM_COLS];
         for (int row = 0; row < MAX_NUM_ROWS; row++) {
@@ -828,29 +800,10 @@ public class Game {
                 boardCopy[row][col] = new Space(board[row][col]);
             }
         }
+        FlightRecorder.endBoardCopied(event, gameID);
         return boardCopy;
     }
 
-    /**
-     * This function will add the end of a move in the form of a board array with {@link Space} objects
-     * to the top of a {@link Stack} of moves pending turn submission.
-     *
-     * @param move  a Space board array of the end of a move
-     */
-    public void addToPendingMoves(Move move) {
-        pendingMoves.push(move);
-    }
-
-    /**
-     * This function will remove the end of a move in the form of a board array with {@link Space} objects
-     * from the top of a {@link Stack} of moves pending turn submission.
-     *
-     * @return  Stack with pending turn submission moves in the form of Space board arrays
-     */
-    public Move removeFromPendingMoves() {
-        return pendingMoves.pop();
-    }
-
     /**
      * This function will check if the {@link Stack} of moves pending turn submission is not empty.
      *
@@ -866,7 +819,7 @@ public class Game {
      * @return latest pending move
      */
     public Move getLatestPendingMove() {
-        return pendingMoves.peek();
+        return pendingMoves.peek().getMove();
     }
 
     /**
@@ -875,79 +828,47 @@ public class Game {
      * @return specified pending move
      */
     public Move getPendingMove(int index) {
-        return pendingMoves.elementAt(index);
+        return pendingMoves.elementAt(index).getMove();
     }
 
     /**
-     * Returns the number of pending moves 
-     * 
-     * @return number of pending moves
-     */
-    public int getSizePendingMoves() {
-        return pendingMoves.size();
-    }
-
-    /**
-     * Clears all pending moves currently in the {@link Stack} 
-     * 
-     */
-    public void clearPendingMoves() {
-        pendingMoves.clear();
-    }
-
-
-    /**
-     * This function will add the end of a move in the form of a board array with {@link Space} objects
-     * to the top of a {@link Stack} of moves pending turn submission.
-     *
-     * @param board  a Space board array of the end of a move
-     */
-    public void addToPendingMoveBoards(Space[][] board) {
-        pendingMoveBoards.push(board);
-    }
-
-    /**
-     * This function will remove the end of a move in the form of a board array with {@link Space} objects
-     * from the top of a {@link Stack} of moves pending turn submission.
+     * Returns the {@link MoveDelta} of the latest pending move
      *
-     * @return  Stack with pending turn submission moves in the form of Space board arrays
+     * @return latest pending move delta
      */
-    public Space[][] removeFromPendingMoveBoards() {
-        return pendingMoveBoards.pop();
+    public MoveDelta getLatestPendingDelta() {
+        return pendingMoves.peek();
     }
 
     /**
-     * This function will check if the {@link Stack} of moves pending turn submission is not empty.
+     * Returns the {@link MoveDelta} of a pending move at the specified index
      *
-     * @return  true if it is not empty, and false, otherwise
+     * @param index  the index of the move in the turn
+     * @return specified pending move delta
      */
-    public boolean hasBoards() {
-        return !pendingMoveBoards.empty();
+    public MoveDelta getPendingDelta(int index) {
+        return pendingMoves.elementAt(index);
     }
 
     /**
-     * Return the ending position of the last board
+     * Returns the number of pending moves 
      * 
-     * @return latest Space
-     */
-    public Space[][] getLatestPendingMoveEndPositionBoard() {
-        return pendingMoveBoards.peek();
-    }
-
-    /**
-     * Get the pending move board at a specified index
-     * @param index
-     * @return Space at the specified index
+     * @return number of pending moves
      */
-    public Space[][] getPendingMoveBoard(int index) {
-        return pendingMoveBoards.elementAt(index);
+    public int getSizePendingMoves() {
+        return pendingMoves.size();
     }
 
     /**
-     * Remove all Pending Move Boards from {@link Stack}
+     * Clears all pending moves currently in the {@link Stack} 
+     * 
      */
-    public void clearPendingMoveBoards() {
-        pendingMoveBoards.clear();
+    public void clearPendingMoves() {
+        if (!pendingMoves.empty()) {
+            // The live position still has the discarded moves made, so it is built again from the board
+            this.position = null;
+        }
+        pendingMoves.clear();
     }
 
 }
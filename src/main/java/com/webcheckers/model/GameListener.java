@@ -0,0 +1,36 @@
+package com.webcheckers.model;
+
+import java.util.List;
+
+/**
+ * GameListener, is told about changes to a {@link Game} as they happen
+ *
+ * <p>
+ * Listeners are called on the thread that changed the game, while it holds the lock of the game, so they
+ * must return quickly and must not block.
+ * </p>
+ */
+public interface GameListener {
+
+    /**
+     * Called after the turn passed from one player to the other
+     *
+     * @param game  the {@link Game} that changed
+     */
+    void turnChanged(Game game);
+
+    /**
+     * Called after a turn was committed to the board
+     *
+     * @param game   the {@link Game} that changed
+     * @param moves  the {@link Move}s of the turn, in the order they were made
+     */
+    void boardChanged(Game game, List<Move> moves);
+
+    /**
+     * Called after the game ended
+     *
+     * @param game  the {@link Game} that ended
+     */
+    void gameEnded(Game game);
+}
@@ -0,0 +1,292 @@
+package com.webcheckers.model;
+
+import java.util.Arrays;
+
+/**
+ * LegalMoves, every move and jump sequence available to one color at the start of a turn
+ *
+ * <p>
+ * Simple moves are stored as a mask of end squares for every start square. Jump sequences are stored as a tree
+ * of steps, where step {@link #ROOT} is the starting position, its children are the first jumps, and the
+ * children of a jump are the jumps the same piece can continue with. The children of a step are stored next
+ * to each other, so looking up a (start, end) step only checks a handful of entries.
+ * </p>
+ */
+public class LegalMoves {
+
+    /**
+     * Constants
+     */
+    public static final int ROOT = 0;
+    public static final int NO_STEP = -1;
+
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * Attributes
+     */
+    private final Piece.PieceColor color;
+    private final int[] simpleEnds;
+    private final int simpleMovers;
+    private final int jumpers;
+
+    private int[] stepStart;
+    private int[] stepEnd;
+    private int[] firstChild;
+    private int[] childCount;
+    private int size;
+
+    /**
+     * Creates a {@link LegalMoves} object by generating all moves for a color on a board
+     *
+     * @param board
+     *      The {@link BitBoard} at the start of the turn
+     * @param color
+     *      The color of the player taking the turn
+     */
+    public LegalMoves(BitBoard board, Piece.PieceColor color) {
+        this.color = color;
+        this.simpleEnds = new int[BitBoard.NUM_SQUARES];
+        this.simpleMovers = MoveGenerator.simpleMovers(board, color);
+        this.jumpers = MoveGenerator.jumpers(board, color);
+
+        this.stepStart = new int[INITIAL_CAPACITY];
+        this.stepEnd = new int[INITIAL_CAPACITY];
+        this.firstChild = new int[INITIAL_CAPACITY];
+        this.childCount = new int[INITIAL_CAPACITY];
+        addStep(BitBoard.NO_SQUARE, BitBoard.NO_SQUARE);
+
+        for (int movers = simpleMovers; movers != 0; movers &= movers - 1) {
+            int square = Integer.numberOfTrailingZeros(movers);
+            simpleEnds[square] = MoveGenerator.simpleTargets(board, square);
+        }
+
+        firstChild[ROOT] = size;
+        for (int movers = jumpers; movers != 0; movers &= movers - 1) {
+            int square = Integer.numberOfTrailingZeros(movers);
+            for (int targets = MoveGenerator.jumpTargets(board, square); targets != 0; targets &= targets - 1) {
+                addStep(square, Integer.numberOfTrailingZeros(targets));
+            }
+        }
+        childCount[ROOT] = size - firstChild[ROOT];
+        expandChildren(ROOT, board);
+    }
+
+    /**
+     * Adds the continuation jumps below every child of a step
+     *
+     * @param step   the step whose children are expanded
+     * @param board  the board after the step was made
+     */
+    private void expandChildren(int step, BitBoard board) {
+        int first = firstChild[step];
+        int count = childCount[step];
+
+        for (int child = first; child < first + count; child++) {
+            int start = stepStart[child];
+            int end = stepEnd[child];
+            BitBoard next = new BitBoard(board);
+            next.movePiece(start, end);
+            next.removePiece(BitBoard.capturedSquare(start, end));
+
+            firstChild[child] = size;
+            for (int targets = MoveGenerator.jumpTargets(next, end); targets != 0; targets &= targets - 1) {
+                addStep(end, Integer.numberOfTrailingZeros(targets));
+            }
+            childCount[child] = size - firstChild[child];
+            expandChildren(child, next);
+        }
+    }
+
+    /**
+     * Adds a step to the jump tree, growing the arrays when they are full
+     *
+     * @param start  the square index the step starts on
+     * @param end    the square index the step ends on
+     */
+    private void addStep(int start, int end) {
+        if (size == stepStart.length) {
+            int capacity = size * 2;
+            stepStart = Arrays.copyOf(stepStart, capacity);
+            stepEnd = Arrays.copyOf(stepEnd, capacity);
+            firstChild = Arrays.copyOf(firstChild, capacity);
+            childCount = Arrays.copyOf(childCount, capacity);
+        }
+        stepStart[size] = start;
+        stepEnd[size] = end;
+        size++;
+    }
+
+    /**
+     * Returns the color these moves were generated for
+     *
+     * @return {@link Piece.PieceColor}
+     */
+    public Piece.PieceColor getColor() {
+        return color;
+    }
+
+    /**
+     * Checks if a simple move is legal at the start of the turn
+     *
+     * @param start  the square index the move starts on
+     * @param end    the square index the move ends on
+     * @return boolean
+     */
+    public boolean isSimpleMove(int start, int end) {
+        if (start == BitBoard.NO_SQUARE || end == BitBoard.NO_SQUARE) {
+            return false;
+        }
+        return (simpleEnds[start] & (1 << end)) != 0;
+    }
+
+    /**
+     * Checks if a jump is legal as the first step of the turn
+     *
+     * @param start  the square index the jump starts on
+     * @param end    the square index the jump ends on
+     * @return boolean
+     */
+    public boolean isJumpMove(int start, int end) {
+        return findStep(ROOT, start, end) != NO_STEP;
+    }
+
+    /**
+     * Finds the jump that continues a step of a jump sequence
+     *
+     * @param step   the step the turn has reached, {@link #ROOT} if no move was made yet
+     * @param start  the square index the jump starts on
+     * @param end    the square index the jump ends on
+     * @return  the step of the jump, or {@link #NO_STEP} if it is not part of a legal jump sequence
+     */
+    public int findStep(int step, int start, int end) {
+        if (step == NO_STEP) {
+            return NO_STEP;
+        }
+        int first = firstChild[step];
+        for (int child = first; child < first + childCount[step]; child++) {
+            if (stepStart[child] == start && stepEnd[child] == end) {
+                return child;
+            }
+        }
+        return NO_STEP;
+    }
+
+    /**
+     * Checks if a jump sequence has to continue from a step
+     *
+     * @param step  a step of a jump sequence
+     * @return  true if the piece can still jump, and false, otherwise
+     */
+    public boolean mustContinue(int step) {
+        return step != NO_STEP && childCount[step] > 0;
+    }
+
+    /**
+     * Checks if any piece can jump, which means a jump must be taken this turn
+     *
+     * @return boolean
+     */
+    public boolean hasJump() {
+        return jumpers != 0;
+    }
+
+    /**
+     * Checks if the player has any move at all
+     *
+     * @return boolean
+     */
+    public boolean hasMove() {
+        return jumpers != 0 || simpleMovers != 0;
+    }
+
+    /**
+     * Returns the mask of pieces that can make a simple move
+     *
+     * @return int
+     */
+    public int getSimpleMovers() {
+        return simpleMovers;
+    }
+
+    /**
+     * Returns the mask of squares the piece on a square can reach with a simple move
+     *
+     * @param square  the square index of the moving piece
+     * @return int
+     */
+    public int getSimpleTargets(int square) {
+        return simpleEnds[square];
+    }
+
+    /**
+     * Returns the first child of a step of the jump tree; the children of a step are stored next to each other
+     *
+     * @param step  a step of the jump tree, {@link #ROOT} for the first jumps
+     * @return int
+     */
+    public int getFirstChild(int step) {
+        return firstChild[step];
+    }
+
+    /**
+     * Returns the number of jumps that continue a step of the jump tree
+     *
+     * @param step  a step of the jump tree, {@link #ROOT} for the first jumps
+     * @return int
+     */
+    public int getChildCount(int step) {
+        return childCount[step];
+    }
+
+    /**
+     * Returns the square index a step of the jump tree starts on
+     *
+     * @param step  a step of the jump tree
+     * @return int
+     */
+    public int getStepStart(int step) {
+        return stepStart[step];
+    }
+
+    /**
+     * Returns the square index a step of the jump tree ends on
+     *
+     * @param step  a step of the jump tree
+     * @return int
+     */
+    public int getStepEnd(int step) {
+        return stepEnd[step];
+    }
+
+    /**
+     * Returns the number of different turns: every complete jump sequence if a jump must be taken, and every
+     * simple move otherwise
+     *
+     * @return int
+     */
+    public int getTurnCount() {
+        int turns = 0;
+        if (jumpers != 0) {
+            for (int step = ROOT + 1; step < size; step++) {
+                if (childCount[step] == 0) {
+                    turns++;
+                }
+            }
+            return turns;
+        }
+        for (int movers = simpleMovers; movers != 0; movers &= movers - 1) {
+            turns += Integer.bitCount(simpleEnds[Integer.numberOfTrailingZeros(movers)]);
+        }
+        return turns;
+    }
+
+    /**
+     * Returns the number of jump steps in all of the jump sequences
+     *
+     * @return int
+     */
+    public int getJumpStepCount() {
+        return size - 1;
+    }
+}
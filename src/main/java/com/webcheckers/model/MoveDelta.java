@@ -0,0 +1,163 @@
+package com.webcheckers.model;
+
+/**
+ * MoveDelta, records the squares changed by one pending {@link Move} so it can be applied and undone
+ */
+public class MoveDelta {
+
+    /**
+     * Attributes
+     */
+    private final Move move;
+    private final int start;
+    private final int end;
+    private final int captured;
+    private final boolean capturedKing;
+    private final boolean promoted;
+    private final int step;
+
+    /**
+     * Creates the {@link MoveDelta} of a move made on a position
+     *
+     * @param move
+     *      The {@link Move} being made, which must be a legal simple or jump move on the position
+     * @param position
+     *      The {@link BitBoard} before the move is made
+     * @param step
+     *      The step of the move in the jump sequences of the turn's {@link LegalMoves}, or
+     *      {@link LegalMoves#NO_STEP} if it is not part of one
+     */
+    public MoveDelta(Move move, BitBoard position, int step) {
+        this.move = move;
+        this.start = BitBoard.squareOf(move.getStart());
+        this.end = BitBoard.squareOf(move.getEnd());
+        this.step = step;
+
+        if (Math.abs(move.getEnd().getRow() - move.getStart().getRow()) == 2) {
+            this.captured = BitBoard.capturedSquare(start, end);
+            this.capturedKing = position.isKing(captured);
+        }
+        else {
+            this.captured = BitBoard.NO_SQUARE;
+            this.capturedKing = false;
+        }
+        this.promoted = !position.isKing(start)
+                && (BitBoard.kingRow(position.colorAt(start)) & (1 << end)) != 0;
+    }
+
+    /**
+     * Returns the {@link Move} that was made
+     *
+     * @return {@link Move}
+     */
+    public Move getMove() {
+        return move;
+    }
+
+    /**
+     * Returns the square index the move starts on
+     *
+     * @return int
+     */
+    public int getStart() {
+        return start;
+    }
+
+    /**
+     * Returns the square index the move ends on
+     *
+     * @return int
+     */
+    public int getEnd() {
+        return end;
+    }
+
+    /**
+     * Returns the square index of the captured piece
+     *
+     * @return  the square index, or {@link BitBoard#NO_SQUARE} for a simple move
+     */
+    public int getCaptured() {
+        return captured;
+    }
+
+    /**
+     * Returns whether the move captured a piece
+     *
+     * @return boolean
+     */
+    public boolean isJump() {
+        return captured != BitBoard.NO_SQUARE;
+    }
+
+    /**
+     * Returns whether the moving piece was promoted to a king
+     *
+     * @return boolean
+     */
+    public boolean isPromoted() {
+        return promoted;
+    }
+
+    /**
+     * Returns the step of the move in the jump sequences of the turn
+     *
+     * @return int
+     */
+    public int getStep() {
+        return step;
+    }
+
+    /**
+     * Makes the move on a position
+     *
+     * @param position  the {@link BitBoard} the move was created for
+     */
+    public void apply(BitBoard position) {
+        position.movePiece(start, end);
+        if (captured != BitBoard.NO_SQUARE) {
+            position.removePiece(captured);
+        }
+        if (promoted) {
+            position.setKing(end, true);
+        }
+    }
+
+    /**
+     * Takes the move back on a position, restoring any captured piece
+     *
+     * @param position  the {@link BitBoard} the move was last applied to
+     */
+    public void undo(BitBoard position) {
+        Piece.PieceColor color = position.colorAt(end);
+
+        if (promoted) {
+            position.setKing(end, false);
+        }
+        position.movePiece(end, start);
+        if (captured != BitBoard.NO_SQUARE) {
+            Piece.PieceColor capturedColor =
+                    color == Piece.PieceColor.RED ? Piece.PieceColor.WHITE : Piece.PieceColor.RED;
+            position.addPiece(captured, capturedColor, capturedKing);
+        }
+    }
+
+    /**
+     * Makes the move on a board array of {@link Space} objects
+     *
+     * @param board  the Space board array holding the same pieces as the position the move was created for
+     */
+    public void apply(Space[][] board) {
+        Space startSpace = board[move.getStart().getRow()][move.getStart().getCell()];
+        Piece piece = startSpace.getPiece();
+
+        startSpace.removePiece();
+        board[move.getEnd().getRow()][move.getEnd().getCell()].addPiece(piece);
+        if (captured != BitBoard.NO_SQUARE) {
+            board[BitBoard.rowOf(captured)][BitBoard.cellOf(captured)].removePiece();
+        }
+        if (promoted) {
+            piece.modifyTypeToKING();
+        }
+    }
+}
@@ -0,0 +1,168 @@
+package com.webcheckers.model;
+
+/**
+ * MoveGenerator, finds simple and jump moves on a {@link BitBoard} with shift and mask operations
+ *
+ * <p>
+ * Single red pieces move towards row 7, single white pieces move towards row 0, and kings move in all four
+ * directions. Every query works on whole masks at once, so asking whether any piece of a color can jump
+ * does not visit the squares one at a time.
+ * </p>
+ */
+public final class MoveGenerator {
+
+    private MoveGenerator() {
+    }
+
+    /**
+     * Returns the mask of pieces of a color that can make a simple move
+     *
+     * @param board  the {@link BitBoard} to search
+     * @param color  the color of the moving pieces
+     * @return int
+     */
+    public static int simpleMovers(BitBoard board, Piece.PieceColor color) {
+        int empty = board.getEmpty();
+        int pieces = board.getPieces(color);
+        int kings = pieces & board.getKings();
+        int forward;
+        int backward;
+
+        if (color == Piece.PieceColor.RED) {
+            forward = BitBoard.downRight(empty) | BitBoard.downLeft(empty);
+            backward = BitBoard.upRight(empty) | BitBoard.upLeft(empty);
+        }
+        else {
+            forward = BitBoard.upRight(empty) | BitBoard.upLeft(empty);
+            backward = BitBoard.downRight(empty) | BitBoard.downLeft(empty);
+        }
+        return (pieces & forward) | (kings & backward);
+    }
+
+    /**
+     * Returns the mask of pieces of a color that can make a jump move
+     *
+     * @param board  the {@link BitBoard} to search
+     * @param color  the color of the moving pieces
+     * @return int
+     */
+    public static int jumpers(BitBoard board, Piece.PieceColor color) {
+        int empty = board.getEmpty();
+        int pieces = board.getPieces(color);
+        int opponents = color == Piece.PieceColor.RED ? board.getWhite() : board.getRed();
+        int kings = pieces & board.getKings();
+
+        int up = BitBoard.downRight(BitBoard.downRight(empty) & opponents)
+                | BitBoard.downLeft(BitBoard.downLeft(empty) & opponents);
+        int down = BitBoard.upRight(BitBoard.upRight(empty) & opponents)
+                | BitBoard.upLeft(BitBoard.upLeft(empty) & opponents);
+
+        if (color == Piece.PieceColor.RED) {
+            return (pieces & up) | (kings & down);
+        }
+        return (pieces & down) | (kings & up);
+    }
+
+    /**
+     * Checks if any piece of a color can make a jump move
+     *
+     * @param board  the {@link BitBoard} to search
+     * @param color  the color of the moving pieces
+     * @return  true if there is a possible jump move, and false, otherwise
+     */
+    public static boolean canJump(BitBoard board, Piece.PieceColor color) {
+        return jumpers(board, color) != 0;
+    }
+
+    /**
+     * Checks if any piece of a color can make a simple move
+     *
+     * @param board  the {@link BitBoard} to search
+     * @param color  the color of the moving pieces
+     * @return  true if there is a possible simple move, and false, otherwise
+     */
+    public static boolean canMoveSimple(BitBoard board, Piece.PieceColor color) {
+        return simpleMovers(board, color) != 0;
+    }
+
+    /**
+     * Returns the mask of squares the piece on a square can reach with a simple move
+     *
+     * @param board   the {@link BitBoard} to search
+     * @param square  the square index of the moving piece
+     * @return  the mask of end squares, empty if the square holds no piece
+     */
+    public static int simpleTargets(BitBoard board, int square) {
+        Piece.PieceColor color = board.colorAt(square);
+        if (color == null) {
+            return 0;
+        }
+        int bit = 1 << square;
+        int targets = 0;
+
+        if (color == Piece.PieceColor.RED || board.isKing(square)) {
+            targets |= BitBoard.upLeft(bit) | BitBoard.upRight(bit);
+        }
+        if (color == Piece.PieceColor.WHITE || board.isKing(square)) {
+            targets |= BitBoard.downLeft(bit) | BitBoard.downRight(bit);
+        }
+        return targets & board.getEmpty();
+    }
+
+    /**
+     * Returns the mask of squares the piece on a square can reach with a single jump
+     *
+     * @param board   the {@link BitBoard} to search
+     * @param square  the square index of the moving piece
+     * @return  the mask of end squares, empty if the square holds no piece
+     */
+    public static int jumpTargets(BitBoard board, int square) {
+        Piece.PieceColor color = board.colorAt(square);
+        if (color == null) {
+            return 0;
+        }
+        int bit = 1 << square;
+        int opponents = color == Piece.PieceColor.RED ? board.getWhite() : board.getRed();
+        int targets = 0;
+
+        if (color == Piece.PieceColor.RED || board.isKing(square)) {
+            targets |= BitBoard.upLeft(BitBoard.upLeft(bit) & opponents)
+                    | BitBoard.upRight(BitBoard.upRight(bit) & opponents);
+        }
+        if (color == Piece.PieceColor.WHITE || board.isKing(square)) {
+            targets |= BitBoard.downLeft(BitBoard.downLeft(bit) & opponents)
+                    | BitBoard.downRight(BitBoard.downRight(bit) & opponents);
+        }
+        return targets & board.getEmpty();
+    }
+
+    /**
+     * Checks if moving from one square to another is a legal simple move
+     *
+     * @param board  the {@link BitBoard} to search
+     * @param start  the square index the move starts on
+     * @param end    the square index the move ends on
+     * @return boolean
+     */
+    public static boolean isSimpleMove(BitBoard board, int start, int end) {
+        if (start == BitBoard.NO_SQUARE || end == BitBoard.NO_SQUARE) {
+            return false;
+        }
+        return (simpleTargets(board, start) & (1 << end)) != 0;
+    }
+
+    /**
+     * Checks if moving from one square to another is a legal jump move
+     *
+     * @param board  the {@link BitBoard} to search
+     * @param start  the square index the move starts on
+     * @param end    the square index the move ends on
+     * @return boolean
+     */
+    public static boolean isJumpMove(BitBoard board, int start, int end) {
+        if (start == BitBoard.NO_SQUARE || end == BitBoard.NO_SQUARE) {
+            return false;
+        }
+        return (jumpTargets(board, start) & (1 << end)) != 0;
+    }
+}
@@ -0,0 +1,97 @@
+package com.webcheckers.model;
+
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * ParallelSearch, searches one position on several threads of a {@link ForkJoinPool} that share a
+ * {@link TranspositionTable}
+ *
+ * <p>
+ * The search is a lazy SMP search. The thread that asks for a turn searches it with its own
+ * {@link SearchEngine}, and helper searches of the same position are handed to the pool, where idle threads
+ * steal them. The helpers start at different depths, so they fill the shared table with results the main
+ * search then finds instead of searching them itself. Only the turn of the main search is made, and the helpers
+ * are told to stop as soon as it is found. When every thread of the pool is busy, the helpers are not run until
+ * the search is over and then return at once, so a busy pool searches each position on one thread.
+ * </p>
+ */
+public class ParallelSearch {
+
+    /**
+     * Attributes
+     */
+    private final ForkJoinPool pool;
+    private final int helpers;
+    private final ThreadLocal<SearchEngine> engines;
+
+    /**
+     * The nodes visited by every search, helpers included
+     */
+    private final LongAdder nodes = new LongAdder();
+
+    /**
+     * Creates a {@link ParallelSearch}
+     *
+     * @param pool              the {@link ForkJoinPool} the helper searches run on
+     * @param table             the {@link TranspositionTable} every search shares
+     * @param threadsPerSearch  the most threads that search one position at once
+     */
+    public ParallelSearch(ForkJoinPool pool, TranspositionTable table, int threadsPerSearch) {
+        Objects.requireNonNull(table, "table is required");
+        this.pool = Objects.requireNonNull(pool, "pool is required");
+        this.helpers = Math.max(threadsPerSearch, 1) - 1;
+        this.engines = ThreadLocal.withInitial(() -> new SearchEngine(table));
+    }
+
+    /**
+     * Finds the best turn for a color, with help from the idle threads of the pool
+     *
+     * @param position      the {@link BitBoard} to move on
+     * @param color         the color to move
+     * @param budgetMillis  the time the search may take
+     * @param maxDepth      the deepest the search goes, in turns
+     * @return  the moves of the turn, in order, or an empty list if the color cannot move
+     */
+    public List<Move> findTurn(BitBoard position, Piece.PieceColor color, long budgetMillis, int maxDepth) {
+        AtomicBoolean stop = new AtomicBoolean();
+        for (int helper = 1; helper <= helpers; helper++) {
+            int firstDepth = 1 + (helper & 1);
+            pool.execute(() -> {
+                SearchEngine engine = engines.get();
+                engine.findTurn(position, color, budgetMillis, firstDepth, maxDepth, stop);
+                nodes.add(engine.getNodes());
+            });
+        }
+
+        SearchEngine engine = engines.get();
+        try {
+            return engine.findTurn(position, color, budgetMillis, 1, maxDepth, stop);
+        }
+        finally {
+            stop.set(true);
+            nodes.add(engine.getNodes());
+        }
+    }
+
+    /**
+     * Returns the nodes visited by every search so far, helpers included
+     *
+     * @return long
+     */
+    public long getNodes() {
+        return nodes.sum();
+    }
+
+    /**
+     * Returns the depth reached by the last main search of the calling thread
+     *
+     * @return int
+     */
+    public int getDepthReached() {
+        return engines.get().getDepthReached();
+    }
+}
@@ -0,0 +1,86 @@
+package com.webcheckers.model;
+
+/**
+ * Perft, counts the positions reached after a number of turns by walking every legal turn of {@link LegalMoves}
+ *
+ * <p>
+ * A turn is one leaf of the tree of turns, so a multiple jump counts once, and two jump sequences over the
+ * same pieces count twice. The counts from the starting board are known for the rules of English draughts, so
+ * a count that changes means the rules changed. The last turns are counted without being made, as
+ * {@link LegalMoves#getTurnCount()}.
+ * </p>
+ */
+public final class Perft {
+
+    private Perft() {
+    }
+
+    /**
+     * Counts the positions reached from a position after a number of turns
+     *
+     * @param board  the {@link BitBoard} to start from
+     * @param color  the color to move first
+     * @param depth  the number of turns
+     * @return  the number of positions, counted once for every way of reaching them
+     */
+    public static long perft(BitBoard board, Piece.PieceColor color, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        LegalMoves moves = new LegalMoves(board, color);
+        if (depth == 1) {
+            return moves.getTurnCount();
+        }
+
+        Piece.PieceColor next = color == Piece.PieceColor.RED ? Piece.PieceColor.WHITE : Piece.PieceColor.RED;
+        if (moves.hasJump()) {
+            return perftJumps(moves, LegalMoves.ROOT, board, color, next, depth);
+        }
+
+        long nodes = 0;
+        for (int movers = moves.getSimpleMovers(); movers != 0; movers &= movers - 1) {
+            int start = Integer.numberOfTrailingZeros(movers);
+            for (int targets = moves.getSimpleTargets(start); targets != 0; targets &= targets - 1) {
+                BitBoard child = new BitBoard(board);
+                move(child, start, Integer.numberOfTrailingZeros(targets), color);
+                nodes += perft(child, next, depth - 1);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Counts the positions reached through every jump sequence that continues a step of the jump tree
+     */
+    private static long perftJumps(LegalMoves moves, int step, BitBoard board,
+                                   Piece.PieceColor color, Piece.PieceColor next, int depth) {
+        long nodes = 0;
+        int first = moves.getFirstChild(step);
+        for (int child = first; child < first + moves.getChildCount(step); child++) {
+            int start = moves.getStepStart(child);
+            int end = moves.getStepEnd(child);
+            BitBoard jumped = new BitBoard(board);
+            jumped.removePiece(BitBoard.capturedSquare(start, end));
+            move(jumped, start, end, color);
+
+            if (moves.getChildCount(child) == 0) {
+                nodes += perft(jumped, next, depth - 1);
+            }
+            else {
+                nodes += perftJumps(moves, child, jumped, color, next, depth);
+            }
+        }
+        return nodes;
+    }
+
+    /**
+     * Moves a piece, promoting a single piece that reached the king row the way {@link MoveDelta} does
+     */
+    private static void move(BitBoard board, int start, int end, Piece.PieceColor color) {
+        boolean promoted = !board.isKing(start) && (BitBoard.kingRow(color) & (1 << end)) != 0;
+        board.movePiece(start, end);
+        if (promoted) {
+            board.setKing(end, true);
+        }
+    }
+}
@@ -8,6 +8,15 @@ package com.webcheckers.model;
  */
 public class Player {
 
+    /**
+     * Whether the player is free to start a game, playing one, or watching one
+     */
+    public enum Status {
+        AVAILABLE,
+        PLAYING,
+        SPECTATING
+    }
+
     /**
      * {@link String} representing the player's name
      */
@@ -17,6 +26,8 @@ public class Player {
     private boolean isSpectator;
     private String spectateTurn;
     private Game currentGame;
+    private volatile long lastActivity = System.currentTimeMillis();
+    private volatile PlayerStatusListener statusListener;
 
     /**
      * Create {@link Player} instance to hold information of a player.
@@ -38,6 +49,26 @@ public class Player {
         return name;
     }
 
+    /**
+     * Records that the player just made a request
+     *
+     * @param now
+     *   the current time, in milliseconds since the epoch
+     */
+    public void touch(long now) {
+        this.lastActivity = now;
+    }
+
+    /**
+     * Get when the player last made a request
+     *
+     * @return
+     *   milliseconds since the epoch
+     */
+    public long getLastActivity() {
+        return lastActivity;
+    }
+
     /**
      * Is the player in a game?
      *
@@ -75,9 +106,14 @@ public class Player {
      *
      * @author <a href="mailto:sdw5588@rit.edu">Shayne Winn</a>
      */
-    public void joinGame(Game game) {
+    public synchronized void joinGame(Game game) {
+        Status oldStatus = getStatus();
+        leaveCurrentGame();
         this.inGame = true;
+        this.isSpectator = false;
         currentGame = game;
+        game.addOccupant(this);
+        fireStatusChanged(oldStatus);
     }
 
     /**
@@ -86,11 +122,15 @@ public class Player {
      * @param game
      *   the {@link Game} to join
      */
-    public void spectateGame(Game game) {
+    public synchronized void spectateGame(Game game) {
+        Status oldStatus = getStatus();
+        leaveCurrentGame();
+        game.addOccupant(this);
         this.inGame = true;
         this.isSpectator = true;
         this.spectateTurn = game.getActiveColor();
         currentGame = game;
+        fireStatusChanged(oldStatus);
     }
 
     /**
@@ -113,10 +153,36 @@ public class Player {
      *
      * @author <a href="mailto:sdw5588@rit.edu">Shayne Winn</a>
      */
-    public void leaveGame() {
+    public synchronized void leaveGame() {
+        Status oldStatus = getStatus();
+        leaveCurrentGame();
         this.inGame = false;
         this.isSpectator = false;
         currentGame = null;
+        fireStatusChanged(oldStatus);
+    }
+
+    /**
+     * Get whether the player is available, playing or spectating
+     *
+     * @return
+     *   the {@link Status} of the player
+     */
+    public Status getStatus() {
+        if (!inGame) {
+            return Status.AVAILABLE;
+        }
+        return isSpectator ? Status.SPECTATING : Status.PLAYING;
+    }
+
+    /**
+     * Sets the listener told when the player joins, spectates or leaves a game
+     *
+     * @param statusListener
+     *   the {@link PlayerStatusListener}, or null for none
+     */
+    public void setStatusListener(PlayerStatusListener statusListener) {
+        this.statusListener = statusListener;
     }
 
     /**
@@ -140,4 +206,26 @@ public class Player {
     public boolean getSpectatorStatus() {
         return isSpectator;
     }
+
+    /**
+     * Tells the listener, if any, that the status of the player may have changed
+     *
+     * @param oldStatus
+     *   the {@link Status} the player had before
+     */
+    private void fireStatusChanged(Status oldStatus) {
+        PlayerStatusListener listener = statusListener;
+        if (listener != null && oldStatus != getStatus()) {
+            listener.statusChanged(this, oldStatus);
+        }
+    }
+
+    /**
+     * Stops counting this player as an occupant of the game they are in, if any
+     */
+    private void leaveCurrentGame() {
+        if (currentGame != null) {
+            currentGame.removeOccupant(this);
+        }
+    }
 }
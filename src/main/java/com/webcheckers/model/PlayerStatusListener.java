@@ -0,0 +1,15 @@
+package com.webcheckers.model;
+
+/**
+ * PlayerStatusListener, is told when a {@link Player} joins, spectates or leaves a game
+ */
+public interface PlayerStatusListener {
+
+    /**
+     * Called after the status of a player changed
+     *
+     * @param player     the {@link Player} that changed
+     * @param oldStatus  the {@link Player.Status} the player had before
+     */
+    void statusChanged(Player player, Player.Status oldStatus);
+}
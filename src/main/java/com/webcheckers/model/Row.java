@@ -2,7 +2,9 @@ package com.webcheckers.model;
 
 
 import java.util.ArrayList;
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.List;
 
 /**
  * Row, holds the eight Space objects that make up a row on a checker board
@@ -16,7 +18,7 @@ public class Row implements Iterable<Space>{
      * Attributes
      */
     private final int index;
-    private final ArrayList<Space> spaces;
+    private final List<Space> spaces;
 
     /**
      * Creates a {@link Row} object that holds the {@link Space} objects that make up the initial state of a checker game
@@ -29,6 +31,19 @@ public class Row implements Iterable<Space>{
         this.spaces = new ArrayList<>();
     }
 
+    /**
+     * Creates a read-only {@link Row} of some spaces, which can be shared by any number of requests
+     *
+     * @param index
+     *      The index for each row (0 - 7)
+     * @param spaces
+     *      The {@link Space} objects of the row, from left to right
+     */
+    public Row(final int index, List<Space> spaces) {
+        this.index = index;
+        this.spaces = Collections.unmodifiableList(new ArrayList<>(spaces));
+    }
+
     /**
      * Returns the index of the {@link Row} object
      *
@@ -43,7 +58,7 @@ public class Row implements Iterable<Space>{
      *
      *  @return number of spaces in board
      */
-    public ArrayList<Space> getSpaces() {
+    public List<Space> getSpaces() {
         return spaces;
     }
 
@@ -0,0 +1,611 @@
+package com.webcheckers.model;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * SearchEngine, finds the turn a computer player makes with an alpha-beta search and iterative deepening
+ *
+ * <p>
+ * The search works on the three masks of a {@link BitBoard} and keeps every position it makes in arrays that
+ * are allocated once, one slice for each ply, so searching a node never allocates. A whole turn, every jump of
+ * a multiple jump included, is one step of the search. Turns are ordered with the best turn of the previous
+ * iteration first, then the turn that last cut off the search at the same ply, then by how often a turn cut off
+ * the search before. The search deepens one ply at a time until the time budget runs out, and the turn found
+ * by the deepest finished iteration is the one made.
+ * </p>
+ *
+ * <p>
+ * Every position searched is stored in a {@link TranspositionTable} under its {@link Zobrist} hash, which is
+ * updated from the squares a turn changed. A position reached again, by another order of turns, in a later
+ * search or in another game sharing the table, is not searched again if it was searched deep enough, and the
+ * best turn stored for it is searched first otherwise. A position that repeats one on the line being searched
+ * is scored as a draw.
+ * </p>
+ *
+ * <p>
+ * An engine is not thread safe; each thread that searches uses its own engine.
+ * </p>
+ */
+public class SearchEngine {
+
+    /**
+     * Constants
+     */
+    public static final int WIN = 1_000_000;
+    public static final int DRAW = 0;
+    static final int MAX_PLY = 64;
+    static final int MAX_TURNS = 128;
+    static final int DEFAULT_TABLE_BITS = 16;
+
+    private static final int MAN = 100;
+    private static final int KING = 160;
+    private static final int ADVANCED = 4;
+    private static final int BACK_ROW = 8;
+    private static final int RED_HALF = 0xFFFF0000;
+    private static final int WHITE_HALF = 0x0000FFFF;
+    private static final int NO_TURN = -1;
+    private static final AtomicBoolean NEVER_STOP = new AtomicBoolean();
+    private static final int CHECK_TIME_NODES = 1023;
+    private static final int ORDER_BEST = Integer.MAX_VALUE;
+    private static final int ORDER_KILLER = Integer.MAX_VALUE - 1;
+
+    /**
+     * The turns of each ply, as the masks of the positions they lead to, the first step they take, and their
+     * order. The turns of a ply start at {@code ply * MAX_TURNS}.
+     */
+    private final int[] turnRed = new int[MAX_PLY * MAX_TURNS];
+    private final int[] turnWhite = new int[MAX_PLY * MAX_TURNS];
+    private final int[] turnKings = new int[MAX_PLY * MAX_TURNS];
+    private final int[] turnStep = new int[MAX_PLY * MAX_TURNS];
+    private final long[] turnHash = new long[MAX_PLY * MAX_TURNS];
+    private final int[] turnOrder = new int[MAX_PLY * MAX_TURNS];
+    private final int[] turnCount = new int[MAX_PLY];
+    private final boolean[] turnJumps = new boolean[MAX_PLY];
+
+    /**
+     * The hashes of the positions on the line being searched, to find repeated positions
+     */
+    private final long[] pathHash = new long[MAX_PLY];
+
+    /**
+     * The position whose turns are being generated, which the hash of each turn is updated from
+     */
+    private int fromRed;
+    private int fromWhite;
+    private int fromKings;
+    private long fromHash;
+
+    /**
+     * Move ordering: the first step of the last turn that cut off each ply, and how often each first step cut
+     * off the search, weighted by the depth left.
+     */
+    private final int[] killers = new int[MAX_PLY];
+    private final int[] history = new int[BitBoard.NUM_SQUARES * BitBoard.NUM_SQUARES];
+
+    private final TranspositionTable table;
+
+    private long deadline;
+    private AtomicBoolean stop;
+    private boolean timeUp;
+    private long nodes;
+    private int depthReached;
+    private int score;
+
+    /**
+     * Creates a {@link SearchEngine} with a transposition table of its own
+     */
+    public SearchEngine() {
+        this(new TranspositionTable(DEFAULT_TABLE_BITS));
+    }
+
+    /**
+     * Creates a {@link SearchEngine}
+     *
+     * @param table  the {@link TranspositionTable} to store searched positions in, which may be shared
+     */
+    public SearchEngine(TranspositionTable table) {
+        this.table = Objects.requireNonNull(table, "table is required");
+    }
+
+    /**
+     * Finds the best turn for a color
+     *
+     * @param position      the {@link BitBoard} to move on
+     * @param color         the color to move
+     * @param budgetMillis  the time the search may take
+     * @param maxDepth      the deepest the search goes, in turns
+     * @return  the moves of the turn, in order, or an empty list if the color cannot move
+     */
+    public List<Move> findTurn(BitBoard position, Piece.PieceColor color, long budgetMillis, int maxDepth) {
+        return findTurn(position, color, budgetMillis, 1, maxDepth, NEVER_STOP);
+    }
+
+    /**
+     * Finds the best turn for a color, starting the iterations at a given depth and stopping early when asked
+     * to. Searches that help another search of the same position start at different depths, so they fill the
+     * shared table with different positions.
+     *
+     * @param position      the {@link BitBoard} to move on
+     * @param color         the color to move
+     * @param budgetMillis  the time the search may take
+     * @param firstDepth    the depth of the first iteration
+     * @param maxDepth      the deepest the search goes, in turns
+     * @param stop          set to true to end the search before its time budget runs out
+     * @return  the moves of the turn, in order, or an empty list if the color cannot move
+     */
+    public List<Move> findTurn(BitBoard position, Piece.PieceColor color, long budgetMillis,
+                               int firstDepth, int maxDepth, AtomicBoolean stop) {
+        boolean redToMove = color == Piece.PieceColor.RED;
+        int red = position.getRed();
+        int white = position.getWhite();
+        int kings = position.getKings();
+        long hash = position.getHash() ^ (redToMove ? 0L : Zobrist.WHITE_TO_MOVE);
+
+        deadline = System.nanoTime() + budgetMillis * 1_000_000L;
+        this.stop = stop;
+        timeUp = stop.get();
+        nodes = 0;
+        depthReached = 0;
+        score = 0;
+        Arrays.fill(killers, NO_TURN);
+        Arrays.fill(history, 0);
+
+        int count = generate(0, red, white, kings, hash, redToMove);
+        pathHash[0] = hash;
+        if (count == 0) {
+            score = -WIN;
+            return Collections.emptyList();
+        }
+
+        // The best turn is kept first, so each iteration searches it before the others
+        int best = 0;
+        for (int depth = Math.max(firstDepth, 1); count > 1 && !timeUp && depth <= maxDepth; depth++) {
+            int alpha = -WIN - 1;
+            int iterationBest = NO_TURN;
+
+            for (int i = 0; i < count; i++) {
+                int value = -search(1, depth - 1, -WIN - 1, -alpha,
+                        turnRed[i], turnWhite[i], turnKings[i], turnHash[i], !redToMove);
+                if (timeUp) {
+                    break;
+                }
+                if (value > alpha) {
+                    alpha = value;
+                    iterationBest = i;
+                }
+            }
+            if (timeUp || iterationBest == NO_TURN) {
+                break;
+            }
+            swap(0, iterationBest);
+            depthReached = depth;
+            score = alpha;
+            if (alpha >= WIN - MAX_PLY || alpha <= -WIN + MAX_PLY) {
+                // the game is decided either way, deeper searches find nothing better
+                break;
+            }
+        }
+        return movesOf(position, redToMove, turnRed[best], turnWhite[best], turnKings[best], turnStep[best]);
+    }
+
+    /**
+     * Returns the depth of the deepest finished iteration of the last search
+     *
+     * @return int
+     */
+    public int getDepthReached() {
+        return depthReached;
+    }
+
+    /**
+     * Returns the nodes visited by the last search
+     *
+     * @return long
+     */
+    public long getNodes() {
+        return nodes;
+    }
+
+    /**
+     * Returns the score of the last turn found, for the side that made it
+     *
+     * @return int
+     */
+    public int getScore() {
+        return score;
+    }
+
+    /**
+     * Searches a position with negamax alpha-beta. Turns that capture are always searched one ply further, so
+     * a position is never scored in the middle of an exchange.
+     *
+     * @return  the score of the position for the side to move
+     */
+    private int search(int ply, int depth, int alpha, int beta,
+                       int red, int white, int kings, long hash, boolean redToMove) {
+        if ((++nodes & CHECK_TIME_NODES) == 0 && (System.nanoTime() > deadline || stop.get())) {
+            timeUp = true;
+        }
+        if (timeUp) {
+            return 0;
+        }
+
+        // Only kings can move back, so a position takes at least four turns to repeat
+        pathHash[ply] = hash;
+        for (int i = ply - 4; i >= 0; i -= 2) {
+            if (pathHash[i] == hash) {
+                return DRAW;
+            }
+        }
+
+        long stored = table.probe(hash);
+        int storedStep = NO_TURN;
+        if (stored != TranspositionTable.NO_ENTRY) {
+            storedStep = TranspositionTable.stepOf(stored);
+            if (TranspositionTable.depthOf(stored) >= Math.max(depth, 0)) {
+                int value = fromTable(TranspositionTable.scoreOf(stored), ply);
+                int bound = TranspositionTable.boundOf(stored);
+                if (bound == TranspositionTable.EXACT
+                        || (bound == TranspositionTable.LOWER_BOUND && value >= beta)
+                        || (bound == TranspositionTable.UPPER_BOUND && value <= alpha)) {
+                    return value;
+                }
+            }
+        }
+
+        int count = generate(ply, red, white, kings, hash, redToMove);
+        if (count == 0) {
+            return -WIN + ply;
+        }
+        if (ply == MAX_PLY - 1 || (depth <= 0 && !turnJumps[ply])) {
+            return evaluate(red, white, kings, redToMove);
+        }
+
+        int base = ply * MAX_TURNS;
+        int killer = killers[ply];
+        for (int i = base; i < base + count; i++) {
+            int step = turnStep[i];
+            turnOrder[i] = step == storedStep ? ORDER_BEST : step == killer ? ORDER_KILLER : history[step];
+        }
+
+        int alphaIn = alpha;
+        int best = -WIN - 1;
+        int bestStep = NO_TURN;
+        for (int n = 0; n < count; n++) {
+            int i = pickNext(base + n, base + count);
+            int value = -search(ply + 1, depth - 1, -beta, -alpha,
+                    turnRed[i], turnWhite[i], turnKings[i], turnHash[i], !redToMove);
+            if (timeUp) {
+                return 0;
+            }
+            if (value > best) {
+                best = value;
+                bestStep = turnStep[i];
+                if (value > alpha) {
+                    alpha = value;
+                    if (alpha >= beta) {
+                        killers[ply] = turnStep[i];
+                        if (depth > 0) {
+                            history[turnStep[i]] += depth * depth;
+                        }
+                        break;
+                    }
+                }
+            }
+        }
+
+        int bound = best <= alphaIn ? TranspositionTable.UPPER_BOUND
+                : best >= beta ? TranspositionTable.LOWER_BOUND : TranspositionTable.EXACT;
+        table.store(hash, depth, toTable(best, ply), bound, bestStep);
+        return best;
+    }
+
+    /**
+     * Makes a win or loss score count its turns from the position it is stored for instead of from the root,
+     * so it means the same when the position is reached at another ply
+     */
+    private static int toTable(int value, int ply) {
+        if (value >= WIN - MAX_PLY) {
+            return value + ply;
+        }
+        if (value <= -WIN + MAX_PLY) {
+            return value - ply;
+        }
+        return value;
+    }
+
+    /**
+     * Turns a win or loss score read from the table back into turns from the root
+     */
+    private static int fromTable(int value, int ply) {
+        if (value >= WIN - MAX_PLY) {
+            return value - ply;
+        }
+        if (value <= -WIN + MAX_PLY) {
+            return value + ply;
+        }
+        return value;
+    }
+
+    /**
+     * Scores a position for the side to move: material, single pieces that crossed the middle of the board, and
+     * single pieces still guarding their own back row
+     */
+    private static int evaluate(int red, int white, int kings, boolean redToMove) {
+        int redMen = red & ~kings;
+        int whiteMen = white & ~kings;
+
+        int value = MAN * (Integer.bitCount(redMen) - Integer.bitCount(whiteMen))
+                + KING * (Integer.bitCount(red & kings) - Integer.bitCount(white & kings))
+                + ADVANCED * (Integer.bitCount(redMen & RED_HALF) - Integer.bitCount(whiteMen & WHITE_HALF))
+                + BACK_ROW * (Integer.bitCount(redMen & BitBoard.WHITE_KING_ROW)
+                        - Integer.bitCount(whiteMen & BitBoard.RED_KING_ROW));
+        return redToMove ? value : -value;
+    }
+
+    /**
+     * Moves the turn with the highest order left in a ply to the front of the turns not searched yet
+     *
+     * @return  the index of the turn
+     */
+    private int pickNext(int from, int to) {
+        int best = from;
+        for (int i = from + 1; i < to; i++) {
+            if (turnOrder[i] > turnOrder[best]) {
+                best = i;
+            }
+        }
+        if (best != from) {
+            swap(from, best);
+        }
+        return from;
+    }
+
+    private void swap(int a, int b) {
+        int red = turnRed[a];
+        int white = turnWhite[a];
+        int kings = turnKings[a];
+        int step = turnStep[a];
+        long hash = turnHash[a];
+        int order = turnOrder[a];
+
+        turnRed[a] = turnRed[b];
+        turnWhite[a] = turnWhite[b];
+        turnKings[a] = turnKings[b];
+        turnStep[a] = turnStep[b];
+        turnHash[a] = turnHash[b];
+        turnOrder[a] = turnOrder[b];
+
+        turnRed[b] = red;
+        turnWhite[b] = white;
+        turnKings[b] = kings;
+        turnStep[b] = step;
+        turnHash[b] = hash;
+        turnOrder[b] = order;
+    }
+
+    //
+    // Turn generation. Jumps are forced, and a single piece that reaches the king row ends its turn there.
+    //
+
+    /**
+     * Generates every turn of the side to move into the slice of a ply
+     *
+     * @return  the number of turns
+     */
+    private int generate(int ply, int red, int white, int kings, long hash, boolean redToMove) {
+        int own = redToMove ? red : white;
+        int opponents = redToMove ? white : red;
+        int empty = ~(red | white);
+        int ownKings = own & kings;
+        int base = ply * MAX_TURNS;
+        turnCount[ply] = 0;
+        fromRed = red;
+        fromWhite = white;
+        fromKings = kings;
+        fromHash = hash;
+
+        int up = BitBoard.downRight(BitBoard.downRight(empty) & opponents)
+                | BitBoard.downLeft(BitBoard.downLeft(empty) & opponents);
+        int down = BitBoard.upRight(BitBoard.upRight(empty) & opponents)
+                | BitBoard.upLeft(BitBoard.upLeft(empty) & opponents);
+        int jumpers = redToMove ? (own & up) | (ownKings & down) : (own & down) | (ownKings & up);
+
+        turnJumps[ply] = jumpers != 0;
+        if (jumpers != 0) {
+            while (jumpers != 0) {
+                int square = Integer.numberOfTrailingZeros(jumpers);
+                jumpers &= jumpers - 1;
+                addJumps(ply, NO_TURN, square, red, white, kings, redToMove);
+            }
+            return turnCount[ply];
+        }
+
+        int movers = own;
+        while (movers != 0) {
+            int square = Integer.numberOfTrailingZeros(movers);
+            movers &= movers - 1;
+            int bit = 1 << square;
+            int targets = 0;
+            if (redToMove || (kings & bit) != 0) {
+                targets |= BitBoard.upLeft(bit) | BitBoard.upRight(bit);
+            }
+            if (!redToMove || (kings & bit) != 0) {
+                targets |= BitBoard.downLeft(bit) | BitBoard.downRight(bit);
+            }
+            targets &= empty;
+
+            while (targets != 0) {
+                int end = Integer.numberOfTrailingZeros(targets);
+                targets &= targets - 1;
+                int endBit = 1 << end;
+                int newKings = (kings & bit) != 0 ? kings ^ (bit | endBit) : kings | (endBit & kingRow(redToMove));
+                if (redToMove) {
+                    addTurn(base, ply, red ^ (bit | endBit), white, newKings, step(square, end));
+                }
+                else {
+                    addTurn(base, ply, red, white ^ (bit | endBit), newKings, step(square, end));
+                }
+            }
+        }
+        return turnCount[ply];
+    }
+
+    /**
+     * Follows every jump sequence of the piece on a square, adding the position at the end of each one
+     *
+     * @param first  the first step of the sequence, or {@code NO_TURN} if no jump was made yet
+     */
+    private void addJumps(int ply, int first, int square, int red, int white, int kings, boolean redToMove) {
+        int bit = 1 << square;
+        boolean king = (kings & bit) != 0;
+        int opponents = redToMove ? white : red;
+        int empty = ~(red | white);
+        boolean jumped = false;
+
+        if (redToMove || king) {
+            int upLeft = BitBoard.upLeft(bit) & opponents;
+            int upRight = BitBoard.upRight(bit) & opponents;
+            jumped |= jump(ply, first, square, upLeft, BitBoard.upLeft(upLeft) & empty,
+                    red, white, kings, redToMove);
+            jumped |= jump(ply, first, square, upRight, BitBoard.upRight(upRight) & empty,
+                    red, white, kings, redToMove);
+        }
+        if (!redToMove || king) {
+            int downLeft = BitBoard.downLeft(bit) & opponents;
+            int downRight = BitBoard.downRight(bit) & opponents;
+            jumped |= jump(ply, first, square, downLeft, BitBoard.downLeft(downLeft) & empty,
+                    red, white, kings, redToMove);
+            jumped |= jump(ply, first, square, downRight, BitBoard.downRight(downRight) & empty,
+                    red, white, kings, redToMove);
+        }
+        if (!jumped && first != NO_TURN) {
+            addTurn(ply * MAX_TURNS, ply, red, white, kings, first);
+        }
+    }
+
+    /**
+     * Makes one jump of a sequence, if there is a piece to capture and an empty square behind it
+     *
+     * @return  true if the jump was made, and false, otherwise
+     */
+    private boolean jump(int ply, int first, int square, int captured, int landing,
+                         int red, int white, int kings, boolean redToMove) {
+        if (captured == 0 || landing == 0) {
+            return false;
+        }
+        int bit = 1 << square;
+        int end = Integer.numberOfTrailingZeros(landing);
+        int step = first == NO_TURN ? step(square, end) : first;
+
+        int newKings = kings & ~captured;
+        boolean promoted = false;
+        if ((kings & bit) != 0) {
+            newKings ^= bit | landing;
+        }
+        else if ((landing & kingRow(redToMove)) != 0) {
+            newKings |= landing;
+            promoted = true;
+        }
+        int newRed = redToMove ? red ^ (bit | landing) : red & ~captured;
+        int newWhite = redToMove ? white & ~captured : white ^ (bit | landing);
+
+        if (promoted) {
+            addTurn(ply * MAX_TURNS, ply, newRed, newWhite, newKings, step);
+        }
+        else {
+            addJumps(ply, step, end, newRed, newWhite, newKings, redToMove);
+        }
+        return true;
+    }
+
+    private void addTurn(int base, int ply, int red, int white, int kings, int step) {
+        int count = turnCount[ply];
+        if (count == MAX_TURNS) {
+            return;
+        }
+        int i = base + count;
+        turnRed[i] = red;
+        turnWhite[i] = white;
+        turnKings[i] = kings;
+        turnStep[i] = step;
+        turnHash[i] = Zobrist.update(fromHash, fromRed, fromWhite, fromKings, red, white, kings)
+                ^ Zobrist.WHITE_TO_MOVE;
+        turnCount[ply] = count + 1;
+    }
+
+    private static int kingRow(boolean redToMove) {
+        return redToMove ? BitBoard.RED_KING_ROW : BitBoard.WHITE_KING_ROW;
+    }
+
+    private static int step(int start, int end) {
+        return start * BitBoard.NUM_SQUARES + end;
+    }
+
+    //
+    // Turning the chosen position back into moves. This runs once a search, so it may allocate.
+    //
+
+    /**
+     * Finds the moves that lead from a position to the position a turn ends in
+     *
+     * @return  the moves of the turn, in order
+     */
+    private static List<Move> movesOf(BitBoard position, boolean redToMove,
+                                      int red, int white, int kings, int step) {
+        int start = step / BitBoard.NUM_SQUARES;
+        int end = step % BitBoard.NUM_SQUARES;
+        List<Move> moves = new ArrayList<>();
+        moves.add(moveOf(start, end));
+
+        BitBoard board = new BitBoard(position);
+        if (Math.abs(BitBoard.rowOf(start) - BitBoard.rowOf(end)) == 1) {
+            return moves;
+        }
+        board.movePiece(start, end);
+        board.removePiece(BitBoard.capturedSquare(start, end));
+        findJumps(board, end, redToMove, red, white, kings, moves);
+        return moves;
+    }
+
+    /**
+     * Follows the jumps of a piece until the board matches the position a turn ends in
+     *
+     * @return  true if the moves lead to the position, and false, otherwise
+     */
+    private static boolean findJumps(BitBoard board, int square, boolean redToMove,
+                                     int red, int white, int kings, List<Move> moves) {
+        int targets = (board.getKings() & (1 << square)) == 0
+                && (1 << square & kingRow(redToMove)) != 0 ? 0 : MoveGenerator.jumpTargets(board, square);
+
+        if (targets == 0) {
+            boolean promote = (1 << square & kingRow(redToMove)) != 0;
+            return board.getRed() == red && board.getWhite() == white
+                    && (board.getKings() | (promote ? 1 << square : 0)) == kings;
+        }
+        while (targets != 0) {
+            int end = Integer.numberOfTrailingZeros(targets);
+            targets &= targets - 1;
+
+            BitBoard next = new BitBoard(board);
+            next.movePiece(square, end);
+            next.removePiece(BitBoard.capturedSquare(square, end));
+            moves.add(moveOf(square, end));
+            if (findJumps(next, end, redToMove, red, white, kings, moves)) {
+                return true;
+            }
+            moves.remove(moves.size() - 1);
+        }
+        return false;
+    }
+
+    private static Move moveOf(int start, int end) {
+        return new Move(new Position(BitBoard.rowOf(start), BitBoard.cellOf(start)),
+                new Position(BitBoard.rowOf(end), BitBoard.cellOf(end)));
+    }
+}
@@ -0,0 +1,156 @@
+package com.webcheckers.model;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * TranspositionTable, a fixed-size table of search results keyed by the {@link Zobrist} hash of a position
+ *
+ * <p>
+ * The table never locks, so one table can be shared by every search on the server. Each result is packed into
+ * one long, and stored next to the exclusive or of the hash and the result. A result is only read back if the
+ * two still match, so a result torn by two searches writing the same entry at once is ignored instead of being
+ * trusted.
+ * </p>
+ *
+ * <p>
+ * Every hash maps to a bucket of two entries. The first keeps the result searched deepest, which saved the most
+ * work; the second always takes the newest result that did not replace the first, so recent positions are
+ * still found while the first entry holds on to a deep one.
+ * </p>
+ */
+public class TranspositionTable {
+
+    /**
+     * Constants
+     */
+    public static final long NO_ENTRY = 0L;
+    public static final int EXACT = 1;
+    public static final int LOWER_BOUND = 2;
+    public static final int UPPER_BOUND = 3;
+    public static final int NO_STEP = -1;
+
+    private static final int LONGS_PER_ENTRY = 2;
+    private static final int LONGS_PER_BUCKET = 2 * LONGS_PER_ENTRY;
+    private static final int DEPTH_SHIFT = 32;
+    private static final int BOUND_SHIFT = 40;
+    private static final int STEP_SHIFT = 42;
+    private static final int MAX_DEPTH = 0xFF;
+
+    /**
+     * Attributes
+     */
+    private final AtomicLongArray entries;
+    private final int bucketMask;
+
+    /**
+     * Creates an empty {@link TranspositionTable}
+     *
+     * @param sizeBits  the table has {@code 2^sizeBits} buckets of two entries, each entry taking 16 bytes
+     */
+    public TranspositionTable(int sizeBits) {
+        if (sizeBits < 1 || sizeBits > 26) {
+            throw new IllegalArgumentException("sizeBits must be between 1 and 26");
+        }
+        this.entries = new AtomicLongArray(LONGS_PER_BUCKET << sizeBits);
+        this.bucketMask = (1 << sizeBits) - 1;
+    }
+
+    /**
+     * Looks up the result stored for a position
+     *
+     * @param hash  the {@link Zobrist} hash of the position, side to move included
+     * @return  the packed result, or {@link #NO_ENTRY} if the position is not in the table
+     */
+    public long probe(long hash) {
+        int bucket = bucketOf(hash);
+        for (int entry = bucket; entry < bucket + LONGS_PER_BUCKET; entry += LONGS_PER_ENTRY) {
+            long data = entries.get(entry + 1);
+            if (data != NO_ENTRY && (entries.get(entry) ^ data) == hash) {
+                return data;
+            }
+        }
+        return NO_ENTRY;
+    }
+
+    /**
+     * Stores the result of searching a position
+     *
+     * @param hash   the {@link Zobrist} hash of the position, side to move included
+     * @param depth  the depth the position was searched to
+     * @param score  the score of the position for the side to move
+     * @param bound  {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     * @param step   the first step of the best turn found, or {@link #NO_STEP}
+     */
+    public void store(long hash, int depth, int score, int bound, int step) {
+        long data = pack(Math.min(Math.max(depth, 0), MAX_DEPTH), score, bound, step);
+        int bucket = bucketOf(hash);
+
+        long deepest = entries.get(bucket + 1);
+        int entry = bucket;
+        if (deepest != NO_ENTRY && (entries.get(bucket) ^ deepest) != hash && depth < depthOf(deepest)) {
+            entry = bucket + LONGS_PER_ENTRY;
+        }
+        entries.set(entry, hash ^ data);
+        entries.set(entry + 1, data);
+    }
+
+    /**
+     * Returns the number of entries the table holds
+     *
+     * @return int
+     */
+    public int capacity() {
+        return entries.length() / LONGS_PER_ENTRY;
+    }
+
+    /**
+     * Returns the depth of a packed result
+     *
+     * @param data  a result returned by {@link #probe(long)}
+     * @return int
+     */
+    public static int depthOf(long data) {
+        return (int) (data >>> DEPTH_SHIFT) & MAX_DEPTH;
+    }
+
+    /**
+     * Returns the score of a packed result
+     *
+     * @param data  a result returned by {@link #probe(long)}
+     * @return int
+     */
+    public static int scoreOf(long data) {
+        return (int) data;
+    }
+
+    /**
+     * Returns the bound of a packed result
+     *
+     * @param data  a result returned by {@link #probe(long)}
+     * @return  {@link #EXACT}, {@link #LOWER_BOUND} or {@link #UPPER_BOUND}
+     */
+    public static int boundOf(long data) {
+        return (int) (data >>> BOUND_SHIFT) & 0x3;
+    }
+
+    /**
+     * Returns the first step of the best turn of a packed result
+     *
+     * @param data  a result returned by {@link #probe(long)}
+     * @return  the step, or {@link #NO_STEP}
+     */
+    public static int stepOf(long data) {
+        return (int) (data >>> STEP_SHIFT) - 1;
+    }
+
+    private static long pack(int depth, int score, int bound, int step) {
+        return (score & 0xFFFFFFFFL)
+                | ((long) depth << DEPTH_SHIFT)
+                | ((long) bound << BOUND_SHIFT)
+                | ((long) (step + 1) << STEP_SHIFT);
+    }
+
+    private int bucketOf(long hash) {
+        return ((int) (hash ^ (hash >>> 32)) & bucketMask) * LONGS_PER_BUCKET;
+    }
+}
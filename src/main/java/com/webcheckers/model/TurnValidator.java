@@ -0,0 +1,84 @@
+package com.webcheckers.model;
+
+/**
+ * TurnValidator, checks whether the pending moves of a {@link Game} make up a complete turn
+ *
+ * <p>
+ * A validator is created for each submitted turn and holds no state besides the game, so concurrent
+ * submissions in different games never share anything. The caller must hold the lock of the game.
+ * </p>
+ */
+public class TurnValidator {
+
+    public enum Result {
+        VALID,
+        NO_MOVES,
+        JUMP_MOVE_AVAILABLE,
+        ONE_SINGLE_MOVE_ONLY,
+        JUMP_MOVES_ONLY,
+        JUMP_MOVE_PARTIAL,
+        NOT_LEGAL,
+    }
+
+    /**
+     * Attributes
+     */
+    private final Game game;
+
+    /**
+     * Creates a {@link TurnValidator} for the pending moves of a game
+     *
+     * @param game  the {@link Game} the turn is submitted in
+     */
+    public TurnValidator(Game game) {
+        this.game = game;
+    }
+
+    /**
+     * Classifies the pending moves in one pass and checks them against the rules for a turn. A turn that
+     * follows the rules is only valid if it is also one of the {@link LegalMoves} of the game.
+     *
+     * @return  {@link Result#VALID} if the turn can be committed, or the rule the turn breaks
+     */
+    public Result validate() {
+        int numberOfPendingMoves = game.getSizePendingMoves();
+        int numberOfJumps = 0;
+
+        for (int i = 0; i < numberOfPendingMoves; i++) {
+            if (game.getPendingDelta(i).isJump()) {
+                numberOfJumps++;
+            }
+        }
+        int numberOfSimples = numberOfPendingMoves - numberOfJumps;
+
+        if (numberOfPendingMoves == 0) {
+            return Result.NO_MOVES;
+        }
+        if (numberOfJumps == 0) {
+            if (numberOfSimples > 1) {
+                return Result.ONE_SINGLE_MOVE_ONLY;
+            }
+            LegalMoves legal = game.getLegalMoves();
+            if (legal.hasJump()) {
+                return Result.JUMP_MOVE_AVAILABLE;
+            }
+            MoveDelta simple = game.getPendingDelta(0);
+            if (!legal.isSimpleMove(simple.getStart(), simple.getEnd())) {
+                return Result.NOT_LEGAL;
+            }
+            return Result.VALID;
+        }
+        if (numberOfSimples > 0) {
+            return Result.JUMP_MOVES_ONLY;
+        }
+        if (game.canContinueJump()) {
+            return Result.JUMP_MOVE_PARTIAL;
+        }
+        // The last jump must end a jump sequence of the legal turns, which every earlier jump led up to
+        int step = game.getPendingDelta(numberOfPendingMoves - 1).getStep();
+        if (step == LegalMoves.NO_STEP || game.getLegalMoves().mustContinue(step)) {
+            return Result.NOT_LEGAL;
+        }
+        return Result.VALID;
+    }
+}
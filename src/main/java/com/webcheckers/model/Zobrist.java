@@ -0,0 +1,103 @@
+package com.webcheckers.model;
+
+import java.util.SplittableRandom;
+
+/**
+ * Zobrist, the 64-bit keys that hash a checkers position
+ *
+ * <p>
+ * Every kind of piece on every square has a random key, and so does white being the side to move. The hash of a
+ * position is the exclusive or of the keys of its pieces, so moving, capturing or promoting a piece changes the
+ * hash with one or two more exclusive ors of the keys of the squares it changed. The keys come from a fixed
+ * seed, so a position has the same hash in every game and on every run of the server.
+ * </p>
+ */
+public final class Zobrist {
+
+    /**
+     * Constants
+     */
+    private static final long SEED = 0x5EEDC4EC4E55L;
+    private static final int RED_SINGLE = 0;
+    private static final int RED_KING = 1;
+    private static final int WHITE_SINGLE = 2;
+    private static final int WHITE_KING = 3;
+
+    /**
+     * The key of each kind of piece on each square, {@code NUM_SQUARES} keys per kind
+     */
+    private static final long[] PIECE_KEYS = new long[4 * BitBoard.NUM_SQUARES];
+
+    /**
+     * The key added to the hash of a position when white is to move
+     */
+    public static final long WHITE_TO_MOVE;
+
+    static {
+        SplittableRandom random = new SplittableRandom(SEED);
+        for (int i = 0; i < PIECE_KEYS.length; i++) {
+            PIECE_KEYS[i] = random.nextLong();
+        }
+        WHITE_TO_MOVE = random.nextLong();
+    }
+
+    private Zobrist() {
+    }
+
+    /**
+     * Returns the key of a piece on a square
+     *
+     * @param square  a square index
+     * @param red     whether the piece is red
+     * @param king    whether the piece is a king
+     * @return long
+     */
+    public static long pieceKey(int square, boolean red, boolean king) {
+        int kind = red ? (king ? RED_KING : RED_SINGLE) : (king ? WHITE_KING : WHITE_SINGLE);
+        return PIECE_KEYS[kind * BitBoard.NUM_SQUARES + square];
+    }
+
+    /**
+     * Returns the hash of the pieces of a position, without the side to move
+     *
+     * @param red    the mask of red pieces
+     * @param white  the mask of white pieces
+     * @param kings  the mask of kings of either color
+     * @return long
+     */
+    public static long hash(int red, int white, int kings) {
+        return update(0L, 0, 0, 0, red, white, kings);
+    }
+
+    /**
+     * Changes the hash of one position into the hash of another, visiting only the squares that differ
+     *
+     * @param hash      the hash of the old position
+     * @param oldRed    the mask of red pieces of the old position
+     * @param oldWhite  the mask of white pieces of the old position
+     * @param oldKings  the mask of kings of the old position
+     * @param red       the mask of red pieces of the new position
+     * @param white     the mask of white pieces of the new position
+     * @param kings     the mask of kings of the new position
+     * @return  the hash of the new position
+     */
+    public static long update(long hash, int oldRed, int oldWhite, int oldKings, int red, int white, int kings) {
+        int oldPieces = oldRed | oldWhite;
+        int pieces = red | white;
+        int changed = (oldRed ^ red) | (oldWhite ^ white) | ((oldKings & oldPieces) ^ (kings & pieces));
+
+        while (changed != 0) {
+            int square = Integer.numberOfTrailingZeros(changed);
+            int bit = 1 << square;
+            changed &= changed - 1;
+
+            if ((oldPieces & bit) != 0) {
+                hash ^= pieceKey(square, (oldRed & bit) != 0, (oldKings & bit) != 0);
+            }
+            if ((pieces & bit) != 0) {
+                hash ^= pieceKey(square, (red & bit) != 0, (kings & bit) != 0);
+            }
+        }
+        return hash;
+    }
+}
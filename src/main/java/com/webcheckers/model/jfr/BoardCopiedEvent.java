@@ -0,0 +1,20 @@
+package com.webcheckers.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+
+/**
+ * Flight Recorder event of a board of spaces being copied, lasting as long as the copy. Its stack trace is
+ * recorded, to show what asked for the copy.
+ */
+@Name("com.webcheckers.BoardCopied")
+@Label("Board Copied")
+@Category({ "WebCheckers", "Game" })
+@Description("A board of spaces was copied, each copy allocating every space and piece again")
+public class BoardCopiedEvent extends jdk.jfr.Event {
+
+    @Label("Game ID")
+    public int gameID;
+}
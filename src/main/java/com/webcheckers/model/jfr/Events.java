@@ -0,0 +1,122 @@
+package com.webcheckers.model.jfr;
+
+import com.webcheckers.model.Move;
+import jdk.jfr.EventType;
+
+/**
+ * Creates and commits the Flight Recorder events. Only {@link FlightRecorder} calls it, once it has found
+ * {@code jdk.jfr}. An event is only created while a recording has its type enabled, so the game allocates
+ * nothing for events nobody records.
+ */
+final class Events {
+
+    private static final EventType GAME_STARTED = EventType.getEventType(GameStartedEvent.class);
+    private static final EventType GAME_ENDED = EventType.getEventType(GameEndedEvent.class);
+    private static final EventType MOVE_VALIDATED = EventType.getEventType(MoveValidatedEvent.class);
+    private static final EventType TURN_SUBMITTED = EventType.getEventType(TurnSubmittedEvent.class);
+    private static final EventType TURN_REJECTED = EventType.getEventType(TurnRejectedEvent.class);
+    private static final EventType BOARD_COPIED = EventType.getEventType(BoardCopiedEvent.class);
+
+    private Events() {
+    }
+
+    static void gameStarted(int gameID, String redPlayer, String whitePlayer) {
+        if (!GAME_STARTED.isEnabled()) {
+            return;
+        }
+        GameStartedEvent event = new GameStartedEvent();
+        if (event.shouldCommit()) {
+            event.gameID = gameID;
+            event.redPlayer = redPlayer;
+            event.whitePlayer = whitePlayer;
+            event.commit();
+        }
+    }
+
+    static void gameEnded(int gameID, String status, long boardVersion) {
+        if (!GAME_ENDED.isEnabled()) {
+            return;
+        }
+        GameEndedEvent event = new GameEndedEvent();
+        if (event.shouldCommit()) {
+            event.gameID = gameID;
+            event.status = status;
+            event.boardVersion = boardVersion;
+            event.commit();
+        }
+    }
+
+    static Object beginMoveValidated() {
+        if (!MOVE_VALIDATED.isEnabled()) {
+            return null;
+        }
+        MoveValidatedEvent event = new MoveValidatedEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endMoveValidated(Object begun, int gameID, Move move, boolean valid, String outcome) {
+        MoveValidatedEvent event = (MoveValidatedEvent) begun;
+        if (event.shouldCommit()) {
+            event.gameID = gameID;
+            event.startRow = move.getStart().getRow();
+            event.startCell = move.getStart().getCell();
+            event.endRow = move.getEnd().getRow();
+            event.endCell = move.getEnd().getCell();
+            event.valid = valid;
+            event.outcome = outcome;
+            event.commit();
+        }
+    }
+
+    static Object beginTurnSubmitted() {
+        if (!TURN_SUBMITTED.isEnabled()) {
+            return null;
+        }
+        TurnSubmittedEvent event = new TurnSubmittedEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endTurnSubmitted(Object begun, int gameID, String color, int moves, long boardVersion) {
+        TurnSubmittedEvent event = (TurnSubmittedEvent) begun;
+        if (event.shouldCommit()) {
+            event.gameID = gameID;
+            event.color = color;
+            event.moves = moves;
+            event.boardVersion = boardVersion;
+            event.commit();
+        }
+    }
+
+    static void turnRejected(int gameID, String color, int moves, String reason) {
+        if (!TURN_REJECTED.isEnabled()) {
+            return;
+        }
+        TurnRejectedEvent event = new TurnRejectedEvent();
+        if (event.shouldCommit()) {
+            event.gameID = gameID;
+            event.color = color;
+            event.moves = moves;
+            event.reason = reason;
+            event.commit();
+        }
+    }
+
+    static Object beginBoardCopied() {
+        if (!BOARD_COPIED.isEnabled()) {
+            return null;
+        }
+        BoardCopiedEvent event = new BoardCopiedEvent();
+        event.begin();
+        return event;
+    }
+
+    static void endBoardCopied(Object begun, int gameID) {
+        BoardCopiedEvent event = (BoardCopiedEvent) begun;
+        if (event.shouldCommit()) {
+            event.gameID = gameID;
+            event.commit();
+        }
+    }
+}
@@ -0,0 +1,120 @@
+package com.webcheckers.model.jfr;
+
+import com.webcheckers.model.Move;
+
+/**
+ * Records the Flight Recorder events of the game lifecycle.
+ *
+ * <p>
+ * The events extend {@code jdk.jfr.Event}, which a Java 8 runtime may not have. The game only calls this
+ * facade, which does nothing unless {@code jdk.jfr} is present, so the event classes are never loaded
+ * without it. A timed event is begun with one call and ended with another; the object handed between them
+ * is the event, or null when nothing records it. No event is created unless a recording has enabled its type.
+ * </p>
+ */
+public final class FlightRecorder {
+
+    private static final boolean AVAILABLE = isJfrPresent();
+
+    private FlightRecorder() {
+    }
+
+    private static boolean isJfrPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorder.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+
+    /**
+     * Checks if the events are recorded on this runtime
+     *
+     * @return  true if {@code jdk.jfr} is present, and false, otherwise
+     */
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Records a game being started
+     */
+    public static void gameStarted(int gameID, String redPlayer, String whitePlayer) {
+        if (AVAILABLE) {
+            Events.gameStarted(gameID, redPlayer, whitePlayer);
+        }
+    }
+
+    /**
+     * Records a game ending
+     */
+    public static void gameEnded(int gameID, String status, long boardVersion) {
+        if (AVAILABLE) {
+            Events.gameEnded(gameID, status, boardVersion);
+        }
+    }
+
+    /**
+     * Begins timing the validation of a move
+     *
+     * @return  the event to pass to {@link #endMoveValidated}
+     */
+    public static Object beginMoveValidated() {
+        return AVAILABLE ? Events.beginMoveValidated() : null;
+    }
+
+    /**
+     * Records the validation of a move begun by {@link #beginMoveValidated}
+     */
+    public static void endMoveValidated(Object event, int gameID, Move move, boolean valid, String outcome) {
+        if (event != null) {
+            Events.endMoveValidated(event, gameID, move, valid, outcome);
+        }
+    }
+
+    /**
+     * Begins timing the commit of a turn
+     *
+     * @return  the event to pass to {@link #endTurnSubmitted}
+     */
+    public static Object beginTurnSubmitted() {
+        return AVAILABLE ? Events.beginTurnSubmitted() : null;
+    }
+
+    /**
+     * Records the commit of a turn begun by {@link #beginTurnSubmitted}
+     */
+    public static void endTurnSubmitted(Object event, int gameID, String color, int moves, long boardVersion) {
+        if (event != null) {
+            Events.endTurnSubmitted(event, gameID, color, moves, boardVersion);
+        }
+    }
+
+    /**
+     * Records a submitted turn being rejected
+     */
+    public static void turnRejected(int gameID, String color, int moves, String reason) {
+        if (AVAILABLE) {
+            Events.turnRejected(gameID, color, moves, reason);
+        }
+    }
+
+    /**
+     * Begins timing the copy of a board
+     *
+     * @return  the event to pass to {@link #endBoardCopied}
+     */
+    public static Object beginBoardCopied() {
+        return AVAILABLE ? Events.beginBoardCopied() : null;
+    }
+
+    /**
+     * Records the copy of a board begun by {@link #beginBoardCopied}
+     */
+    public static void endBoardCopied(Object event, int gameID) {
+        if (event != null) {
+            Events.endBoardCopied(event, gameID);
+        }
+    }
+}
@@ -0,0 +1,29 @@
+package com.webcheckers.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a game ending
+ */
+@Name("com.webcheckers.GameEnded")
+@Label("Game Ended")
+@Category({ "WebCheckers", "Game" })
+@Description("A game ended by a player resigning or leaving")
+@StackTrace(false)
+public class GameEndedEvent extends jdk.jfr.Event {
+
+    @Label("Game ID")
+    public int gameID;
+
+    @Label("Status")
+    @Description("The Game.Status the game ended with")
+    public String status;
+
+    @Label("Board Version")
+    @Description("The number of turns committed, and boards replaced, before the game ended")
+    public long boardVersion;
+}
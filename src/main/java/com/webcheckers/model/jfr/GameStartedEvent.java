@@ -0,0 +1,27 @@
+package com.webcheckers.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a game being started
+ */
+@Name("com.webcheckers.GameStarted")
+@Label("Game Started")
+@Category({ "WebCheckers", "Game" })
+@Description("A game between two players was started")
+@StackTrace(false)
+public class GameStartedEvent extends jdk.jfr.Event {
+
+    @Label("Game ID")
+    public int gameID;
+
+    @Label("Red Player")
+    public String redPlayer;
+
+    @Label("White Player")
+    public String whitePlayer;
+}
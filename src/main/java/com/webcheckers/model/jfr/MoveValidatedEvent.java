@@ -0,0 +1,40 @@
+package com.webcheckers.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a move being validated, lasting as long as the validation
+ */
+@Name("com.webcheckers.MoveValidated")
+@Label("Move Validated")
+@Category({ "WebCheckers", "Move" })
+@Description("A move of a turn was validated, and added to the pending moves if it was valid")
+@StackTrace(false)
+public class MoveValidatedEvent extends jdk.jfr.Event {
+
+    @Label("Game ID")
+    public int gameID;
+
+    @Label("Start Row")
+    public int startRow;
+
+    @Label("Start Cell")
+    public int startCell;
+
+    @Label("End Row")
+    public int endRow;
+
+    @Label("End Cell")
+    public int endCell;
+
+    @Label("Valid")
+    public boolean valid;
+
+    @Label("Outcome")
+    @Description("The text of the message answered")
+    public String outcome;
+}
@@ -0,0 +1,31 @@
+package com.webcheckers.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a submitted turn being rejected
+ */
+@Name("com.webcheckers.TurnRejected")
+@Label("Turn Rejected")
+@Category({ "WebCheckers", "Turn" })
+@Description("A submitted turn was not a complete legal turn")
+@StackTrace(false)
+public class TurnRejectedEvent extends jdk.jfr.Event {
+
+    @Label("Game ID")
+    public int gameID;
+
+    @Label("Color")
+    public String color;
+
+    @Label("Pending Moves")
+    public int moves;
+
+    @Label("Reason")
+    @Description("The TurnValidator.Result the turn was rejected with")
+    public String reason;
+}
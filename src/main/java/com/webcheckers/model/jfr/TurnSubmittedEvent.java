@@ -0,0 +1,31 @@
+package com.webcheckers.model.jfr;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event of a turn being committed to the board, lasting as long as the commit
+ */
+@Name("com.webcheckers.TurnSubmitted")
+@Label("Turn Submitted")
+@Category({ "WebCheckers", "Turn" })
+@Description("The pending moves of a turn were committed to the board")
+@StackTrace(false)
+public class TurnSubmittedEvent extends jdk.jfr.Event {
+
+    @Label("Game ID")
+    public int gameID;
+
+    @Label("Color")
+    public String color;
+
+    @Label("Moves")
+    public int moves;
+
+    @Label("Board Version")
+    @Description("The version of the board after the commit")
+    public long boardVersion;
+}
@@ -0,0 +1,153 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Piece;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
+import spark.ModelAndView;
+import spark.TemplateEngine;
+
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * GameBoardCache, the rendered board markup of the Game View page, kept for each game, committed board and side
+ * of the board.
+ *
+ * <p>
+ * Everybody who looks at a game from the same side between two commits sees the same board, so it is rendered
+ * once and reused by the {@code /game} and {@code /spectator/game} pages, which only render the parts that
+ * belong to the viewer. The least recently used boards are dropped once the cached markup would take more
+ * memory than the cap. Boards of older commits are never asked for again, so they are the first to go.
+ * </p>
+ */
+public class GameBoardCache {
+    private static final Log LOG = Log.getLog(GameBoardCache.class);
+
+    /**
+     * Constants
+     */
+    static final String BOARD_VIEW_NAME = "game-board.ftl";
+    static final String BOARD_ATTR = "board";
+    static final long DEFAULT_MAX_BYTES = 4L * 1024 * 1024;
+
+    /**
+     * Attributes
+     */
+    private final TemplateEngine templateEngine;
+    private final long maxBytes;
+
+    /**
+     * The rendered boards, least recently used first. Guarded by its own lock.
+     */
+    private final LinkedHashMap<String, String> boards = new LinkedHashMap<>(16, 0.75f, true);
+    private long bytes;
+
+    /**
+     * Creates a {@link GameBoardCache} that holds up to four megabytes of markup
+     *
+     * @param templateEngine  the HTML template rendering engine
+     */
+    public GameBoardCache(TemplateEngine templateEngine) {
+        this(templateEngine, DEFAULT_MAX_BYTES);
+    }
+
+    /**
+     * Creates a {@link GameBoardCache}
+     *
+     * @param templateEngine  the HTML template rendering engine
+     * @param maxBytes        the most memory the cached markup may take
+     */
+    public GameBoardCache(TemplateEngine templateEngine, long maxBytes) {
+        this.templateEngine = Objects.requireNonNull(templateEngine, "templateEngine is required.");
+        this.maxBytes = maxBytes;
+        LOG.config("GameBoardCache is initialized.");
+    }
+
+    /**
+     * Returns the rendered board of a game as a player sees it, rendering it if it is not cached
+     *
+     * @param game    the {@link Game}
+     * @param viewer  the {@link Player} looking at the board
+     * @return the board markup
+     */
+    public String getBoard(Game game, Player viewer) {
+        // The version is read first, so the board rendered for it is never older than it
+        long version = game.getBoardVersion();
+        Piece.PieceColor side = viewer == game.getPlayers()[0] ? Piece.PieceColor.RED : Piece.PieceColor.WHITE;
+        String key = game.getGameID() + ":" + version + ":" + side;
+
+        synchronized (boards) {
+            String html = boards.get(key);
+            if (html != null) {
+                return html;
+            }
+        }
+
+        // Rendered outside the lock; two requests may render the same board, which gives the same markup
+        Map<String, Object> vm = new HashMap<>();
+        vm.put(BOARD_ATTR, game.getBoardView(viewer));
+        String html = templateEngine.render(new ModelAndView(vm, BOARD_VIEW_NAME));
+        if (html != null) {
+            put(key, html);
+        }
+        return html;
+    }
+
+    /**
+     * Returns the number of boards in the cache
+     *
+     * @return int
+     */
+    public int size() {
+        synchronized (boards) {
+            return boards.size();
+        }
+    }
+
+    /**
+     * Returns the memory taken by the cached markup
+     *
+     * @return bytes
+     */
+    public long getBytes() {
+        synchronized (boards) {
+            return bytes;
+        }
+    }
+
+    /**
+     * Caches a rendered board and drops the least recently used boards until the cache fits its cap
+     *
+     * @param key   the game, version and side of the board
+     * @param html  the board markup
+     */
+    private void put(String key, String html) {
+        synchronized (boards) {
+            String old = boards.put(key, html);
+            if (old != null) {
+                bytes -= sizeOf(old);
+            }
+            bytes += sizeOf(html);
+
+            Iterator<String> eldest = boards.values().iterator();
+            while (bytes > maxBytes && eldest.hasNext()) {
+                bytes -= sizeOf(eldest.next());
+                eldest.remove();
+            }
+        }
+    }
+
+    /**
+     * Returns the memory taken by a string of markup, two bytes a character
+     *
+     * @param html  the markup
+     * @return bytes
+     */
+    private static long sizeOf(String html) {
+        return 2L * html.length();
+    }
+}
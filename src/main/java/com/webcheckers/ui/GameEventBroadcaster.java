@@ -0,0 +1,358 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameListener;
+import com.webcheckers.model.Move;
+import com.webcheckers.util.Log;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Pushes Server-Sent Events about a {@link Game} to every open {@code GET /game/events} stream of that game.
+ *
+ * <p>
+ * Each stream is an asynchronous request, so an idle player holds a socket but no server thread. Events are
+ * encoded on the thread that changed the game, and handed to the streams by a single background thread. The
+ * broadcaster listens to a game only while the game has at least one stream.
+ * </p>
+ *
+ * <p>
+ * The streams write without blocking. What a client is not ready to receive waits in a short queue of its
+ * stream, which is written when the client is ready again. A stream that falls {@link #MAX_QUEUED_EVENTS}
+ * events behind is closed, so one slow client never holds up the events of any other stream.
+ * </p>
+ */
+public class GameEventBroadcaster implements GameListener {
+    private static final Log LOG = Log.getLog(GameEventBroadcaster.class);
+
+    /**
+     * Event names, matched by GameEventSource.js
+     */
+    static final String TURN_EVENT = "turn";
+    static final String BOARD_EVENT = "board";
+    static final String END_EVENT = "end";
+
+    static final long HEARTBEAT_SECONDS = 30;
+    static final int MAX_QUEUED_EVENTS = 32;
+    private static final byte[] HEARTBEAT = ":\n\n".getBytes(StandardCharsets.UTF_8);
+
+    /**
+     * Attributes
+     */
+    private final Gson gson;
+    private final ScheduledExecutorService executor;
+    private final Map<Integer, Map<AsyncContext, EventStream>> streams = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link GameEventBroadcaster} that writes events on its own daemon thread
+     *
+     * @param gson  the {@link Gson} used to encode event data
+     */
+    public GameEventBroadcaster(final Gson gson) {
+        this(gson, Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "game-events");
+            thread.setDaemon(true);
+            return thread;
+        }));
+    }
+
+    /**
+     * Creates a {@link GameEventBroadcaster} that writes events on an executor
+     *
+     * @param gson      the {@link Gson} used to encode event data
+     * @param executor  the single threaded {@link ScheduledExecutorService} that writes events and heartbeats
+     */
+    public GameEventBroadcaster(final Gson gson, final ScheduledExecutorService executor) {
+        this.gson = Objects.requireNonNull(gson, "gson is required");
+        this.executor = Objects.requireNonNull(executor, "executor is required");
+        // Comments keep proxies from closing idle streams and let dead streams be noticed
+        executor.scheduleAtFixedRate(this::sendHeartbeats, HEARTBEAT_SECONDS, HEARTBEAT_SECONDS, TimeUnit.SECONDS);
+    }
+
+    /**
+     * Starts sending the events of a game to an asynchronous request
+     *
+     * @param game     the {@link Game} to follow
+     * @param context  the {@link AsyncContext} of the event stream request
+     */
+    public void subscribe(final Game game, final AsyncContext context) {
+        final int gameID = game.getGameID();
+
+        context.setTimeout(0);
+        context.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                unsubscribe(game, context);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                unsubscribe(game, context);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                unsubscribe(game, context);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        // The stream is added in the same step that may create the map, so it cannot race the removal of the
+        // map by the last stream of the game unsubscribing
+        streams.compute(gameID, (id, gameStreams) -> {
+            if (gameStreams == null) {
+                game.addListener(this);
+                gameStreams = new ConcurrentHashMap<>();
+            }
+            gameStreams.put(context, new EventStream(context));
+            return gameStreams;
+        });
+
+        // The game may have ended before the stream was added
+        if (!game.isActive()) {
+            gameEnded(game);
+        }
+    }
+
+    /**
+     * Returns the number of open event streams of a game
+     *
+     * @param gameID  the ID of the {@link Game}
+     * @return int
+     */
+    public int getStreamCount(int gameID) {
+        return streams.getOrDefault(gameID, Collections.emptyMap()).size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void turnChanged(Game game) {
+        broadcast(game.getGameID(), TURN_EVENT,
+                gson.toJson(Collections.singletonMap("activeColor", game.getActiveColor())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void boardChanged(Game game, List<Move> moves) {
+        broadcast(game.getGameID(), BOARD_EVENT, gson.toJson(moves));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void gameEnded(final Game game) {
+        final int gameID = game.getGameID();
+        final byte[] event = encode(END_EVENT, gson.toJson(game.getGameEndedReason()));
+
+        executor.execute(() -> {
+            Map<AsyncContext, EventStream> gameStreams = streams.remove(gameID);
+            game.removeListener(this);
+            if (gameStreams != null) {
+                for (EventStream stream : gameStreams.values()) {
+                    stream.end(event);
+                }
+            }
+        });
+    }
+
+    /**
+     * Encodes an event and queues it for every stream of a game
+     *
+     * @param gameID  the ID of the {@link Game}
+     * @param name    the event name
+     * @param data    the event data, as a single line of JSON
+     */
+    private void broadcast(final int gameID, final String name, final String data) {
+        if (!streams.containsKey(gameID)) {
+            return;
+        }
+        final byte[] event = encode(name, data);
+
+        executor.execute(() -> {
+            Map<AsyncContext, EventStream> gameStreams = streams.getOrDefault(gameID, Collections.emptyMap());
+            gameStreams.values().removeIf(stream -> !stream.offer(event));
+        });
+    }
+
+    /**
+     * Queues a heartbeat comment for every open stream
+     */
+    private void sendHeartbeats() {
+        for (Map<AsyncContext, EventStream> gameStreams : streams.values()) {
+            gameStreams.values().removeIf(stream -> !stream.offer(HEARTBEAT));
+        }
+    }
+
+    /**
+     * Stops sending events to a stream. When it was the last stream of the game, the broadcaster stops listening
+     * to the game.
+     *
+     * @param game     the {@link Game} the stream follows
+     * @param context  the {@link AsyncContext} of the stream
+     */
+    private void unsubscribe(Game game, AsyncContext context) {
+        streams.computeIfPresent(game.getGameID(), (id, gameStreams) -> {
+            gameStreams.remove(context);
+            if (!gameStreams.isEmpty()) {
+                return gameStreams;
+            }
+            game.removeListener(this);
+            return null;
+        });
+    }
+
+    /**
+     * Encodes an event in the text/event-stream format
+     *
+     * @param name  the event name
+     * @param data  the event data, which must not contain a line break
+     * @return  the UTF-8 bytes of the event
+     */
+    static byte[] encode(String name, String data) {
+        return ("event: " + name + "\ndata: " + data + "\n\n").getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * One open event stream. It writes only while its client is ready, and queues the rest until the container
+     * says the client is ready again.
+     */
+    private static class EventStream implements WriteListener {
+        private final AsyncContext context;
+        private final Deque<byte[]> queue = new ArrayDeque<>();
+        private ServletOutputStream out;
+        private boolean flushNeeded;
+        private boolean ending;
+        private boolean closed;
+
+        EventStream(AsyncContext context) {
+            this.context = context;
+        }
+
+        /**
+         * Queues bytes and writes as much of the queue as the client is ready for
+         *
+         * @param bytes  the bytes to write
+         * @return  false if the stream is closed, because the client is gone or fell too far behind
+         */
+        synchronized boolean offer(byte[] bytes) {
+            if (closed) {
+                return false;
+            }
+            if (queue.size() >= MAX_QUEUED_EVENTS) {
+                LOG.fine("Closing event stream: {0} events behind", queue.size());
+                close();
+                return false;
+            }
+            queue.add(bytes);
+            write();
+            return !closed;
+        }
+
+        /**
+         * Queues the last bytes of the stream, and closes it once they are written
+         *
+         * @param bytes  the bytes to write
+         */
+        synchronized void end(byte[] bytes) {
+            if (offer(bytes)) {
+                ending = true;
+                write();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void onWritePossible() {
+            write();
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void onError(Throwable t) {
+            LOG.fine("Closing event stream: {0}", t.getMessage());
+            close();
+        }
+
+        /**
+         * Writes and flushes the queue for as long as the client is ready. Once it is not, the container calls
+         * {@link #onWritePossible()} when it is ready again.
+         */
+        private void write() {
+            if (closed) {
+                return;
+            }
+            try {
+                if (out == null) {
+                    out = context.getResponse().getOutputStream();
+                    out.setWriteListener(this);
+                }
+                while (out.isReady()) {
+                    if (flushNeeded) {
+                        flushNeeded = false;
+                        out.flush();
+                    }
+                    else if (!queue.isEmpty()) {
+                        out.write(queue.poll());
+                        flushNeeded = true;
+                    }
+                    else {
+                        if (ending) {
+                            close();
+                        }
+                        return;
+                    }
+                }
+            }
+            catch (IOException | IllegalStateException e) {
+                LOG.fine("Closing event stream: {0}", e.getMessage());
+                close();
+            }
+        }
+
+        /**
+         * Ends the stream, ignoring streams the client or server already closed
+         */
+        private void close() {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            queue.clear();
+            try {
+                context.complete();
+            }
+            catch (IllegalStateException e) {
+                LOG.finest("Event stream was already closed");
+            }
+        }
+    }
+}
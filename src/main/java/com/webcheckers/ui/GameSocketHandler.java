@@ -0,0 +1,392 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.google.gson.JsonSyntaxException;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameListener;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
+import com.webcheckers.util.Message;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketClose;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketConnect;
+import org.eclipse.jetty.websocket.api.annotations.OnWebSocketMessage;
+import org.eclipse.jetty.websocket.api.annotations.WebSocket;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * the {@code /game/socket} WebSocket handler, which carries the move actions of a player as JSON frames over one
+ * connection, and pushes the changes to their game.
+ *
+ * <p>
+ * A request frame is {@code {"id":1,"action":"validateMove","actionData":"..."}}, and is answered with
+ * {@code {"id":1,"message":{...}}} holding the same {@link Message} the HTTP route would return. Changes to the
+ * game are pushed as {@code {"event":"turn","data":{...}}}, with the same names and data as the Server-Sent
+ * Events of {@link GameEventBroadcaster}.
+ * </p>
+ *
+ * <p>
+ * The WebSocket context of Spark does not share the HTTP session, so a player first gets a one-time ticket from
+ * {@code POST /game/socketTicket} and passes it in the {@code ticket} query parameter of the upgrade request.
+ * A ticket expires after {@link #DEFAULT_TICKET_TTL_MILLIS}, and is dropped when its player signs out.
+ * </p>
+ */
+@WebSocket
+public class GameSocketHandler implements GameListener {
+    private static final Log LOG = Log.getLog(GameSocketHandler.class);
+
+    /**
+     * Constants
+     */
+    static final String TICKET_PARAM = "ticket";
+    static final String VALIDATE_MOVE_ACTION = "validateMove";
+    static final String BACKUP_MOVE_ACTION = "backupMove";
+    static final String SUBMIT_TURN_ACTION = "submitTurn";
+    static final String RESIGN_GAME_ACTION = "resignGame";
+    static final String NO_GAME = "You are not playing a game.";
+    static final String UNKNOWN_ACTION = "That action is not supported.";
+    static final String MALFORMED_FRAME = "The request could not be read.";
+    static final long DEFAULT_TICKET_TTL_MILLIS = TimeUnit.SECONDS.toMillis(30);
+
+    /**
+     * A ticket a player may open one socket with until it expires
+     */
+    private static class Ticket {
+        final String id;
+        final Player player;
+        final long expiresAtMillis;
+
+        Ticket(String id, Player player, long expiresAtMillis) {
+            this.id = id;
+            this.player = player;
+            this.expiresAtMillis = expiresAtMillis;
+        }
+
+        boolean isExpired(long nowMillis) {
+            return expiresAtMillis <= nowMillis;
+        }
+    }
+
+    /**
+     * A request frame sent by the client
+     */
+    static class SocketRequest {
+        int id;
+        String action;
+        String actionData;
+    }
+
+    /**
+     * The answer to a {@link SocketRequest}
+     */
+    static class SocketResponse {
+        final int id;
+        final Message message;
+
+        SocketResponse(int id, Message message) {
+            this.id = id;
+            this.message = message;
+        }
+    }
+
+    /**
+     * An event pushed to the client
+     */
+    static class SocketEvent {
+        final String event;
+        final Object data;
+
+        SocketEvent(String event, Object data) {
+            this.event = event;
+            this.data = data;
+        }
+    }
+
+    /**
+     * Attributes
+     */
+    private final Gson gson;
+    private final PlayerLobby playerLobby;
+    private final PostValidateMoveRoute validateMoveRoute;
+    private final PostBackupMoveRoute backupMoveRoute;
+    private final PostSubmitTurnRoute submitTurnRoute;
+    private final PostResignGameRoute resignGameRoute;
+
+    private final long ticketTtlMillis;
+    private final Map<String, Ticket> tickets = new ConcurrentHashMap<>();
+    private final Map<String, Ticket> ticketsByName = new ConcurrentHashMap<>();
+    private final Map<Session, Player> players = new ConcurrentHashMap<>();
+    private final Map<Integer, Set<Session>> sessionsByGame = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link GameSocketHandler} that runs actions through the same code as the HTTP routes
+     *
+     * @param gson               the {@link Gson} used to read and write frames
+     * @param playerLobby        the {@link PlayerLobby} holding the signed in players
+     * @param validateMoveRoute  the {@link PostValidateMoveRoute} that validates moves
+     * @param backupMoveRoute    the {@link PostBackupMoveRoute} that takes back moves
+     * @param submitTurnRoute    the {@link PostSubmitTurnRoute} that submits turns
+     * @param resignGameRoute    the {@link PostResignGameRoute} that resigns games
+     */
+    public GameSocketHandler(final Gson gson, final PlayerLobby playerLobby,
+                             final PostValidateMoveRoute validateMoveRoute, final PostBackupMoveRoute backupMoveRoute,
+                             final PostSubmitTurnRoute submitTurnRoute, final PostResignGameRoute resignGameRoute) {
+        this(gson, playerLobby, validateMoveRoute, backupMoveRoute, submitTurnRoute, resignGameRoute,
+                DEFAULT_TICKET_TTL_MILLIS);
+    }
+
+    /**
+     * Creates a {@link GameSocketHandler} that runs actions through the same code as the HTTP routes
+     *
+     * @param gson               the {@link Gson} used to read and write frames
+     * @param playerLobby        the {@link PlayerLobby} holding the signed in players
+     * @param validateMoveRoute  the {@link PostValidateMoveRoute} that validates moves
+     * @param backupMoveRoute    the {@link PostBackupMoveRoute} that takes back moves
+     * @param submitTurnRoute    the {@link PostSubmitTurnRoute} that submits turns
+     * @param resignGameRoute    the {@link PostResignGameRoute} that resigns games
+     * @param ticketTtlMillis    how long a ticket may be used after it is issued
+     */
+    public GameSocketHandler(final Gson gson, final PlayerLobby playerLobby,
+                             final PostValidateMoveRoute validateMoveRoute, final PostBackupMoveRoute backupMoveRoute,
+                             final PostSubmitTurnRoute submitTurnRoute, final PostResignGameRoute resignGameRoute,
+                             final long ticketTtlMillis) {
+        this.gson = Objects.requireNonNull(gson, "gson is required.");
+        this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required.");
+        this.validateMoveRoute = Objects.requireNonNull(validateMoveRoute, "validateMoveRoute is required.");
+        this.backupMoveRoute = Objects.requireNonNull(backupMoveRoute, "backupMoveRoute is required.");
+        this.submitTurnRoute = Objects.requireNonNull(submitTurnRoute, "submitTurnRoute is required.");
+        this.resignGameRoute = Objects.requireNonNull(resignGameRoute, "resignGameRoute is required.");
+        this.ticketTtlMillis = ticketTtlMillis;
+        playerLobby.addSignOutListener(this::revokeTicket);
+
+        LOG.config("GameSocketHandler is initialized.");
+    }
+
+    /**
+     * Issues the one-time ticket a player opens their socket with, replacing any ticket issued to them before
+     *
+     * @param player  the {@link Player} opening a socket
+     * @return  the ticket
+     */
+    public String issueTicket(Player player) {
+        long now = System.currentTimeMillis();
+        // Tickets that were never used are dropped as new ones are issued
+        tickets.values().removeIf(ticket -> ticket.isExpired(now));
+        ticketsByName.values().removeIf(ticket -> ticket.isExpired(now));
+
+        Ticket ticket = new Ticket(UUID.randomUUID().toString(), player, now + ticketTtlMillis);
+        Ticket previous = ticketsByName.put(player.getName(), ticket);
+        if (previous != null) {
+            tickets.remove(previous.id);
+        }
+        tickets.put(ticket.id, ticket);
+        return ticket.id;
+    }
+
+    /**
+     * Drops the ticket of a player, if any
+     *
+     * @param player  the {@link Player} who signed out
+     */
+    void revokeTicket(Player player) {
+        Ticket ticket = ticketsByName.remove(player.getName());
+        if (ticket != null) {
+            tickets.remove(ticket.id);
+        }
+    }
+
+    /**
+     * Returns the number of tickets issued and not yet used, revoked or dropped
+     *
+     * @return int
+     */
+    int getTicketCount() {
+        return tickets.size();
+    }
+
+    /**
+     * Returns the number of open sockets of a game
+     *
+     * @param gameID  the ID of the {@link Game}
+     * @return int
+     */
+    public int getSocketCount(int gameID) {
+        return sessionsByGame.getOrDefault(gameID, Collections.emptySet()).size();
+    }
+
+    /**
+     * Accepts a socket whose ticket belongs to a signed in player who is playing a game
+     *
+     * @param session  the WebSocket {@link Session}
+     */
+    @OnWebSocketConnect
+    public void onConnect(Session session) {
+        List<String> ticketValues = session.getUpgradeRequest().getParameterMap().get(TICKET_PARAM);
+        String ticket = ticketValues == null || ticketValues.isEmpty() ? null : ticketValues.get(0);
+        Ticket issued = ticket == null ? null : tickets.remove(ticket);
+        Player player = issued == null || issued.isExpired(System.currentTimeMillis()) ? null : issued.player;
+
+        if (player == null || playerLobby.findPlayer(player.getName()) != player
+                || !player.inGame() || player.getSpectatorStatus()) {
+            session.close(StatusCode.POLICY_VIOLATION, NO_GAME);
+            return;
+        }
+        ticketsByName.remove(player.getName(), issued);
+        players.put(session, player);
+
+        Game game = player.getGame();
+        sessionsByGame.computeIfAbsent(game.getGameID(), id -> {
+            game.addListener(this);
+            return ConcurrentHashMap.newKeySet();
+        }).add(session);
+        LOG.fine("Socket opened for {0}", player.getName());
+    }
+
+    /**
+     * Forgets a closed socket
+     *
+     * @param session     the WebSocket {@link Session}
+     * @param statusCode  the close status code
+     * @param reason      the close reason
+     */
+    @OnWebSocketClose
+    public void onClose(Session session, int statusCode, String reason) {
+        Player player = players.remove(session);
+        if (player != null && player.getGame() != null) {
+            Set<Session> sessions = sessionsByGame.get(player.getGame().getGameID());
+            if (sessions != null) {
+                sessions.remove(session);
+            }
+        }
+    }
+
+    /**
+     * Runs the action of a request frame and answers it
+     *
+     * @param session  the WebSocket {@link Session}
+     * @param text     the request frame
+     */
+    @OnWebSocketMessage
+    public void onMessage(Session session, String text) {
+        Player player = players.get(session);
+        if (player == null) {
+            return;
+        }
+        // Moves sent over the socket do not pass through the HTTP filters
+        player.touch(System.currentTimeMillis());
+
+        SocketRequest request;
+        try {
+            request = gson.fromJson(text, SocketRequest.class);
+        }
+        catch (JsonSyntaxException e) {
+            request = null;
+        }
+        if (request == null || request.action == null) {
+            send(session, gson.toJson(new SocketResponse(0, Message.error(MALFORMED_FRAME))));
+            return;
+        }
+
+        send(session, gson.toJson(new SocketResponse(request.id, runAction(player, request))));
+    }
+
+    /**
+     * Runs the action of a request for a player
+     *
+     * @param player   the {@link Player} who sent the request
+     * @param request  the {@link SocketRequest}
+     * @return  the {@link Message} the HTTP route would return
+     */
+    private Message runAction(Player player, SocketRequest request) {
+        if (!player.inGame()) {
+            return Message.error(NO_GAME);
+        }
+        try {
+            switch (request.action) {
+                case VALIDATE_MOVE_ACTION:
+                    String moveAsJson = request.actionData == null ? "" : request.actionData;
+                    return validateMoveRoute.validateMove(player, moveAsJson);
+                case BACKUP_MOVE_ACTION:
+                    return backupMoveRoute.backupMove(player);
+                case SUBMIT_TURN_ACTION:
+                    return submitTurnRoute.submitTurn(player);
+                case RESIGN_GAME_ACTION:
+                    return resignGameRoute.resignGame(player);
+                default:
+                    return Message.error(UNKNOWN_ACTION);
+            }
+        }
+        catch (RuntimeException e) {
+            // Action data that cannot be read, such as a move without positions, must not close the socket
+            LOG.fine("Could not run {0}: {1}", request.action, e);
+            return Message.error(MALFORMED_FRAME);
+        }
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void turnChanged(Game game) {
+        broadcast(game.getGameID(), new SocketEvent(GameEventBroadcaster.TURN_EVENT,
+                Collections.singletonMap("activeColor", game.getActiveColor())));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void boardChanged(Game game, List<Move> moves) {
+        broadcast(game.getGameID(), new SocketEvent(GameEventBroadcaster.BOARD_EVENT, moves));
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void gameEnded(Game game) {
+        broadcast(game.getGameID(), new SocketEvent(GameEventBroadcaster.END_EVENT, game.getGameEndedReason()));
+        sessionsByGame.remove(game.getGameID());
+        game.removeListener(this);
+    }
+
+    /**
+     * Pushes an event to every socket of a game
+     *
+     * @param gameID  the ID of the {@link Game}
+     * @param event   the {@link SocketEvent}
+     */
+    private void broadcast(int gameID, SocketEvent event) {
+        Set<Session> sessions = sessionsByGame.get(gameID);
+        if (sessions == null || sessions.isEmpty()) {
+            return;
+        }
+        String frame = gson.toJson(event);
+        for (Session session : sessions) {
+            send(session, frame);
+        }
+    }
+
+    /**
+     * Queues a frame on a socket without waiting for it to be written
+     *
+     * @param session  the WebSocket {@link Session}
+     * @param frame    the frame text
+     */
+    private void send(Session session, String frame) {
+        if (session.isOpen()) {
+            session.getRemote().sendStringByFuture(frame);
+        }
+    }
+}
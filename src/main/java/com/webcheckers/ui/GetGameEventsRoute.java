@@ -0,0 +1,67 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
+import spark.*;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.http.HttpServletResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Objects;
+
+/**
+ * the {@code GET /game/events} route handler, which opens a Server-Sent Events stream for the game of the
+ * current player or spectator.
+ */
+public class GetGameEventsRoute implements Route {
+    /**
+     * Attributes
+     */
+    private static final Log LOG = Log.getLog(GetGameEventsRoute.class);
+    static final String CURRENT_USER_ATTR = "currentUser";
+    static final String EVENT_STREAM_TYPE = "text/event-stream";
+    private static final byte[] STREAM_OPENED = ": connected\n\n".getBytes(StandardCharsets.UTF_8);
+
+    private final GameEventBroadcaster broadcaster;
+
+    /**
+     * Constructor to create a {@link GetGameEventsRoute}
+     *
+     * @param broadcaster  the {@link GameEventBroadcaster} that writes events to open streams
+     */
+    public GetGameEventsRoute(GameEventBroadcaster broadcaster) {
+        this.broadcaster = Objects.requireNonNull(broadcaster, "broadcaster is required.");
+        LOG.config("GetGameEventsRoute is initialized.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object handle(Request request, Response response) throws Exception {
+        LOG.finer("GetGameEventsRoute invoked");
+        final Session httpSession = request.session();
+
+        Player currentUser = httpSession.attribute(CURRENT_USER_ATTR);
+        if (currentUser == null || !currentUser.inGame()) {
+            // No Content tells the browser not to reconnect, so the page falls back to polling
+            response.status(HttpServletResponse.SC_NO_CONTENT);
+            return "";
+        }
+        Game game = currentUser.getGame();
+
+        // Send the headers now, so Spark sees a committed response and leaves the stream open
+        HttpServletResponse raw = response.raw();
+        raw.setContentType(EVENT_STREAM_TYPE);
+        raw.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        raw.setHeader("Cache-Control", "no-cache");
+        AsyncContext context = request.raw().startAsync();
+        raw.getOutputStream().write(STREAM_OPENED);
+        raw.flushBuffer();
+
+        broadcaster.subscribe(game, context);
+        return "";
+    }
+
+}
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
 
 import spark.Request;
 import spark.Response;
@@ -15,7 +16,6 @@ import spark.ModelAndView;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * The UI Controller to GET the Game View page.
@@ -24,11 +24,15 @@ import java.util.logging.Logger;
  * @author <a href='mailto:sdw5588@rit.edu'>Shayne Winn</a>
  */
 public class GetGameRoute implements Route{
-    private static final Logger LOG = Logger.getLogger(GetGameRoute.class.getName());
+    private static final Log LOG = Log.getLog(GetGameRoute.class);
     public static final String GAME_ROUTE = "/game";
 
+    /** Gson is thread-safe, so one instance writes the mode options of every page */
+    private static final Gson GSON = new Gson();
+
     private final TemplateEngine templateEngine;
     private final PlayerLobby playerLobby;
+    private final GameBoardCache boardCache;
 
     /**
      * Create the Spark Route (UI controller) to handle all {@code GET /game} HTTP requests.
@@ -37,10 +41,14 @@ public class GetGameRoute implements Route{
      *   the HTML template rendering engine
      * @param playerLobby
      *   the {@link PlayerLobby} to handle player actions
+     * @param boardCache
+     *   the {@link GameBoardCache} holding the rendered boards
      */
-    public GetGameRoute(final TemplateEngine templateEngine, final PlayerLobby playerLobby) {
+    public GetGameRoute(final TemplateEngine templateEngine, final PlayerLobby playerLobby,
+            final GameBoardCache boardCache) {
         this.templateEngine = Objects.requireNonNull(templateEngine, "templateEngine is required");
         this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required");
+        this.boardCache = Objects.requireNonNull(boardCache, "boardCache is required");
         LOG.config("GetGameRoute is initialized.");
     }
 
@@ -91,6 +99,20 @@ public class GetGameRoute implements Route{
         // Game Data
         Game playerGame = currentUser.getGame();
 
+        // A freshly loaded page has made no moves yet, so moves left pending by an earlier page of the player,
+        // such as one whose game socket closed during the turn, are backed out
+        playerGame.getLock().lock();
+        try {
+            if (playerGame.isActive() && playerGame.isTurnOf(currentUser)) {
+                while (playerGame.backupMove()) {
+                    // nothing else to do
+                }
+            }
+        }
+        finally {
+            playerGame.getLock().unlock();
+        }
+
         vm.put("gameID", playerGame.getGameID());
         vm.put("currentUser", currentUser);
         // Needs to be non constant
@@ -99,16 +121,16 @@ public class GetGameRoute implements Route{
         vm.put("whitePlayer", playerGame.getPlayers()[1]);
         // Needs to be non constant
         vm.put("activeColor", playerGame.getActiveColor()); 
-        vm.put("board", playerGame.getBoardView(currentUser));
+        // The board is the same for everybody on the same side of it, so it is rendered once per commit
+        vm.put("boardHtml", boardCache.getBoard(playerGame, currentUser));
 
         // Check if the player's current game is inactive
         if(!playerGame.isActive()){
             // Tell the view that the game has ended
-            Gson gson = new Gson();
             final Map<String, Object> modeOptions = new HashMap<>(2);
             modeOptions.put("isGameOver", true);
             modeOptions.put("gameOverMessage", playerGame.getGameEndedReason().getText());
-            vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
+            vm.put("modeOptionsAsJSON", GSON.toJson(modeOptions));
         }
 
         // Render the View
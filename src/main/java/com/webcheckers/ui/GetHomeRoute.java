@@ -1,7 +1,9 @@
 package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.PlayerPage;
 import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
 import com.webcheckers.util.Message;
 
 import spark.Request;
@@ -11,12 +13,14 @@ import spark.TemplateEngine;
 import spark.Session;
 import spark.ModelAndView;
 
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
-import java.util.Collection;
-import java.util.logging.Level;
-import java.util.logging.Logger;
+import java.util.concurrent.ConcurrentHashMap;
 
 /**
  * The UI Controller to GET the Home page.
@@ -25,7 +29,7 @@ import java.util.logging.Logger;
  * @author <a href="mailto:sdw5588@rit.edu">Shayne Winn</a>
  */
 public class GetHomeRoute implements Route {
-  private static final Logger LOG = Logger.getLogger(GetHomeRoute.class.getName());
+  private static final Log LOG = Log.getLog(GetHomeRoute.class);
 
   public static final String HOME_ROUTE = "/";
   public static final String CURRENT_USER_ATTR = "currentUser";
@@ -35,14 +39,50 @@ public class GetHomeRoute implements Route {
   public static final String REDIRECT_MESSAGE_PARAM = "redirectMessage";
   public static final String ERROR_STRING = "ERROR";
   public static final String REDIRECT_MESSAGE_TYPE_PARAM = "t";
-  public static final String AVAILABLE_PLAYERS_ATTR = "availablePlayers";
-  public static final String PLAYERS_IN_GAME = "playersInGame";
+  public static final String AVAILABLE_PLAYERS_LIST_ATTR = "availablePlayersList";
+  public static final String PLAYERS_IN_GAME_LIST_ATTR = "playersInGameList";
+  public static final String OTHER_AVAILABLE_COUNT_ATTR = "otherAvailableCount";
+  public static final String PLAYERS_IN_GAME_COUNT_ATTR = "playersInGameCount";
   public static final String PLAYERS_ONLINE_ATTR = "playersOnline";
+  public static final int PAGE_SIZE = 20;
   public static final String VIEW_NAME = "home.ftl";
+
+  // Attributes of the lobby list view
+  public static final String LIST_VIEW_NAME = "lobby-list.ftl";
+  public static final String LIST_STATUS_ATTR = "status";
+  public static final String LIST_ACTION_ATTR = "action";
+  public static final String LIST_PLAYERS_ATTR = "players";
+  public static final String LIST_CURSOR_ATTR = "cursor";
+
+  // Headers used to answer 304 Not Modified while the lobby is unchanged
+  public static final String ETAG_HEADER = "ETag";
+  public static final String IF_NONE_MATCH_HEADER = "If-None-Match";
+  public static final String CACHE_CONTROL_HEADER = "Cache-Control";
+  public static final String NO_CACHE = "no-cache";
   public static final Message WELCOME_MSG = Message.info("Welcome to the world of online Checkers.");
 
+  /**
+   * The lobby lists rendered for one version of the lobby, so they are rendered once per version instead of once
+   * per request. The list of players in games is the same for every player. The list of available players
+   * leaves out the player viewing it, so it is rendered once for each player on its first page, and once for
+   * everybody else.
+   */
+  private static final class LobbyLists {
+    final long version;
+    final PlayerPage availablePage;
+    final Map<String, String> availablePlayers = new ConcurrentHashMap<>();
+    final String playersInGame;
+
+    LobbyLists(long version, PlayerPage availablePage, String playersInGame) {
+      this.version = version;
+      this.availablePage = availablePage;
+      this.playersInGame = playersInGame;
+    }
+  }
+
   private final TemplateEngine templateEngine;
   private final PlayerLobby playerLobby;
+  private volatile LobbyLists lobbyLists = new LobbyLists(-1, null, null);
 
   /**
    * Create the Spark Route (UI controller) to handle all {@code GET /} HTTP requests.
@@ -94,12 +134,21 @@ public class GetHomeRoute implements Route {
         }
         else {
           // If the user is in a non-real game make them leave
-          LOG.log(Level.SEVERE, currentUser.getName() + " found in non-real game.");
+          LOG.severe("{0} found in non-real game.", currentUser.getName());
           currentUser.leaveGame();
         }
       }
     }
 
+    // The page only changes with the lobby, the player and the redirect message
+    final String etag = etagOf(playerLobby.getVersion(), currentUser, request);
+    if (etag.equals(request.headers(IF_NONE_MATCH_HEADER))) {
+      response.status(HttpServletResponse.SC_NOT_MODIFIED);
+      response.header(ETAG_HEADER, etag);
+      response.header(CACHE_CONTROL_HEADER, NO_CACHE);
+      return "";
+    }
+
     // Create hash map to use for messages
     Map<String, Object> vm = new HashMap<>();
     vm.put(TITLE_ATTR, TITLE);
@@ -120,14 +169,115 @@ public class GetHomeRoute implements Route {
       vm.put(MSG_ATTR, WELCOME_MSG);
     }
 
-    Collection<Player> availablePlayers = playerLobby.getAvailablePlayers();
-    Collection<Player> playersInGame = playerLobby.getPlayersInGame();
+    final LobbyLists lists = lobbyLists();
+    int otherAvailableCount = playerLobby.getAvailablePlayers().size();
+    if (currentUser != null && currentUser.getStatus() == Player.Status.AVAILABLE) {
+      otherAvailableCount--;
+    }
     vm.put(CURRENT_USER_ATTR, currentUser);
-    vm.put(AVAILABLE_PLAYERS_ATTR, availablePlayers);
-    vm.put(PLAYERS_IN_GAME, playersInGame);
+    vm.put(AVAILABLE_PLAYERS_LIST_ATTR, availablePlayersList(lists, currentUser));
+    vm.put(PLAYERS_IN_GAME_LIST_ATTR, lists.playersInGame);
+    vm.put(OTHER_AVAILABLE_COUNT_ATTR, Math.max(0, otherAvailableCount));
+    vm.put(PLAYERS_IN_GAME_COUNT_ATTR, playerLobby.getPlayersInGame().size());
     vm.put(PLAYERS_ONLINE_ATTR, playerLobby.getPlayerCount());
 
+    response.header(ETAG_HEADER, etagOf(lists.version, currentUser, request));
+    response.header(CACHE_CONTROL_HEADER, NO_CACHE);
+
     // Render the View
     return templateEngine.render(new ModelAndView(vm , VIEW_NAME));
   }
+
+  /**
+   * Returns the lobby lists of the current version of the lobby, rendering them if the lobby changed.
+   * The version is read before the lists, so the lists are never older than the version they are kept for.
+   *
+   * @return
+   *   the {@link LobbyLists}
+   */
+  private LobbyLists lobbyLists() {
+    final long version = playerLobby.getVersion();
+    LobbyLists lists = lobbyLists;
+    if (lists.version != version) {
+      // Two requests may render the same version at once, which is wasted work but gives the same lists
+      // One extra available player is kept, to fill the place of the player viewing the list
+      PlayerPage playing = playerLobby.findPlayers(Player.Status.PLAYING, "", null, PAGE_SIZE);
+      lists = new LobbyLists(version,
+          playerLobby.findPlayers(Player.Status.AVAILABLE, "", null, PAGE_SIZE + 1),
+          renderList(Player.Status.PLAYING, WebServer.SPECTATE_GAME, playing.getPlayers(), playing.getNextCursor()));
+      if (lists.version > lobbyLists.version) {
+        lobbyLists = lists;
+      }
+    }
+    return lists;
+  }
+
+  /**
+   * Returns the rendered first page of the available players, without the player viewing it
+   *
+   * @param lists
+   *   the {@link LobbyLists} of the current version of the lobby
+   * @param currentUser
+   *   the signed in {@link Player}, or null
+   *
+   * @return
+   *   the rendered HTML of the list
+   */
+  private String availablePlayersList(LobbyLists lists, Player currentUser) {
+    final Player skipped = currentUser != null && lists.availablePage.getPlayers().contains(currentUser)
+        ? currentUser : null;
+    return lists.availablePlayers.computeIfAbsent(skipped == null ? "" : skipped.getName(), key -> {
+      List<Player> players = new ArrayList<>(lists.availablePage.getPlayers());
+      players.remove(skipped);
+      String cursor = lists.availablePage.getNextCursor();
+      if (players.size() > PAGE_SIZE) {
+        players = players.subList(0, PAGE_SIZE);
+        cursor = players.get(PAGE_SIZE - 1).getName();
+      }
+      return renderList(Player.Status.AVAILABLE, WebServer.STARTGAME_URL, players, cursor);
+    });
+  }
+
+  /**
+   * Renders the first page of the players of one status, with the forms that start or spectate their games
+   *
+   * @param status
+   *   the {@link Player.Status} of the players
+   * @param action
+   *   the URL the form of each player posts to
+   * @param players
+   *   the {@link Player}s on the page
+   * @param cursor
+   *   the cursor of the next page, or null if this is the last page
+   *
+   * @return
+   *   the rendered HTML of the list
+   */
+  private String renderList(Player.Status status, String action, List<Player> players, String cursor) {
+    // Only the first page of each list is rendered; the page fetches the rest from the lobby API
+    Map<String, Object> vm = new HashMap<>();
+    vm.put(LIST_STATUS_ATTR, status.name().toLowerCase(Locale.ROOT));
+    vm.put(LIST_ACTION_ATTR, action);
+    vm.put(LIST_PLAYERS_ATTR, players);
+    vm.put(LIST_CURSOR_ATTR, cursor);
+    return templateEngine.render(new ModelAndView(vm, LIST_VIEW_NAME));
+  }
+
+  /**
+   * Builds the weak ETag of the Home page of one version of the lobby, as seen by one player
+   *
+   * @param version
+   *   the version of the {@link PlayerLobby}
+   * @param currentUser
+   *   the signed in {@link Player}, or null
+   * @param request
+   *   the HTTP request, whose query string holds the redirect message
+   *
+   * @return
+   *   the ETag
+   */
+  private static String etagOf(long version, Player currentUser, Request request) {
+    final int viewer = Objects.hash(currentUser == null ? null : currentUser.getName(), request.queryString());
+    return "W/\"" + version + "-" + Integer.toHexString(viewer) + "\"";
+  }
 }
@@ -0,0 +1,124 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.appl.PlayerPage;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
+import com.webcheckers.util.Message;
+import spark.*;
+
+import javax.servlet.http.HttpServletResponse;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+
+/**
+ * the {@code GET /lobby/players} route handler, which answers one page of the signed in players as JSON.
+ *
+ * <p>
+ * The {@code status} parameter picks the {@code available}, {@code playing} or {@code spectating} players,
+ * {@code prefix} keeps only the names that start with it, {@code limit} sets the page size, and {@code cursor}
+ * is the {@code nextCursor} of the previous page. The answer is
+ * {@code {"players":["name",...],"nextCursor":"name"}}, without a {@code nextCursor} on the last page.
+ * </p>
+ */
+public class GetLobbyPlayersRoute implements Route {
+    /**
+     * Attributes
+     */
+    private static final Log LOG = Log.getLog(GetLobbyPlayersRoute.class);
+    static final String CURRENT_USER_ATTR = "currentUser";
+    static final String STATUS_PARAM = "status";
+    static final String PREFIX_PARAM = "prefix";
+    static final String CURSOR_PARAM = "cursor";
+    static final String LIMIT_PARAM = "limit";
+    static final String JSON_TYPE = "application/json";
+    static final int DEFAULT_LIMIT = 20;
+    static final int MAX_LIMIT = 100;
+    static final String NOT_SIGNED_IN = "You must sign in to see the players.";
+    static final String BAD_STATUS = "The player status must be available, playing or spectating.";
+
+    /**
+     * The JSON answer
+     */
+    static class LobbyPage {
+        final List<String> players;
+        final String nextCursor;
+
+        LobbyPage(List<String> players, String nextCursor) {
+            this.players = players;
+            this.nextCursor = nextCursor;
+        }
+    }
+
+    private final PlayerLobby playerLobby;
+    private final Gson gson;
+
+    /**
+     * Constructor to create a {@link GetLobbyPlayersRoute}
+     *
+     * @param playerLobby  the {@link PlayerLobby} holding the signed in players
+     * @param gson         the {@link Gson} used to write the answer
+     */
+    public GetLobbyPlayersRoute(PlayerLobby playerLobby, Gson gson) {
+        this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required.");
+        this.gson = Objects.requireNonNull(gson, "gson is required.");
+        LOG.config("GetLobbyPlayersRoute is initialized.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        LOG.finer("GetLobbyPlayersRoute invoked");
+        final Session httpSession = request.session();
+        response.type(JSON_TYPE);
+
+        if (httpSession.attribute(CURRENT_USER_ATTR) == null) {
+            response.status(HttpServletResponse.SC_UNAUTHORIZED);
+            return Message.error(NOT_SIGNED_IN).toJson();
+        }
+
+        Player.Status status;
+        try {
+            String statusParam = request.queryParams(STATUS_PARAM);
+            status = statusParam == null ? Player.Status.AVAILABLE
+                    : Player.Status.valueOf(statusParam.toUpperCase(Locale.ROOT));
+        }
+        catch (IllegalArgumentException e) {
+            response.status(HttpServletResponse.SC_BAD_REQUEST);
+            return Message.error(BAD_STATUS).toJson();
+        }
+
+        String prefix = request.queryParams(PREFIX_PARAM);
+        PlayerPage page = playerLobby.findPlayers(status, prefix == null ? "" : prefix,
+                request.queryParams(CURSOR_PARAM), parseLimit(request.queryParams(LIMIT_PARAM)));
+
+        List<String> names = new ArrayList<>(page.getPlayers().size());
+        for (Player player : page.getPlayers()) {
+            names.add(player.getName());
+        }
+        return gson.toJson(new LobbyPage(names, page.getNextCursor()));
+    }
+
+    /**
+     * Reads the page size, keeping it between one and {@link #MAX_LIMIT}
+     *
+     * @param limitParam  the {@code limit} parameter, or null
+     * @return int
+     */
+    private static int parseLimit(String limitParam) {
+        if (limitParam == null) {
+            return DEFAULT_LIMIT;
+        }
+        try {
+            return Math.max(1, Math.min(MAX_LIMIT, Integer.parseInt(limitParam)));
+        }
+        catch (NumberFormatException e) {
+            return DEFAULT_LIMIT;
+        }
+    }
+}
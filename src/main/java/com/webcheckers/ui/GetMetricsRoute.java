@@ -0,0 +1,73 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.util.Log;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import java.util.Objects;
+
+/**
+ * the {@code GET /metrics} route handler, which answers the latencies of the routes, the size of the lobby
+ * and the lifecycle of its games in the Prometheus text format.
+ */
+public class GetMetricsRoute implements Route {
+    /**
+     * Attributes
+     */
+    private static final Log LOG = Log.getLog(GetMetricsRoute.class);
+    static final String PROMETHEUS_TYPE = "text/plain; version=0.0.4; charset=utf-8";
+
+    private final RouteMetrics routeMetrics;
+    private final PlayerLobby playerLobby;
+
+    /**
+     * Constructor to create a {@link GetMetricsRoute}
+     *
+     * @param routeMetrics  the {@link RouteMetrics} timing the routes
+     * @param playerLobby   the {@link PlayerLobby} to count the players and games of
+     */
+    public GetMetricsRoute(RouteMetrics routeMetrics, PlayerLobby playerLobby) {
+        this.routeMetrics = Objects.requireNonNull(routeMetrics, "routeMetrics is required.");
+        this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required.");
+        LOG.config("GetMetricsRoute is initialized.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        LOG.finer("GetMetricsRoute invoked");
+
+        StringBuilder out = new StringBuilder(16 * 1024);
+        gauge(out, "webcheckers_games_active", "Games being played.", playerLobby.getActiveGameCount());
+        gauge(out, "webcheckers_players_online", "Players signed in.", playerLobby.getPlayerCount());
+        gauge(out, "webcheckers_spectators", "Players spectating a game.", playerLobby.getSpectators().size());
+        gauge(out, "webcheckers_pending_moves", "Moves made in the games being played that are not yet submitted.",
+                playerLobby.getPendingMoveCount());
+        gauge(out, "webcheckers_games_archived", "Finished games kept in the archive.",
+                playerLobby.getArchivedGameCount());
+        counter(out, "webcheckers_games_evicted_total", "Archived games dropped for age or a full archive.",
+                playerLobby.getEvictedGameCount());
+        routeMetrics.writeTo(out);
+
+        response.type(PROMETHEUS_TYPE);
+        return out.toString();
+    }
+
+    private static void gauge(StringBuilder out, String name, String help, long value) {
+        metric(out, name, help, "gauge", value);
+    }
+
+    private static void counter(StringBuilder out, String name, String help, long value) {
+        metric(out, name, help, "counter", value);
+    }
+
+    private static void metric(StringBuilder out, String name, String help, String type, long value) {
+        out.append("# HELP ").append(name).append(' ').append(help).append('\n');
+        out.append("# TYPE ").append(name).append(' ').append(type).append('\n');
+        out.append(name).append(' ').append(value).append('\n');
+    }
+}
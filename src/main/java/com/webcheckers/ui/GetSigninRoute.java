@@ -1,11 +1,11 @@
 package com.webcheckers.ui;
 
+import com.webcheckers.util.Log;
 import spark.*;
 
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * The UI Controller to GET the Signin page.
@@ -14,7 +14,7 @@ import java.util.logging.Logger;
  * @author <a href='mailto:spm8848@rit.edu'>Sean McDonnell</a>
  */
 public class GetSigninRoute implements Route {
-    private static final Logger LOG = Logger.getLogger(GetSigninRoute.class.getName());
+    private static final Log LOG = Log.getLog(GetSigninRoute.class);
 
     private final TemplateEngine templateEngine;
     /**
@@ -4,6 +4,7 @@ import com.google.gson.Gson;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
 
 import spark.Request;
 import spark.Response;
@@ -15,7 +16,6 @@ import spark.ModelAndView;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * The UI Controller to GET the Spectator Game View page.
@@ -24,11 +24,15 @@ import java.util.logging.Logger;
  */
 
 public class GetSpectateGameRoute implements Route{
-    private static final Logger LOG = Logger.getLogger(GetSpectateGameRoute.class.getName());
+    private static final Log LOG = Log.getLog(GetSpectateGameRoute.class);
     public static final String SPECTATOR_ROUTE = "/spectator/game";
 
+    /** Gson is thread-safe, so one instance writes the mode options of every page */
+    private static final Gson GSON = new Gson();
+
     private final TemplateEngine templateEngine;
     private final PlayerLobby playerLobby;
+    private final GameBoardCache boardCache;
 
     /**
      * Create the Spark Route (UI controller) to handle all {@code GET /spectator/game} HTTP requests.
@@ -37,10 +41,14 @@ public class GetSpectateGameRoute implements Route{
      *   the HTML template rendering engine
      * @param playerLobby
      *   the {@link PlayerLobby} to handle player actions
+     * @param boardCache
+     *   the {@link GameBoardCache} holding the rendered boards
      */
-    public GetSpectateGameRoute(final TemplateEngine templateEngine, final PlayerLobby playerLobby) {
+    public GetSpectateGameRoute(final TemplateEngine templateEngine, final PlayerLobby playerLobby,
+            final GameBoardCache boardCache) {
         this.templateEngine = Objects.requireNonNull(templateEngine, "templateEngine is required");
         this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required");
+        this.boardCache = Objects.requireNonNull(boardCache, "boardCache is required");
         LOG.config("GetSpectateGameRoute is initialized.");
     }
 
@@ -85,16 +93,16 @@ public class GetSpectateGameRoute implements Route{
         vm.put("whitePlayer", playerGame.getPlayers()[1]);
         // Needs to be non constant
         vm.put("activeColor", playerGame.getActiveColor());
-        vm.put("board", playerGame.getBoardView(currentUser));
+        // The board is the same for everybody on the same side of it, so it is rendered once per commit
+        vm.put("boardHtml", boardCache.getBoard(playerGame, currentUser));
 
         // Check if the player's current game is inactive
         if(!playerGame.isActive()){
             // Tell the view that the game has ended
-            Gson gson = new Gson();
             final Map<String, Object> modeOptions = new HashMap<>(2);
             modeOptions.put("isGameOver", true);
             modeOptions.put("gameOverMessage", playerGame.getGameEndedReason().getText());
-            vm.put("modeOptionsAsJSON", gson.toJson(modeOptions));
+            vm.put("modeOptionsAsJSON", GSON.toJson(modeOptions));
         }
 
         // Render the View
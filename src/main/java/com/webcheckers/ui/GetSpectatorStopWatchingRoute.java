@@ -3,8 +3,8 @@ package com.webcheckers.ui;
 import spark.*;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * the {@code GET /spectator/stopWatching} route handler.
@@ -12,7 +12,7 @@ import java.util.logging.Logger;
  * @author <a href='mailto:gjv9138@rit.edu'>Geran Vaughn</a>
  */
 public class GetSpectatorStopWatchingRoute implements Route {
-    private static final Logger LOG = Logger.getLogger(GetSpectatorStopWatchingRoute.class.getName());
+    private static final Log LOG = Log.getLog(GetSpectatorStopWatchingRoute.class);
 
     private final PlayerLobby playerLobby;
 
@@ -0,0 +1,58 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
+import spark.Filter;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import java.util.Objects;
+
+/**
+ * the filter run before every route, which records the activity of the current user for the
+ * {@link com.webcheckers.appl.IdlePlayerReaper}.
+ */
+public class PlayerActivityFilter implements Filter {
+    /**
+     * Attributes
+     */
+    private static final Log LOG = Log.getLog(PlayerActivityFilter.class);
+    static final String CURRENT_USER_ATTR = "currentUser";
+
+    private final PlayerLobby playerLobby;
+
+    /**
+     * Constructor to create a {@link PlayerActivityFilter}
+     *
+     * @param playerLobby  the {@link PlayerLobby} holding the signed in players
+     */
+    public PlayerActivityFilter(PlayerLobby playerLobby) {
+        this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required.");
+        LOG.config("PlayerActivityFilter is initialized.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void handle(Request request, Response response) {
+        final Session httpSession = request.session(false);
+        if (httpSession == null) {
+            return;
+        }
+
+        Player currentUser = httpSession.attribute(CURRENT_USER_ATTR);
+        if (currentUser == null) {
+            return;
+        }
+        if (playerLobby.findPlayer(currentUser.getName()) == currentUser) {
+            currentUser.touch(System.currentTimeMillis());
+        }
+        else {
+            // The player was signed out for being idle, so the session is signed out too
+            httpSession.removeAttribute(CURRENT_USER_ATTR);
+        }
+    }
+}
@@ -5,11 +5,10 @@ import com.webcheckers.model.Player;
 import spark.*;
 
 import java.util.Objects;
-import java.util.logging.Logger;
 
 import com.webcheckers.model.Game;
-import com.webcheckers.model.Space;
 import com.webcheckers.util.Message;
+import com.webcheckers.util.Log;
 
 /**
  * the {@code POST /backupMove} route handler.
@@ -22,8 +21,10 @@ public class PostBackupMoveRoute implements Route {
      * Attributes
      *
      */
-    private static final Logger LOG = Logger.getLogger(PostBackupMoveRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostBackupMoveRoute.class);
     static final String BACKUP_MOVE = "You moved a piece back.";
+    static final Message BACKUP_MOVE_MSG = Message.info(BACKUP_MOVE);
+    static final Message NOT_YOUR_TURN_MSG = Message.error(PostValidateMoveRoute.NOT_YOUR_TURN);
 
     /**
      * Constructor to create a {@link PostBackupMoveRoute}
@@ -44,18 +45,30 @@ public class PostBackupMoveRoute implements Route {
         final Session httpSession = request.session();
 
         Player activePlayer = httpSession.attribute("currentUser");
-        Game game = activePlayer.getGame();
-        // Remove all pending boards and moves that were in use
-        game.removeFromPendingMoves();
-        game.removeFromPendingMoveBoards();
+        return backupMove(activePlayer).toJsonBytes();
+    }
 
-        // Update board
-        Space[][] board;
-        board = game.getLatestPendingMoveEndPositionBoard();
-        game.modifyActualBoard(board);
+    /**
+     * Takes back the latest pending move of the game of a player
+     *
+     * @param activePlayer  the {@link Player} backing up a move
+     * @return  the {@link Message} stating the move was taken back
+     */
+    Message backupMove(Player activePlayer) {
+        Game game = activePlayer.getGame();
+        // Take back the latest pending move
+        game.getLock().lock();
+        try {
+            if (!game.isTurnOf(activePlayer)) {
+                return NOT_YOUR_TURN_MSG;
+            }
+            game.backupMove();
+        }
+        finally {
+            game.getLock().unlock();
+        }
 
-        Message returnMessage = Message.info(BACKUP_MOVE);
-        return returnMessage.toJson();
+        return BACKUP_MOVE_MSG;
     }
 
 }
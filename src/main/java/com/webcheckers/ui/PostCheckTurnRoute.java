@@ -3,10 +3,12 @@ package com.webcheckers.ui;
 import com.webcheckers.model.Player;
 import spark.*;
 
-import java.util.logging.Logger;
+import java.io.IOException;
+import java.util.Objects;
 
 import com.webcheckers.model.Game;
 import com.webcheckers.util.Message;
+import com.webcheckers.util.Log;
 
 /**
  * the {@code POST /checkTurn} route handler.
@@ -20,14 +22,23 @@ public class PostCheckTurnRoute implements Route {
      * Attributes
      *
      */
-    private static final Logger LOG = Logger.getLogger(PostCheckTurnRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostCheckTurnRoute.class);
     static final String TRUE = "true";
     static final String FALSE = "false";
 
+    // Every poll is answered with one of these, so they are only serialized once
+    static final Message TRUE_MSG = Message.info(TRUE);
+    static final Message FALSE_MSG = Message.info(FALSE);
+
+    private final TurnWaiter turnWaiter;
+
     /**
      * Constructor to create a {@link PostCheckTurnRoute}
+     *
+     * @param turnWaiter  the {@link TurnWaiter} that parks long-poll requests
      */
-    public PostCheckTurnRoute() {
+    public PostCheckTurnRoute(TurnWaiter turnWaiter) {
+        this.turnWaiter = Objects.requireNonNull(turnWaiter, "turnWaiter is required.");
         LOG.config("PostCheckTurnRoute is initialized.");
     }
 
@@ -35,29 +46,41 @@ public class PostCheckTurnRoute implements Route {
      * {@inheritDoc}
      */
     @Override
-    public Object handle(Request request, Response response) {
+    public Object handle(Request request, Response response) throws IOException {
         LOG.finer("PostCheckTurnRoute invoked");
         final Session httpSession = request.session();
 
         Player playerBeingChecked = httpSession.attribute("currentUser");
         Game game = playerBeingChecked.getGame();
+
+        // A long-poll request is answered when the turn changes instead of right away
+        Message returnMessage = turnWaiter.checkOrPark(request, response, game,
+                () -> checkTurn(playerBeingChecked, game));
+        return returnMessage == null ? "" : returnMessage.toJsonBytes();
+    }
+
+    /**
+     * Checks whether it is the turn of a player
+     *
+     * @param playerBeingChecked  the {@link Player} being checked
+     * @param game                the {@link Game} of the player
+     * @return  a {@link Message} holding {@code true} or {@code false}
+     */
+    private Message checkTurn(Player playerBeingChecked, Game game) {
         Player[] players = game.getPlayers();
         Player redPlayer = players[0];
         Player whitePlayer = players[1];
-        Message returnMessage;
 
         // Check that the correct player's turn is being checked
         if(game.isRedPlayerTurn() && playerBeingChecked.getName().equals(redPlayer.getName())) {
-            returnMessage = Message.info(TRUE);
+            return TRUE_MSG;
         }
         else if(game.isWhitePlayerTurn() && playerBeingChecked.getName().equals(whitePlayer.getName())) {
-            returnMessage = Message.info(TRUE);
+            return TRUE_MSG;
         }
         else {
-            returnMessage = Message.info(FALSE);
+            return FALSE_MSG;
         }
-        
-        return returnMessage.toJson();
     }
 
 }
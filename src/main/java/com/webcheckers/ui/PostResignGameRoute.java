@@ -2,9 +2,10 @@ package com.webcheckers.ui;
 
 import spark.*;
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
 import com.webcheckers.util.Message;
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * the {@code POST /resignGame} route handler.
@@ -12,7 +13,7 @@ import java.util.logging.Logger;
  * @author <a href='spm8848@rit.edu'>Sean McDonnell </a>
  */
 public class PostResignGameRoute implements Route{
-    private static final Logger LOG = Logger.getLogger(PostResignGameRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostResignGameRoute.class);
     private static final String RESIGN_GAME = "The game has been resigned.";
     
     private final PlayerLobby playerLobby;
@@ -41,7 +42,7 @@ public class PostResignGameRoute implements Route{
         {
             if(httpSession.attribute("currentUser") != null)
             {
-                playerLobby.resignGame(httpSession.attribute("currentUser"));
+                return resignGame(httpSession.attribute("currentUser")).toJson();
             }
         }
 
@@ -49,5 +50,16 @@ public class PostResignGameRoute implements Route{
         Message returnMessage = Message.info(RESIGN_GAME);
         return returnMessage.toJson();
     }
+
+    /**
+     * Resigns a player from their game
+     *
+     * @param player  the {@link Player} resigning
+     * @return  the {@link Message} stating the game was resigned
+     */
+    Message resignGame(Player player) {
+        playerLobby.resignGame(player);
+        return Message.info(RESIGN_GAME);
+    }
     
 }
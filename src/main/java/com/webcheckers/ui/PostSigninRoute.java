@@ -2,6 +2,7 @@ package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
 import com.webcheckers.util.Message;
 
 import spark.Request;
@@ -14,7 +15,6 @@ import spark.ModelAndView;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * the {@code POST /signin} route handler.
@@ -22,7 +22,7 @@ import java.util.logging.Logger;
  * @author <a href='sdw5588@rit.edu'>Shayne Winn</a>
  */
 public class PostSigninRoute implements Route {
-    private static final Logger LOG = Logger.getLogger(PostSigninRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostSigninRoute.class);
 
     public static final String CURRENT_USER_ATTR = "currentUser";
     public static final String RETURN_MESSAGE_ATTR = "message";
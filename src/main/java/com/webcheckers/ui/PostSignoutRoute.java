@@ -1,6 +1,7 @@
 package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.util.Log;
 
 import spark.Request;
 import spark.Response;
@@ -8,7 +9,6 @@ import spark.Route;
 import spark.Session;
 
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * the {@code POST /signout} route handler.
@@ -16,7 +16,7 @@ import java.util.logging.Logger;
  * @author <a href='sdw5588@rit.edu'>Shayne Winn</a>
  */
 public class PostSignoutRoute implements Route {
-    private static final Logger LOG = Logger.getLogger(PostSignoutRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostSignoutRoute.class);
 
     private final PlayerLobby playerLobby;
 
@@ -0,0 +1,49 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Player;
+import spark.*;
+
+import java.util.Objects;
+
+import com.webcheckers.util.Message;
+import com.webcheckers.util.Log;
+
+/**
+ * the {@code POST /game/socketTicket} route handler, which issues the ticket a player opens their
+ * {@link GameSocketHandler} socket with.
+ */
+public class PostSocketTicketRoute implements Route {
+    /**
+     * Attributes
+     */
+    private static final Log LOG = Log.getLog(PostSocketTicketRoute.class);
+    static final String CURRENT_USER_ATTR = "currentUser";
+
+    private final GameSocketHandler socketHandler;
+
+    /**
+     * Constructor to create a {@link PostSocketTicketRoute}
+     *
+     * @param socketHandler  the {@link GameSocketHandler} that accepts the tickets
+     */
+    public PostSocketTicketRoute(GameSocketHandler socketHandler) {
+        this.socketHandler = Objects.requireNonNull(socketHandler, "socketHandler is required.");
+        LOG.config("PostSocketTicketRoute is initialized.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        LOG.finer("PostSocketTicketRoute invoked");
+        final Session httpSession = request.session();
+
+        Player currentUser = httpSession.attribute(CURRENT_USER_ATTR);
+        if (currentUser == null || !currentUser.inGame() || currentUser.getSpectatorStatus()) {
+            return Message.error(GameSocketHandler.NO_GAME).toJson();
+        }
+        return Message.info(socketHandler.issueTicket(currentUser)).toJson();
+    }
+
+}
@@ -3,9 +3,11 @@ package com.webcheckers.ui;
 import com.webcheckers.model.Player;
 import spark.*;
 
-import java.util.logging.Logger;
+import java.io.IOException;
+import java.util.Objects;
 
 import com.webcheckers.util.Message;
+import com.webcheckers.util.Log;
 
 /**
  * the {@code POST /spectator/checkTurn} route handler.
@@ -18,14 +20,19 @@ public class PostSpectatorCheckTurnRoute implements Route {
     /**
      * Attributes
      */
-    private static final Logger LOG = Logger.getLogger(PostSpectatorCheckTurnRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostSpectatorCheckTurnRoute.class);
     static final String TRUE = "true";
     static final String FALSE = "false";
 
+    private final TurnWaiter turnWaiter;
+
     /**
      * Constructor to create a {@link PostSpectatorCheckTurnRoute}
+     *
+     * @param turnWaiter  the {@link TurnWaiter} that parks long-poll requests
      */
-    public PostSpectatorCheckTurnRoute() {
+    public PostSpectatorCheckTurnRoute(TurnWaiter turnWaiter) {
+        this.turnWaiter = Objects.requireNonNull(turnWaiter, "turnWaiter is required.");
         LOG.config("PostSpectatorCheckTurnRoute is initialized.");
     }
 
@@ -33,21 +40,32 @@ public class PostSpectatorCheckTurnRoute implements Route {
      * {@inheritDoc}
      */
     @Override
-    public Object handle(Request request, Response response) {
+    public Object handle(Request request, Response response) throws IOException {
         LOG.finer("PostSpectatorCheckTurnRoute invoked");
         final Session httpSession = request.session();
 
         Player spectator = httpSession.attribute("currentUser");
-        Message returnMessage;
 
+        // A long-poll request is answered when the turn changes instead of right away
+        Message returnMessage = turnWaiter.checkOrPark(request, response, spectator.getGame(),
+                () -> checkTurn(spectator));
+        return returnMessage == null ? "" : returnMessage.toJsonBytes();
+    }
+
+    /**
+     * Checks whether the turn has changed since the spectator last checked
+     *
+     * @param spectator  the spectating {@link Player}
+     * @return  a {@link Message} holding {@code true} or {@code false}
+     */
+    private Message checkTurn(Player spectator) {
         // Check if the turn has changed
         if(spectator.spectateDidTurnUpdate()){
-            returnMessage = Message.info(TRUE);
+            return PostCheckTurnRoute.TRUE_MSG;
         }
         else{
-            returnMessage = Message.info(FALSE);
+            return PostCheckTurnRoute.FALSE_MSG;
         }
-
-        return returnMessage.toJson();
     }
+
 }
@@ -0,0 +1,58 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
+import com.webcheckers.util.Message;
+
+import spark.*;
+
+import java.util.Objects;
+
+/**
+ * the {@code POST /startBotGame} route handler, which starts a game against the computer.
+ */
+public class PostStartBotGameRoute implements Route {
+    private static final Log LOG = Log.getLog(PostStartBotGameRoute.class);
+
+    private final PlayerLobby playerLobby;
+
+    /**
+     * Constructor to create a {@link PostStartBotGameRoute}
+     *
+     * @param playerLobby
+     *      the {@link PlayerLobby} to use to create games; is not null
+     */
+    public PostStartBotGameRoute(PlayerLobby playerLobby){
+        this.playerLobby = Objects.requireNonNull(playerLobby, "playerLobby is required.");
+        LOG.config("PostStartBotGameRoute is initialized.");
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public Object handle(Request request, Response response) {
+        final Session httpSession = request.session();
+
+        // Check the session to make sure it is not new and has the current user
+        if(httpSession == null || httpSession.attribute(GetHomeRoute.CURRENT_USER_ATTR) == null){
+            response.redirect(GetHomeRoute.HOME_ROUTE);
+            return null;
+        }
+
+        Player currentUser = httpSession.attribute(GetHomeRoute.CURRENT_USER_ATTR);
+        Message returnMessage = this.playerLobby.startBotGame(currentUser);
+
+        // Check to see if there was an issue with creating a game
+        if(returnMessage == null){
+            response.redirect(GetGameRoute.GAME_ROUTE);
+        }
+        // If there was an issue, redirect back to the home page
+        else{
+            response.redirect(GetHomeRoute.HOME_ROUTE + "?redirectMessage=" + returnMessage.getText() +
+                    "&t=" + returnMessage.getType().toString());
+        }
+        return null;
+    }
+}
@@ -2,12 +2,12 @@ package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Player;
+import com.webcheckers.util.Log;
 import com.webcheckers.util.Message;
 
 import spark.*;
 
 import java.util.Objects;
-import java.util.logging.Logger;
 
 /**
  * the {@code POST /startGame} route handler.
@@ -15,7 +15,7 @@ import java.util.logging.Logger;
  * @author <a href='sdw5588@rit.edu'>Shayne Winn</a>
  */
 public class PostStartGameRoute implements Route {
-    private static final Logger LOG = Logger.getLogger(PostStartGameRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostStartGameRoute.class);
     public static final String OTHER_USER_QUERY = "otherUser";
 
     private final PlayerLobby playerLobby;
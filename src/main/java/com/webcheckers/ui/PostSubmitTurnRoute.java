@@ -2,12 +2,13 @@ package com.webcheckers.ui;
 
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.*;
+import com.webcheckers.model.jfr.FlightRecorder;
 import spark.*;
 
 import java.util.Objects;
-import java.util.logging.Logger;
 
 import com.webcheckers.util.Message;
+import com.webcheckers.util.Log;
 
 /**
  * the {@code POST /submitTurn} route handler.
@@ -23,9 +24,7 @@ public class PostSubmitTurnRoute implements Route {
      * Attributes
      *
      */
-    private static final int MAX_ROW_INDEX = 7;
-
-    private static final Logger LOG = Logger.getLogger(PostSubmitTurnRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostSubmitTurnRoute.class);
 
     static final String CURRENT_USER_ATTR = "currentUser";
     static final String VALID_TURN = "You submitted a valid turn.";
@@ -33,12 +32,21 @@ public class PostSubmitTurnRoute implements Route {
     static final String JUMP_MOVE_PARTIAL_MSG = "You must continue the jump move.";
     static final String JUMP_MOVES_ONLY_MSG    = "You can only make jumps during a jump move.";
     static final String ONE_SINGLE_MOVE_ONLY_MSG  = "You can only make one single move in a turn.";
+    static final String NO_MOVES_MSG = "You must make a move before submitting your turn.";
+    static final String NOT_LEGAL_MSG = "Those moves are not a legal turn.";
+
+    // The answers never change, so each is serialized only once
+    private static final Message VALID_TURN_MESSAGE = Message.info(VALID_TURN);
+    private static final Message JUMP_MOVE_AVAIL_MESSAGE = Message.error(JUMP_MOVE_AVAIL_MSG);
+    private static final Message JUMP_MOVE_PARTIAL_MESSAGE = Message.error(JUMP_MOVE_PARTIAL_MSG);
+    private static final Message JUMP_MOVES_ONLY_MESSAGE = Message.error(JUMP_MOVES_ONLY_MSG);
+    private static final Message ONE_SINGLE_MOVE_ONLY_MESSAGE = Message.error(ONE_SINGLE_MOVE_ONLY_MSG);
+    private static final Message NO_MOVES_MESSAGE = Message.error(NO_MOVES_MSG);
+    private static final Message NOT_LEGAL_MESSAGE = Message.error(NOT_LEGAL_MSG);
+    private static final Message NOT_YOUR_TURN_MESSAGE = Message.error(PostValidateMoveRoute.NOT_YOUR_TURN);
 
     private final PlayerLobby playerLobby;
 
-    private int numberOfSimples = 0;
-    private int numberOfJumps = 0;
-
     /**
      * Constructor to create a {@link PostSubmitTurnRoute}
      *
@@ -60,71 +68,55 @@ public class PostSubmitTurnRoute implements Route {
         final Session httpSession = request.session();
 
         Player activePlayer = httpSession.attribute(CURRENT_USER_ATTR);
-        Game game = activePlayer.getGame();
-        Space[][] actualBoardCopy = game.createBoardCopy(game.getBoard());
-        Message returnMessage;
-
-        int numberOfPendingMoves = game.getSizePendingMoves();
-
-        for (int i = 0; i < numberOfPendingMoves; i++) {
-            Move move = game.getPendingMove(i);
-            Space[][] board;
+        return submitTurn(activePlayer).toJsonBytes();
+    }
 
-            board = game.getPendingMoveBoard(i);
+    /**
+     * Submits the pending moves of the game of a player as their turn
+     *
+     * @param activePlayer  the {@link Player} submitting the turn
+     * @return  the {@link Message} stating if the turn was valid
+     */
+    Message submitTurn(Player activePlayer) {
+        Game game = activePlayer.getGame();
 
-            if (game.validateSimpleMove(move, board, false)) {
-                numberOfSimples++;
-            } else if (game.validateJumpMove(move, board, false)) {
-                numberOfJumps++;
+        game.getLock().lock();
+        try {
+            if (!game.isTurnOf(activePlayer)) {
+                return NOT_YOUR_TURN_MESSAGE;
             }
+            return submitTurn(game);
         }
-
-        Move latestPendingMove = game.getLatestPendingMove();
-        Space[][] board;
-        Space[][] latestPendingMoveEndPositionBoard = game.getLatestPendingMoveEndPositionBoard();
-        Piece.PieceColor activePlayerColor =
-                latestPendingMoveEndPositionBoard[latestPendingMove.getEnd().getRow()]
-                        [latestPendingMove.getEnd().getCell()].getPiece().getColor();
-
-        if (numberOfSimples == 1 && numberOfJumps == 0) {
-            board = actualBoardCopy;
-
-            if (game.searchForJumps(activePlayerColor, board)) {
-                numberOfSimples = 0;
-                numberOfJumps = 0;
-                return Message.error(JUMP_MOVE_AVAIL_MSG).toJson();
-            }
-        } else if (numberOfSimples > 1 && numberOfJumps == 0) {
-            numberOfSimples = 0;
-            numberOfJumps = 0;
-            return Message.error(ONE_SINGLE_MOVE_ONLY_MSG).toJson();
-        } else if (numberOfSimples > 0 && numberOfJumps > 0) {
-            numberOfSimples = 0;
-            numberOfJumps = 0;
-            return Message.error(JUMP_MOVES_ONLY_MSG).toJson();
-        } else if (numberOfSimples == 0 && numberOfJumps > 0) {
-            if (game.searchForJumpsForOnePiece(latestPendingMove,
-                    latestPendingMoveEndPositionBoard, activePlayerColor)) {
-                numberOfSimples = 0;
-                numberOfJumps = 0;
-                return Message.error(JUMP_MOVE_PARTIAL_MSG).toJson();
-            }
+        finally {
+            game.getLock().unlock();
         }
+    }
 
-        if(latestPendingMove.getEnd().getRow() == 0 || latestPendingMove.getEnd().getRow() == MAX_ROW_INDEX){
-            game.kingMe(latestPendingMove.getEnd().getRow(), latestPendingMove.getEnd().getCell(),
-                    latestPendingMoveEndPositionBoard);
+    /**
+     * Checks the pending moves of a game form a complete turn, and commits them if they do.
+     * The caller must hold the lock of the game.
+     *
+     * @param game  the {@link Game} the turn is submitted in
+     * @return  the {@link Message} stating if the turn was valid
+     */
+    private Message submitTurn(Game game) {
+        Piece.PieceColor activePlayerColor = game.getLegalMoves().getColor();
+
+        TurnValidator.Result result = new TurnValidator(game).validate();
+        if (result != TurnValidator.Result.VALID) {
+            Message rejection = rejectionOf(result);
+            FlightRecorder.turnRejected(game.getGameID(), activePlayerColor.name(), game.getSizePendingMoves(),
+                    result.name());
+            return rejection;
         }
 
-        game.modifyActualBoard(latestPendingMoveEndPositionBoard);
-
-        returnMessage = Message.info(VALID_TURN);
+        // Make the pending moves on the actual board, kinging the piece if it reached the far row
+        game.commitPendingMoves();
 
-        numberOfSimples = 0;
-        numberOfJumps = 0;
+        Message returnMessage = VALID_TURN_MESSAGE;
 
         if(activePlayerColor == Piece.PieceColor.RED) {
-            if (game.searchForJumps(Piece.PieceColor.WHITE, game.getBoard()) == false && game.searchForSimples(Piece.PieceColor.WHITE, game.getBoard()) == false) {
+            if (!game.canMove(Piece.PieceColor.WHITE)) {
                 //Resigns the white player
                 playerLobby.resignGame(game.getPlayers()[1]);
             }
@@ -134,7 +126,7 @@ public class PostSubmitTurnRoute implements Route {
             }
         }
         else{
-            if (game.searchForJumps(Piece.PieceColor.RED, game.getBoard()) == false && game.searchForSimples(Piece.PieceColor.RED, game.getBoard()) == false) {
+            if (!game.canMove(Piece.PieceColor.RED)) {
                 //Resigns the red player
                 playerLobby.resignGame(game.getPlayers()[0]);
             }
@@ -143,7 +135,30 @@ public class PostSubmitTurnRoute implements Route {
                 game.changeTurn();
             }
         }
-        return returnMessage.toJson();
+        return returnMessage;
+    }
+
+    /**
+     * Returns the answer to a turn that is not valid
+     *
+     * @param result  why the turn is not valid
+     * @return  the error {@link Message}
+     */
+    private static Message rejectionOf(TurnValidator.Result result) {
+        switch (result) {
+            case NO_MOVES:
+                return NO_MOVES_MESSAGE;
+            case JUMP_MOVE_AVAILABLE:
+                return JUMP_MOVE_AVAIL_MESSAGE;
+            case ONE_SINGLE_MOVE_ONLY:
+                return ONE_SINGLE_MOVE_ONLY_MESSAGE;
+            case JUMP_MOVES_ONLY:
+                return JUMP_MOVES_ONLY_MESSAGE;
+            case NOT_LEGAL:
+                return NOT_LEGAL_MESSAGE;
+            default:
+                return JUMP_MOVE_PARTIAL_MESSAGE;
+        }
     }
 
 }
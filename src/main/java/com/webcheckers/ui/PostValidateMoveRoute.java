@@ -6,12 +6,11 @@ import com.webcheckers.model.Player;
 import spark.*;
 
 import java.util.Objects;
-import java.util.logging.Logger;
 
 import com.webcheckers.model.Move;
 import com.webcheckers.model.Game;
-import com.webcheckers.model.Space;
 import com.webcheckers.util.Message;
+import com.webcheckers.util.Log;
 
 /**
  * the {@code POST /validateMove} route handler.
@@ -26,12 +25,16 @@ public class PostValidateMoveRoute implements Route {
      * Attributes
      *
      */
-    private static final Logger LOG = Logger.getLogger(PostValidateMoveRoute.class.getName());
+    private static final Log LOG = Log.getLog(PostValidateMoveRoute.class);
 
     public static final String ACTION_DATA_QUERY_PARAM = "actionData";
     public static final String CURRENT_USER_ATTR = "currentUser";
     public static final String OCCUPIED_SPACE = "You can't move to a space occupied by a piece.";
     public static final String NO_POSITION_PROVIDED_MESSAGE = "No position was provided for validation.";
+    static final Message OCCUPIED_SPACE_MSG = Message.error(OCCUPIED_SPACE);
+    static final Message NO_POSITION_PROVIDED_MSG = Message.error(NO_POSITION_PROVIDED_MESSAGE);
+    static final String NOT_YOUR_TURN = "It is not your turn.";
+    static final Message NOT_YOUR_TURN_MSG = Message.error(NOT_YOUR_TURN);
 
     private final Gson gson;
     private final PlayerLobby playerLobby;
@@ -59,32 +62,43 @@ public class PostValidateMoveRoute implements Route {
         final String moveAsJson = request.queryParams(ACTION_DATA_QUERY_PARAM);
 
         Player activePlayer = httpSession.attribute(CURRENT_USER_ATTR);
-        Game game = activePlayer.getGame();
-        Space[][] actualBoard = game.getBoard();
 
-        LOG.finest(String.format("JSON body: [%s]", moveAsJson));
+        LOG.finest("JSON body: [{0}]", moveAsJson);
+
+        // The answers are constant messages, so their JSON is written as it was encoded the first time
+        return validateMove(activePlayer, moveAsJson).toJsonBytes();
+    }
+
+    /**
+     * Validates a move for the game of a player, adding it to the pending moves if it is valid
+     *
+     * @param activePlayer  the {@link Player} making the move
+     * @param moveAsJson    the {@link Move} as a JSON String
+     * @return  the {@link Message} stating if the move is valid
+     */
+    Message validateMove(Player activePlayer, String moveAsJson) {
+        Game game = activePlayer.getGame();
 
         //Message stating if move is valid
         if(moveAsJson.contains("null")){
-            return Message.error(OCCUPIED_SPACE).toJson();
+            return OCCUPIED_SPACE_MSG;
         }
         else if(moveAsJson.isEmpty()) {
-            return Message.error(NO_POSITION_PROVIDED_MESSAGE).toJson();
+            return NO_POSITION_PROVIDED_MSG;
         }
 
         Move requestedMove = gson.fromJson(moveAsJson, Move.class);
-        Space[][] boardCopy;
 
-        if(game.hasBoards()) {
-            boardCopy = game.createBoardCopy(game.getLatestPendingMoveEndPositionBoard());
+        game.getLock().lock();
+        try {
+            if (!game.isTurnOf(activePlayer)) {
+                return NOT_YOUR_TURN_MSG;
+            }
+            return game.validateMove(requestedMove);
         }
-        else {
-            boardCopy = game.createBoardCopy(actualBoard);
-            game.addToPendingMoveBoards(actualBoard);
+        finally {
+            game.getLock().unlock();
         }
-
-        Message returnMessage = game.validateMove(requestedMove, boardCopy);
-        return returnMessage.toJson();
     }
 
 }
@@ -0,0 +1,166 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.util.LatencyHistogram;
+import com.webcheckers.util.Message;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Times every request of the routes it wraps, and writes the latencies as Prometheus histograms.
+ *
+ * <p>
+ * Each wrapped route has one {@link LatencyHistogram} per {@link Outcome}, created when it is wrapped, so a
+ * request only reads the clock twice and counts itself, without a lookup or a lock. The time of a long-poll
+ * request that is parked is the time taken to park it, not the time it waited.
+ * </p>
+ */
+public class RouteMetrics {
+
+    /**
+     * Constants
+     */
+    static final String LATENCY_METRIC = "webcheckers_route_latency_seconds";
+
+    /**
+     * The upper bounds of the histogram buckets, in seconds
+     */
+    static final double[] BUCKET_SECONDS = {
+            0.0005, 0.001, 0.0025, 0.005, 0.01, 0.025, 0.05, 0.1, 0.25, 0.5, 1, 2.5, 5, 10
+    };
+    private static final long[] BUCKET_MICROS = new long[BUCKET_SECONDS.length];
+    private static final String[] BUCKET_LABELS = new String[BUCKET_SECONDS.length];
+    static {
+        for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+            BUCKET_MICROS[i] = Math.round(BUCKET_SECONDS[i] * TimeUnit.SECONDS.toMicros(1));
+            BUCKET_LABELS[i] = BigDecimal.valueOf(BUCKET_SECONDS[i]).stripTrailingZeros().toPlainString();
+        }
+    }
+
+    /**
+     * How a request ended
+     */
+    public enum Outcome {
+        /** answered with an information {@link Message} */
+        INFO,
+        /** answered with an error {@link Message}, or with an HTTP error status */
+        ERROR,
+        /** answered with a page, a redirect or other content */
+        OTHER,
+        /** ended by an exception, a halt included */
+        EXCEPTION;
+
+        final String label = name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * Attributes
+     */
+    private final List<TimedRoute> routes = new CopyOnWriteArrayList<>();
+
+    /**
+     * Wraps a route so that its requests are timed
+     *
+     * @param method  the HTTP method the route is mapped to
+     * @param path    the path the route is mapped to
+     * @param route   the {@link Route} to time
+     * @return  the timed {@link Route}
+     */
+    public Route time(String method, String path, Route route) {
+        TimedRoute timed = new TimedRoute(method, path, route);
+        routes.add(timed);
+        return timed;
+    }
+
+    /**
+     * Writes the latency histogram of every outcome of every route that has seen a request, in the Prometheus
+     * text format
+     *
+     * @param out  the {@link StringBuilder} to write to
+     */
+    public void writeTo(StringBuilder out) {
+        out.append("# HELP ").append(LATENCY_METRIC).append(" Time taken to answer a request, by route and outcome.\n");
+        out.append("# TYPE ").append(LATENCY_METRIC).append(" histogram\n");
+        for (TimedRoute route : routes) {
+            for (Outcome outcome : Outcome.values()) {
+                LatencyHistogram histogram = route.latencies[outcome.ordinal()];
+                if (histogram.getCount() == 0) {
+                    continue;
+                }
+                String labels = "method=\"" + route.method + "\",route=\"" + route.path + "\",outcome=\""
+                        + outcome.label + "\"";
+                long[] counts = histogram.getCumulativeCounts(BUCKET_MICROS);
+                for (int i = 0; i < BUCKET_SECONDS.length; i++) {
+                    out.append(LATENCY_METRIC).append("_bucket{").append(labels).append(",le=\"")
+                            .append(BUCKET_LABELS[i]).append("\"} ").append(counts[i]).append('\n');
+                }
+                long count = counts[BUCKET_SECONDS.length];
+                out.append(LATENCY_METRIC).append("_bucket{").append(labels).append(",le=\"+Inf\"} ")
+                        .append(count).append('\n');
+                out.append(LATENCY_METRIC).append("_sum{").append(labels).append("} ")
+                        .append(histogram.getSumMicros() / 1e6).append('\n');
+                out.append(LATENCY_METRIC).append("_count{").append(labels).append("} ")
+                        .append(count).append('\n');
+            }
+        }
+    }
+
+    /**
+     * Finds the outcome of a request from what its route answered
+     *
+     * @param body      the body the route returned
+     * @param response  the {@link Response} to the request
+     * @return {@link Outcome}
+     */
+    static Outcome outcomeOf(Object body, Response response) {
+        if (response.status() >= 400) {
+            return Outcome.ERROR;
+        }
+        if (body instanceof byte[]) {
+            Message.Type type = Message.typeOfJson((byte[]) body);
+            if (type != null) {
+                return type == Message.Type.ERROR ? Outcome.ERROR : Outcome.INFO;
+            }
+        }
+        return Outcome.OTHER;
+    }
+
+    /**
+     * A route whose requests are timed
+     */
+    private static final class TimedRoute implements Route {
+        private final String method;
+        private final String path;
+        private final Route route;
+        private final LatencyHistogram[] latencies = new LatencyHistogram[Outcome.values().length];
+
+        TimedRoute(String method, String path, Route route) {
+            this.method = method;
+            this.path = path;
+            this.route = route;
+            for (int i = 0; i < latencies.length; i++) {
+                latencies[i] = new LatencyHistogram();
+            }
+        }
+
+        @Override
+        public Object handle(Request request, Response response) throws Exception {
+            long start = System.nanoTime();
+            Outcome outcome = Outcome.EXCEPTION;
+            try {
+                Object body = route.handle(request, response);
+                outcome = outcomeOf(body, response);
+                return body;
+            }
+            finally {
+                latencies[outcome.ordinal()].recordNanos(System.nanoTime() - start);
+            }
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.GameListener;
+import com.webcheckers.model.Move;
+import com.webcheckers.util.Log;
+import com.webcheckers.util.Message;
+import spark.Request;
+import spark.Response;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncEvent;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Supplier;
+
+/**
+ * Parks long-poll check turn requests until the turn of their {@link Game} changes, the game ends, or the
+ * poll times out.
+ *
+ * <p>
+ * A parked request is asynchronous, so it holds a socket but no server thread. When it wakes up, its check
+ * is run again on a single background thread, and the answer is written without blocking, so a client that
+ * stopped reading never holds up the answers to the others.
+ * </p>
+ */
+public class TurnWaiter implements GameListener {
+    private static final Log LOG = Log.getLog(TurnWaiter.class);
+
+    /**
+     * Constants
+     */
+    static final String LONG_POLL_PARAM = "wait";
+    static final String JSON_TYPE = "application/json";
+    static final long DEFAULT_TIMEOUT_MILLIS = TimeUnit.SECONDS.toMillis(25);
+
+    /**
+     * A request waiting for its game to change
+     */
+    private static class ParkedRequest {
+        final AsyncContext context;
+        final Supplier<Message> check;
+        final AtomicBoolean answered = new AtomicBoolean();
+        volatile ScheduledFuture<?> timeout;
+
+        ParkedRequest(AsyncContext context, Supplier<Message> check) {
+            this.context = context;
+            this.check = check;
+        }
+    }
+
+    /**
+     * Attributes
+     */
+    private final ScheduledExecutorService executor;
+    private final long timeoutMillis;
+    private final Map<Integer, Set<ParkedRequest>> parked = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a {@link TurnWaiter} that answers requests on its own daemon thread
+     */
+    public TurnWaiter() {
+        this(Executors.newSingleThreadScheduledExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "turn-waiter");
+            thread.setDaemon(true);
+            return thread;
+        }), DEFAULT_TIMEOUT_MILLIS);
+    }
+
+    /**
+     * Creates a {@link TurnWaiter} that answers requests on an executor
+     *
+     * @param executor       the single threaded {@link ScheduledExecutorService} that answers requests
+     * @param timeoutMillis  how long a request waits before it is answered anyway
+     */
+    public TurnWaiter(final ScheduledExecutorService executor, final long timeoutMillis) {
+        this.executor = Objects.requireNonNull(executor, "executor is required");
+        this.timeoutMillis = timeoutMillis;
+    }
+
+    /**
+     * Answers a check turn request. A long-poll request, sent with {@code wait=true}, whose check answers
+     * {@code false} is parked until the game changes instead.
+     *
+     * @param request   the check turn {@link Request}
+     * @param response  the {@link Response} to the request
+     * @param game      the {@link Game} being checked
+     * @param check     the check that answers the request
+     * @return  the answer, or null if the request was parked and will be answered later
+     * @throws IOException  if the response headers could not be sent
+     */
+    public Message checkOrPark(Request request, Response response, Game game, Supplier<Message> check)
+            throws IOException {
+        if (!Boolean.parseBoolean(request.queryParams(LONG_POLL_PARAM))) {
+            return check.get();
+        }
+
+        ReentrantLock lock = game.getLock();
+        lock.lock();
+        try {
+            Message answer = check.get();
+            if (!PostCheckTurnRoute.FALSE.equals(answer.getText()) || !game.isActive()) {
+                return answer;
+            }
+            // Send the headers now, so Spark sees a committed response and leaves the request open
+            AsyncContext context = request.raw().startAsync();
+            response.raw().setContentType(JSON_TYPE);
+            response.raw().setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.raw().flushBuffer();
+            park(game, context, check);
+            return null;
+        }
+        finally {
+            lock.unlock();
+        }
+    }
+
+    /**
+     * Parks an asynchronous request until its game changes. The caller must hold the lock of the game, so a
+     * change cannot slip in between its own check and the request being parked.
+     *
+     * @param game     the {@link Game} to wait on
+     * @param context  the {@link AsyncContext} of the request, whose response headers are already committed
+     * @param check    the check that answers the request when it wakes up
+     */
+    public void park(final Game game, final AsyncContext context, final Supplier<Message> check) {
+        final int gameID = game.getGameID();
+        final ParkedRequest request = new ParkedRequest(context, check);
+
+        context.setTimeout(0);
+        context.addListener(new AsyncListener() {
+            @Override
+            public void onComplete(AsyncEvent event) {
+                unpark(gameID, request);
+            }
+
+            @Override
+            public void onTimeout(AsyncEvent event) {
+                unpark(gameID, request);
+            }
+
+            @Override
+            public void onError(AsyncEvent event) {
+                unpark(gameID, request);
+            }
+
+            @Override
+            public void onStartAsync(AsyncEvent event) {
+            }
+        });
+
+        parked.computeIfAbsent(gameID, id -> {
+            game.addListener(this);
+            return ConcurrentHashMap.newKeySet();
+        }).add(request);
+        request.timeout = executor.schedule(() -> answer(gameID, request), timeoutMillis, TimeUnit.MILLISECONDS);
+    }
+
+    /**
+     * Returns the number of requests parked on a game
+     *
+     * @param gameID  the ID of the {@link Game}
+     * @return int
+     */
+    public int getParkedCount(int gameID) {
+        Set<ParkedRequest> requests = parked.get(gameID);
+        return requests == null ? 0 : requests.size();
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void turnChanged(Game game) {
+        wakeAll(game);
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void boardChanged(Game game, List<Move> moves) {
+        // the turn changes right after, which is what the requests wait for
+    }
+
+    /**
+     * {@inheritDoc}
+     */
+    @Override
+    public void gameEnded(Game game) {
+        wakeAll(game);
+    }
+
+    /**
+     * Answers every request parked on a game
+     *
+     * @param game  the {@link Game} that changed
+     */
+    private void wakeAll(Game game) {
+        final int gameID = game.getGameID();
+        final Set<ParkedRequest> requests = parked.remove(gameID);
+        game.removeListener(this);
+        if (requests == null) {
+            return;
+        }
+        executor.execute(() -> {
+            for (ParkedRequest request : requests) {
+                answer(gameID, request);
+            }
+        });
+    }
+
+    /**
+     * Runs the check of a request and writes its answer, once
+     *
+     * @param gameID   the ID of the {@link Game} the request waits on
+     * @param request  the {@link ParkedRequest}
+     */
+    private void answer(int gameID, ParkedRequest request) {
+        if (!request.answered.compareAndSet(false, true)) {
+            return;
+        }
+        if (request.timeout != null) {
+            request.timeout.cancel(false);
+        }
+        unpark(gameID, request);
+        try {
+            byte[] body = request.check.get().toJsonBytes();
+            ServletOutputStream out = request.context.getResponse().getOutputStream();
+            AnswerWriter writer = new AnswerWriter(request.context, out, body);
+            out.setWriteListener(writer);
+            writer.onWritePossible();
+        }
+        catch (IOException | IllegalStateException e) {
+            LOG.fine("Could not answer parked request: {0}", e.getMessage());
+        }
+    }
+
+    /**
+     * Writes the answer to a parked request when its client is ready for it, and then completes the request
+     */
+    private static class AnswerWriter implements WriteListener {
+        private final AsyncContext context;
+        private final ServletOutputStream out;
+        private final byte[] body;
+        private boolean written;
+        private boolean completed;
+
+        AnswerWriter(AsyncContext context, ServletOutputStream out, byte[] body) {
+            this.context = context;
+            this.out = out;
+            this.body = body;
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void onWritePossible() {
+            if (completed) {
+                return;
+            }
+            try {
+                if (!written) {
+                    if (!out.isReady()) {
+                        return;
+                    }
+                    out.write(body);
+                    written = true;
+                }
+                // Once the write has gone out, the container says the client is ready again
+                if (out.isReady()) {
+                    complete();
+                }
+            }
+            catch (IOException | IllegalStateException e) {
+                LOG.fine("Could not answer parked request: {0}", e.getMessage());
+                complete();
+            }
+        }
+
+        /**
+         * {@inheritDoc}
+         */
+        @Override
+        public synchronized void onError(Throwable t) {
+            LOG.fine("Could not answer parked request: {0}", t.getMessage());
+            complete();
+        }
+
+        private void complete() {
+            if (completed) {
+                return;
+            }
+            completed = true;
+            try {
+                context.complete();
+            }
+            catch (IllegalStateException e) {
+                LOG.finest("Parked request was already closed");
+            }
+        }
+    }
+
+    /**
+     * Forgets a parked request
+     *
+     * @param gameID   the ID of the {@link Game} the request waits on
+     * @param request  the {@link ParkedRequest}
+     */
+    private void unpark(int gameID, ParkedRequest request) {
+        Set<ParkedRequest> requests = parked.get(gameID);
+        if (requests != null) {
+            requests.remove(request);
+        }
+    }
+}
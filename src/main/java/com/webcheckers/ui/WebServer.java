@@ -3,11 +3,12 @@ package com.webcheckers.ui;
 import static spark.Spark.*;
 
 import java.util.Objects;
-import java.util.logging.Logger;
 
 import com.google.gson.Gson;
 
 import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.util.Log;
+import spark.Route;
 import spark.TemplateEngine;
 
 
@@ -44,7 +45,7 @@ import spark.TemplateEngine;
  * @author <a href='mailto:bdbvse@rit.edu'>Bryan Basham</a>
  */
 public class WebServer {
-  private static final Logger LOG = Logger.getLogger(WebServer.class.getName());
+  private static final Log LOG = Log.getLog(WebServer.class);
 
   //
   // Constants
@@ -64,12 +65,42 @@ public class WebServer {
    * the URL pattern to request the StartGame action.
    */
   public static final String STARTGAME_URL = "/startGame";
+
+  /**
+   * the URL pattern to request a game against the computer.
+   */
+  public static final String STARTBOTGAME_URL = "/startBotGame";
   
   /**
    * the URL pattern to request the Game page.
    */
   public static final String GAME_URL = "/game";
 
+  /**
+   * the URL pattern to request a page of the signed in players as JSON
+   */
+  public static final String LOBBY_PLAYERS_URL = "/lobby/players";
+
+  /**
+   * the URL pattern to open the Server-Sent Events stream of the current game
+   */
+  public static final String GAME_EVENTS_URL = "/game/events";
+
+  /**
+   * the URL pattern to open the WebSocket that carries the move actions of the current game
+   */
+  public static final String GAME_SOCKET_URL = "/game/socket";
+
+  /**
+   * the URL pattern to post a request for the ticket that opens the game WebSocket
+   */
+  public static final String GAME_SOCKET_TICKET_URL = "/game/socketTicket";
+
+  /**
+   * How long an open game WebSocket may stay silent before it is closed, in milliseconds
+   */
+  private static final int GAME_SOCKET_IDLE_TIMEOUT = 30 * 60 * 1000;
+
   /**
    * the URL pattern to post a validate move request
    */
@@ -115,6 +146,11 @@ public class WebServer {
    */
   public static final String SPECTATOR_STOP_WATCHING = "/spectator/stopWatching";
 
+  /**
+   * the URL pattern to get the metrics of the server in the Prometheus text format
+   */
+  public static final String METRICS_URL = "/metrics";
+
   //
   // Attributes
   //
@@ -122,6 +158,7 @@ public class WebServer {
   private final TemplateEngine templateEngine;
   private final Gson gson;
   private final PlayerLobby playerLobby;
+  private final RouteMetrics routeMetrics = new RouteMetrics();
 
   //
   // Constructor
@@ -167,6 +204,21 @@ public class WebServer {
     // Configuration to serve static files
     staticFileLocation("/public");
 
+    // The move actions are shared by their HTTP routes and the game WebSocket
+    final PostValidateMoveRoute validateMoveRoute = new PostValidateMoveRoute(gson, playerLobby);
+    final PostSubmitTurnRoute submitTurnRoute = new PostSubmitTurnRoute(playerLobby);
+    final PostBackupMoveRoute backupMoveRoute = new PostBackupMoveRoute(playerLobby);
+    final PostResignGameRoute resignGameRoute = new PostResignGameRoute(playerLobby);
+    final GameSocketHandler gameSocketHandler = new GameSocketHandler(gson, playerLobby,
+        validateMoveRoute, backupMoveRoute, submitTurnRoute, resignGameRoute);
+    // Parks the long-poll check turn requests of players and spectators
+    final TurnWaiter turnWaiter = new TurnWaiter();
+    final GameBoardCache boardCache = new GameBoardCache(templateEngine);
+
+    // WebSockets must be mapped before any HTTP route
+    webSocketIdleTimeoutMillis(GAME_SOCKET_IDLE_TIMEOUT);
+    webSocket(GAME_SOCKET_URL, gameSocketHandler);
+
     //// Setting any route (or filter) in Spark triggers initialization of the
     //// embedded Jetty web server.
 
@@ -200,53 +252,89 @@ public class WebServer {
     //// Create separate Route classes to handle each route; this keeps your
     //// code clean; using small classes.
 
+    // Records the activity of the signed in player on every request
+    before(new PlayerActivityFilter(playerLobby));
+
     // Shows the Checkers game Home page
-    get(HOME_URL, new GetHomeRoute(templateEngine, playerLobby));
+    timedGet(HOME_URL, new GetHomeRoute(templateEngine, playerLobby));
+
+    // Answers a page of the signed in players, for the Home page
+    timedGet(LOBBY_PLAYERS_URL, new GetLobbyPlayersRoute(playerLobby, gson));
 
     // Shows the Checkers game Signin page
-    get(SIGNIN_URL, new GetSigninRoute(templateEngine));
+    timedGet(SIGNIN_URL, new GetSigninRoute(templateEngine));
 
     // Shows the Checkers game View page
-    get(GAME_URL, new GetGameRoute(templateEngine, playerLobby));
+    timedGet(GAME_URL, new GetGameRoute(templateEngine, playerLobby, boardCache));
+
+    // Post a request for a game WebSocket ticket
+    timedPost(GAME_SOCKET_TICKET_URL, new PostSocketTicketRoute(gameSocketHandler));
+
+    // Streams turn, board and game over events of the current game
+    timedGet(GAME_EVENTS_URL, new GetGameEventsRoute(new GameEventBroadcaster(gson)));
 
     //Shows the Checkers game Spectate View page
-    get(SPECTATE_GAME, new GetSpectateGameRoute(templateEngine, playerLobby));
+    timedGet(SPECTATE_GAME, new GetSpectateGameRoute(templateEngine, playerLobby, boardCache));
 
     //Shows the Checkers game Home page from a spectator status
-    get(SPECTATOR_STOP_WATCHING, new GetSpectatorStopWatchingRoute(playerLobby));
+    timedGet(SPECTATOR_STOP_WATCHING, new GetSpectatorStopWatchingRoute(playerLobby));
 
     // Post a signin request.
-    post(SIGNIN_URL, new PostSigninRoute(templateEngine, playerLobby));
+    timedPost(SIGNIN_URL, new PostSigninRoute(templateEngine, playerLobby));
 
     // Post a startGame request
-    post(STARTGAME_URL, new PostStartGameRoute(playerLobby));
+    timedPost(STARTGAME_URL, new PostStartGameRoute(playerLobby));
+
+    // Post a request to play the computer
+    timedPost(STARTBOTGAME_URL, new PostStartBotGameRoute(playerLobby));
     
     // Post a validateMove request
-    post(VALIDATE_MOVE_URL, new PostValidateMoveRoute(gson, playerLobby));
+    timedPost(VALIDATE_MOVE_URL, validateMoveRoute);
 
     // Post a submitTurn request
-    post(SUBMIT_TURN_URL, new PostSubmitTurnRoute(playerLobby));
+    timedPost(SUBMIT_TURN_URL, submitTurnRoute);
 
     // Post a backupMove request
-    post(BACKUP_MOVE_URL, new PostBackupMoveRoute(playerLobby));
+    timedPost(BACKUP_MOVE_URL, backupMoveRoute);
 
     // Post a checkTurn request
-    post(CHECK_TURN_URL, new PostCheckTurnRoute());
+    timedPost(CHECK_TURN_URL, new PostCheckTurnRoute(turnWaiter));
 
     // Post a signout request
-    post(SIGNOUT_URL, new PostSignoutRoute(playerLobby));
+    timedPost(SIGNOUT_URL, new PostSignoutRoute(playerLobby));
 
     //Post a resignation request
-    post(RESIGN_URL, new PostResignGameRoute(playerLobby));
+    timedPost(RESIGN_URL, resignGameRoute);
 
     //Post a spectate game request
-    post(SPECTATE_GAME, new PostSpectateGameRoute(playerLobby));
+    timedPost(SPECTATE_GAME, new PostSpectateGameRoute(playerLobby));
 
     //Post a spectator check turn request
-    post(SPECTATOR_CHECK_TURN, new PostSpectatorCheckTurnRoute());
+    timedPost(SPECTATOR_CHECK_TURN, new PostSpectatorCheckTurnRoute(turnWaiter));
+
+    // Answers the route latencies and lobby gauges for Prometheus
+    timedGet(METRICS_URL, new GetMetricsRoute(routeMetrics, playerLobby));
 
     //
     LOG.config("WebServer is initialized.");
   }
 
+  //
+  // Private methods
+  //
+
+  /**
+   * Maps a GET route whose requests are timed by the {@link RouteMetrics}.
+   */
+  private void timedGet(final String path, final Route route) {
+    get(path, routeMetrics.time("GET", path, route));
+  }
+
+  /**
+   * Maps a POST route whose requests are timed by the {@link RouteMetrics}.
+   */
+  private void timedPost(final String path, final Route route) {
+    post(path, routeMetrics.time("POST", path, route));
+  }
+
 }
\ No newline at end of file
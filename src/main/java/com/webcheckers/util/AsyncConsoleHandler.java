@@ -0,0 +1,244 @@
+package com.webcheckers.util;
+
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.ConsoleHandler;
+import java.util.logging.ErrorManager;
+import java.util.logging.Formatter;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogManager;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * A {@link Handler} that hands log records to a daemon thread, which formats them and writes them to the
+ * console, so a logging thread never waits on console output.
+ *
+ * <p>
+ * The records wait in a bounded ring buffer. When it is full, a record is dropped rather than making the
+ * logging thread wait, and the writer logs how many records were dropped once it catches up. The handler is
+ * configured in {@code log.properties} with these properties, prefixed with the name of this class:
+ * </p>
+ * <ul>
+ *     <li>{@code level}: the lowest level written, ALL by default</li>
+ *     <li>{@code formatter}: the {@link Formatter} class, {@link SimpleFormatter} by default</li>
+ *     <li>{@code capacity}: the records the buffer holds, 8192 by default</li>
+ * </ul>
+ *
+ * <p>
+ * A record whose caller was never found is written without it, because the writer thread cannot see the
+ * stack of the thread that logged it.
+ * </p>
+ */
+public class AsyncConsoleHandler extends Handler {
+
+    /**
+     * Constants
+     */
+    static final int DEFAULT_CAPACITY = 8192;
+    private static final long CLOSE_TIMEOUT_MILLIS = 1000;
+
+    /**
+     * Attributes
+     */
+    private final BlockingQueue<LogRecord> buffer;
+    private final Handler console;
+    private final Thread writer;
+    private final AtomicLong dropped = new AtomicLong();
+    private volatile boolean closed;
+
+    /**
+     * The records queued, and the records the writer thread has finished with. The written count is guarded
+     * by the progress lock, which is notified whenever it grows.
+     */
+    private final AtomicLong enqueued = new AtomicLong();
+    private final Object progress = new Object();
+    private long written;
+
+    /**
+     * Creates an {@link AsyncConsoleHandler} configured by the {@link LogManager} properties
+     */
+    public AsyncConsoleHandler() {
+        this(new ConsoleHandler(), intProperty("capacity", DEFAULT_CAPACITY));
+        setLevel(levelProperty("level", Level.ALL));
+        setFormatter(formatterProperty("formatter"));
+    }
+
+    /**
+     * Creates an {@link AsyncConsoleHandler} that writes to another handler
+     *
+     * @param console   the {@link Handler} the writer thread publishes to
+     * @param capacity  the records the buffer holds
+     */
+    AsyncConsoleHandler(Handler console, int capacity) {
+        this.console = console;
+        this.console.setLevel(Level.ALL);
+        this.buffer = new ArrayBlockingQueue<>(Math.max(capacity, 1));
+        this.writer = new Thread(this::write, "log-writer");
+        this.writer.setDaemon(true);
+        this.writer.start();
+    }
+
+    /**
+     * The formatter is used by the writer thread
+     */
+    @Override
+    public synchronized void setFormatter(Formatter formatter) {
+        super.setFormatter(formatter);
+        console.setFormatter(formatter);
+    }
+
+    /**
+     * Queues a record for the writer thread, or drops it if the buffer is full
+     */
+    @Override
+    public void publish(LogRecord record) {
+        if (closed || !isLoggable(record)) {
+            return;
+        }
+        if (buffer.offer(record)) {
+            enqueued.incrementAndGet();
+        }
+        else {
+            dropped.incrementAndGet();
+        }
+    }
+
+    /**
+     * Waits until the records queued before the call have been written, including one the writer thread is
+     * still writing, then flushes the console
+     */
+    @Override
+    public void flush() {
+        long target = enqueued.get();
+        long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(CLOSE_TIMEOUT_MILLIS);
+        synchronized (progress) {
+            while (written < target && writer.isAlive() && Thread.currentThread() != writer) {
+                long remaining = TimeUnit.NANOSECONDS.toMillis(deadline - System.nanoTime());
+                if (remaining <= 0) {
+                    break;
+                }
+                try {
+                    progress.wait(remaining);
+                }
+                catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    break;
+                }
+            }
+        }
+        console.flush();
+    }
+
+    /**
+     * Writes the queued records and stops the writer thread
+     */
+    @Override
+    public void close() {
+        closed = true;
+        writer.interrupt();
+        try {
+            writer.join(CLOSE_TIMEOUT_MILLIS);
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        console.close();
+    }
+
+    /**
+     * Returns the number of records dropped because the buffer was full
+     *
+     * @return long
+     */
+    public long getDroppedCount() {
+        return dropped.get();
+    }
+
+    /**
+     * The loop of the writer thread
+     */
+    private void write() {
+        while (!closed) {
+            try {
+                publishNow(buffer.take());
+            }
+            catch (InterruptedException e) {
+                // closed; the rest of the buffer is written below
+            }
+        }
+        for (LogRecord record = buffer.poll(); record != null; record = buffer.poll()) {
+            publishNow(record);
+        }
+        console.flush();
+    }
+
+    private void publishNow(LogRecord record) {
+        try {
+            publishToConsole(record);
+        }
+        finally {
+            synchronized (progress) {
+                written++;
+                progress.notifyAll();
+            }
+        }
+    }
+
+    private void publishToConsole(LogRecord record) {
+        try {
+            console.publish(record);
+            long lost = dropped.getAndSet(0);
+            if (lost > 0) {
+                LogRecord warning = new LogRecord(Level.WARNING, "{0} log records were dropped by a full buffer");
+                warning.setLoggerName(AsyncConsoleHandler.class.getName());
+                warning.setSourceClassName(AsyncConsoleHandler.class.getName());
+                warning.setParameters(new Object[] { lost });
+                console.publish(warning);
+            }
+        }
+        catch (RuntimeException e) {
+            reportError("The log writer could not write a record", e, ErrorManager.WRITE_FAILURE);
+        }
+    }
+
+    private static String property(String name) {
+        return LogManager.getLogManager().getProperty(AsyncConsoleHandler.class.getName() + "." + name);
+    }
+
+    private static int intProperty(String name, int defaultValue) {
+        String value = property(name);
+        try {
+            return value == null ? defaultValue : Integer.parseInt(value.trim());
+        }
+        catch (NumberFormatException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Level levelProperty(String name, Level defaultValue) {
+        String value = property(name);
+        try {
+            return value == null ? defaultValue : Level.parse(value.trim());
+        }
+        catch (IllegalArgumentException e) {
+            return defaultValue;
+        }
+    }
+
+    private static Formatter formatterProperty(String name) {
+        String value = property(name);
+        if (value != null) {
+            try {
+                return (Formatter) Class.forName(value.trim()).getDeclaredConstructor().newInstance();
+            }
+            catch (ReflectiveOperationException | ClassCastException e) {
+                // fall back to the default formatter
+            }
+        }
+        return new SimpleFormatter();
+    }
+}
@@ -0,0 +1,150 @@
+package com.webcheckers.util;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * A histogram of latencies, recorded in microseconds, that many threads can record into without locking.
+ *
+ * <p>
+ * Latencies below 64 microseconds are counted exactly. Above that, each power of two is split into 32 buckets,
+ * so a percentile read back is never more than about 3% above the latency recorded. Latencies of more than a
+ * day are counted as a day.
+ * </p>
+ */
+public class LatencyHistogram {
+
+    /**
+     * Constants
+     */
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKETS = 1 << SUB_BUCKET_BITS;
+    private static final int EXACT_BUCKETS = 2 * SUB_BUCKETS;
+    private static final long MAX_MICROS = TimeUnit.DAYS.toMicros(1);
+    private static final int BUCKETS = bucketOf(MAX_MICROS) + 1;
+
+    /**
+     * Attributes
+     */
+    private final AtomicLongArray counts = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sumMicros = new LongAdder();
+    private final AtomicLong maxMicros = new AtomicLong();
+
+    /**
+     * Records one latency
+     *
+     * @param nanos  the latency in nanoseconds
+     */
+    public void recordNanos(long nanos) {
+        long micros = Math.min(Math.max(TimeUnit.NANOSECONDS.toMicros(nanos), 0), MAX_MICROS);
+        counts.incrementAndGet(bucketOf(micros));
+        count.increment();
+        sumMicros.add(micros);
+        maxMicros.accumulateAndGet(micros, Math::max);
+    }
+
+    /**
+     * Returns the number of latencies recorded
+     *
+     * @return long
+     */
+    public long getCount() {
+        return count.sum();
+    }
+
+    /**
+     * Returns the sum of every latency recorded, in microseconds
+     *
+     * @return long
+     */
+    public long getSumMicros() {
+        return sumMicros.sum();
+    }
+
+    /**
+     * Returns the longest latency recorded, in microseconds
+     *
+     * @return long
+     */
+    public long getMaxMicros() {
+        return maxMicros.get();
+    }
+
+    /**
+     * Returns the latency that a percentage of the recorded latencies are at or below
+     *
+     * @param percentile  the percentage, from 0 to 100
+     * @return  the latency in microseconds, rounded up to the top of its bucket, or 0 if nothing was recorded
+     */
+    public long getPercentileMicros(double percentile) {
+        long total = 0;
+        long[] snapshot = new long[BUCKETS];
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            snapshot[bucket] = counts.get(bucket);
+            total += snapshot[bucket];
+        }
+        if (total == 0) {
+            return 0;
+        }
+
+        long rank = Math.max(1, (long) Math.ceil(total * Math.min(Math.max(percentile, 0), 100) / 100));
+        long seen = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            seen += snapshot[bucket];
+            if (seen >= rank) {
+                return Math.min(highestOf(bucket), getMaxMicros());
+            }
+        }
+        return getMaxMicros();
+    }
+
+    /**
+     * Returns how many latencies are at or below each of a list of bounds, read from one snapshot of the
+     * histogram. A latency within a bucket of a bound may be counted in the next bound.
+     *
+     * @param boundsMicros  the bounds in microseconds, in ascending order
+     * @return  the count at or below each bound, followed by the count of every latency
+     */
+    public long[] getCumulativeCounts(long[] boundsMicros) {
+        long[] cumulative = new long[boundsMicros.length + 1];
+        long seen = 0;
+        int bound = 0;
+        for (int bucket = 0; bucket < BUCKETS; bucket++) {
+            while (bound < boundsMicros.length && highestOf(bucket) > boundsMicros[bound]) {
+                cumulative[bound++] = seen;
+            }
+            seen += counts.get(bucket);
+        }
+        while (bound < boundsMicros.length) {
+            cumulative[bound++] = seen;
+        }
+        cumulative[boundsMicros.length] = seen;
+        return cumulative;
+    }
+
+    /**
+     * Returns the bucket a latency is counted in
+     */
+    private static int bucketOf(long micros) {
+        if (micros < EXACT_BUCKETS) {
+            return (int) micros;
+        }
+        int shift = 63 - Long.numberOfLeadingZeros(micros) - SUB_BUCKET_BITS;
+        return EXACT_BUCKETS + (shift - 1) * SUB_BUCKETS + (int) (micros >>> shift) - SUB_BUCKETS;
+    }
+
+    /**
+     * Returns the highest latency counted in a bucket
+     */
+    private static long highestOf(int bucket) {
+        if (bucket < EXACT_BUCKETS) {
+            return bucket;
+        }
+        int shift = (bucket - EXACT_BUCKETS) / SUB_BUCKETS + 1;
+        long lowest = (long) ((bucket - EXACT_BUCKETS) % SUB_BUCKETS + SUB_BUCKETS) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
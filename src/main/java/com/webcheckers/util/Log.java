@@ -0,0 +1,232 @@
+package com.webcheckers.util;
+
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+
+/**
+ * A {@link Logger} whose calls check the level before anything is built.
+ *
+ * <p>
+ * A message is a {@link java.text.MessageFormat} pattern, such as {@code "Signing out idle player {0}"}, and
+ * its parameters are passed as they are. Nothing is concatenated, formatted or allocated unless the level is
+ * logged, and the parameters are only formatted by the handler, which is off the request thread when the
+ * handler is the {@link AsyncConsoleHandler}. Calls take up to two parameters, so no varargs array is built
+ * for a level that is not logged.
+ * </p>
+ *
+ * <p>
+ * Every record names the logger as its source, so the {@link Logger} does not walk the stack to find the
+ * caller, which would only find this class.
+ * </p>
+ */
+public final class Log {
+
+    /**
+     * Attributes
+     */
+    private final Logger logger;
+    private final String name;
+
+    private Log(Logger logger) {
+        this.logger = logger;
+        this.name = logger.getName();
+    }
+
+    /**
+     * Returns the log of a class, writing to the {@link Logger} named after it
+     *
+     * @param type  the class that logs
+     * @return {@link Log}
+     */
+    public static Log getLog(Class<?> type) {
+        return new Log(Logger.getLogger(type.getName()));
+    }
+
+    /**
+     * Checks if a level is logged, for a caller that has more to do than build the message
+     *
+     * @param level  the {@link Level}
+     * @return boolean
+     */
+    public boolean isLoggable(Level level) {
+        return logger.isLoggable(level);
+    }
+
+    /**
+     * Logs a message at SEVERE
+     */
+    public void severe(String message) {
+        log(Level.SEVERE, message);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at SEVERE
+     */
+    public void severe(String pattern, Object param) {
+        log(Level.SEVERE, pattern, param);
+    }
+
+    /**
+     * Logs a message at WARNING
+     */
+    public void warning(String message) {
+        log(Level.WARNING, message);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at WARNING
+     */
+    public void warning(String pattern, Object param) {
+        log(Level.WARNING, pattern, param);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at WARNING
+     */
+    public void warning(String pattern, Object param1, Object param2) {
+        log(Level.WARNING, pattern, param1, param2);
+    }
+
+    /**
+     * Logs a message at INFO
+     */
+    public void info(String message) {
+        log(Level.INFO, message);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at INFO
+     */
+    public void info(String pattern, Object param) {
+        log(Level.INFO, pattern, param);
+    }
+
+    /**
+     * Logs a message at CONFIG
+     */
+    public void config(String message) {
+        log(Level.CONFIG, message);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at CONFIG
+     */
+    public void config(String pattern, Object param) {
+        log(Level.CONFIG, pattern, param);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at CONFIG
+     */
+    public void config(String pattern, Object param1, Object param2) {
+        log(Level.CONFIG, pattern, param1, param2);
+    }
+
+    /**
+     * Logs a message at FINE
+     */
+    public void fine(String message) {
+        log(Level.FINE, message);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at FINE
+     */
+    public void fine(String pattern, Object param) {
+        log(Level.FINE, pattern, param);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at FINE
+     */
+    public void fine(String pattern, Object param1, Object param2) {
+        log(Level.FINE, pattern, param1, param2);
+    }
+
+    /**
+     * Logs a message at FINER
+     */
+    public void finer(String message) {
+        log(Level.FINER, message);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at FINER
+     */
+    public void finer(String pattern, Object param) {
+        log(Level.FINER, pattern, param);
+    }
+
+    /**
+     * Logs a message at FINEST
+     */
+    public void finest(String message) {
+        log(Level.FINEST, message);
+    }
+
+    /**
+     * Logs a message pattern and its parameters at FINEST
+     */
+    public void finest(String pattern, Object param) {
+        log(Level.FINEST, pattern, param);
+    }
+
+    /**
+     * Logs a message
+     *
+     * @param level    the {@link Level} of the message
+     * @param message  the message, which is not a pattern
+     */
+    public void log(Level level, String message) {
+        if (logger.isLoggable(level)) {
+            logger.logp(level, name, null, message);
+        }
+    }
+
+    /**
+     * Logs a message with one parameter
+     *
+     * @param level    the {@link Level} of the message
+     * @param pattern  the {@link java.text.MessageFormat} pattern of the message
+     * @param param    the parameter {@code {0}}
+     */
+    public void log(Level level, String pattern, Object param) {
+        if (logger.isLoggable(level)) {
+            logger.logp(level, name, null, pattern, param);
+        }
+    }
+
+    /**
+     * Logs a message with two parameters
+     *
+     * @param level    the {@link Level} of the message
+     * @param pattern  the {@link java.text.MessageFormat} pattern of the message
+     * @param param1   the parameter {@code {0}}
+     * @param param2   the parameter {@code {1}}
+     */
+    public void log(Level level, String pattern, Object param1, Object param2) {
+        if (logger.isLoggable(level)) {
+            logger.logp(level, name, null, pattern, new Object[] { param1, param2 });
+        }
+    }
+
+    /**
+     * Logs a message with one parameter and the {@link Throwable} that caused it
+     *
+     * @param level    the {@link Level} of the message
+     * @param thrown   the {@link Throwable} to log with the message
+     * @param pattern  the {@link java.text.MessageFormat} pattern of the message
+     * @param param    the parameter {@code {0}}
+     */
+    public void log(Level level, Throwable thrown, String pattern, Object param) {
+        if (logger.isLoggable(level)) {
+            LogRecord record = new LogRecord(level, pattern);
+            record.setLoggerName(name);
+            record.setSourceClassName(name);
+            record.setParameters(new Object[] { param });
+            record.setThrown(thrown);
+            logger.log(record);
+        }
+    }
+}
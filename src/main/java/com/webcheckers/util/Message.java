@@ -2,7 +2,7 @@ package com.webcheckers.util;
 
 import com.google.gson.Gson;
 
-import java.util.logging.Logger;
+import java.nio.charset.StandardCharsets;
 
 /**
  * A UI-friendly representation of a message to the user.
@@ -16,7 +16,19 @@ import java.util.logging.Logger;
  * @author <a href='mailto:bdbvse@rit.edu'>Bryan Basham</a>
  */
 public final class Message {
-  private static final Logger LOG = Logger.getLogger(Message.class.getName());
+  private static final Log LOG = Log.getLog(Message.class);
+
+  /** Gson is thread-safe, so every message is written by the same instance. */
+  private static final Gson GSON = new Gson();
+
+  /** The end of the JSON of a message of each {@link Type}, by ordinal. */
+  private static final Type[] TYPES = Type.values();
+  private static final byte[][] TYPE_SUFFIXES = new byte[TYPES.length][];
+  static {
+    for (Type type : TYPES) {
+      TYPE_SUFFIXES[type.ordinal()] = ("\"type\":\"" + type + "\"}").getBytes(StandardCharsets.UTF_8);
+    }
+  }
 
   //
   // Static Factory methods
@@ -62,6 +74,11 @@ public final class Message {
   private final String text;
   private final Type type;
 
+  // The JSON of the message, written the first time it is asked for. A message never changes, so
+  // constant messages are only ever serialized once. Gson skips transient fields.
+  private transient volatile String json;
+  private transient volatile byte[] jsonBytes;
+
   //
   // Constructor
   //
@@ -76,7 +93,7 @@ public final class Message {
     // This was changed from private to public
     this.text = message;
     this.type = type;
-    LOG.finer(this + " created.");
+    LOG.finer("{0} created.", this);
   }
 
   //
@@ -136,13 +153,63 @@ public final class Message {
     return this.getText().equals(message.getText()) && this.getType().equals(message.getType());
   }
 
+  /**
+   * Get the {@link Type} of a message from its JSON, as written by {@link #toJsonBytes()}, without parsing it.
+   * The type is the last field written, and a quote in the text is always escaped, so only the type field can
+   * end the JSON.
+   *
+   * @param json  the UTF-8 JSON of a message
+   *
+   * @return the {@link Type}, or null if the bytes are not the JSON of a message
+   */
+  public static Type typeOfJson(final byte[] json) {
+    for (Type type : TYPES) {
+      if (endsWith(json, TYPE_SUFFIXES[type.ordinal()])) {
+        return type;
+      }
+    }
+    return null;
+  }
+
+  private static boolean endsWith(final byte[] bytes, final byte[] suffix) {
+    if (bytes.length < suffix.length) {
+      return false;
+    }
+    for (int i = 1; i <= suffix.length; i++) {
+      if (bytes[bytes.length - i] != suffix[suffix.length - i]) {
+        return false;
+      }
+    }
+    return true;
+  }
+
   /**
    * toJson method
    * This method is used to construct a Json string
    * @return string construct of the Json
    */
   public String toJson() {
-    return (new Gson()).toJson(this);
+    String result = json;
+    if (result == null) {
+      result = GSON.toJson(this);
+      json = result;
+    }
+    return result;
+  }
+
+  /**
+   * Get the JSON of the message encoded as UTF-8, ready to be written to a response.
+   * The array is shared by every caller, so it must not be changed.
+   *
+   * @return the UTF-8 bytes of {@link #toJson()}
+   */
+  public byte[] toJsonBytes() {
+    byte[] result = jsonBytes;
+    if (result == null) {
+      result = toJson().getBytes(StandardCharsets.UTF_8);
+      jsonBytes = result;
+    }
+    return result;
   }
 
   @Override
@@ -18,6 +18,7 @@
     const GameState = require('./model/GameState');
     const GameView = require('./GameView');
     const AjaxUtils = require('./util/AjaxUtils');
+    const GameSocket = require('./util/GameSocket');
 
     // Perform startup after the DOM has been built
     $(document).ready(function () {
@@ -36,6 +37,11 @@
       // Initialize AjaxUtils
       AjaxUtils.setGameState(gameState);
 
+      // Players send their moves over the game socket when it can be opened
+      if (gameState.getViewMode() === 'PLAY') {
+        GameSocket.open();
+      }
+
       // Create the Game View component
       const view = new GameView(gameState);
       // create a globally-accessible variable for debugging purposes
@@ -43,7 +49,7 @@
 
       // Create unload handler
       window.addEventListener('beforeunload', function (event) {
-        if (!view.canDeactivate()) {
+        if (!GameSocket.isReloading() && !view.canDeactivate()) {
           // Cancel the event as stated by the standard.
           event.preventDefault();
           return event.returnValue =
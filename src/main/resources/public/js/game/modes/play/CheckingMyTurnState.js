@@ -12,6 +12,12 @@ define(function (require) {
   // imports
   const PlayModeConstants = require('./PlayModeConstants');
   const AjaxUtils = require('../../util/AjaxUtils');
+  const GameEventSource = require('../../util/GameEventSource');
+
+  /**
+   * The long-poll query, which asks the server to hold the check until the turn changes.
+   */
+  const LONG_POLL_QUERY = '?wait=true';
 
   /**
    * Constructor function.
@@ -41,7 +47,9 @@ define(function (require) {
   CheckingMyTurnState.prototype.onEntry = function onEntry() {
     this._controller.disableButton(PlayModeConstants.RESIGN_BUTTON_ID);
     // query the server if it's my turn
-    AjaxUtils.callServer('/checkTurn',
+    // without pushed updates the server holds the check until the turn changes
+    const query = GameEventSource.isPushing() ? '' : LONG_POLL_QUERY;
+    AjaxUtils.callServer('/checkTurn' + query,
         // the handler method should be run in the context of 'this' State object
         handleResponse, this);
   };
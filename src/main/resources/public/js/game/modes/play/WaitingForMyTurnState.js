@@ -3,14 +3,21 @@
  *
  * This component is an concrete implementation of a state
  * for the Game view; this state represents the state in which
- * the view is waiting between calls to the server to check whether
- * it's the current player's turn.
+ * the view is waiting for the server to push a change to the game,
+ * or between calls to the server to check whether it's the current
+ * player's turn when the event stream is not available.
  */
 define(function(require){
     'use strict';
 
     // imports
     const PlayModeConstants = require('./PlayModeConstants');
+    const GameEventSource = require('../../util/GameEventSource');
+
+    /**
+     * The pause before the next long poll, so a failing server is not called in a tight loop.
+     */
+    const LONG_POLL_DELAY = 1000;
 
     /**
      * Constructor function.
@@ -39,8 +46,12 @@ define(function(require){
      */
     WaitingForMyTurnState.prototype.onEntry = function onEntry() {
         this._controller.enableButton(PlayModeConstants.RESIGN_BUTTON_ID);
-        // wait five seconds then check my turn
-        setTimeout(() => { this._controller.setState(PlayModeConstants.CHECKING_MY_TURN); }, 5000);
+        const checkMyTurn = () => { this._controller.setState(PlayModeConstants.CHECKING_MY_TURN); };
+        // check my turn when the server pushes a change to the game
+        if (!GameEventSource.waitForUpdate(checkMyTurn)) {
+            // otherwise check my turn with a long poll, which the server holds until the turn changes
+            setTimeout(checkMyTurn, LONG_POLL_DELAY);
+        }
     }
 
     // export class constructor
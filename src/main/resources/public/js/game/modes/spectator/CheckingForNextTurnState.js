@@ -12,6 +12,12 @@ define(function(require){
   // imports
   const SpectatorModeConstants = require('./SpectatorModeConstants');
   const AjaxUtils = require('../../util/AjaxUtils');
+  const GameEventSource = require('../../util/GameEventSource');
+
+  /**
+   * The long-poll query, which asks the server to hold the check until the turn changes.
+   */
+  const LONG_POLL_QUERY = '?wait=true';
 
   /**
    * Constructor function.
@@ -40,7 +46,9 @@ define(function(require){
    */
   CheckingForNextTurnState.prototype.onEntry = function onEntry() {
     // query the server if the next turn has been played
-    AjaxUtils.callServer('/spectator/checkTurn',
+    // without pushed updates the server holds the check until the turn changes
+    const query = GameEventSource.isPushing() ? '' : LONG_POLL_QUERY;
+    AjaxUtils.callServer('/spectator/checkTurn' + query,
         // the handler method should be run in the context of 'this' State object
         handleResponse, this);
   };
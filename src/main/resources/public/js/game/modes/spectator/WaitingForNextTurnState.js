@@ -3,14 +3,21 @@
  * 
  * This component is an concrete implementation of a state
  * for the Game view; this state represents the state in which
- * the view is waiting between calls to the server to check whether
- * the next turn has been made in the game being spectated.
+ * the view is waiting for the server to push a change to the game
+ * being spectated, or between calls to the server to check whether the
+ * next turn has been made when the event stream is not available.
  */
 define(function(require){
   'use strict';
 
   // imports
   const SpectatorModeConstants = require('./SpectatorModeConstants');
+  const GameEventSource = require('../../util/GameEventSource');
+
+  /**
+   * The pause before the next long poll, so a failing server is not called in a tight loop.
+   */
+  const LONG_POLL_DELAY = 1000;
 
   /**
    * Constructor function.
@@ -41,8 +48,11 @@ define(function(require){
    * Method when entering this state.
    */
   WaitingForNextTurnState.prototype.onEntry = function onEntry() {
-    // wait five seconds then check my turn
-    setTimeout(this._checkNextTurn, 5000);
+    // check the next turn when the server pushes a change to the game
+    if (!GameEventSource.waitForUpdate(this._checkNextTurn)) {
+      // otherwise check the next turn with a long poll, which the server holds until the turn changes
+      setTimeout(this._checkNextTurn, LONG_POLL_DELAY);
+    }
   };
 
   // export class constructor
@@ -6,6 +6,7 @@ define(function (require) {
 
   // imports
   const LangUtils = require('./LangUtils');
+  const GameSocket = require('./GameSocket');
 
   /**
    * Utility object with methods for invoking Ajax calls to the server.
@@ -51,8 +52,11 @@ define(function (require) {
      * @param callbackContext  the object context within which the callback is executed (the 'this' object)
      */
     callServer: function (actionURL, callback, callbackContext) {
-      // send the HTTP request and immediately return; the callback will be invoked asynchronously
-      jQuery.ajax(makeAjaxOptionsWithNoData(actionURL, callback, callbackContext));
+      // use the game socket when it is open
+      if (!GameSocket.send(actionURL, undefined, callback, callbackContext)) {
+        // send the HTTP request and immediately return; the callback will be invoked asynchronously
+        jQuery.ajax(makeAjaxOptionsWithNoData(actionURL, callback, callbackContext));
+      }
     },
 
     /**
@@ -71,8 +75,11 @@ define(function (require) {
      * @param callbackContext  the object context within which the callback is executed (the 'this' object)
      */
     callServerWithData: function (actionURL, actionData, callback, callbackContext) {
-      // send the HTTP request and immediately return; the callback will be invoked asynchronously
-      jQuery.ajax(makeAjaxOptionsWithActionData(actionURL, actionData, callback, callbackContext));
+      // use the game socket when it is open
+      if (!GameSocket.send(actionURL, convertActionData(actionData), callback, callbackContext)) {
+        // send the HTTP request and immediately return; the callback will be invoked asynchronously
+        jQuery.ajax(makeAjaxOptionsWithActionData(actionURL, actionData, callback, callbackContext));
+      }
     }
   };
 
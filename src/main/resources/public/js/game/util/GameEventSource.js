@@ -0,0 +1,143 @@
+/**
+ * This module exports a map of functions for following the Server-Sent Events
+ * stream of the current game.
+ *
+ * <p>
+ *   The server pushes a 'turn' event when the turn changes, a 'board' event when
+ *   a turn is committed, and an 'end' event when the game ends.  The waiting
+ *   states register a one-shot callback that is run on the next event, instead
+ *   of polling the server every few seconds.  When the browser cannot keep a
+ *   stream open, the callback is run once and the states go back to polling.
+ *   While the game socket is open its events are used instead of the stream.
+ * </p>
+ */
+define(function (require) {
+  'use strict';
+
+  // imports
+  const LangUtils = require('./LangUtils');
+  const GameSocket = require('./GameSocket');
+
+  /**
+   * The URL of the event stream of the current game.
+   */
+  const GAME_EVENTS_URL = '/game/events';
+
+  /**
+   * Utility object that owns the one event stream of the page.
+   */
+  const GameEventSource = {
+
+    /**
+     * The open EventSource, or null before the first call to waitForUpdate.
+     */
+    _source: null,
+
+    /**
+     * Whether the stream failed, which means the page must poll instead.
+     */
+    _failed: false,
+
+    /**
+     * Whether an update arrived while no callback was waiting for one.
+     */
+    _missedUpdate: false,
+
+    /**
+     * The one-shot callback waiting for the next update.
+     */
+    _callback: null,
+
+    /**
+     * Whether updates of the game are pushed by the server.  When they are
+     * not, the checks of the waiting states should long-poll instead.
+     *
+     * @return {boolean}
+     */
+    isPushing: function () {
+      return GameSocket.isOpen() || (!GameEventSource._failed && !!window.EventSource);
+    },
+
+    /**
+     * Run a callback once on the next update of the game.
+     *
+     * @param callback  the function to run when the game changes
+     * @return {boolean}  true if an update will be pushed, or false if the caller must poll
+     */
+    waitForUpdate: function (callback) {
+      if (GameSocket.isOpen()) {
+        GameEventSource._callback = callback;
+        if (GameEventSource._missedUpdate) {
+          setTimeout(notify, 0);
+        }
+        return true;
+      }
+      if (GameEventSource._failed || !window.EventSource) {
+        return false;
+      }
+      if (GameEventSource._source === null) {
+        openSource();
+      }
+      GameEventSource._callback = callback;
+      // an update may have arrived while the caller was busy checking the server
+      if (GameEventSource._missedUpdate) {
+        setTimeout(notify, 0);
+      }
+      return true;
+    }
+  };
+
+  //
+  // Private functions
+  //
+
+  /**
+   * Open the event stream and listen for every kind of update.
+   */
+  function openSource() {
+    const source = new EventSource(GAME_EVENTS_URL);
+    GameEventSource._source = source;
+
+    source.addEventListener('turn', notify);
+    source.addEventListener('board', notify);
+    source.addEventListener('end', function () {
+      // the game is over, so there is nothing left to stream
+      source.close();
+      notify();
+    });
+    // check once the stream is open, in case the turn changed before it was
+    source.addEventListener('open', notify);
+    source.addEventListener('error', function () {
+      if (source.readyState === EventSource.CLOSED) {
+        console.info('Game event stream closed; falling back to polling.');
+        GameEventSource._failed = true;
+        notify();
+      }
+    });
+  }
+
+  // the socket pushes the same events; once it is open the stream is not needed
+  GameSocket.setEventHandler(function (name) {
+    if (name === 'open' && GameEventSource._source !== null) {
+      GameEventSource._source.close();
+      GameEventSource._source = null;
+    }
+    notify();
+  });
+
+  /**
+   * Run the waiting callback, or remember the update if nothing is waiting.
+   */
+  function notify() {
+    const callback = GameEventSource._callback;
+    if (LangUtils.exists(callback)) {
+      GameEventSource._callback = null;
+      GameEventSource._missedUpdate = false;
+      callback();
+    } else {
+      GameEventSource._missedUpdate = true;
+    }
+  }
+
+  return GameEventSource;
+});
@@ -0,0 +1,203 @@
+/**
+ * This module exports a map of functions for the WebSocket of the current game.
+ *
+ * <p>
+ *   While the socket is open the move actions of the player are sent over it
+ *   instead of one Ajax call each, and the server pushes the same 'turn',
+ *   'board' and 'end' events as the Server-Sent Events stream.  Every request
+ *   frame carries an id that the server echoes back with its Message.  When the
+ *   socket cannot be opened, or closes, the actions go back to Ajax.
+ * </p>
+ * <p>
+ *   An action still waiting for its answer when the socket closes is not sent
+ *   again, because the server may already have run it and moves are not safe
+ *   to run twice.  The page is reloaded instead, which shows the state of the
+ *   server and starts the turn over.
+ * </p>
+ */
+define(function (require) {
+  'use strict';
+
+  // imports
+  const LangUtils = require('./LangUtils');
+
+  /**
+   * The URL that issues the ticket the socket is opened with.
+   */
+  const SOCKET_TICKET_URL = '/game/socketTicket';
+
+  /**
+   * The path of the game socket.
+   */
+  const GAME_SOCKET_PATH = '/game/socket';
+
+  /**
+   * The socket action of each Ajax URL that may be sent over the socket.
+   */
+  const ACTIONS = {
+    '/validateMove': 'validateMove',
+    '/backupMove': 'backupMove',
+    '/submitTurn': 'submitTurn',
+    '/resignGame': 'resignGame'
+  };
+
+  /**
+   * Utility object that owns the one game socket of the page.
+   */
+  const GameSocket = {
+
+    /**
+     * The WebSocket, or null when it is not open.
+     */
+    _socket: null,
+
+    /**
+     * The id of the last request frame.
+     */
+    _lastID: 0,
+
+    /**
+     * The requests waiting for their answer, by id.
+     */
+    _pending: {},
+
+    /**
+     * The function run with the name of each pushed event.
+     */
+    _eventHandler: null,
+
+    /**
+     * Whether the page is being reloaded because actions were lost with the socket.
+     */
+    _reloading: false,
+
+    /**
+     * Open the socket of the current game.  This should only be called once
+     * by a player of the game.  See main.js
+     */
+    open: function () {
+      if (!window.WebSocket) {
+        return;
+      }
+      jQuery.post(SOCKET_TICKET_URL, {}, function (message) {
+        if (message.type !== 'INFO') {
+          console.info('Game socket not available: ' + message.text);
+          return;
+        }
+        openSocket(message.text);
+      }, 'json');
+    },
+
+    /**
+     * Whether the socket is open.
+     *
+     * @return {boolean}
+     */
+    isOpen: function () {
+      return GameSocket._socket !== null && GameSocket._socket.readyState === WebSocket.OPEN;
+    },
+
+    /**
+     * Whether the page is being reloaded because actions were lost with the
+     * socket, so leaving it mid-turn needs no confirmation.
+     *
+     * @return {boolean}
+     */
+    isReloading: function () {
+      return GameSocket._reloading;
+    },
+
+    /**
+     * Set the function run with the name of each pushed event, and with
+     * 'open' and 'close' when the socket opens or closes.
+     *
+     * @param eventHandler  the function to run
+     */
+    setEventHandler: function (eventHandler) {
+      GameSocket._eventHandler = eventHandler;
+    },
+
+    /**
+     * Send an action over the socket.
+     *
+     * @param actionURL  the Ajax URL of the action
+     * @param actionData  the action data as a string, or undefined
+     * @param callback  the developer's handler for the Message answering the action
+     * @param callbackContext  the object context within which the callback is executed (the 'this' object)
+     * @return {boolean}  true if the action was sent, or false if the caller must use Ajax
+     */
+    send: function (actionURL, actionData, callback, callbackContext) {
+      const action = ACTIONS[actionURL];
+      if (!LangUtils.exists(action) || !GameSocket.isOpen()) {
+        return false;
+      }
+      const id = ++GameSocket._lastID;
+      GameSocket._pending[id] = { callback: callback.bind(callbackContext) };
+      GameSocket._socket.send(JSON.stringify({ id: id, action: action, actionData: actionData }));
+      console.debug(`${action} #${id} sent over the game socket.`);
+      return true;
+    }
+  };
+
+  //
+  // Private functions
+  //
+
+  /**
+   * Open the socket with a ticket from the server.
+   *
+   * @param ticket  the one-time ticket
+   */
+  function openSocket(ticket) {
+    const scheme = (window.location.protocol === 'https:') ? 'wss:' : 'ws:';
+    const socket = new WebSocket(
+        `${scheme}//${window.location.host}${GAME_SOCKET_PATH}?ticket=${encodeURIComponent(ticket)}`);
+    GameSocket._socket = socket;
+
+    socket.addEventListener('open', function () {
+      notifyEvent('open');
+    });
+    socket.addEventListener('message', function (event) {
+      const frame = JSON.parse(event.data);
+      if (LangUtils.exists(frame.event)) {
+        notifyEvent(frame.event);
+        return;
+      }
+      const request = GameSocket._pending[frame.id];
+      if (LangUtils.exists(request)) {
+        delete GameSocket._pending[frame.id];
+        request.callback(frame.message);
+      } else {
+        console.warn('Game socket error: ' + frame.message.text);
+      }
+    });
+    socket.addEventListener('close', function () {
+      console.info('Game socket closed; falling back to Ajax.');
+      GameSocket._socket = null;
+      const lost = Object.keys(GameSocket._pending).length;
+      GameSocket._pending = {};
+      if (lost > 0) {
+        // the server may or may not have run the waiting actions, so the page
+        // is reloaded with the state of the server instead of sending them again
+        console.warn(`${lost} game socket action(s) lost; reloading the game.`);
+        GameSocket._reloading = true;
+        window.location.reload();
+        return;
+      }
+      notifyEvent('close');
+    });
+  }
+
+  /**
+   * Run the event handler with the name of an event.
+   *
+   * @param name  the name of the event
+   */
+  function notifyEvent(name) {
+    if (LangUtils.exists(GameSocket._eventHandler)) {
+      GameSocket._eventHandler(name);
+    }
+  }
+
+  return GameSocket;
+});
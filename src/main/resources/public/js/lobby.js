@@ -0,0 +1,145 @@
+/**
+ * The script of the Home page lobby.
+ *
+ * <p>
+ *   The page is rendered with the first page of each player list.  The
+ *   'More players' buttons fetch the next page from the lobby players API, and
+ *   the search box fetches the first page of the names that start with what was
+ *   typed.  The page reloads itself every few seconds, like the refresh of the
+ *   page without scripts, but not while a search or extra pages are shown.
+ * </p>
+ */
+(function () {
+  'use strict';
+
+  /**
+   * The URL of the lobby players API.
+   */
+  const LOBBY_PLAYERS_URL = '/lobby/players';
+
+  /**
+   * The number of players fetched at a time.
+   */
+  const PAGE_SIZE = 20;
+
+  /**
+   * How long the page waits before reloading itself.
+   */
+  const REFRESH_DELAY = 10000;
+
+  /**
+   * How long the search waits for the typing to stop.
+   */
+  const SEARCH_DELAY = 250;
+
+  const lists = document.querySelector('.lists');
+  if (lists === null) {
+    // the player is not signed in
+    return;
+  }
+  const currentUser = lists.dataset.currentUser;
+  const search = document.getElementById('playerSearch');
+
+  let refreshTimer = null;
+  let searchTimer = null;
+  let browsing = false;
+
+  /**
+   * Reloads the page after a while, unless the player is browsing the lists.
+   */
+  function scheduleRefresh() {
+    clearTimeout(refreshTimer);
+    if (!browsing) {
+      refreshTimer = setTimeout(function () { window.location.reload(); }, REFRESH_DELAY);
+    }
+  }
+
+  /**
+   * Builds the form that starts or spectates a game with a player.
+   */
+  function playerForm(action, name) {
+    const form = document.createElement('form');
+    form.action = action;
+    form.method = 'POST';
+    form.dataset.player = name;
+
+    const input = document.createElement('input');
+    input.type = 'hidden';
+    input.name = 'otherUser';
+    input.value = name;
+
+    const button = document.createElement('button');
+    button.type = 'submit';
+    button.textContent = name;
+
+    form.appendChild(input);
+    form.appendChild(button);
+    return form;
+  }
+
+  /**
+   * Fetches one page of a player list and shows it.
+   *
+   * @param section  the element holding the list, its empty notice and its button
+   * @param cursor   the name the page starts after, or null for the first page
+   */
+  function loadPage(section, cursor) {
+    const list = section.querySelector('.playerList');
+    const more = section.querySelector('.morePlayers');
+    const empty = section.querySelector('.emptyList');
+
+    const params = new URLSearchParams({
+      status: list.dataset.status,
+      prefix: search.value.trim(),
+      limit: PAGE_SIZE
+    });
+    if (cursor) {
+      params.set('cursor', cursor);
+    }
+
+    fetch(LOBBY_PLAYERS_URL + '?' + params, { credentials: 'same-origin' })
+      .then(function (response) {
+        if (!response.ok) {
+          throw new Error('The lobby answered ' + response.status);
+        }
+        return response.json();
+      })
+      .then(function (page) {
+        if (!cursor) {
+          list.innerHTML = '';
+        }
+        page.players.forEach(function (name) {
+          if (name !== currentUser) {
+            list.appendChild(playerForm(list.dataset.action, name));
+          }
+        });
+        empty.hidden = list.children.length !== 0;
+        more.dataset.cursor = page.nextCursor || '';
+        more.hidden = !page.nextCursor;
+      })
+      .catch(function (error) {
+        console.error(error);
+      });
+  }
+
+  lists.querySelectorAll('.morePlayers').forEach(function (more) {
+    more.addEventListener('click', function () {
+      browsing = true;
+      scheduleRefresh();
+      loadPage(more.parentElement, more.dataset.cursor);
+    });
+  });
+
+  search.addEventListener('input', function () {
+    browsing = search.value.trim() !== '';
+    scheduleRefresh();
+    clearTimeout(searchTimer);
+    searchTimer = setTimeout(function () {
+      lists.querySelectorAll('.playerList').forEach(function (list) {
+        loadPage(list.parentElement, null);
+      });
+    }, SEARCH_DELAY);
+  });
+
+  scheduleRefresh();
+})();
@@ -59,29 +59,7 @@
         </div>
   
         <div class="game-board">
-          <table id="game-board">
-            <tbody>
-            <#list board.iterator() as row>
-              <tr data-row="${row.index}">
-              <#list row.iterator() as space>
-                <td data-cell="${space.cellIdx}"
-                    <#if space.isValid() >
-                    class="Space"
-                    </#if>
-                    >
-                <#if space.piece??>
-                  <div class="Piece"
-                       id="piece-${row.index}-${space.cellIdx}"
-                       data-type="${space.piece.type}"
-                       data-color="${space.piece.color}">
-                  </div>
-                </#if>
-                </td>
-              </#list>
-              </tr>
-            </#list>
-            </tbody>
-          </table>
+          ${boardHtml!}
         </div>
       </div>
 
@@ -1,7 +1,7 @@
 <!DOCTYPE html>
 <head>
   <meta http-equiv="Content-Type" content="text/html; charset=UTF-8"></meta>
-  <meta http-equiv="refresh" content="10">
+  <noscript><meta http-equiv="refresh" content="10"></noscript>
   <title>Web Checkers | ${title}</title>
   <link rel="stylesheet" type="text/css" href="/css/style.css">
 </head>
@@ -26,38 +26,29 @@
       <!-- <input type="checkbox", id=isSpectator, name="spectatorBox", value="True">
       <label for "spectatorBox">Join as Spectator</label> <br> -->
 
-      <div class="lists">
+      <form action="/startBotGame" method="POST">
+        <button type="submit">Play the computer</button>
+      </form>
+
+      <label for="playerSearch">Find players:</label>
+      <input type="search" id="playerSearch" placeholder="Name starts with..." autocomplete="off" />
+
+      <div class="lists" data-current-user="${currentUser.name}">
         <div id="players">
           <h3>Challenge Players:</h3>
-          <#if availablePlayers?size - 1 == 0>
-            <div>There are no available players :(</div>
-          </#if>
-
-          <#list availablePlayers as player>
-            <#if !(player == currentUser)>
-              <form action="./startGame" method="POST">
-                <input type="hidden" name="otherUser" value="${player.name}" />
-                <button type="submit"> ${player.name} </button>
-              </form>
-            </#if>
-          </#list>
+          <div class="emptyList" <#if otherAvailableCount != 0>hidden</#if>>There are no available players :(</div>
+          ${availablePlayersList!}
         </div>
 
         <div id="games">
           <h3>Spectate Players:</h3>
-          <#if playersInGame?size== 0>
-            <div>There are no players to spectate :(</div>
-          </#if>
-
-          <#list playersInGame as playerBeingSpectated>
-            <form action="/spectator/game" method="POST">
-              <input type="hidden" name="otherUser" value="${playerBeingSpectated.name}" />
-              <button type = "submit">${playerBeingSpectated.name}</button>
-            </form>
-          </#list>
+          <div class="emptyList" <#if playersInGameCount != 0>hidden</#if>>There are no players to spectate :(</div>
+          ${playersInGameList!}
         </div>
       </div>
 
+      <script src="/js/lobby.js"></script>
+
     <#else>
       <h2> There are currently ${playersOnline} online. Sign in to play a match!</h2>
 
@@ -0,0 +1,9 @@
+<div class="playerList" data-status="${status}" data-action="${action}">
+  <#list players as player>
+    <form action="${action}" method="POST" data-player="${player.name}">
+      <input type="hidden" name="otherUser" value="${player.name}" />
+      <button type="submit">${player.name}</button>
+    </form>
+  </#list>
+</div>
+<button type="button" class="morePlayers" data-cursor="${cursor!}" <#if !cursor??>hidden</#if>>More players</button>
@@ -0,0 +1,540 @@
+package com.webcheckers;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.BitBoard;
+import com.webcheckers.model.LegalMoves;
+import com.webcheckers.model.Piece;
+import com.webcheckers.ui.WebServer;
+import com.webcheckers.util.LatencyHistogram;
+import com.webcheckers.util.Message;
+import spark.Spark;
+import spark.template.freemarker.FreeMarkerEngine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.UnsupportedEncodingException;
+import java.net.HttpURLConnection;
+import java.net.URL;
+import java.net.URLEncoder;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Load driver: starts the server on a local port and plays many games on it at once through its HTTP routes,
+ * then reports the throughput, latency percentiles and error rate of every route.
+ *
+ * <p>
+ * Run it with {@code mvn test-compile exec:java@load}, and pass its settings as {@code name=value} pairs, for
+ * example {@code -Dexec.args="games=2000 spectators=1 seconds=120 think=500"}:
+ * </p>
+ * <ul>
+ *     <li>{@code games}: the games played at once; each has its own two players</li>
+ *     <li>{@code spectators}: the spectators watching each game</li>
+ *     <li>{@code seconds}: how long the load runs</li>
+ *     <li>{@code think}: the average milliseconds between two turns of a game</li>
+ *     <li>{@code maxTurns}: the turns after which a game is resigned, so drawn games end</li>
+ *     <li>{@code threads}: the client threads sending requests</li>
+ *     <li>{@code port}: the port the server listens on</li>
+ * </ul>
+ *
+ * <p>
+ * Every synthetic user signs in through {@code /signin} and keeps its own session cookie. The red player of
+ * each game starts it through {@code /startGame}, both players open {@code /game}, and the spectators start
+ * watching through {@code /spectator/game}. Every turn, the player to move checks it is their turn through
+ * {@code /checkTurn}, makes a random legal turn step by step through {@code /validateMove} and submits it
+ * through {@code /submitTurn}, and the spectators check for the new turn. The driver keeps its own copy of
+ * every board, so it only plays legal turns, and any answer other than the expected one is an error. A game
+ * with an error is resigned and a new one started. Finished games are followed by new games between the same
+ * players until the time is up.
+ * </p>
+ */
+public class LoadDriver {
+
+    private static final Gson GSON = new Gson();
+    private static final double[] PERCENTILES = { 50, 99, 99.9 };
+
+    /**
+     * Settings
+     */
+    private final int games;
+    private final int spectators;
+    private final long seconds;
+    private final long thinkMillis;
+    private final int maxTurns;
+    private final int threads;
+    private final String baseUrl;
+
+    /**
+     * Results
+     */
+    private final Map<String, RouteStats> routes = new ConcurrentHashMap<>();
+    private final LongAdder gamesFinished = new LongAdder();
+    private final LongAdder gamesFailed = new LongAdder();
+    private final LongAdder turns = new LongAdder();
+
+    private ScheduledThreadPoolExecutor clients;
+    private volatile boolean running = true;
+
+    private LoadDriver(Map<String, String> settings) {
+        this.games = Integer.parseInt(settings.getOrDefault("games", "100"));
+        this.spectators = Integer.parseInt(settings.getOrDefault("spectators", "1"));
+        this.seconds = Long.parseLong(settings.getOrDefault("seconds", "60"));
+        this.thinkMillis = Long.parseLong(settings.getOrDefault("think", "250"));
+        this.maxTurns = Integer.parseInt(settings.getOrDefault("maxTurns", "200"));
+        this.threads = Integer.parseInt(settings.getOrDefault("threads", "64"));
+        this.baseUrl = "http://localhost:" + settings.getOrDefault("port", "4568");
+    }
+
+    public static void main(String[] args) throws InterruptedException {
+        Map<String, String> settings = new HashMap<>();
+        for (String arg : args) {
+            String[] pair = arg.split("=", 2);
+            if (pair.length != 2) {
+                throw new IllegalArgumentException("Settings are name=value pairs: " + arg);
+            }
+            settings.put(pair[0], pair[1]);
+        }
+
+        LoadDriver driver = new LoadDriver(settings);
+        startServer(Integer.parseInt(settings.getOrDefault("port", "4568")));
+        try {
+            driver.run();
+        }
+        finally {
+            Spark.stop();
+        }
+        // The idle player reaper and the Jetty threads would keep exec:java waiting
+        System.exit(driver.totalErrors() == 0 ? 0 : 1);
+    }
+
+    /**
+     * Starts the server the way {@link Application} does, on a given port
+     */
+    private static void startServer(int port) {
+        Spark.port(port);
+        PlayerLobby playerLobby = new PlayerLobby();
+        playerLobby.getIdlePlayerReaper().start();
+        new WebServer(new FreeMarkerEngine(), new Gson(), playerLobby).initialize();
+        Spark.awaitInitialization();
+    }
+
+    /**
+     * Signs in every user, plays games until the time is up and prints the report
+     */
+    private void run() throws InterruptedException {
+        // Keep an idle connection for every client thread, instead of the five kept by default
+        System.setProperty("http.maxConnections", Integer.toString(threads));
+        clients = new ScheduledThreadPoolExecutor(threads);
+        clients.setExecuteExistingDelayedTasksAfterShutdownPolicy(false);
+
+        System.out.printf("%d games, %d spectators each, %d ms between turns, %d seconds, %d client threads%n",
+                games, spectators, thinkMillis, seconds, threads);
+        long start = System.nanoTime();
+        for (int game = 0; game < games; game++) {
+            SimulatedGame simulatedGame = new SimulatedGame(game);
+            clients.schedule(simulatedGame, ThreadLocalRandom.current().nextLong(Math.max(thinkMillis, 1)),
+                    TimeUnit.MILLISECONDS);
+        }
+
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        while (System.nanoTime() < end) {
+            long sleep = Math.min(TimeUnit.NANOSECONDS.toMillis(end - System.nanoTime()), 10_000);
+            Thread.sleep(Math.max(sleep, 1));
+            long elapsed = System.nanoTime() - start;
+            System.out.printf("%5ds %10d requests %8d turns %6d games finished%n",
+                    TimeUnit.NANOSECONDS.toSeconds(elapsed), totalRequests(), turns.sum(), gamesFinished.sum());
+        }
+        running = false;
+        clients.shutdown();
+        clients.awaitTermination(1, TimeUnit.MINUTES);
+        report(System.nanoTime() - start);
+    }
+
+    /**
+     * Prints the totals and the statistics of every route
+     */
+    private void report(long elapsedNanos) {
+        double elapsedSeconds = elapsedNanos / 1e9;
+        System.out.printf("%n%.1f s, %.0f requests/s, %.1f turns/s, %d games finished, %d games failed%n",
+                elapsedSeconds, totalRequests() / elapsedSeconds, turns.sum() / elapsedSeconds,
+                gamesFinished.sum(), gamesFailed.sum());
+        System.out.printf("%-28s %10s %10s %8s %8s %9s %9s %9s %9s%n", "route", "requests", "req/s", "errors",
+                "error %", "p50 ms", "p99 ms", "p99.9 ms", "max ms");
+        for (Map.Entry<String, RouteStats> entry : new TreeMap<>(routes).entrySet()) {
+            RouteStats stats = entry.getValue();
+            long count = stats.latency.getCount();
+            long errors = stats.errors.sum();
+            System.out.printf("%-28s %10d %10.1f %8d %8.2f", entry.getKey(), count, count / elapsedSeconds,
+                    errors, count == 0 ? 0 : 100.0 * errors / count);
+            for (double percentile : PERCENTILES) {
+                System.out.printf(" %9.2f", stats.latency.getPercentileMicros(percentile) / 1000.0);
+            }
+            System.out.printf(" %9.2f%n", stats.latency.getMaxMicros() / 1000.0);
+        }
+    }
+
+    private long totalRequests() {
+        return routes.values().stream().mapToLong(stats -> stats.latency.getCount()).sum();
+    }
+
+    private long totalErrors() {
+        return routes.values().stream().mapToLong(stats -> stats.errors.sum()).sum() + gamesFailed.sum();
+    }
+
+    /**
+     * The latencies and errors of one route
+     */
+    private static final class RouteStats {
+        final LatencyHistogram latency = new LatencyHistogram();
+        final LongAdder errors = new LongAdder();
+    }
+
+    private RouteStats statsOf(String route) {
+        return routes.computeIfAbsent(route, name -> new RouteStats());
+    }
+
+    /**
+     * An answer other than the one expected, which ends the game it happened in
+     */
+    private static final class UnexpectedAnswer extends RuntimeException {
+        UnexpectedAnswer(String message) {
+            super(message);
+        }
+    }
+
+    /**
+     * An answer of the server
+     */
+    private static final class Answer {
+        final int status;
+        final String location;
+        final String body;
+
+        Answer(int status, String location, String body) {
+            this.status = status;
+            this.location = location;
+            this.body = body;
+        }
+
+        boolean redirectsTo(String path) {
+            return status == HttpURLConnection.HTTP_MOVED_TEMP && location != null && location.endsWith(path);
+        }
+
+        Message message() {
+            return status == HttpURLConnection.HTTP_OK ? GSON.fromJson(body, Message.class) : null;
+        }
+    }
+
+    /**
+     * A synthetic user, with its own session cookie
+     */
+    private final class User {
+        final String name;
+        private String cookie;
+
+        User(String name) {
+            this.name = name;
+        }
+
+        Answer get(String path) {
+            return send("GET", path, null);
+        }
+
+        Answer post(String path, String... params) {
+            StringBuilder form = new StringBuilder();
+            try {
+                for (int i = 0; i + 1 < params.length; i += 2) {
+                    form.append(form.length() == 0 ? "" : "&").append(params[i]).append('=')
+                            .append(URLEncoder.encode(params[i + 1], StandardCharsets.UTF_8.name()));
+                }
+            }
+            catch (UnsupportedEncodingException e) {
+                throw new IllegalStateException(e);
+            }
+            return send("POST", path, form.toString());
+        }
+
+        /**
+         * Sends one request, recording its latency, and counting it as an error unless it was answered with a
+         * success or a redirect
+         */
+        private Answer send(String method, String path, String form) {
+            RouteStats stats = statsOf(method + " " + path);
+            long start = System.nanoTime();
+            try {
+                HttpURLConnection connection = (HttpURLConnection) new URL(baseUrl + path).openConnection();
+                connection.setInstanceFollowRedirects(false);
+                connection.setRequestMethod(method);
+                if (cookie != null) {
+                    connection.setRequestProperty("Cookie", cookie);
+                }
+                if (form != null) {
+                    byte[] body = form.getBytes(StandardCharsets.UTF_8);
+                    connection.setDoOutput(true);
+                    connection.setRequestProperty("Content-Type", "application/x-www-form-urlencoded");
+                    try (OutputStream out = connection.getOutputStream()) {
+                        out.write(body);
+                    }
+                }
+
+                int status = connection.getResponseCode();
+                String body = readBody(status < HttpURLConnection.HTTP_BAD_REQUEST
+                        ? connection.getInputStream() : connection.getErrorStream());
+                stats.latency.recordNanos(System.nanoTime() - start);
+
+                String setCookie = connection.getHeaderField("Set-Cookie");
+                if (setCookie != null) {
+                    cookie = setCookie.split(";", 2)[0];
+                }
+                if (status >= HttpURLConnection.HTTP_BAD_REQUEST) {
+                    stats.errors.increment();
+                    throw new UnexpectedAnswer(method + " " + path + " answered " + status);
+                }
+                return new Answer(status, connection.getHeaderField("Location"), body);
+            }
+            catch (IOException e) {
+                stats.latency.recordNanos(System.nanoTime() - start);
+                stats.errors.increment();
+                throw new UnexpectedAnswer(method + " " + path + " failed: " + e);
+            }
+        }
+
+        /**
+         * Counts an answer that was not the one expected as an error of its route
+         */
+        void expect(boolean expected, String route) {
+            if (!expected) {
+                statsOf(route).errors.increment();
+                throw new UnexpectedAnswer(name + " got an unexpected answer from " + route);
+            }
+        }
+    }
+
+    private static String readBody(InputStream in) throws IOException {
+        if (in == null) {
+            return "";
+        }
+        try (InputStream body = in) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = body.read(buffer); read != -1; read = body.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    /**
+     * Two players and their spectators, playing one game after another. Each run makes one step: signing in,
+     * starting a game, or making one turn, and then schedules the next.
+     */
+    private final class SimulatedGame implements Runnable {
+        private final User red;
+        private final User white;
+        private final List<User> watchers = new ArrayList<>();
+
+        private boolean signedIn;
+        private boolean playing;
+        private BitBoard board;
+        private Piece.PieceColor toMove;
+        private int turnsPlayed;
+
+        SimulatedGame(int id) {
+            this.red = new User("red" + id);
+            this.white = new User("white" + id);
+            for (int watcher = 0; watcher < spectators; watcher++) {
+                watchers.add(new User("watcher" + id + "x" + watcher));
+            }
+        }
+
+        @Override
+        public void run() {
+            if (!running) {
+                return;
+            }
+            try {
+                if (!signedIn) {
+                    signIn();
+                }
+                else if (!playing) {
+                    startGame();
+                }
+                else {
+                    playTurn();
+                }
+            }
+            catch (UnexpectedAnswer e) {
+                gamesFailed.increment();
+                if (!signedIn) {
+                    // Without a session nothing else can be played
+                    System.err.println(e.getMessage());
+                    return;
+                }
+                abandon();
+            }
+
+            long think = thinkMillis / 2 + ThreadLocalRandom.current().nextLong(Math.max(thinkMillis, 1));
+            if (running) {
+                clients.schedule(this, think, TimeUnit.MILLISECONDS);
+            }
+        }
+
+        private void signIn() {
+            for (User user : allUsers()) {
+                user.expect(user.post(WebServer.SIGNIN_URL, "currentUser", user.name).redirectsTo("/"),
+                        "POST " + WebServer.SIGNIN_URL);
+            }
+            signedIn = true;
+        }
+
+        private void startGame() {
+            // Opening the home page leaves the game that ended
+            for (User user : allUsers()) {
+                user.get(WebServer.HOME_URL);
+            }
+            red.expect(red.post(WebServer.STARTGAME_URL, "otherUser", white.name).redirectsTo(WebServer.GAME_URL),
+                    "POST " + WebServer.STARTGAME_URL);
+            for (User player : new User[] { red, white }) {
+                player.expect(player.get(WebServer.GAME_URL).status == HttpURLConnection.HTTP_OK,
+                        "GET " + WebServer.GAME_URL);
+            }
+            for (User watcher : watchers) {
+                watcher.expect(watcher.post(WebServer.SPECTATE_GAME, "otherUser", red.name)
+                        .redirectsTo(WebServer.SPECTATE_GAME), "POST " + WebServer.SPECTATE_GAME);
+                watcher.expect(watcher.get(WebServer.SPECTATE_GAME).status == HttpURLConnection.HTTP_OK,
+                        "GET " + WebServer.SPECTATE_GAME);
+            }
+
+            board = new BitBoard(0x00000FFF, 0xFFF00000, 0);
+            toMove = Piece.PieceColor.RED;
+            turnsPlayed = 0;
+            playing = true;
+        }
+
+        private void playTurn() {
+            User player = toMove == Piece.PieceColor.RED ? red : white;
+            Message check = player.post(WebServer.CHECK_TURN_URL).message();
+            player.expect(check != null && "true".equals(check.getText()), "POST " + WebServer.CHECK_TURN_URL);
+
+            for (int[] step : randomTurn(new LegalMoves(board, toMove))) {
+                Message answer = player.post(WebServer.VALIDATE_MOVE_URL, "actionData", moveJson(step)).message();
+                player.expect(answer != null && answer.isSuccessful(), "POST " + WebServer.VALIDATE_MOVE_URL);
+                makeStep(step);
+            }
+            Message submitted = player.post(WebServer.SUBMIT_TURN_URL).message();
+            player.expect(submitted != null && submitted.isSuccessful(), "POST " + WebServer.SUBMIT_TURN_URL);
+            turns.increment();
+            turnsPlayed++;
+            toMove = toMove == Piece.PieceColor.RED ? Piece.PieceColor.WHITE : Piece.PieceColor.RED;
+
+            for (User watcher : watchers) {
+                watcher.expect(watcher.post(WebServer.SPECTATOR_CHECK_TURN).message() != null,
+                        "POST " + WebServer.SPECTATOR_CHECK_TURN);
+            }
+
+            if (!new LegalMoves(board, toMove).hasMove()) {
+                // The server ended the game when the turn was submitted
+                endGame();
+            }
+            else if (turnsPlayed >= maxTurns) {
+                User next = toMove == Piece.PieceColor.RED ? red : white;
+                next.expect(next.post(WebServer.RESIGN_URL).message() != null, "POST " + WebServer.RESIGN_URL);
+                endGame();
+            }
+        }
+
+        private void endGame() {
+            for (User watcher : watchers) {
+                watcher.get(WebServer.SPECTATOR_STOP_WATCHING);
+            }
+            gamesFinished.increment();
+            playing = false;
+        }
+
+        /**
+         * Resigns a game whose board may no longer match the one of the server, so a new one can be started
+         */
+        private void abandon() {
+            playing = false;
+            try {
+                red.post(WebServer.RESIGN_URL);
+                for (User watcher : watchers) {
+                    watcher.get(WebServer.SPECTATOR_STOP_WATCHING);
+                }
+            }
+            catch (UnexpectedAnswer e) {
+                // Already counted; the next game starts from the home page anyway
+            }
+        }
+
+        private List<User> allUsers() {
+            List<User> users = new ArrayList<>(watchers.size() + 2);
+            users.add(red);
+            users.add(white);
+            users.addAll(watchers);
+            return users;
+        }
+
+        /**
+         * Moves a piece on the copy of the board, removing the piece it jumped and promoting it like the server
+         */
+        private void makeStep(int[] step) {
+            int start = step[0];
+            int end = step[1];
+            if (Math.abs(BitBoard.rowOf(start) - BitBoard.rowOf(end)) == 2) {
+                board.removePiece(BitBoard.capturedSquare(start, end));
+            }
+            boolean promoted = !board.isKing(start) && (BitBoard.kingRow(toMove) & (1 << end)) != 0;
+            board.movePiece(start, end);
+            if (promoted) {
+                board.setKing(end, true);
+            }
+        }
+    }
+
+    /**
+     * Picks a random legal turn: a whole jump sequence if a jump must be taken, and a simple move otherwise
+     *
+     * @return  the start and end squares of every step of the turn
+     */
+    private static List<int[]> randomTurn(LegalMoves legalMoves) {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        List<int[]> turn = new ArrayList<>();
+        if (legalMoves.hasJump()) {
+            int step = LegalMoves.ROOT;
+            do {
+                step = legalMoves.getFirstChild(step) + random.nextInt(legalMoves.getChildCount(step));
+                turn.add(new int[] { legalMoves.getStepStart(step), legalMoves.getStepEnd(step) });
+            } while (legalMoves.getChildCount(step) > 0);
+            return turn;
+        }
+
+        int start = randomSquare(legalMoves.getSimpleMovers(), random);
+        turn.add(new int[] { start, randomSquare(legalMoves.getSimpleTargets(start), random) });
+        return turn;
+    }
+
+    private static int randomSquare(int mask, ThreadLocalRandom random) {
+        for (int skip = random.nextInt(Integer.bitCount(mask)); skip > 0; skip--) {
+            mask &= mask - 1;
+        }
+        return Integer.numberOfTrailingZeros(mask);
+    }
+
+    private static String moveJson(int[] step) {
+        return String.format("{\"start\":{\"row\":%d,\"cell\":%d},\"end\":{\"row\":%d,\"cell\":%d}}",
+                BitBoard.rowOf(step[0]), BitBoard.cellOf(step[0]), BitBoard.rowOf(step[1]), BitBoard.cellOf(step[1]));
+    }
+}
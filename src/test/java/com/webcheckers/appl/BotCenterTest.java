@@ -0,0 +1,152 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Piece;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import com.webcheckers.model.Space;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * A class to test functionality of {@linkplain BotCenter} BotCenters
+ */
+@Tag("Appl-tier")
+public class BotCenterTest {
+
+    private static final long WAIT_MILLIS = 5000;
+
+    /**
+     * Component Under Test
+     */
+    private BotCenter CuT;
+
+    private GameCenter gameCenter;
+    private Player player;
+
+    /**
+     * Setup, create CuT with a short time budget
+     */
+    @BeforeEach
+    public void setup() {
+        gameCenter = new GameCenter();
+        CuT = new BotCenter(gameCenter, 20, 6, 1);
+        player = new Player("player");
+    }
+
+    /**
+     * Waits until it is the turn of the red player again
+     */
+    private static void awaitRedTurn(Game game) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + WAIT_MILLIS;
+        while (!game.isRedPlayerTurn() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+        }
+    }
+
+    /**
+     * Test that the player plays red against a computer player that cannot be a signed in player
+     */
+    @Test
+    public void testStartGame() {
+        Game game = CuT.startGame(player);
+
+        assertSame(player, game.getPlayers()[0]);
+        Player bot = game.getPlayers()[1];
+        assertTrue(CuT.isBot(bot));
+        assertFalse(CuT.isBot(player));
+        assertTrue(bot.getName().startsWith(BotCenter.BOT_NAME_PREFIX));
+        assertFalse(new PlayerLobby().isValid(bot.getName()));
+        assertTrue(gameCenter.isRealGame(game));
+        assertTrue(game.isRedPlayerTurn());
+    }
+
+    /**
+     * Test that the computer player makes its turn after the player made theirs
+     */
+    @Test
+    public void testBotReplies() throws InterruptedException {
+        Game game = CuT.startGame(player);
+
+        game.getLock().lock();
+        try {
+            game.validateMove(new Move(new Position(2, 1), new Position(3, 2)));
+            game.commitPendingMoves();
+            game.changeTurn();
+        }
+        finally {
+            game.getLock().unlock();
+        }
+
+        awaitRedTurn(game);
+        assertTrue(game.isRedPlayerTurn());
+        assertTrue(game.isActive());
+        assertEquals(2, game.getBoardVersion());
+    }
+
+    /**
+     * Test that the computer player leaves its game once the game ends
+     */
+    @Test
+    public void testGameEnded() {
+        Game game = CuT.startGame(player);
+        Player bot = game.getPlayers()[1];
+
+        gameCenter.resignPlayer(player);
+
+        assertFalse(game.isActive());
+        assertFalse(bot.inGame());
+        assertFalse(CuT.isBot(bot));
+    }
+
+    /**
+     * Test that the thread budget is never less than one thread
+     */
+    @Test
+    public void testThreadBudget() {
+        assertEquals(1, CuT.getThreads());
+        assertEquals(1, new BotCenter(gameCenter, 20, 6, 0).getThreads());
+        assertTrue(BotCenter.DEFAULT_THREADS >= 1);
+    }
+
+    /**
+     * Test that a move left pending by the player during the turn of the computer player is backed out, so the
+     * computer player makes its own turn instead of the one left on the board
+     */
+    @Test
+    public void testStalePendingMove() throws InterruptedException {
+        Game game = CuT.startGame(player);
+
+        game.getLock().lock();
+        try {
+            // one white piece, which is jumped if it moves to (4, 1) and safe if it moves to (4, 3)
+            Space[][] board = game.getBoard();
+            for (Space[] row : board) {
+                for (Space space : row) {
+                    space.removePiece();
+                }
+            }
+            board[5][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+            board[3][0].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.RED));
+            game.modifyActualBoard(board);
+            game.changeTurn();
+
+            // the player moves the white piece where it is lost while the computer player is thinking
+            game.validateMove(new Move(new Position(5, 2), new Position(4, 1)));
+            assertTrue(game.hasMoves());
+        }
+        finally {
+            game.getLock().unlock();
+        }
+
+        awaitRedTurn(game);
+        assertTrue(game.isRedPlayerTurn());
+        assertTrue(game.isActive());
+        assertNull(game.getBoard()[4][1].getPiece());
+        assertEquals(Piece.PieceColor.WHITE, game.getBoard()[4][3].getPiece().getColor());
+    }
+}
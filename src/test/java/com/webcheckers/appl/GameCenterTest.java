@@ -0,0 +1,243 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.ArchivedGame;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * A class to test functionality of {@linkplain GameCenter} GameCenters
+ */
+@Tag("Appl-tier")
+public class GameCenterTest {
+
+    private static final int THREADS = 16;
+    private static final int GAMES_PER_THREAD = 500;
+
+    /**
+     * Component Under Test
+     */
+    private GameCenter CuT;
+
+    /**
+     * Setup, create CuT
+     */
+    @BeforeEach
+    public void setup() {
+        CuT = new GameCenter();
+    }
+
+    /**
+     * Test that games get increasing IDs and can be found by them
+     */
+    @Test
+    public void testStartGame() {
+        Game first = CuT.startGame(new Player("red1"), new Player("white1"));
+        Game second = CuT.startGame(new Player("red2"), new Player("white2"));
+
+        assertEquals(1, first.getGameID());
+        assertEquals(2, second.getGameID());
+        assertSame(first, CuT.getGame(1));
+        assertSame(second, CuT.getGame(2));
+        assertNull(CuT.getGame(3));
+        assertEquals(2, CuT.getGameCount());
+    }
+
+    /**
+     * Test that only the games being played and their pending moves are counted
+     */
+    @Test
+    public void testActiveCounts() {
+        Game first = CuT.startGame(new Player("red1"), new Player("white1"));
+        Game second = CuT.startGame(new Player("red2"), new Player("white2"));
+        first.validateMove(new Move(new Position(2, 7), new Position(3, 6)));
+
+        assertEquals(2, CuT.getActiveGameCount());
+        assertEquals(1, CuT.getPendingMoveCount());
+
+        first.endGame(Game.Status.RED_RESIGN);
+        assertEquals(1, CuT.getActiveGameCount());
+        assertEquals(0, CuT.getPendingMoveCount());
+        assertTrue(second.isActive());
+    }
+
+    /**
+     * Test that only games created by this GameCenter are real
+     */
+    @Test
+    public void testIsRealGame() {
+        Player red = new Player("red");
+        Player white = new Player("white");
+        Game game = CuT.startGame(red, white);
+
+        assertTrue(CuT.isRealGame(game));
+        assertTrue(CuT.isRealGame(red.getGame()));
+        assertFalse(CuT.isRealGame(new Game(game.getGameID(), red, white)));
+        assertFalse(CuT.isRealGame(null));
+    }
+
+    /**
+     * Test that games started from many threads at once all get a unique ID and are stored
+     */
+    @Test
+    public void testConcurrentStartGame() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        CountDownLatch startSignal = new CountDownLatch(1);
+        Set<Integer> gameIDs = ConcurrentHashMap.newKeySet();
+        List<Future<?>> results = new ArrayList<>();
+
+        for (int thread = 0; thread < THREADS; thread++) {
+            final int threadIdx = thread;
+            results.add(executor.submit(() -> {
+                startSignal.await();
+                for (int gameIdx = 0; gameIdx < GAMES_PER_THREAD; gameIdx++) {
+                    Player red = new Player("red " + threadIdx + " " + gameIdx);
+                    Player white = new Player("white " + threadIdx + " " + gameIdx);
+                    Game game = CuT.startGame(red, white);
+                    assertTrue(gameIDs.add(game.getGameID()));
+                    assertTrue(CuT.isRealGame(red.getGame()));
+                }
+                return null;
+            }));
+        }
+        startSignal.countDown();
+        for (Future<?> result : results) {
+            result.get();
+        }
+        executor.shutdown();
+        assertTrue(executor.awaitTermination(10, TimeUnit.SECONDS));
+
+        int totalGames = THREADS * GAMES_PER_THREAD;
+        assertEquals(totalGames, CuT.getGameCount());
+        assertEquals(totalGames, gameIDs.size());
+        for (int gameID = 1; gameID <= totalGames; gameID++) {
+            assertEquals(gameID, CuT.getGame(gameID).getGameID());
+        }
+    }
+
+    /**
+     * Test that a finished game is archived only once everybody has left it
+     */
+    @Test
+    public void testArchiveFinishedGame() {
+        Player red = new Player("red");
+        Player white = new Player("white");
+        Player spectator = new Player("spectator");
+        Game game = CuT.startGame(red, white);
+        CuT.spectateGame(spectator, red);
+
+        // An active game is never archived
+        CuT.sweep(0);
+        assertTrue(CuT.isRealGame(game));
+
+        CuT.resignPlayer(red);
+        red.leaveGame();
+        white.leaveGame();
+        CuT.sweep(0);
+        assertTrue(CuT.isRealGame(game));
+        assertEquals(0, CuT.getArchivedGameCount());
+
+        spectator.leaveGame();
+        CuT.sweep(0);
+        assertFalse(CuT.isRealGame(game));
+        assertEquals(0, CuT.getGameCount());
+        assertEquals(1, CuT.getArchivedGameCount());
+
+        ArchivedGame archived = CuT.getArchivedGame(game.getGameID());
+        assertEquals("red", archived.getRedPlayerName());
+        assertEquals("white", archived.getWhitePlayerName());
+        assertEquals(Game.Status.RED_RESIGN, archived.getStatus());
+        assertEquals("red has resigned the match", archived.getEndedReason());
+    }
+
+    /**
+     * Test that a player who signs out no longer keeps their finished game alive
+     */
+    @Test
+    public void testArchiveAfterSignOut() {
+        Player red = new Player("red");
+        Player white = new Player("white");
+        Game game = CuT.startGame(red, white);
+
+        CuT.signOutPlayer(red);
+        white.leaveGame();
+        CuT.sweep(0);
+
+        assertFalse(CuT.isRealGame(game));
+        assertEquals(Game.Status.RED_ABANDONED, CuT.getArchivedGame(game.getGameID()).getStatus());
+    }
+
+    /**
+     * Test that archived games are dropped after the TTL, or when the archive is full
+     */
+    @Test
+    public void testEvictArchivedGames() {
+        CuT = new GameCenter(1000, 2);
+        List<Player[]> games = new ArrayList<>();
+        for (int gameIdx = 0; gameIdx < 3; gameIdx++) {
+            Player red = new Player("red" + gameIdx);
+            Player white = new Player("white" + gameIdx);
+            CuT.startGame(red, white);
+            games.add(new Player[] {red, white});
+        }
+        // The games end, and are archived, a hundred milliseconds apart
+        for (int gameIdx = 0; gameIdx < 3; gameIdx++) {
+            Player[] players = games.get(gameIdx);
+            CuT.resignPlayer(players[1]);
+            players[0].leaveGame();
+            players[1].leaveGame();
+            CuT.sweep(gameIdx * 100);
+        }
+
+        // The oldest game did not fit in the archive
+        assertEquals(2, CuT.getArchivedGameCount());
+        assertEquals(1, CuT.getEvictedGameCount());
+        assertNull(CuT.getArchivedGame(1));
+        assertNotNull(CuT.getArchivedGame(2));
+
+        // The second game is the first to get too old
+        CuT.sweep(1100);
+        assertEquals(1, CuT.getArchivedGameCount());
+        assertEquals(2, CuT.getEvictedGameCount());
+        assertNotNull(CuT.getArchivedGame(3));
+
+        CuT.sweep(1200);
+        assertEquals(0, CuT.getArchivedGameCount());
+        assertEquals(3, CuT.getEvictedGameCount());
+    }
+
+    /**
+     * Test that starting a game leaves finished games to the sweep
+     */
+    @Test
+    public void testStartGameDoesNotSweep() {
+        Player red = new Player("red");
+        Player white = new Player("white");
+        Game game = CuT.startGame(red, white);
+        CuT.resignPlayer(red);
+        red.leaveGame();
+        white.leaveGame();
+
+        CuT.startGame(new Player("red2"), new Player("white2"));
+        assertTrue(CuT.isRealGame(game));
+
+        CuT.sweep();
+        assertFalse(CuT.isRealGame(game));
+    }
+}
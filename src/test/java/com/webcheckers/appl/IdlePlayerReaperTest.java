@@ -0,0 +1,153 @@
+package com.webcheckers.appl;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+
+import static org.junit.jupiter.api.Assertions.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * A class to test functionality of the {@linkplain IdlePlayerReaper} IdlePlayerReaper
+ */
+@Tag("Appl-tier")
+public class IdlePlayerReaperTest {
+
+    private static final long IDLE_TIMEOUT = 1000;
+    private static final long TICK = 100;
+
+    /**
+     * Component Under Test
+     */
+    private IdlePlayerReaper CuT;
+
+    private PlayerLobby playerLobby;
+
+    /**
+     * Setup, create CuT
+     */
+    @BeforeEach
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        CuT = new IdlePlayerReaper(playerLobby, IDLE_TIMEOUT, TICK);
+    }
+
+    /**
+     * Creates a signed in player whose last request was at a point in time
+     */
+    private Player signIn(String name, long lastActivity) {
+        Player player = new Player(name);
+        player.touch(lastActivity);
+        playerLobby.signIn(player);
+        CuT.track(player);
+        return player;
+    }
+
+    /**
+     * Test that a player is signed out once their idle timeout runs out, and not before
+     */
+    @Test
+    public void testSignOutIdlePlayer() {
+        Player player = signIn("idle", 0);
+        CuT.tick(0);
+
+        CuT.tick(IDLE_TIMEOUT - TICK);
+        assertSame(player, playerLobby.findPlayer("idle"));
+
+        CuT.tick(IDLE_TIMEOUT);
+        assertNull(playerLobby.findPlayer("idle"));
+        assertEquals(0, CuT.getTrackedCount());
+    }
+
+    /**
+     * Test that a player who keeps making requests is kept
+     */
+    @Test
+    public void testKeepActivePlayer() {
+        Player player = signIn("active", 0);
+        CuT.tick(0);
+
+        for (long now = TICK; now <= 5 * IDLE_TIMEOUT; now += TICK) {
+            player.touch(now - TICK);
+            CuT.tick(now);
+        }
+
+        assertSame(player, playerLobby.findPlayer("active"));
+        assertEquals(1, CuT.getTrackedCount());
+    }
+
+    /**
+     * Test that an idle player's game is abandoned, the same way signing out does
+     */
+    @Test
+    public void testAbandonGameOfIdlePlayer() {
+        Player red = signIn("red", 0);
+        Player white = signIn("white", 0);
+        playerLobby.startGame(red, white.getName());
+        Game game = red.getGame();
+        CuT.tick(0);
+
+        white.touch(IDLE_TIMEOUT / 2);
+        CuT.tick(IDLE_TIMEOUT);
+
+        assertNull(playerLobby.findPlayer("red"));
+        assertSame(white, playerLobby.findPlayer("white"));
+        assertEquals(Game.Status.RED_ABANDONED, game.getStatus());
+    }
+
+    /**
+     * Test that a player who signed out is dropped from the wheel, even if a new player took their name
+     */
+    @Test
+    public void testDropSignedOutPlayer() {
+        Player player = signIn("name", 0);
+        playerLobby.signOut(player);
+        Player newPlayer = new Player("name");
+        newPlayer.touch(IDLE_TIMEOUT);
+        playerLobby.signIn(newPlayer);
+        CuT.track(newPlayer);
+
+        CuT.tick(IDLE_TIMEOUT);
+
+        assertSame(newPlayer, playerLobby.findPlayer("name"));
+        assertEquals(1, CuT.getTrackedCount());
+    }
+
+    /**
+     * Test that a sign out that throws does not keep the rest of the bucket from being signed out
+     */
+    @Test
+    public void testSignOutFailure() {
+        playerLobby.addSignOutListener(player -> {
+            if (player.getName().equals("bad")) {
+                throw new IllegalStateException("listener failed");
+            }
+        });
+        signIn("bad", 0);
+        signIn("good", 0);
+        CuT.tick(0);
+
+        CuT.tick(IDLE_TIMEOUT);
+
+        assertNull(playerLobby.findPlayer("bad"));
+        assertNull(playerLobby.findPlayer("good"));
+        assertEquals(0, CuT.getTrackedCount());
+    }
+
+    /**
+     * Test that the timer keeps ticking after a tick throws
+     */
+    @Test
+    public void testTimerSurvivesFailedTick() {
+        PlayerLobby failingLobby = mock(PlayerLobby.class);
+        doThrow(new IllegalStateException("sweep failed")).doNothing().when(failingLobby).sweepGames();
+        CuT = new IdlePlayerReaper(failingLobby, IDLE_TIMEOUT, 50);
+
+        CuT.start();
+
+        verify(failingLobby, timeout(5000).atLeast(2)).sweepGames();
+    }
+}
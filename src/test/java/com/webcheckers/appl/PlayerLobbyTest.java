@@ -1,5 +1,6 @@
 package com.webcheckers.appl;
 
+import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
 import com.webcheckers.util.Message;
 
@@ -9,7 +10,11 @@ import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
 
 import java.util.ArrayList;
+import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.atomic.AtomicInteger;
 
 import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.when;
@@ -245,6 +250,71 @@ public class PlayerLobbyTest {
 
     }
 
+    /**
+     * Test that a player already playing a game cannot challenge another player
+     */
+    @Test
+    public void testStartGameBusyChallenger() {
+        CuT.signIn(player1);
+        CuT.signIn(player2);
+        CuT.signIn(player3);
+
+        CuT.startGame(player1, player2Name);
+        Game game = player1.getGame();
+        Message ret = CuT.startGame(player1, player3Name);
+        assertNotNull(ret);
+        assertEquals(ret.getType(), Message.Type.ERROR);
+        assertFalse(player3.inGame());
+        assertSame(game, player1.getGame());
+    }
+
+    /**
+     * Test that when many players challenge the same player at once, exactly one game is started
+     */
+    @Test
+    public void testConcurrentChallenges() throws Exception {
+        final int challengers = 8;
+        for (int round = 0; round < 200; round++) {
+            Player target = new Player("target" + round);
+            assertNull(CuT.signIn(target));
+            List<Player> players = new ArrayList<>();
+            for (int i = 0; i < challengers; i++) {
+                Player challenger = new Player("challenger" + round + " " + i);
+                assertNull(CuT.signIn(challenger));
+                players.add(challenger);
+            }
+
+            CountDownLatch startSignal = new CountDownLatch(1);
+            AtomicInteger started = new AtomicInteger();
+            List<Thread> threads = new ArrayList<>();
+            for (Player challenger : players) {
+                Thread thread = new Thread(() -> {
+                    try {
+                        startSignal.await();
+                    }
+                    catch (InterruptedException e) {
+                        return;
+                    }
+                    if (CuT.startGame(challenger, target.getName()) == null) {
+                        started.incrementAndGet();
+                    }
+                });
+                thread.start();
+                threads.add(thread);
+            }
+            startSignal.countDown();
+            for (Thread thread : threads) {
+                thread.join();
+            }
+
+            assertEquals(1, started.get());
+            Game game = target.getGame();
+            assertNotNull(game);
+            assertEquals(1, players.stream().filter(player -> player.getGame() == game).count());
+            assertEquals(1, players.stream().filter(Player::inGame).count());
+        }
+    }
+
     /**
      * Test that the proper players are returned when attempting to get available players
      */
@@ -410,4 +480,167 @@ public class PlayerLobbyTest {
         assertEquals(CuT.getPlayersInGame().size(), 2);
         assertEquals(CuT.getAvailablePlayers().size(), 1);
     }
+
+    /**
+     * Test that the lobby views follow players as they join, spectate and leave games, in name order
+     */
+    @Test
+    public void testStatusViews() {
+        CuT.signIn(player4);
+        CuT.signIn(player2);
+        CuT.signIn(player3);
+        CuT.signIn(player1);
+        Collection<Player> available = CuT.getAvailablePlayers();
+        assertEquals(Arrays.asList(player1, player2, player3, player4), available);
+
+        CuT.startGame(player3, player1Name);
+        CuT.spectateGame(player2, player1Name);
+        assertEquals(Arrays.asList(player4), available);
+        assertEquals(Arrays.asList(player1, player3), CuT.getPlayersInGame());
+        assertEquals(Arrays.asList(player2), CuT.getSpectators());
+
+        player2.leaveGame();
+        CuT.signOut(player3);
+        player1.leaveGame();
+        assertEquals(Arrays.asList(player1, player2, player4), available);
+        assertEquals(0, CuT.getPlayersInGame().size());
+        assertEquals(0, CuT.getSpectators().size());
+
+        // A player who signed out no longer moves between the views
+        player3.leaveGame();
+        assertEquals(3, available.size());
+    }
+
+    /**
+     * Test that the players of one status can be found a page at a time by the start of their names
+     */
+    @Test
+    public void testFindPlayers() {
+        Player alice = new Player("alice");
+        Player bob = new Player("bob");
+        CuT.signIn(player3);
+        CuT.signIn(alice);
+        CuT.signIn(player1);
+        CuT.signIn(player2);
+        CuT.signIn(bob);
+
+        PlayerPage page = CuT.findPlayers(Player.Status.AVAILABLE, "player", null, 2);
+        assertEquals(Arrays.asList(player1, player2), page.getPlayers());
+        assertEquals(player2Name, page.getNextCursor());
+
+        page = CuT.findPlayers(Player.Status.AVAILABLE, "player", page.getNextCursor(), 2);
+        assertEquals(Arrays.asList(player3), page.getPlayers());
+        assertNull(page.getNextCursor());
+
+        // A full last page has no next page
+        page = CuT.findPlayers(Player.Status.AVAILABLE, "", "bob", 3);
+        assertEquals(Arrays.asList(player1, player2, player3), page.getPlayers());
+        assertNull(page.getNextCursor());
+
+        CuT.startGame(alice, player2Name);
+        assertEquals(Arrays.asList(player1, player3),
+                CuT.findPlayers(Player.Status.AVAILABLE, "player", null, 10).getPlayers());
+        assertEquals(Arrays.asList(alice, player2),
+                CuT.findPlayers(Player.Status.PLAYING, "", null, 10).getPlayers());
+        assertEquals(0, CuT.findPlayers(Player.Status.SPECTATING, "", null, 10).getPlayers().size());
+    }
+
+    /**
+     * Test that the version of the lobby moves whenever its players or their games change, and only then
+     */
+    @Test
+    public void testVersion() {
+        long version = CuT.getVersion();
+        CuT.signIn(player1);
+        CuT.signIn(player2);
+        assertTrue(CuT.getVersion() > version);
+
+        version = CuT.getVersion();
+        CuT.findPlayers(Player.Status.AVAILABLE, "", null, 10);
+        CuT.signIn(player1);
+        assertEquals(version, CuT.getVersion());
+
+        CuT.startGame(player1, player2Name);
+        assertTrue(CuT.getVersion() > version);
+
+        version = CuT.getVersion();
+        CuT.resignGame(player1);
+        assertTrue(CuT.getVersion() > version);
+
+        version = CuT.getVersion();
+        player2.leaveGame();
+        assertTrue(CuT.getVersion() > version);
+
+        version = CuT.getVersion();
+        CuT.signOut(player2);
+        assertTrue(CuT.getVersion() > version);
+    }
+
+    /**
+     * Test that a player signed out while their status changes on another thread is left in no view, so the
+     * next player to sign in with their name is listed
+     */
+    @Test
+    public void testSignOutDuringStatusChange() throws InterruptedException {
+        Game game = new Game(1, player3, player4);
+        for (int round = 0; round < 500; round++) {
+            Player player = new Player(player1Name);
+            assertNull(CuT.signIn(player));
+
+            CountDownLatch started = new CountDownLatch(1);
+            Thread watcher = new Thread(() -> {
+                started.countDown();
+                for (int i = 0; i < 100; i++) {
+                    player.spectateGame(game);
+                    player.leaveGame();
+                }
+            });
+            watcher.start();
+            started.await();
+            assertTrue(CuT.signOut(player));
+            watcher.join();
+
+            assertFalse(CuT.getAvailablePlayers().contains(player));
+            assertFalse(CuT.getSpectators().contains(player));
+            assertFalse(CuT.getPlayersInGame().contains(player));
+        }
+
+        assertNull(CuT.signIn(player2));
+        Player next = new Player(player1Name);
+        assertNull(CuT.signIn(next));
+        assertEquals(Arrays.asList(next, player2), new ArrayList<>(CuT.getAvailablePlayers()));
+    }
+
+    /**
+     * Test that the live, archived and evicted game counts of the game center are passed on
+     */
+    @Test
+    public void testGameLifecycleCounts() {
+        // The archive keeps a single game
+        CuT = new PlayerLobby(1, GameCenter.DEFAULT_ARCHIVE_TTL_MILLIS, 1);
+        CuT.signIn(player1);
+        CuT.signIn(player2);
+        CuT.signIn(player3);
+        CuT.signIn(player4);
+        CuT.startGame(player1, player2Name);
+        CuT.startGame(player3, player4Name);
+        assertEquals(2, CuT.getGameCount());
+        assertEquals(0, CuT.getArchivedGameCount());
+
+        CuT.resignGame(player1);
+        player1.leaveGame();
+        player2.leaveGame();
+        CuT.sweepGames();
+        assertEquals(1, CuT.getGameCount());
+        assertEquals(1, CuT.getArchivedGameCount());
+        assertEquals(0, CuT.getEvictedGameCount());
+
+        CuT.resignGame(player3);
+        player3.leaveGame();
+        player4.leaveGame();
+        CuT.sweepGames();
+        assertEquals(0, CuT.getGameCount());
+        assertEquals(1, CuT.getArchivedGameCount());
+        assertEquals(1, CuT.getEvictedGameCount());
+    }
 }
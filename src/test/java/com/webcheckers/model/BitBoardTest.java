@@ -0,0 +1,128 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit testing of BitBoard functionality
+ */
+@Tag("Model-tier")
+public class BitBoardTest {
+
+    /**
+     * Test that every dark square maps to a unique square index and back
+     */
+    @Test
+    public void testSquareMapping() {
+        boolean[] seen = new boolean[BitBoard.NUM_SQUARES];
+
+        for (int row = 0; row < 8; row++) {
+            for (int cell = 0; cell < 8; cell++) {
+                int square = BitBoard.squareOf(row, cell);
+                if ((row + cell) % 2 == 0) {
+                    Assertions.assertEquals(BitBoard.NO_SQUARE, square);
+                }
+                else {
+                    Assertions.assertFalse(seen[square]);
+                    seen[square] = true;
+                    Assertions.assertEquals(row, BitBoard.rowOf(square));
+                    Assertions.assertEquals(cell, BitBoard.cellOf(square));
+                }
+            }
+        }
+        Assertions.assertEquals(BitBoard.NO_SQUARE, BitBoard.squareOf(-1, 0));
+        Assertions.assertEquals(BitBoard.NO_SQUARE, BitBoard.squareOf(0, 9));
+    }
+
+    /**
+     * Test that the masks built from the starting board hold twelve pieces of each color and no kings
+     */
+    @Test
+    public void testFromSpaces() {
+        Game game = new Game(1, mock(Player.class), mock(Player.class));
+        BitBoard bitBoard = BitBoard.fromSpaces(game.getBoard());
+
+        Assertions.assertEquals(0x00000FFF, bitBoard.getRed());
+        Assertions.assertEquals(0xFFF00000, bitBoard.getWhite());
+        Assertions.assertEquals(0, bitBoard.getKings());
+        Assertions.assertEquals(0x000FF000, bitBoard.getEmpty());
+
+        game.getBoard()[3][2].addPiece(new Piece(Piece.Type.KING, Piece.PieceColor.WHITE));
+        bitBoard = BitBoard.fromSpaces(game.getBoard());
+        int square = BitBoard.squareOf(3, 2);
+
+        Assertions.assertEquals(Piece.PieceColor.WHITE, bitBoard.colorAt(square));
+        Assertions.assertTrue(bitBoard.isKing(square));
+        Assertions.assertNull(bitBoard.colorAt(BitBoard.squareOf(4, 1)));
+    }
+
+    /**
+     * Test that the diagonal shifts follow the board and drop squares that leave it
+     */
+    @Test
+    public void testShifts() {
+        int left = 1 << BitBoard.squareOf(3, 0);
+        int right = 1 << BitBoard.squareOf(2, 7);
+
+        Assertions.assertEquals(1 << BitBoard.squareOf(4, 1), BitBoard.upRight(left));
+        Assertions.assertEquals(0, BitBoard.upLeft(left));
+        Assertions.assertEquals(0, BitBoard.downLeft(left));
+        Assertions.assertEquals(1 << BitBoard.squareOf(2, 1), BitBoard.downRight(left));
+
+        Assertions.assertEquals(1 << BitBoard.squareOf(3, 6), BitBoard.upLeft(right));
+        Assertions.assertEquals(0, BitBoard.upRight(right));
+        Assertions.assertEquals(1 << BitBoard.squareOf(1, 6), BitBoard.downLeft(right));
+        Assertions.assertEquals(0, BitBoard.downRight(right));
+
+        Assertions.assertEquals(0, BitBoard.upLeft(BitBoard.RED_KING_ROW));
+        Assertions.assertEquals(0, BitBoard.downRight(BitBoard.WHITE_KING_ROW));
+    }
+
+    /**
+     * Test the comparison of two boards
+     */
+    @Test
+    public void testEquals() {
+        BitBoard bitBoard = new BitBoard(1, 2, 0);
+
+        Assertions.assertEquals(bitBoard, new BitBoard(bitBoard));
+        Assertions.assertEquals(bitBoard.hashCode(), new BitBoard(bitBoard).hashCode());
+        Assertions.assertNotEquals(bitBoard, new BitBoard(1, 2, 1));
+    }
+
+    /**
+     * Test that every change of the board keeps its hash equal to the hash of its pieces
+     */
+    @Test
+    public void testHash() {
+        int red = 1 << BitBoard.squareOf(2, 1);
+        int white = 1 << BitBoard.squareOf(3, 2);
+        BitBoard bitBoard = new BitBoard(red, white, 0);
+        long start = bitBoard.getHash();
+
+        Assertions.assertEquals(Zobrist.hash(red, white, 0), start);
+        Assertions.assertNotEquals(start, new BitBoard(white, red, 0).getHash());
+        Assertions.assertNotEquals(start, new BitBoard(red, white, red).getHash());
+
+        bitBoard.movePiece(BitBoard.squareOf(2, 1), BitBoard.squareOf(4, 3));
+        bitBoard.removePiece(BitBoard.squareOf(3, 2));
+        bitBoard.setKing(BitBoard.squareOf(4, 3), true);
+        Assertions.assertEquals(Zobrist.hash(bitBoard.getRed(), bitBoard.getWhite(), bitBoard.getKings()),
+                bitBoard.getHash());
+
+        // Setting a square to what it already is, or removing nothing, does not change the hash
+        long hash = bitBoard.getHash();
+        bitBoard.setKing(BitBoard.squareOf(4, 3), true);
+        bitBoard.removePiece(BitBoard.squareOf(3, 2));
+        Assertions.assertEquals(hash, bitBoard.getHash());
+
+        bitBoard.setKing(BitBoard.squareOf(4, 3), false);
+        bitBoard.movePiece(BitBoard.squareOf(4, 3), BitBoard.squareOf(2, 1));
+        bitBoard.addPiece(BitBoard.squareOf(3, 2), Piece.PieceColor.WHITE, false);
+        Assertions.assertEquals(start, bitBoard.getHash());
+        Assertions.assertEquals(start, new BitBoard(bitBoard).getHash());
+    }
+}
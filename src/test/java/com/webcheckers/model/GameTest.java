@@ -352,4 +352,146 @@ public class GameTest {
         Assertions.assertTrue(CuT.searchForJumpsForOnePiece(potentialMove, board, Piece.PieceColor.WHITE));
 
     }
+
+    /**
+     * Test validating the moves of a turn against the legal moves of the active player
+     */
+    @Test
+    public void testValidateMoveForTurn() {
+        Space[][] board = CuT.getBoard();
+
+        // A simple move from the start of the turn
+        Message returnMessage = CuT.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
+        Assertions.assertEquals(SIMPLE_MOVE, returnMessage);
+        Assertions.assertEquals(1, CuT.getSizePendingMoves());
+        Assertions.assertNull(CuT.getPendingPosition().colorAt(BitBoard.squareOf(2, 1)));
+        Assertions.assertEquals(Space.State.NOT_EMPTY, board[2][1].getState());
+
+        returnMessage = CuT.validateMove(new Move(new Position(2, 3), new Position(4, 5)));
+        Assertions.assertEquals(Message.Type.ERROR, returnMessage.getType());
+
+        returnMessage = CuT.validateMove(new Move(new Position(2, 3), new Position(5, 6)));
+        Assertions.assertEquals(DISTANT_MOVE, returnMessage);
+
+        // A jump that continues into a second jump
+        CuT.clearPendingMoves();
+        board[3][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        board[6][5].removePiece();
+        board[4][3].removePiece();
+        CuT.modifyActualBoard(board);
+
+        returnMessage = CuT.validateMove(new Move(new Position(2, 1), new Position(4, 3)));
+        Assertions.assertEquals(JUMP_MOVE, returnMessage);
+        returnMessage = CuT.validateMove(new Move(new Position(4, 3), new Position(6, 5)));
+        Assertions.assertEquals(JUMP_MOVE, returnMessage);
+        Assertions.assertEquals(2, CuT.getSizePendingMoves());
+        Assertions.assertNull(CuT.getPendingPosition().colorAt(BitBoard.squareOf(5, 4)));
+        Assertions.assertFalse(CuT.canContinueJump());
+    }
+
+    /**
+     * Test taking back pending moves and committing a turn to the actual board
+     */
+    @Test
+    public void testBackupAndCommitMoves() {
+        Space[][] board = CuT.getBoard();
+        board[3][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        board[6][5].removePiece();
+        board[4][3].removePiece();
+        CuT.modifyActualBoard(board);
+        BitBoard turnStart = CuT.getPendingPosition();
+
+        Assertions.assertFalse(CuT.backupMove());
+
+        CuT.validateMove(new Move(new Position(2, 1), new Position(4, 3)));
+        Assertions.assertTrue(CuT.canContinueJump());
+
+        // Taking the jump back restores the captured piece
+        Assertions.assertTrue(CuT.backupMove());
+        Assertions.assertFalse(CuT.hasMoves());
+        Assertions.assertEquals(turnStart, CuT.getPendingPosition());
+
+        CuT.validateMove(new Move(new Position(2, 1), new Position(4, 3)));
+        CuT.validateMove(new Move(new Position(4, 3), new Position(6, 5)));
+        Assertions.assertEquals(Space.State.NOT_EMPTY, board[3][2].getState());
+
+        CuT.commitPendingMoves();
+        Assertions.assertFalse(CuT.hasMoves());
+        Assertions.assertNull(board[2][1].getPiece());
+        Assertions.assertNull(board[3][2].getPiece());
+        Assertions.assertNull(board[5][4].getPiece());
+        Assertions.assertEquals(Piece.PieceColor.RED, board[6][5].getPiece().getColor());
+        Assertions.assertEquals(BitBoard.fromSpaces(board), CuT.getPendingPosition());
+        Assertions.assertTrue(CuT.canMove(Piece.PieceColor.WHITE));
+    }
+
+    /**
+     * Test that the legal moves are generated once per turn and again after the board changes
+     */
+    @Test
+    public void testLegalMovesInvalidation() {
+        LegalMoves legalMoves = CuT.getLegalMoves();
+
+        Assertions.assertSame(legalMoves, CuT.getLegalMoves());
+        Assertions.assertEquals(Piece.PieceColor.RED, legalMoves.getColor());
+
+        CuT.changeTurn();
+        Assertions.assertNotSame(legalMoves, CuT.getLegalMoves());
+        Assertions.assertEquals(Piece.PieceColor.WHITE, CuT.getLegalMoves().getColor());
+
+        legalMoves = CuT.getLegalMoves();
+        CuT.modifyActualBoard(CuT.createBoardCopy(CuT.getBoard()));
+        Assertions.assertNotSame(legalMoves, CuT.getLegalMoves());
+    }
+
+    /**
+     * Test that the board views are built once per committed board and shared by every viewer
+     */
+    @Test
+    public void testBoardViewSharing() {
+        Player spectator = mock(Player.class);
+        BoardView redView = CuT.getBoardView(player1);
+        BoardView whiteView = CuT.getBoardView(player2);
+
+        Assertions.assertSame(redView, CuT.getBoardView(player1));
+        Assertions.assertSame(whiteView, CuT.getBoardView(spectator));
+        Assertions.assertNotSame(redView, whiteView);
+        Assertions.assertEquals(7, redView.getRows().get(0).getIndex());
+        Assertions.assertEquals(0, whiteView.getRows().get(0).getIndex());
+        Assertions.assertThrows(UnsupportedOperationException.class, () -> redView.getRows().clear());
+        Assertions.assertThrows(UnsupportedOperationException.class,
+                () -> whiteView.getRows().get(0).getSpaces().clear());
+
+        // Pending moves do not change the views, a committed turn builds new ones
+        CuT.validateMove(new Move(new Position(2, 1), new Position(3, 2)));
+        Assertions.assertSame(redView, CuT.getBoardView(player1));
+        CuT.commitPendingMoves();
+        BoardView committedView = CuT.getBoardView(spectator);
+        Assertions.assertNotSame(whiteView, committedView);
+        Assertions.assertNotNull(whiteView.getRows().get(2).getSpaces().get(1).getPiece());
+        Assertions.assertNull(whiteView.getRows().get(3).getSpaces().get(2).getPiece());
+        Assertions.assertNull(committedView.getRows().get(2).getSpaces().get(1).getPiece());
+        Assertions.assertNotNull(committedView.getRows().get(3).getSpaces().get(2).getPiece());
+    }
+
+    /**
+     * Test that the position hash follows the pending moves and the side to move
+     */
+    @Test
+    public void testPositionHash() {
+        BitBoard start = CuT.getPendingPosition();
+        long startHash = CuT.getPositionHash();
+        Assertions.assertEquals(Zobrist.hash(start.getRed(), start.getWhite(), start.getKings()), startHash);
+
+        CuT.validateMove(new Move(new Position(2, 1), new Position(3, 2)));
+        BitBoard pending = CuT.getPendingPosition();
+        Assertions.assertEquals(Zobrist.hash(pending.getRed(), pending.getWhite(), pending.getKings()),
+                CuT.getPositionHash());
+
+        CuT.backupMove();
+        Assertions.assertEquals(startHash, CuT.getPositionHash());
+
+        CuT.changeTurn();
+        Assertions.assertEquals(startHash ^ Zobrist.WHITE_TO_MOVE, CuT.getPositionHash());
+    }
 }
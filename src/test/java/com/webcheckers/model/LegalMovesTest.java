@@ -0,0 +1,77 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit testing of LegalMoves functionality
+ */
+@Tag("Model-tier")
+public class LegalMovesTest {
+
+    private static int square(int row, int cell) {
+        return BitBoard.squareOf(row, cell);
+    }
+
+    private static int bit(int row, int cell) {
+        return 1 << square(row, cell);
+    }
+
+    /**
+     * Test the moves available from the starting board
+     */
+    @Test
+    public void testStartingMoves() {
+        LegalMoves CuT = new LegalMoves(new BitBoard(0x00000FFF, 0xFFF00000, 0), Piece.PieceColor.RED);
+
+        Assertions.assertEquals(Piece.PieceColor.RED, CuT.getColor());
+        Assertions.assertTrue(CuT.hasMove());
+        Assertions.assertFalse(CuT.hasJump());
+        Assertions.assertEquals(0, CuT.getJumpStepCount());
+        Assertions.assertTrue(CuT.isSimpleMove(square(2, 1), square(3, 0)));
+        Assertions.assertFalse(CuT.isSimpleMove(square(1, 0), square(2, 1)));
+        Assertions.assertFalse(CuT.isSimpleMove(BitBoard.NO_SQUARE, square(3, 0)));
+        Assertions.assertFalse(CuT.isJumpMove(square(2, 1), square(4, 3)));
+    }
+
+    /**
+     * Test that a jump sequence with two ways to continue is found step by step
+     */
+    @Test
+    public void testJumpSequences() {
+        BitBoard board = new BitBoard(bit(2, 1), bit(3, 2) | bit(5, 2) | bit(5, 4), 0);
+        LegalMoves CuT = new LegalMoves(board, Piece.PieceColor.RED);
+
+        Assertions.assertTrue(CuT.hasJump());
+        Assertions.assertEquals(3, CuT.getJumpStepCount());
+        Assertions.assertTrue(CuT.isJumpMove(square(2, 1), square(4, 3)));
+
+        int step = CuT.findStep(LegalMoves.ROOT, square(2, 1), square(4, 3));
+        Assertions.assertTrue(CuT.mustContinue(step));
+
+        int left = CuT.findStep(step, square(4, 3), square(6, 1));
+        int right = CuT.findStep(step, square(4, 3), square(6, 5));
+        Assertions.assertNotEquals(LegalMoves.NO_STEP, left);
+        Assertions.assertNotEquals(LegalMoves.NO_STEP, right);
+        Assertions.assertFalse(CuT.mustContinue(left));
+        Assertions.assertFalse(CuT.mustContinue(right));
+
+        // Steps that skip ahead or do not belong to a sequence are not found
+        Assertions.assertEquals(LegalMoves.NO_STEP, CuT.findStep(LegalMoves.ROOT, square(4, 3), square(6, 5)));
+        Assertions.assertEquals(LegalMoves.NO_STEP, CuT.findStep(LegalMoves.NO_STEP, square(2, 1), square(4, 3)));
+        Assertions.assertFalse(CuT.mustContinue(LegalMoves.NO_STEP));
+    }
+
+    /**
+     * Test that a player without pieces that can move has no moves
+     */
+    @Test
+    public void testNoMoves() {
+        BitBoard board = new BitBoard(bit(2, 1), bit(0, 1), 0);
+        LegalMoves CuT = new LegalMoves(board, Piece.PieceColor.WHITE);
+
+        Assertions.assertFalse(CuT.hasMove());
+        Assertions.assertFalse(CuT.hasJump());
+    }
+}
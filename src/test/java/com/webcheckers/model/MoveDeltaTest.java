@@ -0,0 +1,82 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit testing of MoveDelta functionality
+ */
+@Tag("Model-tier")
+public class MoveDeltaTest {
+
+    private static int bit(int row, int cell) {
+        return 1 << BitBoard.squareOf(row, cell);
+    }
+
+    /**
+     * Test that a simple move is applied and undone
+     */
+    @Test
+    public void testSimpleMove() {
+        BitBoard position = new BitBoard(bit(2, 1), bit(5, 0), 0);
+        BitBoard original = new BitBoard(position);
+        MoveDelta CuT = new MoveDelta(new Move(new Position(2, 1), new Position(3, 2)), position, LegalMoves.NO_STEP);
+
+        Assertions.assertFalse(CuT.isJump());
+        Assertions.assertFalse(CuT.isPromoted());
+        Assertions.assertEquals(BitBoard.NO_SQUARE, CuT.getCaptured());
+        Assertions.assertEquals(LegalMoves.NO_STEP, CuT.getStep());
+
+        CuT.apply(position);
+        Assertions.assertEquals(new BitBoard(bit(3, 2), bit(5, 0), 0), position);
+
+        CuT.undo(position);
+        Assertions.assertEquals(original, position);
+    }
+
+    /**
+     * Test that a jump capturing a king and promoting the jumping piece is applied and undone
+     */
+    @Test
+    public void testPromotingJump() {
+        BitBoard position = new BitBoard(bit(1, 2), bit(2, 3) | bit(6, 1), bit(1, 2));
+        BitBoard original = new BitBoard(position);
+        MoveDelta CuT = new MoveDelta(new Move(new Position(2, 3), new Position(0, 1)), position, 1);
+
+        Assertions.assertTrue(CuT.isJump());
+        Assertions.assertTrue(CuT.isPromoted());
+        Assertions.assertEquals(BitBoard.squareOf(1, 2), CuT.getCaptured());
+        Assertions.assertEquals(1, CuT.getStep());
+
+        CuT.apply(position);
+        Assertions.assertEquals(new BitBoard(0, bit(0, 1) | bit(6, 1), bit(0, 1)), position);
+
+        CuT.undo(position);
+        Assertions.assertEquals(original, position);
+    }
+
+    /**
+     * Test that a move is made on a board array of spaces
+     */
+    @Test
+    public void testApplyToSpaces() {
+        Space[][] board = new Game(1, mock(Player.class), mock(Player.class)).getBoard();
+        board[3][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        board[6][5].removePiece();
+        board[7][6].removePiece();
+        board[4][3].removePiece();
+        Piece jumper = board[2][1].getPiece();
+
+        MoveDelta CuT = new MoveDelta(new Move(new Position(2, 1), new Position(4, 3)),
+                BitBoard.fromSpaces(board), LegalMoves.NO_STEP);
+        CuT.apply(board);
+
+        Assertions.assertNull(board[2][1].getPiece());
+        Assertions.assertNull(board[3][2].getPiece());
+        Assertions.assertSame(jumper, board[4][3].getPiece());
+        Assertions.assertEquals(Piece.Type.SINGLE, jumper.getType());
+    }
+}
@@ -0,0 +1,93 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit testing of MoveGenerator functionality
+ */
+@Tag("Model-tier")
+public class MoveGeneratorTest {
+
+    private static final int START_RED = 0x00000FFF;
+    private static final int START_WHITE = 0xFFF00000;
+
+    private static int bit(int row, int cell) {
+        return 1 << BitBoard.squareOf(row, cell);
+    }
+
+    /**
+     * Test the simple moves available from the starting board
+     */
+    @Test
+    public void testStartingSimpleMoves() {
+        BitBoard board = new BitBoard(START_RED, START_WHITE, 0);
+
+        // Only the front row of each side can move, and the edge piece has a single target
+        Assertions.assertEquals(0x00000F00, MoveGenerator.simpleMovers(board, Piece.PieceColor.RED));
+        Assertions.assertEquals(0x00F00000, MoveGenerator.simpleMovers(board, Piece.PieceColor.WHITE));
+        Assertions.assertEquals(bit(3, 0) | bit(3, 2),
+                MoveGenerator.simpleTargets(board, BitBoard.squareOf(2, 1)));
+        Assertions.assertEquals(bit(3, 6), MoveGenerator.simpleTargets(board, BitBoard.squareOf(2, 7)));
+        Assertions.assertFalse(MoveGenerator.canJump(board, Piece.PieceColor.RED));
+        Assertions.assertFalse(MoveGenerator.canJump(board, Piece.PieceColor.WHITE));
+    }
+
+    /**
+     * Test that single pieces only jump forward and kings jump in every direction
+     */
+    @Test
+    public void testJumpDirections() {
+        int red = bit(3, 2);
+        int white = bit(4, 3) | bit(2, 1) | bit(2, 3);
+        BitBoard board = new BitBoard(red, white, 0);
+        int square = BitBoard.squareOf(3, 2);
+
+        Assertions.assertEquals(bit(5, 4), MoveGenerator.jumpTargets(board, square));
+        Assertions.assertEquals(red, MoveGenerator.jumpers(board, Piece.PieceColor.RED));
+
+        board = new BitBoard(red, white, red);
+        Assertions.assertEquals(bit(5, 4) | bit(1, 0) | bit(1, 4), MoveGenerator.jumpTargets(board, square));
+        Assertions.assertTrue(MoveGenerator.isJumpMove(board, square, BitBoard.squareOf(1, 0)));
+        Assertions.assertFalse(MoveGenerator.isJumpMove(board, square, BitBoard.squareOf(5, 0)));
+
+        // The white piece on (4, 3) is blocked, and the pieces on row 2 can only jump backwards as kings
+        Assertions.assertEquals(0, MoveGenerator.jumpers(board, Piece.PieceColor.WHITE));
+        board = new BitBoard(red, white, red | bit(2, 3));
+        Assertions.assertEquals(bit(2, 3), MoveGenerator.jumpers(board, Piece.PieceColor.WHITE));
+    }
+
+    /**
+     * Test that pieces cannot jump their own color, off the board, or onto an occupied square
+     */
+    @Test
+    public void testBlockedJumps() {
+        BitBoard board = new BitBoard(bit(3, 0) | bit(4, 1), bit(5, 0), 0);
+
+        Assertions.assertEquals(0, MoveGenerator.jumpTargets(board, BitBoard.squareOf(3, 0)));
+        Assertions.assertEquals(0, MoveGenerator.jumpTargets(board, BitBoard.squareOf(4, 1)));
+
+        board = new BitBoard(bit(6, 7), bit(7, 6), 0);
+        Assertions.assertEquals(0, MoveGenerator.jumpTargets(board, BitBoard.squareOf(6, 7)));
+        Assertions.assertFalse(MoveGenerator.canJump(board, Piece.PieceColor.RED));
+    }
+
+    /**
+     * Test the edge cases of move lookups
+     */
+    @Test
+    public void testMoveLookups() {
+        BitBoard board = new BitBoard(START_RED, START_WHITE, 0);
+
+        Assertions.assertEquals(0, MoveGenerator.simpleTargets(board, BitBoard.squareOf(4, 1)));
+        Assertions.assertFalse(MoveGenerator.isSimpleMove(board, BitBoard.NO_SQUARE, 0));
+        Assertions.assertFalse(MoveGenerator.isJumpMove(board, 0, BitBoard.NO_SQUARE));
+        Assertions.assertTrue(MoveGenerator.isSimpleMove(board,
+                BitBoard.squareOf(5, 0), BitBoard.squareOf(4, 1)));
+        Assertions.assertFalse(MoveGenerator.isSimpleMove(board,
+                BitBoard.squareOf(5, 0), BitBoard.squareOf(6, 1)));
+        Assertions.assertTrue(MoveGenerator.canMoveSimple(board, Piece.PieceColor.WHITE));
+        Assertions.assertFalse(MoveGenerator.canMoveSimple(new BitBoard(0, START_WHITE, 0), Piece.PieceColor.RED));
+    }
+}
@@ -0,0 +1,70 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Unit testing of ParallelSearch functionality
+ */
+@Tag("Model-tier")
+public class ParallelSearchTest {
+
+    private static final int START_RED = 0x00000FFF;
+    private static final int START_WHITE = 0xFFF00000;
+
+    /**
+     * Component Under Test
+     */
+    private ParallelSearch CuT;
+
+    private ForkJoinPool pool;
+
+    @BeforeEach
+    public void setup() {
+        pool = new ForkJoinPool(3);
+        CuT = new ParallelSearch(pool, new TranspositionTable(16), 3);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        pool.shutdownNow();
+    }
+
+    /**
+     * Test that the helpers stop once the main search found its turn, and their nodes are counted
+     */
+    @Test
+    public void testHelpersStop() {
+        BitBoard board = new BitBoard(START_RED, START_WHITE, 0);
+
+        List<Move> turn = CuT.findTurn(board, Piece.PieceColor.RED, 100, 60);
+
+        Assertions.assertEquals(1, turn.size());
+        Assertions.assertTrue(MoveGenerator.isSimpleMove(board,
+                BitBoard.squareOf(turn.get(0).getStart()), BitBoard.squareOf(turn.get(0).getEnd())));
+        Assertions.assertTrue(pool.awaitQuiescence(1, TimeUnit.SECONDS));
+        Assertions.assertTrue(CuT.getNodes() > 0);
+        Assertions.assertTrue(CuT.getDepthReached() > 0);
+    }
+
+    /**
+     * Test that the main search gives the same forced turn a single engine gives
+     */
+    @Test
+    public void testForcedJump() {
+        BitBoard board = new BitBoard(1 << BitBoard.squareOf(2, 1),
+                (1 << BitBoard.squareOf(3, 2)) | (1 << BitBoard.squareOf(5, 4)) | (1 << BitBoard.squareOf(7, 0)), 0);
+
+        List<Move> turn = CuT.findTurn(board, Piece.PieceColor.RED, 1000, 8);
+
+        Assertions.assertEquals(2, turn.size());
+        Assertions.assertEquals(new SearchEngine().findTurn(board, Piece.PieceColor.RED, 1000, 8).size(), turn.size());
+    }
+}
@@ -0,0 +1,79 @@
+package com.webcheckers.model;
+
+/**
+ * Perft benchmark: counts the positions after every number of turns from a fixed suite of positions, checks
+ * them against their reference counts, and reports the positions counted per second.
+ *
+ * <p>
+ * Run it with {@code mvn test-compile exec:java@perft}, and pass the deepest depth to count with
+ * {@code -Dexec.args="9"}. The counts from the starting board are the published counts of English draughts.
+ * The other positions are full of multiple jumps, kings and promotions; {@link PerftTest} checks all of their
+ * counts against a naive generator of turns on a {@link Space} board, which shares no code with the bit board
+ * generators. The program fails if any count is wrong.
+ * </p>
+ */
+public class PerftBenchmark {
+
+    /**
+     * A position of the suite, red to move, and its counts from depth 1
+     */
+    static final class PerftCase {
+        final String name;
+        final int red;
+        final int white;
+        final int kings;
+        final long[] counts;
+
+        PerftCase(String name, int red, int white, int kings, long... counts) {
+            this.name = name;
+            this.red = red;
+            this.white = white;
+            this.kings = kings;
+            this.counts = counts;
+        }
+
+        BitBoard board() {
+            return new BitBoard(red, white, kings);
+        }
+    }
+
+    static final PerftCase[] SUITE = {
+            // the starting board built by the Game constructor
+            new PerftCase("start", 0x00000FFF, 0xFFF00000, 0x00000000,
+                    7, 49, 302, 1469, 7361, 36768, 179740, 845931, 3963680, 18391564),
+            // a red king with four jump sequences through a ring of white pieces
+            new PerftCase("king ring", 0x00000221, 0x14E06000, 0x04000200,
+                    4, 29, 123, 650, 3461, 18835, 100040),
+            // a red piece that is promoted halfway through what a king could continue as a double jump
+            new PerftCase("promotion", 0x00210010, 0x86840000, 0x00000000,
+                    1, 5, 18, 96, 402, 2108, 8757),
+            // a white king among red pieces, with jumps for both sides on the following turns
+            new PerftCase("white king", 0x00006062, 0x01020000, 0x00020000,
+                    2, 2, 16, 23, 134, 245, 1408),
+    };
+
+    public static void main(String[] args) {
+        int maxDepth = args.length > 0 ? Integer.parseInt(args[0]) : 8;
+        boolean failed = false;
+
+        // Warm up the compiler before anything is measured
+        Perft.perft(SUITE[0].board(), Piece.PieceColor.RED, 7);
+
+        System.out.printf("%-12s %5s %12s %12s %8s %14s%n", "position", "depth", "nodes", "expected", "ms", "nodes/s");
+        for (PerftCase perftCase : SUITE) {
+            for (int depth = 1; depth <= Math.min(maxDepth, perftCase.counts.length); depth++) {
+                long start = System.nanoTime();
+                long nodes = Perft.perft(perftCase.board(), Piece.PieceColor.RED, depth);
+                long elapsed = Math.max(System.nanoTime() - start, 1);
+
+                long expected = perftCase.counts[depth - 1];
+                failed |= nodes != expected;
+                System.out.printf("%-12s %5d %12d %12d %8d %14.0f%s%n", perftCase.name, depth, nodes, expected,
+                        elapsed / 1_000_000, nodes * 1e9 / elapsed, nodes == expected ? "" : "  MISMATCH");
+            }
+        }
+        if (failed) {
+            System.exit(1);
+        }
+    }
+}
@@ -0,0 +1,220 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Unit testing of Perft functionality, against the reference counts of the perft suite and a naive generator
+ * of turns on a {@link Space} board, which shares no code with {@link LegalMoves} or {@link SearchEngine}
+ */
+@Tag("Model-tier")
+public class PerftTest {
+
+    /**
+     * The deepest count checked, which keeps the test quick
+     */
+    private static final int MAX_DEPTH = 6;
+
+    /**
+     * Test that the starting board built by the Game constructor is the board of the suite
+     */
+    @Test
+    public void testStartingBoard() {
+        PerftBenchmark.PerftCase start = PerftBenchmark.SUITE[0];
+        Game game = new Game(1, new Player("red"), new Player("white"));
+
+        Assertions.assertEquals(start.board(), BitBoard.fromSpaces(game.getBoard()));
+        Assertions.assertEquals(1, Perft.perft(start.board(), Piece.PieceColor.RED, 0));
+        Assertions.assertEquals(start.counts[0], game.getLegalMoves().getTurnCount());
+    }
+
+    /**
+     * Test the counts of every position of the suite against their reference counts
+     */
+    @Test
+    public void testSuite() {
+        for (PerftBenchmark.PerftCase perftCase : PerftBenchmark.SUITE) {
+            for (int depth = 1; depth <= Math.min(MAX_DEPTH, perftCase.counts.length); depth++) {
+                Assertions.assertEquals(perftCase.counts[depth - 1],
+                        Perft.perft(perftCase.board(), Piece.PieceColor.RED, depth),
+                        perftCase.name + " at depth " + depth);
+            }
+        }
+    }
+
+    /**
+     * Test the reference counts of the suite against the naive generator, to every depth but the deepest
+     * counts from the starting board, which are the published counts
+     */
+    @Test
+    public void testSuiteAgainstNaiveGenerator() {
+        for (PerftBenchmark.PerftCase perftCase : PerftBenchmark.SUITE) {
+            int maxDepth = perftCase == PerftBenchmark.SUITE[0] ? MAX_DEPTH : perftCase.counts.length;
+            for (int depth = 1; depth <= maxDepth; depth++) {
+                Assertions.assertEquals(perftCase.counts[depth - 1],
+                        naivePerft(toSpaces(perftCase.board()), Piece.PieceColor.RED, depth),
+                        perftCase.name + " at depth " + depth);
+            }
+        }
+    }
+
+    //
+    // The naive generator: every turn is found by looking at each space and each direction, and made on a
+    // copy of the board. A single piece moves away from its own first row, and becomes a king on the far row,
+    // which ends its turn. Jumps must be taken, and a multiple jump continues while the piece can jump.
+    //
+
+    private static final int SIZE = 8;
+    private static final int[] ROW_STEPS = { 1, 1, -1, -1 };
+    private static final int[] CELL_STEPS = { 1, -1, 1, -1 };
+
+    private static long naivePerft(Space[][] board, Piece.PieceColor color, int depth) {
+        if (depth == 0) {
+            return 1;
+        }
+        Piece.PieceColor next = color == Piece.PieceColor.RED ? Piece.PieceColor.WHITE : Piece.PieceColor.RED;
+        long nodes = 0;
+        for (Space[][] child : naiveTurns(board, color)) {
+            nodes += naivePerft(child, next, depth - 1);
+        }
+        return nodes;
+    }
+
+    /**
+     * Finds the board after every legal turn of a color, once for every way of making it
+     */
+    private static List<Space[][]> naiveTurns(Space[][] board, Piece.PieceColor color) {
+        List<Space[][]> turns = new ArrayList<>();
+        for (int row = 0; row < SIZE; row++) {
+            for (int cell = 0; cell < SIZE; cell++) {
+                if (isColor(board, row, cell, color)) {
+                    addJumps(board, row, cell, color, turns);
+                }
+            }
+        }
+        if (!turns.isEmpty()) {
+            return turns;
+        }
+        for (int row = 0; row < SIZE; row++) {
+            for (int cell = 0; cell < SIZE; cell++) {
+                if (!isColor(board, row, cell, color)) {
+                    continue;
+                }
+                for (int dir = 0; dir < ROW_STEPS.length; dir++) {
+                    int toRow = row + ROW_STEPS[dir];
+                    int toCell = cell + CELL_STEPS[dir];
+                    if (canStep(board, row, cell, dir) && isEmpty(board, toRow, toCell)) {
+                        Space[][] child = copy(board);
+                        moveNaive(child, row, cell, toRow, toCell);
+                        turns.add(child);
+                    }
+                }
+            }
+        }
+        return turns;
+    }
+
+    /**
+     * Adds the board after every jump sequence of the piece on a space, ending where it can jump no more
+     */
+    private static void addJumps(Space[][] board, int row, int cell, Piece.PieceColor color, List<Space[][]> turns) {
+        for (int dir = 0; dir < ROW_STEPS.length; dir++) {
+            int overRow = row + ROW_STEPS[dir];
+            int overCell = cell + CELL_STEPS[dir];
+            int toRow = overRow + ROW_STEPS[dir];
+            int toCell = overCell + CELL_STEPS[dir];
+            if (!canStep(board, row, cell, dir) || !isEmpty(board, toRow, toCell)
+                    || board[overRow][overCell].getPiece() == null
+                    || board[overRow][overCell].getPiece().getColor() == color) {
+                continue;
+            }
+            Space[][] child = copy(board);
+            child[overRow][overCell].removePiece();
+            boolean promoted = moveNaive(child, row, cell, toRow, toCell);
+
+            int before = turns.size();
+            if (!promoted) {
+                addJumps(child, toRow, toCell, color, turns);
+            }
+            if (turns.size() == before) {
+                turns.add(child);
+            }
+        }
+    }
+
+    /**
+     * Checks if the piece on a space may step in a direction, whatever is on the space it steps to
+     */
+    private static boolean canStep(Space[][] board, int row, int cell, int dir) {
+        Piece piece = board[row][cell].getPiece();
+        boolean forward = (piece.getColor() == Piece.PieceColor.RED) == (ROW_STEPS[dir] > 0);
+        return piece.getType() == Piece.Type.KING || forward;
+    }
+
+    /**
+     * Moves a piece, and makes it a king if it is a single piece reaching the far row
+     *
+     * @return  true if the piece was made a king
+     */
+    private static boolean moveNaive(Space[][] board, int row, int cell, int toRow, int toCell) {
+        Piece piece = board[row][cell].getPiece();
+        board[row][cell].removePiece();
+        board[toRow][toCell].addPiece(piece);
+        int farRow = piece.getColor() == Piece.PieceColor.RED ? SIZE - 1 : 0;
+        if (piece.getType() == Piece.Type.SINGLE && toRow == farRow) {
+            piece.modifyTypeToKING();
+            return true;
+        }
+        return false;
+    }
+
+    private static boolean isColor(Space[][] board, int row, int cell, Piece.PieceColor color) {
+        Piece piece = board[row][cell].getPiece();
+        return piece != null && piece.getColor() == color;
+    }
+
+    private static boolean isEmpty(Space[][] board, int row, int cell) {
+        return row >= 0 && row < SIZE && cell >= 0 && cell < SIZE
+                && board[row][cell].getSpaceColor() == Space.SpaceColor.BLACK && board[row][cell].getPiece() == null;
+    }
+
+    private static Space[][] copy(Space[][] board) {
+        Space[][] copy = new Space[SIZE][SIZE];
+        for (int row = 0; row < SIZE; row++) {
+            for (int cell = 0; cell < SIZE; cell++) {
+                copy[row][cell] = new Space(board[row][cell]);
+            }
+        }
+        return copy;
+    }
+
+    /**
+     * Lays the pieces of a suite position out on spaces. The squares are numbered from the first dark space of
+     * row 0, four to a row, and the dark spaces are those whose row and cell add up to an odd number.
+     */
+    private static Space[][] toSpaces(BitBoard bitBoard) {
+        Space[][] board = new Space[SIZE][SIZE];
+        for (int row = 0; row < SIZE; row++) {
+            for (int cell = 0; cell < SIZE; cell++) {
+                boolean dark = (row + cell) % 2 == 1;
+                board[row][cell] = new Space(Space.State.EMPTY, dark ? Space.SpaceColor.BLACK : Space.SpaceColor.WHITE,
+                        cell, null);
+            }
+        }
+        for (int square = 0; square < 32; square++) {
+            int bit = 1 << square;
+            int row = square / 4;
+            int cell = 2 * (square % 4) + (row % 2 == 0 ? 1 : 0);
+            if (((bitBoard.getRed() | bitBoard.getWhite()) & bit) != 0) {
+                Piece.PieceColor color = (bitBoard.getRed() & bit) != 0 ? Piece.PieceColor.RED : Piece.PieceColor.WHITE;
+                Piece.Type type = (bitBoard.getKings() & bit) != 0 ? Piece.Type.KING : Piece.Type.SINGLE;
+                board[row][cell].addPiece(new Piece(type, color));
+            }
+        }
+        return board;
+    }
+}
@@ -0,0 +1,76 @@
+package com.webcheckers.model;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Benchmark of the {@link ParallelSearch}: the nodes searched per second on a fixed suite of positions, from one
+ * thread up to a number of threads.
+ *
+ * <p>
+ * Run it with {@code mvn test-compile exec:java@search-benchmark}, and pass the most threads and the time spent
+ * on each position with {@code -Dexec.args="8 2000"}. Each thread count starts with an empty table, so every
+ * row searches the same positions from scratch.
+ * </p>
+ */
+public class SearchBenchmark {
+
+    private static final int TABLE_BITS = 20;
+    private static final int MAX_DEPTH = 60;
+
+    /**
+     * The positions searched: the starting board, then the boards after every eighth turn of a game the engine
+     * played against itself, each with red to move. Each is red, white and kings.
+     */
+    private static final int[][] SUITE = {
+            { 0x00000FFF, 0xFFF00000, 0x00000000 },
+            { 0x00001EEF, 0xFCE30000, 0x00000000 },
+            { 0x00001B8F, 0xE9A30000, 0x00000000 },
+            { 0x00001D0D, 0xA92C0000, 0x00000000 },
+            { 0x00007A0C, 0x80FC0000, 0x00000000 },
+            { 0x0A001008, 0x80020004, 0x00000004 },
+    };
+
+    public static void main(String[] args) throws InterruptedException {
+        int maxThreads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        long millis = args.length > 1 ? Long.parseLong(args[1]) : 1000;
+
+        // Warm up the compiler before anything is measured
+        run(1, Math.min(millis, 500));
+
+        System.out.printf("%d positions, %d ms each%n", SUITE.length, millis);
+        System.out.printf("%8s %14s %8s %10s%n", "threads", "nodes/s", "speedup", "avg depth");
+        double base = 0;
+        for (int threads = 1; threads <= maxThreads; threads++) {
+            double[] result = run(threads, millis);
+            if (threads == 1) {
+                base = result[0];
+            }
+            System.out.printf("%8d %14.0f %8.2f %10.1f%n", threads, result[0], result[0] / base, result[1]);
+        }
+    }
+
+    /**
+     * Searches every position of the suite with a number of threads
+     *
+     * @return  the nodes per second and the average depth the main search reached
+     */
+    private static double[] run(int threads, long millis) throws InterruptedException {
+        ForkJoinPool pool = new ForkJoinPool(threads);
+        ParallelSearch search = new ParallelSearch(pool, new TranspositionTable(TABLE_BITS), threads);
+        int depth = 0;
+
+        long start = System.nanoTime();
+        for (int[] position : SUITE) {
+            search.findTurn(new BitBoard(position[0], position[1], position[2]), Piece.PieceColor.RED,
+                    millis, MAX_DEPTH);
+            depth += search.getDepthReached();
+        }
+        // The helpers stop within a few hundred nodes of the main search
+        pool.awaitQuiescence(1, TimeUnit.SECONDS);
+        long elapsed = System.nanoTime() - start;
+        pool.shutdown();
+
+        return new double[] { search.getNodes() * 1e9 / elapsed, (double) depth / SUITE.length };
+    }
+}
@@ -0,0 +1,149 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+/**
+ * Unit testing of SearchEngine functionality
+ */
+@Tag("Model-tier")
+public class SearchEngineTest {
+
+    private static final int START_RED = 0x00000FFF;
+    private static final int START_WHITE = 0xFFF00000;
+
+    /**
+     * Component Under Test
+     */
+    private SearchEngine CuT;
+
+    private static int bit(int row, int cell) {
+        return 1 << BitBoard.squareOf(row, cell);
+    }
+
+    private static void assertMove(Move move, int startRow, int startCell, int endRow, int endCell) {
+        Assertions.assertEquals(startRow, move.getStart().getRow());
+        Assertions.assertEquals(startCell, move.getStart().getCell());
+        Assertions.assertEquals(endRow, move.getEnd().getRow());
+        Assertions.assertEquals(endCell, move.getEnd().getCell());
+    }
+
+    @BeforeEach
+    public void setup() {
+        CuT = new SearchEngine();
+    }
+
+    /**
+     * Test that the search deepens from the starting board and finds a legal simple move
+     */
+    @Test
+    public void testStartingTurn() {
+        BitBoard board = new BitBoard(START_RED, START_WHITE, 0);
+
+        List<Move> turn = CuT.findTurn(board, Piece.PieceColor.RED, 10_000, 6);
+
+        Assertions.assertEquals(1, turn.size());
+        Assertions.assertTrue(MoveGenerator.isSimpleMove(board,
+                BitBoard.squareOf(turn.get(0).getStart()), BitBoard.squareOf(turn.get(0).getEnd())));
+        Assertions.assertEquals(6, CuT.getDepthReached());
+        Assertions.assertTrue(CuT.getNodes() > 0);
+    }
+
+    /**
+     * Test that a jump is always taken, and every jump of a multiple jump is part of the turn
+     */
+    @Test
+    public void testForcedJumps() {
+        BitBoard board = new BitBoard(bit(2, 1) | bit(0, 7), bit(3, 2) | bit(7, 0), 0);
+        List<Move> turn = CuT.findTurn(board, Piece.PieceColor.RED, 1000, 8);
+        Assertions.assertEquals(1, turn.size());
+        assertMove(turn.get(0), 2, 1, 4, 3);
+
+        board = new BitBoard(bit(2, 1), bit(3, 2) | bit(5, 4) | bit(7, 0), 0);
+        turn = CuT.findTurn(board, Piece.PieceColor.RED, 1000, 8);
+        Assertions.assertEquals(2, turn.size());
+        assertMove(turn.get(0), 2, 1, 4, 3);
+        assertMove(turn.get(1), 4, 3, 6, 5);
+    }
+
+    /**
+     * Test that a single piece reaching the king row ends its turn, even with another jump a king could make
+     */
+    @Test
+    public void testPromotionEndsJump() {
+        BitBoard board = new BitBoard(bit(5, 2), bit(6, 3) | bit(6, 5) | bit(0, 1), 0);
+
+        List<Move> turn = CuT.findTurn(board, Piece.PieceColor.RED, 1000, 8);
+
+        Assertions.assertEquals(1, turn.size());
+        assertMove(turn.get(0), 5, 2, 7, 4);
+    }
+
+    /**
+     * Test that a winning turn is scored as a win and the search stops once it is found
+     */
+    @Test
+    public void testFindsWin() {
+        BitBoard board = new BitBoard(bit(2, 1) | bit(2, 3), bit(3, 2), 0);
+
+        List<Move> turn = CuT.findTurn(board, Piece.PieceColor.RED, 1000, 8);
+
+        Assertions.assertEquals(1, turn.size());
+        Assertions.assertEquals(BitBoard.squareOf(3, 2),
+                BitBoard.capturedSquare(BitBoard.squareOf(turn.get(0).getStart()),
+                        BitBoard.squareOf(turn.get(0).getEnd())));
+        Assertions.assertEquals(SearchEngine.WIN - 1, CuT.getScore());
+        Assertions.assertEquals(1, CuT.getDepthReached());
+    }
+
+    /**
+     * Test that a color without moves gets no turn
+     */
+    @Test
+    public void testNoMoves() {
+        BitBoard board = new BitBoard(bit(7, 0), bit(0, 1), 0);
+
+        Assertions.assertTrue(CuT.findTurn(board, Piece.PieceColor.RED, 1000, 8).isEmpty());
+        Assertions.assertEquals(-SearchEngine.WIN, CuT.getScore());
+    }
+
+    /**
+     * Test that the search stops when its time budget runs out
+     */
+    @Test
+    public void testTimeBudget() {
+        BitBoard board = new BitBoard(START_RED, START_WHITE, 0);
+
+        long start = System.nanoTime();
+        List<Move> turn = CuT.findTurn(board, Piece.PieceColor.RED, 50, 60);
+        long millis = (System.nanoTime() - start) / 1_000_000;
+
+        Assertions.assertEquals(1, turn.size());
+        Assertions.assertTrue(CuT.getDepthReached() < 60);
+        Assertions.assertTrue(millis < 1000, "the search took " + millis + "ms");
+    }
+
+    /**
+     * Test that a position searched before is answered from a shared table instead of being searched again
+     */
+    @Test
+    public void testSharedTable() {
+        TranspositionTable table = new TranspositionTable(16);
+        BitBoard board = new BitBoard(START_RED, START_WHITE, 0);
+
+        CuT = new SearchEngine(table);
+        List<Move> first = CuT.findTurn(board, Piece.PieceColor.RED, 10_000, 6);
+        long firstNodes = CuT.getNodes();
+
+        CuT = new SearchEngine(table);
+        List<Move> second = CuT.findTurn(board, Piece.PieceColor.RED, 10_000, 6);
+
+        Assertions.assertTrue(CuT.getNodes() < firstNodes, CuT.getNodes() + " >= " + firstNodes);
+        Assertions.assertEquals(first.get(0).getStart().getCell(), second.get(0).getStart().getCell());
+        Assertions.assertEquals(first.get(0).getEnd().getCell(), second.get(0).getEnd().getCell());
+    }
+}
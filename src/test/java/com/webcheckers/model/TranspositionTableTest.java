@@ -0,0 +1,74 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+/**
+ * Unit testing of TranspositionTable functionality
+ */
+@Tag("Model-tier")
+public class TranspositionTableTest {
+
+    /**
+     * Component Under Test
+     */
+    private TranspositionTable CuT;
+
+    @BeforeEach
+    public void setup() {
+        CuT = new TranspositionTable(4);
+    }
+
+    /**
+     * Test that a stored result is read back whole, and other positions are not found
+     */
+    @Test
+    public void testStoreAndProbe() {
+        Assertions.assertEquals(32, CuT.capacity());
+        Assertions.assertEquals(TranspositionTable.NO_ENTRY, CuT.probe(42L));
+
+        CuT.store(42L, 7, -1234, TranspositionTable.UPPER_BOUND, 1023);
+        long data = CuT.probe(42L);
+        Assertions.assertEquals(7, TranspositionTable.depthOf(data));
+        Assertions.assertEquals(-1234, TranspositionTable.scoreOf(data));
+        Assertions.assertEquals(TranspositionTable.UPPER_BOUND, TranspositionTable.boundOf(data));
+        Assertions.assertEquals(1023, TranspositionTable.stepOf(data));
+
+        // Same bucket, other position
+        Assertions.assertEquals(TranspositionTable.NO_ENTRY, CuT.probe(42L + (1L << 40)));
+
+        CuT.store(43L, -3, SearchEngine.WIN, TranspositionTable.EXACT, TranspositionTable.NO_STEP);
+        data = CuT.probe(43L);
+        Assertions.assertEquals(0, TranspositionTable.depthOf(data));
+        Assertions.assertEquals(SearchEngine.WIN, TranspositionTable.scoreOf(data));
+        Assertions.assertEquals(TranspositionTable.NO_STEP, TranspositionTable.stepOf(data));
+    }
+
+    /**
+     * Test that a shallower result does not replace the deepest result of a bucket
+     */
+    @Test
+    public void testDepthPreferredReplacement() {
+        long deep = 5L;
+        long shallow = 5L + (1L << 40);
+        long newest = 5L + (2L << 40);
+
+        CuT.store(deep, 10, 1, TranspositionTable.EXACT, 0);
+        CuT.store(shallow, 2, 2, TranspositionTable.EXACT, 0);
+        Assertions.assertEquals(10, TranspositionTable.depthOf(CuT.probe(deep)));
+        Assertions.assertEquals(2, TranspositionTable.depthOf(CuT.probe(shallow)));
+
+        // The second entry always takes the newest shallow result
+        CuT.store(newest, 1, 3, TranspositionTable.EXACT, 0);
+        Assertions.assertNotEquals(TranspositionTable.NO_ENTRY, CuT.probe(deep));
+        Assertions.assertEquals(TranspositionTable.NO_ENTRY, CuT.probe(shallow));
+        Assertions.assertEquals(3, TranspositionTable.scoreOf(CuT.probe(newest)));
+
+        // A deeper result takes the first entry
+        CuT.store(shallow, 12, 4, TranspositionTable.LOWER_BOUND, 0);
+        Assertions.assertEquals(TranspositionTable.NO_ENTRY, CuT.probe(deep));
+        Assertions.assertEquals(12, TranspositionTable.depthOf(CuT.probe(shallow)));
+    }
+}
@@ -0,0 +1,116 @@
+package com.webcheckers.model;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.Mockito.mock;
+
+/**
+ * Unit testing of TurnValidator functionality
+ */
+@Tag("Model-tier")
+public class TurnValidatorTest {
+
+    private Game game;
+    private Space[][] board;
+
+    @BeforeEach
+    public void setup() {
+        game = new Game(1, mock(Player.class), mock(Player.class));
+        board = game.getBoard();
+    }
+
+    /**
+     * Sets up a board where red at (2,1) can jump white at (3,2), and then white at (5,4)
+     */
+    private void setupDoubleJump() {
+        board[3][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        board[6][5].removePiece();
+        game.modifyActualBoard(board);
+    }
+
+    /**
+     * Test that a turn without moves is rejected
+     */
+    @Test
+    public void testNoMoves() {
+        Assertions.assertEquals(TurnValidator.Result.NO_MOVES, new TurnValidator(game).validate());
+    }
+
+    /**
+     * Test that one simple move is a valid turn when no jump is available
+     */
+    @Test
+    public void testSingleSimpleMove() {
+        game.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
+
+        Assertions.assertEquals(TurnValidator.Result.VALID, new TurnValidator(game).validate());
+    }
+
+    /**
+     * Test that a second simple move is rejected
+     */
+    @Test
+    public void testTwoSimpleMoves() {
+        game.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
+        game.validateMove(new Move(new Position(2, 3), new Position(3, 4)));
+
+        Assertions.assertEquals(TurnValidator.Result.ONE_SINGLE_MOVE_ONLY, new TurnValidator(game).validate());
+    }
+
+    /**
+     * Test that a simple move is rejected when a jump is available
+     */
+    @Test
+    public void testJumpAvailable() {
+        setupDoubleJump();
+        game.validateMove(new Move(new Position(2, 7), new Position(3, 6)));
+
+        Assertions.assertEquals(TurnValidator.Result.JUMP_MOVE_AVAILABLE, new TurnValidator(game).validate());
+    }
+
+    /**
+     * Test that jumps and simple moves cannot be mixed, and that a jump sequence must be finished
+     */
+    @Test
+    public void testJumpSequence() {
+        setupDoubleJump();
+        game.validateMove(new Move(new Position(2, 1), new Position(4, 3)));
+        Assertions.assertEquals(TurnValidator.Result.JUMP_MOVE_PARTIAL, new TurnValidator(game).validate());
+
+        game.validateMove(new Move(new Position(4, 3), new Position(6, 5)));
+        Assertions.assertEquals(TurnValidator.Result.VALID, new TurnValidator(game).validate());
+
+        game.validateMove(new Move(new Position(2, 7), new Position(3, 6)));
+        Assertions.assertEquals(TurnValidator.Result.JUMP_MOVES_ONLY, new TurnValidator(game).validate());
+    }
+
+    /**
+     * Test that a piece of the opponent cannot be moved, so it never makes a turn
+     */
+    @Test
+    public void testOpponentPiece() {
+        Assertions.assertFalse(game.validateMove(new Move(new Position(5, 0), new Position(4, 1))).isSuccessful());
+        Assertions.assertEquals(0, game.getSizePendingMoves());
+
+        Assertions.assertEquals(TurnValidator.Result.NO_MOVES, new TurnValidator(game).validate());
+    }
+
+    /**
+     * Test that a second piece cannot jump after the first one finished its jump
+     */
+    @Test
+    public void testJumpsWithTwoPieces() {
+        board[3][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        board[3][6].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        game.modifyActualBoard(board);
+
+        Assertions.assertTrue(game.validateMove(new Move(new Position(2, 1), new Position(4, 3))).isSuccessful());
+        Assertions.assertFalse(game.validateMove(new Move(new Position(2, 5), new Position(4, 7))).isSuccessful());
+        Assertions.assertEquals(1, game.getSizePendingMoves());
+
+        Assertions.assertEquals(TurnValidator.Result.VALID, new TurnValidator(game).validate());
+    }
+}
@@ -0,0 +1,169 @@
+package com.webcheckers.model.jfr;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import com.webcheckers.model.TurnValidator;
+import com.webcheckers.ui.PostSubmitTurnRoute;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit testing of the Flight Recorder events of the game lifecycle, read back from a recording
+ */
+@Tag("Model-tier")
+public class FlightRecorderEventsTest {
+
+    private static final String PREFIX = "com.webcheckers.";
+
+    /**
+     * Checks that no event is created while no recording has its type enabled, and that one is while it is
+     */
+    @Test
+    public void testNothingCreatedWhenDisabled() {
+        Assertions.assertNull(FlightRecorder.beginMoveValidated());
+        Assertions.assertNull(FlightRecorder.beginTurnSubmitted());
+        Assertions.assertNull(FlightRecorder.beginBoardCopied());
+
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "MoveValidated");
+            recording.disable(PREFIX + "BoardCopied");
+            recording.start();
+            Assertions.assertTrue(FlightRecorder.beginMoveValidated() instanceof MoveValidatedEvent);
+            Assertions.assertNull(FlightRecorder.beginBoardCopied());
+            recording.stop();
+        }
+    }
+
+    /**
+     * Plays one move, a rejected and an accepted turn submission, and a resignation while recording
+     */
+    @Test
+    public void testGameLifecycle() throws Exception {
+        Assertions.assertTrue(FlightRecorder.isAvailable());
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            for (String name : new String[] { "GameStarted", "MoveValidated", "TurnSubmitted", "TurnRejected",
+                    "GameEnded", "BoardCopied" }) {
+                recording.enable(PREFIX + name);
+            }
+            recording.start();
+            play();
+            recording.stop();
+            events = read(recording);
+        }
+
+        RecordedEvent started = only(events, "GameStarted");
+        Assertions.assertEquals("red", started.getString("redPlayer"));
+        Assertions.assertEquals("white", started.getString("whitePlayer"));
+        int gameID = started.getInt("gameID");
+
+        List<RecordedEvent> moves = all(events, "MoveValidated");
+        Assertions.assertEquals(2, moves.size());
+        Assertions.assertFalse(moves.get(0).getBoolean("valid"));
+        Assertions.assertTrue(moves.get(1).getBoolean("valid"));
+        Assertions.assertEquals(2, moves.get(1).getInt("startRow"));
+        Assertions.assertEquals(6, moves.get(1).getInt("endCell"));
+        Assertions.assertEquals(gameID, moves.get(1).getInt("gameID"));
+
+        RecordedEvent rejected = only(events, "TurnRejected");
+        Assertions.assertEquals(TurnValidator.Result.NO_MOVES.name(), rejected.getString("reason"));
+        Assertions.assertEquals("RED", rejected.getString("color"));
+        Assertions.assertEquals(0, rejected.getInt("moves"));
+
+        RecordedEvent submitted = only(events, "TurnSubmitted");
+        Assertions.assertEquals(1, submitted.getInt("moves"));
+        Assertions.assertEquals("RED", submitted.getString("color"));
+
+        RecordedEvent ended = only(events, "GameEnded");
+        Assertions.assertEquals(Game.Status.WHITE_RESIGN.name(), ended.getString("status"));
+        Assertions.assertEquals(gameID, ended.getInt("gameID"));
+
+        Assertions.assertFalse(all(events, "BoardCopied").isEmpty());
+    }
+
+    /**
+     * Test that nothing is recorded for an event that is disabled
+     */
+    @Test
+    public void testDisabled() throws Exception {
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(PREFIX + "GameEnded");
+            recording.disable(PREFIX + "MoveValidated");
+            recording.start();
+            play();
+            recording.stop();
+            events = read(recording);
+        }
+
+        Assertions.assertEquals(1, all(events, "GameEnded").size());
+        Assertions.assertEquals(0, all(events, "MoveValidated").size());
+    }
+
+    private static void play() throws Exception {
+        PlayerLobby playerLobby = new PlayerLobby();
+        Player red = new Player("red");
+        Player white = new Player("white");
+        playerLobby.signIn(red);
+        playerLobby.signIn(white);
+        playerLobby.startGame(red, white.getName());
+        Game game = red.getGame();
+
+        Request request = mock(Request.class);
+        Session session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        when(session.attribute("currentUser")).thenReturn(red);
+        PostSubmitTurnRoute submitTurnRoute = new PostSubmitTurnRoute(playerLobby);
+
+        game.validateMove(new Move(new Position(2, 7), new Position(5, 4)));
+        submitTurnRoute.handle(request, mock(Response.class));
+        game.validateMove(new Move(new Position(2, 7), new Position(3, 6)));
+        submitTurnRoute.handle(request, mock(Response.class));
+        game.getBoardView(red);
+        playerLobby.resignGame(white);
+    }
+
+    private static List<RecordedEvent> read(Recording recording) throws IOException {
+        Path file = Files.createTempFile("webcheckers", ".jfr");
+        try {
+            recording.dump(file);
+            return RecordingFile.readAllEvents(file);
+        }
+        finally {
+            Files.deleteIfExists(file);
+        }
+    }
+
+    private static List<RecordedEvent> all(List<RecordedEvent> events, String name) {
+        return events.stream()
+                .filter(event -> event.getEventType().getName().equals(PREFIX + name))
+                .sorted((a, b) -> a.getStartTime().compareTo(b.getStartTime()))
+                .collect(Collectors.toList());
+    }
+
+    private static RecordedEvent only(List<RecordedEvent> events, String name) {
+        List<RecordedEvent> matching = all(events, name);
+        Assertions.assertEquals(1, matching.size(), name);
+        return matching.get(0);
+    }
+}
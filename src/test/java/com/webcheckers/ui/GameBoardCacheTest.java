@@ -0,0 +1,93 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.ModelAndView;
+import spark.TemplateEngine;
+
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GameBoardCache} component.
+ */
+@Tag("UI-tier")
+public class GameBoardCacheTest {
+
+    /** the Component-under-test (CuT)*/
+    private GameBoardCache CuT;
+
+    /** Attributes holding mock objects */
+    private TemplateEngine engine;
+    private Player red;
+    private Player white;
+    private Game game;
+
+    /**
+     * Initialize CuT and a template engine that renders a numbered board each time before each test
+     */
+    @BeforeEach
+    public void setup() {
+        AtomicInteger renders = new AtomicInteger();
+        engine = mock(TemplateEngine.class);
+        when(engine.render(any(ModelAndView.class))).thenAnswer(invocation -> "board-" + renders.incrementAndGet());
+        CuT = new GameBoardCache(engine);
+
+        red = new Player("red");
+        white = new Player("white");
+        game = new Game(1, red, white);
+    }
+
+    /**
+     * Verify everybody on the same side of the board shares one render until the board is committed
+     */
+    @Test
+    public void render_once_per_side_and_commit() {
+        String redBoard = CuT.getBoard(game, red);
+        String whiteBoard = CuT.getBoard(game, white);
+        Assertions.assertNotEquals(redBoard, whiteBoard);
+
+        for (int spectator = 0; spectator < 200; spectator++) {
+            Assertions.assertEquals(whiteBoard, CuT.getBoard(game, new Player("spectator" + spectator)));
+        }
+        Assertions.assertEquals(redBoard, CuT.getBoard(game, red));
+        verify(engine, times(2)).render(any(ModelAndView.class));
+
+        game.validateMove(new Move(new Position(2, 1), new Position(3, 2)));
+        game.commitPendingMoves();
+        Assertions.assertNotEquals(whiteBoard, CuT.getBoard(game, white));
+        verify(engine, times(3)).render(any(ModelAndView.class));
+    }
+
+    /**
+     * Verify the least recently used boards are dropped when the cache is over its memory cap
+     */
+    @Test
+    public void evict_least_recently_used() {
+        // Each board is seven characters, so the cap holds two of them
+        CuT = new GameBoardCache(engine, 2 * 2 * 7);
+        Game other = new Game(2, new Player("a"), new Player("b"));
+
+        String redBoard = CuT.getBoard(game, red);
+        CuT.getBoard(game, white);
+        CuT.getBoard(game, red);
+        CuT.getBoard(other, other.getPlayers()[0]);
+
+        Assertions.assertEquals(2, CuT.size());
+        Assertions.assertEquals(28, CuT.getBytes());
+        Assertions.assertEquals(redBoard, CuT.getBoard(game, red));
+        verify(engine, times(3)).render(any(ModelAndView.class));
+
+        // The white board was dropped and is rendered again
+        CuT.getBoard(game, white);
+        verify(engine, times(4)).render(any(ModelAndView.class));
+    }
+}
@@ -0,0 +1,234 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.AsyncListener;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.ServletResponse;
+import javax.servlet.WriteListener;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GameEventBroadcaster} component.
+ */
+@Tag("UI-tier")
+public class GameEventBroadcasterTest {
+
+    /** the Component-under-test (CuT)*/
+    private GameEventBroadcaster CuT;
+
+    /** Attributes holding mock objects */
+    private ScheduledExecutorService executor;
+    private Game game;
+    private AsyncContext context;
+    private ByteArrayOutputStream written;
+
+    /**
+     * Initialize CuT and an event stream before each test
+     */
+    @BeforeEach
+    public void setup() throws IOException {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        CuT = new GameEventBroadcaster(new Gson(), executor);
+        game = new Game(1, new Player("red"), new Player("white"));
+
+        written = new ByteArrayOutputStream();
+        ServletResponse servletResponse = mock(ServletResponse.class);
+        when(servletResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+        context = mock(AsyncContext.class);
+        when(context.getResponse()).thenReturn(servletResponse);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Waits for every event queued so far to be written
+     */
+    private String drain() throws Exception {
+        executor.submit(() -> { }).get();
+        return new String(written.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Verify a committed turn and the turn change are pushed to the stream
+     */
+    @Test
+    public void push_board_and_turn_events() throws Exception {
+        CuT.subscribe(game, context);
+        Assertions.assertEquals(1, CuT.getStreamCount(1));
+
+        game.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
+        game.commitPendingMoves();
+        game.changeTurn();
+
+        Assertions.assertEquals(
+                "event: board\ndata: [{\"start\":{\"row\":2,\"cell\":1},\"end\":{\"row\":3,\"cell\":0}}]\n\n"
+                + "event: turn\ndata: {\"activeColor\":\"WHITE\"}\n\n", drain());
+        verify(context, never()).complete();
+    }
+
+    /**
+     * Verify the end of the game is pushed and closes the stream
+     */
+    @Test
+    public void push_end_event_and_close() throws Exception {
+        CuT.subscribe(game, context);
+
+        game.endGame(Game.Status.RED_RESIGN);
+
+        Assertions.assertEquals(
+                "event: end\ndata: {\"text\":\"red has resigned the match\",\"type\":\"ERROR\"}\n\n", drain());
+        verify(context).complete();
+        Assertions.assertEquals(0, CuT.getStreamCount(1));
+
+        // The broadcaster stopped listening to the finished game
+        game.changeTurn();
+        Assertions.assertEquals(
+                "event: end\ndata: {\"text\":\"red has resigned the match\",\"type\":\"ERROR\"}\n\n", drain());
+    }
+
+    /**
+     * Verify a stream opened after the game ended is told right away
+     */
+    @Test
+    public void subscribe_to_ended_game() throws Exception {
+        game.endGame(Game.Status.WHITE_ABANDONED);
+
+        CuT.subscribe(game, context);
+
+        Assertions.assertTrue(drain().startsWith("event: end\n"));
+        verify(context).complete();
+    }
+
+    /**
+     * Verify a stream whose client went away is dropped
+     */
+    @Test
+    public void drop_closed_stream() throws Exception {
+        ServletResponse closedResponse = mock(ServletResponse.class);
+        when(closedResponse.getOutputStream()).thenThrow(new IOException("Broken pipe"));
+        AsyncContext closedContext = mock(AsyncContext.class);
+        when(closedContext.getResponse()).thenReturn(closedResponse);
+
+        CuT.subscribe(game, context);
+        CuT.subscribe(game, closedContext);
+        Assertions.assertEquals(2, CuT.getStreamCount(1));
+
+        game.changeTurn();
+        drain();
+
+        verify(closedContext).complete();
+        Assertions.assertEquals(1, CuT.getStreamCount(1));
+    }
+
+    /**
+     * Verify a client that stops reading is closed once it falls behind, without holding up the other streams
+     */
+    @Test
+    public void close_stream_that_falls_behind() throws Exception {
+        ServletResponse stalledResponse = mock(ServletResponse.class);
+        when(stalledResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return false;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                throw new AssertionError("wrote to a client that is not ready");
+            }
+        });
+        AsyncContext stalledContext = mock(AsyncContext.class);
+        when(stalledContext.getResponse()).thenReturn(stalledResponse);
+
+        CuT.subscribe(game, stalledContext);
+        CuT.subscribe(game, context);
+
+        for (int turn = 0; turn < GameEventBroadcaster.MAX_QUEUED_EVENTS; turn++) {
+            game.changeTurn();
+        }
+        drain();
+        verify(stalledContext, never()).complete();
+        Assertions.assertEquals(2, CuT.getStreamCount(1));
+
+        game.changeTurn();
+        String events = drain();
+
+        verify(stalledContext).complete();
+        verify(context, never()).complete();
+        Assertions.assertEquals(1, CuT.getStreamCount(1));
+        Assertions.assertTrue(events.endsWith("event: turn\ndata: {\"activeColor\":\"WHITE\"}\n\n"));
+    }
+
+    /**
+     * Verify the broadcaster stops listening to a game once its last stream is gone, and listens again for a
+     * new stream
+     */
+    @Test
+    public void stop_listening_after_last_stream() throws Exception {
+        Game mockGame = mock(Game.class);
+        when(mockGame.getGameID()).thenReturn(2);
+        when(mockGame.isActive()).thenReturn(true);
+        ServletResponse response = context.getResponse();
+        AsyncContext other = mock(AsyncContext.class);
+        when(other.getResponse()).thenReturn(response);
+
+        CuT.subscribe(mockGame, context);
+        CuT.subscribe(mockGame, other);
+        verify(mockGame, times(1)).addListener(CuT);
+        ArgumentCaptor<AsyncListener> first = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(context).addListener(first.capture());
+        ArgumentCaptor<AsyncListener> second = ArgumentCaptor.forClass(AsyncListener.class);
+        verify(other).addListener(second.capture());
+
+        first.getValue().onComplete(null);
+        Assertions.assertEquals(1, CuT.getStreamCount(2));
+        verify(mockGame, never()).removeListener(CuT);
+
+        second.getValue().onError(null);
+        Assertions.assertEquals(0, CuT.getStreamCount(2));
+        verify(mockGame).removeListener(CuT);
+
+        CuT.subscribe(mockGame, context);
+        Assertions.assertEquals(1, CuT.getStreamCount(2));
+        verify(mockGame, times(2)).addListener(CuT);
+    }
+}
@@ -0,0 +1,220 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Player;
+import org.eclipse.jetty.websocket.api.RemoteEndpoint;
+import org.eclipse.jetty.websocket.api.Session;
+import org.eclipse.jetty.websocket.api.StatusCode;
+import org.eclipse.jetty.websocket.api.UpgradeRequest;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GameSocketHandler} component.
+ */
+@Tag("UI-tier")
+public class GameSocketHandlerTest {
+
+    /** the Component-under-test (CuT)*/
+    private GameSocketHandler CuT;
+
+    /** Attributes holding the game under test */
+    private PlayerLobby playerLobby;
+    private Player red;
+    private Player white;
+
+    /**
+     * Initialize CuT and a game between two players before each test
+     */
+    @BeforeEach
+    public void setup() {
+        Gson gson = new Gson();
+        playerLobby = new PlayerLobby();
+        CuT = new GameSocketHandler(gson, playerLobby,
+                new PostValidateMoveRoute(gson, playerLobby), new PostBackupMoveRoute(playerLobby),
+                new PostSubmitTurnRoute(playerLobby), new PostResignGameRoute(playerLobby));
+
+        red = new Player("red");
+        white = new Player("white");
+        playerLobby.signIn(red);
+        playerLobby.signIn(white);
+        playerLobby.startGame(red, white.getName());
+    }
+
+    /**
+     * Creates a mock socket opened with a ticket
+     */
+    private Session mockSession(String ticket) {
+        UpgradeRequest upgradeRequest = mock(UpgradeRequest.class);
+        when(upgradeRequest.getParameterMap()).thenReturn(ticket == null
+                ? Collections.emptyMap()
+                : Collections.singletonMap(GameSocketHandler.TICKET_PARAM, Collections.singletonList(ticket)));
+        Session session = mock(Session.class);
+        when(session.getUpgradeRequest()).thenReturn(upgradeRequest);
+        when(session.getRemote()).thenReturn(mock(RemoteEndpoint.class));
+        when(session.isOpen()).thenReturn(true);
+        return session;
+    }
+
+    /**
+     * Returns every frame sent on a socket
+     */
+    private List<String> sentFrames(Session session) {
+        ArgumentCaptor<String> frames = ArgumentCaptor.forClass(String.class);
+        verify(session.getRemote(), atLeastOnce()).sendStringByFuture(frames.capture());
+        return frames.getAllValues();
+    }
+
+    /**
+     * Verify a socket without a valid ticket is refused
+     */
+    @Test
+    public void refuse_socket_without_ticket() {
+        Session noTicket = mockSession(null);
+        Session badTicket = mockSession("not a ticket");
+
+        CuT.onConnect(noTicket);
+        CuT.onConnect(badTicket);
+
+        verify(noTicket).close(StatusCode.POLICY_VIOLATION, GameSocketHandler.NO_GAME);
+        verify(badTicket).close(StatusCode.POLICY_VIOLATION, GameSocketHandler.NO_GAME);
+        Assertions.assertEquals(0, CuT.getSocketCount(red.getGame().getGameID()));
+    }
+
+    /**
+     * Verify a ticket opens only one socket, and only the last ticket of a player is accepted
+     */
+    @Test
+    public void tickets_are_one_time() {
+        String oldTicket = CuT.issueTicket(red);
+        String ticket = CuT.issueTicket(red);
+        Session oldSession = mockSession(oldTicket);
+        Session session = mockSession(ticket);
+        Session reused = mockSession(ticket);
+
+        CuT.onConnect(oldSession);
+        CuT.onConnect(session);
+        CuT.onConnect(reused);
+
+        verify(oldSession).close(StatusCode.POLICY_VIOLATION, GameSocketHandler.NO_GAME);
+        verify(session, never()).close(anyInt(), anyString());
+        verify(reused).close(StatusCode.POLICY_VIOLATION, GameSocketHandler.NO_GAME);
+        Assertions.assertEquals(1, CuT.getSocketCount(red.getGame().getGameID()));
+    }
+
+    /**
+     * Verify a turn sent over the socket is answered and pushed to both players
+     */
+    @Test
+    public void move_and_submit_over_socket() {
+        Session redSession = mockSession(CuT.issueTicket(red));
+        Session whiteSession = mockSession(CuT.issueTicket(white));
+        CuT.onConnect(redSession);
+        CuT.onConnect(whiteSession);
+
+        CuT.onMessage(redSession, "{\"id\":1,\"action\":\"validateMove\",\"actionData\":"
+                + "\"{\\\"start\\\":{\\\"row\\\":2,\\\"cell\\\":1},\\\"end\\\":{\\\"row\\\":3,\\\"cell\\\":0}}\"}");
+        CuT.onMessage(redSession, "{\"id\":2,\"action\":\"submitTurn\"}");
+
+        String board = "{\"event\":\"board\",\"data\":[{\"start\":{\"row\":2,\"cell\":1},\"end\":{\"row\":3,\"cell\":0}}]}";
+        String turn = "{\"event\":\"turn\",\"data\":{\"activeColor\":\"WHITE\"}}";
+        Assertions.assertEquals(Arrays.asList(
+                "{\"id\":1,\"message\":{\"text\":\"You moved a piece.\",\"type\":\"INFO\"}}",
+                board, turn,
+                "{\"id\":2,\"message\":{\"text\":\"" + PostSubmitTurnRoute.VALID_TURN + "\",\"type\":\"INFO\"}}"),
+                sentFrames(redSession));
+        Assertions.assertEquals(Arrays.asList(board, turn), sentFrames(whiteSession));
+    }
+
+    /**
+     * Verify unknown actions and unreadable frames are answered with an error
+     */
+    @Test
+    public void answer_bad_frames_with_error() {
+        Session session = mockSession(CuT.issueTicket(red));
+        CuT.onConnect(session);
+
+        CuT.onMessage(session, "{\"id\":3,\"action\":\"dance\"}");
+        CuT.onMessage(session, "not json{");
+
+        Assertions.assertEquals(Arrays.asList(
+                "{\"id\":3,\"message\":{\"text\":\"" + GameSocketHandler.UNKNOWN_ACTION + "\",\"type\":\"ERROR\"}}",
+                "{\"id\":0,\"message\":{\"text\":\"" + GameSocketHandler.MALFORMED_FRAME + "\",\"type\":\"ERROR\"}}"),
+                sentFrames(session));
+    }
+
+    /**
+     * Verify a closed socket is forgotten
+     */
+    @Test
+    public void forget_closed_socket() {
+        Session session = mockSession(CuT.issueTicket(red));
+        CuT.onConnect(session);
+        Assertions.assertEquals(1, CuT.getSocketCount(red.getGame().getGameID()));
+
+        CuT.onClose(session, StatusCode.NORMAL, null);
+
+        Assertions.assertEquals(0, CuT.getSocketCount(red.getGame().getGameID()));
+    }
+
+    /**
+     * Verify action data that cannot be read is answered with an error and keeps the socket open
+     */
+    @Test
+    public void answer_bad_action_data_with_error() {
+        Session session = mockSession(CuT.issueTicket(red));
+        CuT.onConnect(session);
+
+        CuT.onMessage(session, "{\"id\":4,\"action\":\"validateMove\",\"actionData\":\"not json{\"}");
+        CuT.onMessage(session, "{\"id\":5,\"action\":\"validateMove\",\"actionData\":\"{}\"}");
+
+        String error = "{\"text\":\"" + GameSocketHandler.MALFORMED_FRAME + "\",\"type\":\"ERROR\"}";
+        Assertions.assertEquals(Arrays.asList(
+                "{\"id\":4,\"message\":" + error + "}",
+                "{\"id\":5,\"message\":" + error + "}"),
+                sentFrames(session));
+        verify(session, never()).close(anyInt(), anyString());
+        Assertions.assertEquals(1, CuT.getSocketCount(red.getGame().getGameID()));
+    }
+
+    /**
+     * Verify an expired ticket is refused
+     */
+    @Test
+    public void refuse_expired_ticket() {
+        Gson gson = new Gson();
+        CuT = new GameSocketHandler(gson, playerLobby,
+                new PostValidateMoveRoute(gson, playerLobby), new PostBackupMoveRoute(playerLobby),
+                new PostSubmitTurnRoute(playerLobby), new PostResignGameRoute(playerLobby), 0);
+
+        Session session = mockSession(CuT.issueTicket(red));
+        CuT.onConnect(session);
+
+        verify(session).close(StatusCode.POLICY_VIOLATION, GameSocketHandler.NO_GAME);
+        Assertions.assertEquals(0, CuT.getTicketCount());
+    }
+
+    /**
+     * Verify the ticket of a player is dropped when they sign out
+     */
+    @Test
+    public void drop_ticket_on_sign_out() {
+        CuT.issueTicket(red);
+        CuT.issueTicket(white);
+        Assertions.assertEquals(2, CuT.getTicketCount());
+
+        playerLobby.signOut(red);
+
+        Assertions.assertEquals(1, CuT.getTicketCount());
+    }
+}
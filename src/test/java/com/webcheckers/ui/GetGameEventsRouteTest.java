@@ -0,0 +1,88 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GetGameEventsRoute} component.
+ */
+@Tag("UI-tier")
+public class GetGameEventsRouteTest {
+
+    /** the Component-under-test (CuT)*/
+    private GetGameEventsRoute CuT;
+
+    /** Attributes holding mock objects */
+    private GameEventBroadcaster broadcaster;
+    private Request request;
+    private Session session;
+    private Response response;
+    private Player currentUser;
+
+    /**
+     * Initialize CuT and mock classes before each test
+     */
+    @BeforeEach
+    public void setup() {
+        broadcaster = mock(GameEventBroadcaster.class);
+        CuT = new GetGameEventsRoute(broadcaster);
+
+        currentUser = mock(Player.class);
+        session = mock(Session.class);
+        when(session.attribute(GetGameEventsRoute.CURRENT_USER_ATTR)).thenReturn(currentUser);
+        request = mock(Request.class);
+        when(request.session()).thenReturn(session);
+        response = mock(Response.class);
+    }
+
+    /**
+     * Verify a player who is not in a game is told there is nothing to stream
+     */
+    @Test
+    public void no_stream_when_not_in_game() throws Exception {
+        when(currentUser.inGame()).thenReturn(false);
+
+        Assertions.assertEquals("", CuT.handle(request, response));
+
+        verify(response).status(HttpServletResponse.SC_NO_CONTENT);
+        verifyZeroInteractions(broadcaster);
+    }
+
+    /**
+     * Verify a player in a game gets an open event stream subscribed to their game
+     */
+    @Test
+    public void open_stream_when_in_game() throws Exception {
+        Game game = mock(Game.class);
+        when(currentUser.inGame()).thenReturn(true);
+        when(currentUser.getGame()).thenReturn(game);
+
+        HttpServletRequest rawRequest = mock(HttpServletRequest.class);
+        AsyncContext context = mock(AsyncContext.class);
+        when(rawRequest.startAsync()).thenReturn(context);
+        when(request.raw()).thenReturn(rawRequest);
+        HttpServletResponse rawResponse = mock(HttpServletResponse.class);
+        when(rawResponse.getOutputStream()).thenReturn(mock(ServletOutputStream.class));
+        when(response.raw()).thenReturn(rawResponse);
+
+        Assertions.assertEquals("", CuT.handle(request, response));
+
+        verify(rawResponse).setContentType(GetGameEventsRoute.EVENT_STREAM_TYPE);
+        verify(rawResponse).flushBuffer();
+        verify(broadcaster).subscribe(game, context);
+    }
+}
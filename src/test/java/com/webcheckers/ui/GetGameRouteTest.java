@@ -3,7 +3,9 @@ package com.webcheckers.ui;
 import com.google.gson.Gson;
 import com.webcheckers.appl.PlayerLobby;
 import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
 import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
 import org.junit.jupiter.api.Test;
@@ -63,7 +65,7 @@ public class GetGameRouteTest {
         lobby.signIn(player2);
         response = mock(Response.class);
 
-        CuT = new GetGameRoute(engine, lobby);
+        CuT = new GetGameRoute(engine, lobby, new GameBoardCache(engine));
     }
 
     /**
@@ -220,4 +222,19 @@ public class GetGameRouteTest {
         testHelper.assertViewName(VIEW_NAME);
     }
 
+    /**
+     * Check that moves left pending by an earlier page of the player on turn are backed out when the page loads
+     */
+    @Test
+    public void back_out_pending_moves_on_load() {
+        lobby.startGame(player1, player2.getName());
+        Game game = player1.getGame();
+        game.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
+        when(engine.render(any(ModelAndView.class))).thenAnswer(new TemplateEngineTester().makeAnswer());
+
+        CuT.handle(request, response);
+
+        assertFalse(game.hasMoves());
+        assertTrue(game.isRedPlayerTurn());
+    }
 }
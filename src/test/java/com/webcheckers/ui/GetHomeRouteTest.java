@@ -1,7 +1,10 @@
 package com.webcheckers.ui;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,6 +13,7 @@ import com.webcheckers.model.Game;
 import com.webcheckers.model.Player;
 import com.webcheckers.util.Message;
 import com.webcheckers.ui.TemplateEngineTester;
+import org.mockito.ArgumentCaptor;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -23,7 +27,10 @@ import spark.Response;
 import spark.Session;
 import spark.TemplateEngine;
 
+import javax.servlet.http.HttpServletResponse;
 import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
 
 /**
  * The unit test suite for the {@link GetHomeRoute} component.
@@ -100,7 +107,7 @@ public class GetHomeRouteTest {
         //   * model contains all necessary View-Model data
         testHelper.assertViewModelAttribute(GetHomeRoute.TITLE_ATTR, GetHomeRoute.TITLE);
         testHelper.assertViewModelAttribute(GetHomeRoute.MSG_ATTR, GetHomeRoute.WELCOME_MSG);
-        testHelper.assertViewModelAttribute(GetHomeRoute.AVAILABLE_PLAYERS_ATTR, availablePlayers);
+        testHelper.assertViewModelAttribute(GetHomeRoute.OTHER_AVAILABLE_COUNT_ATTR, availablePlayers.size() - 1);
         testHelper.assertViewModelAttribute(GetHomeRoute.PLAYERS_ONLINE_ATTR, playerLobby.getPlayerCount());
         //   * test view name
         testHelper.assertViewName(GetHomeRoute.VIEW_NAME);
@@ -137,7 +144,7 @@ public class GetHomeRouteTest {
         //   * model contains all necessary View-Model data
         testHelper.assertViewModelAttribute(GetHomeRoute.TITLE_ATTR, GetHomeRoute.TITLE);
         testHelper.assertViewModelAttribute(GetHomeRoute.MSG_ATTR, infoMsg);
-        testHelper.assertViewModelAttribute(GetHomeRoute.AVAILABLE_PLAYERS_ATTR, availablePlayers);
+        testHelper.assertViewModelAttribute(GetHomeRoute.OTHER_AVAILABLE_COUNT_ATTR, availablePlayers.size() - 1);
         testHelper.assertViewModelAttribute(GetHomeRoute.PLAYERS_ONLINE_ATTR, playerLobby.getPlayerCount());
         //   * test view name
         testHelper.assertViewName(GetHomeRoute.VIEW_NAME);
@@ -172,7 +179,7 @@ public class GetHomeRouteTest {
         //   * model contains all necessary View-Model data
         testHelper.assertViewModelAttribute(GetHomeRoute.TITLE_ATTR, GetHomeRoute.TITLE);
         testHelper.assertViewModelAttribute(GetHomeRoute.MSG_ATTR, errorMsg);
-        testHelper.assertViewModelAttribute(GetHomeRoute.AVAILABLE_PLAYERS_ATTR, availablePlayers);
+        testHelper.assertViewModelAttribute(GetHomeRoute.OTHER_AVAILABLE_COUNT_ATTR, availablePlayers.size() - 1);
         testHelper.assertViewModelAttribute(GetHomeRoute.PLAYERS_ONLINE_ATTR, playerLobby.getPlayerCount());
         //   * test view name
         testHelper.assertViewName(GetHomeRoute.VIEW_NAME);
@@ -309,7 +316,7 @@ public class GetHomeRouteTest {
         //   * model contains all necessary View-Model data
         testHelper.assertViewModelAttribute(GetHomeRoute.TITLE_ATTR, GetHomeRoute.TITLE);
         testHelper.assertViewModelAttribute(GetHomeRoute.MSG_ATTR, GetHomeRoute.WELCOME_MSG);
-        testHelper.assertViewModelAttribute(GetHomeRoute.AVAILABLE_PLAYERS_ATTR, availablePlayers);
+        testHelper.assertViewModelAttribute(GetHomeRoute.OTHER_AVAILABLE_COUNT_ATTR, availablePlayers.size());
         testHelper.assertViewModelAttribute(GetHomeRoute.PLAYERS_ONLINE_ATTR, playerLobby.getPlayerCount());
         //   * test view name
         testHelper.assertViewName(GetHomeRoute.VIEW_NAME);
@@ -317,4 +324,77 @@ public class GetHomeRouteTest {
         assertNull(request.queryParams(GetHomeRoute.REDIRECT_MESSAGE_PARAM));
     }
 
+    /**
+     * make sure the lobby lists are rendered once per version of the lobby, not once per request
+     */
+    @Test
+    public void lobby_lists_rendered_once_per_version() {
+        playerLobby.signIn(currentUser);
+        playerLobby.signIn(opponent);
+        when(engine.render(any(ModelAndView.class))).thenReturn("");
+
+        CuT.handle(request, response);
+        CuT.handle(request, response);
+        verify(engine, times(2)).render(argThat(view -> GetHomeRoute.LIST_VIEW_NAME.equals(view.getViewName())));
+        verify(engine, times(2)).render(argThat(view -> GetHomeRoute.VIEW_NAME.equals(view.getViewName())));
+
+        // a change to the lobby renders the lists again
+        playerLobby.signIn(new Player("newcomer"));
+        CuT.handle(request, response);
+        verify(engine, times(4)).render(argThat(view -> GetHomeRoute.LIST_VIEW_NAME.equals(view.getViewName())));
+    }
+
+    /**
+     * make sure a browser holding the page of the current version of the lobby is answered 304
+     */
+    @Test
+    public void not_modified_while_lobby_unchanged() {
+        playerLobby.signIn(currentUser);
+        playerLobby.signIn(opponent);
+
+        CuT.handle(request, response);
+        ArgumentCaptor<String> etag = ArgumentCaptor.forClass(String.class);
+        verify(response).header(eq(GetHomeRoute.ETAG_HEADER), etag.capture());
+
+        when(request.headers(GetHomeRoute.IF_NONE_MATCH_HEADER)).thenReturn(etag.getValue());
+        assertEquals("", CuT.handle(request, response));
+        verify(response).status(HttpServletResponse.SC_NOT_MODIFIED);
+        // the 304 repeats the ETag
+        verify(response, times(2)).header(GetHomeRoute.ETAG_HEADER, etag.getValue());
+        verify(engine, times(1)).render(argThat(view -> GetHomeRoute.VIEW_NAME.equals(view.getViewName())));
+
+        // once the lobby changes the page is rendered again
+        playerLobby.signOut(opponent);
+        CuT.handle(request, response);
+        verify(response, times(1)).status(HttpServletResponse.SC_NOT_MODIFIED);
+        verify(engine, times(2)).render(argThat(view -> GetHomeRoute.VIEW_NAME.equals(view.getViewName())));
+    }
+
+    /**
+     * make sure the current user is left out of the first page of available players, which still shows a full
+     * page of other players
+     */
+    @Test
+    public void first_page_leaves_out_current_user() {
+        playerLobby.signIn(currentUser);
+        for (int i = 0; i < GetHomeRoute.PAGE_SIZE + 5; i++) {
+            playerLobby.signIn(new Player(String.format("player %02d", i)));
+        }
+        when(engine.render(any(ModelAndView.class))).thenReturn("");
+
+        CuT.handle(request, response);
+
+        ArgumentCaptor<ModelAndView> views = ArgumentCaptor.forClass(ModelAndView.class);
+        verify(engine, times(3)).render(views.capture());
+        Map<?, ?> available = views.getAllValues().stream()
+                .filter(view -> GetHomeRoute.LIST_VIEW_NAME.equals(view.getViewName()))
+                .map(view -> (Map<?, ?>) view.getModel())
+                .filter(model -> "available".equals(model.get(GetHomeRoute.LIST_STATUS_ATTR)))
+                .findFirst().orElseThrow(AssertionError::new);
+        List<?> players = (List<?>) available.get(GetHomeRoute.LIST_PLAYERS_ATTR);
+        assertEquals(GetHomeRoute.PAGE_SIZE, players.size());
+        assertFalse(players.contains(currentUser));
+        assertEquals(String.format("player %02d", GetHomeRoute.PAGE_SIZE - 1),
+                available.get(GetHomeRoute.LIST_CURSOR_ATTR));
+    }
 }
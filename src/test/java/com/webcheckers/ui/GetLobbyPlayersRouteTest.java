@@ -0,0 +1,102 @@
+package com.webcheckers.ui;
+
+import com.google.gson.Gson;
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Message;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import javax.servlet.http.HttpServletResponse;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link GetLobbyPlayersRoute} component.
+ */
+@Tag("UI-tier")
+public class GetLobbyPlayersRouteTest {
+
+    /** the Component-under-test (CuT)*/
+    private GetLobbyPlayersRoute CuT;
+
+    /** Attributes holding mock objects */
+    private PlayerLobby playerLobby;
+    private Session session;
+    private Request request;
+    private Response response;
+
+    /**
+     * Initialize CuT and a lobby of signed in players before each test
+     */
+    @BeforeEach
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        for (String name : new String[] {"anna", "bart", "bea", "ben", "bill"}) {
+            playerLobby.signIn(new Player(name));
+        }
+        CuT = new GetLobbyPlayersRoute(playerLobby, new Gson());
+
+        session = mock(Session.class);
+        when(session.attribute(GetLobbyPlayersRoute.CURRENT_USER_ATTR)).thenReturn(playerLobby.findPlayer("anna"));
+        request = mock(Request.class);
+        when(request.session()).thenReturn(session);
+        response = mock(Response.class);
+    }
+
+    /**
+     * Verify the pages of a prefix search follow each other by cursor
+     */
+    @Test
+    public void page_through_prefix() {
+        when(request.queryParams(GetLobbyPlayersRoute.PREFIX_PARAM)).thenReturn("b");
+        when(request.queryParams(GetLobbyPlayersRoute.LIMIT_PARAM)).thenReturn("2");
+
+        Assertions.assertEquals("{\"players\":[\"bart\",\"bea\"],\"nextCursor\":\"bea\"}",
+                CuT.handle(request, response));
+
+        when(request.queryParams(GetLobbyPlayersRoute.CURSOR_PARAM)).thenReturn("bea");
+        Assertions.assertEquals("{\"players\":[\"ben\",\"bill\"]}", CuT.handle(request, response));
+        verify(response, times(2)).type(GetLobbyPlayersRoute.JSON_TYPE);
+    }
+
+    /**
+     * Verify the status parameter picks the players of that status
+     */
+    @Test
+    public void players_of_status() {
+        playerLobby.startGame(playerLobby.findPlayer("anna"), "ben");
+        when(request.queryParams(GetLobbyPlayersRoute.STATUS_PARAM)).thenReturn("playing");
+
+        Assertions.assertEquals("{\"players\":[\"anna\",\"ben\"]}", CuT.handle(request, response));
+    }
+
+    /**
+     * Verify an unknown status is refused
+     */
+    @Test
+    public void bad_status() {
+        when(request.queryParams(GetLobbyPlayersRoute.STATUS_PARAM)).thenReturn("sleeping");
+
+        Assertions.assertEquals(Message.error(GetLobbyPlayersRoute.BAD_STATUS).toJson(),
+                CuT.handle(request, response));
+        verify(response).status(HttpServletResponse.SC_BAD_REQUEST);
+    }
+
+    /**
+     * Verify players who are not signed in are refused
+     */
+    @Test
+    public void not_signed_in() {
+        when(session.attribute(GetLobbyPlayersRoute.CURRENT_USER_ATTR)).thenReturn(null);
+
+        Assertions.assertEquals(Message.error(GetLobbyPlayersRoute.NOT_SIGNED_IN).toJson(),
+                CuT.handle(request, response));
+        verify(response).status(HttpServletResponse.SC_UNAUTHORIZED);
+    }
+}
@@ -0,0 +1,111 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Player;
+import com.webcheckers.model.Position;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.verify;
+
+/**
+ * Unit testing of GetMetricsRoute functionality
+ */
+@Tag("UI-tier")
+public class GetMetricsRouteTest {
+
+    /**
+     * Component Under Test
+     */
+    private GetMetricsRoute CuT;
+
+    /**
+     * Friendly and mock objects
+     */
+    private PlayerLobby playerLobby;
+    private RouteMetrics routeMetrics;
+    private Request request;
+    private Response response;
+
+    @BeforeEach
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        routeMetrics = new RouteMetrics();
+        request = mock(Request.class);
+        response = mock(Response.class);
+        CuT = new GetMetricsRoute(routeMetrics, playerLobby);
+    }
+
+    /**
+     * Test that the constructor requires its collaborators
+     */
+    @Test
+    public void testConstructor() {
+        Assertions.assertThrows(NullPointerException.class, () -> new GetMetricsRoute(null, playerLobby));
+        Assertions.assertThrows(NullPointerException.class, () -> new GetMetricsRoute(routeMetrics, null));
+    }
+
+    /**
+     * Test that the gauges count the lobby and the route latencies follow them
+     */
+    @Test
+    public void testHandle() throws Exception {
+        Player red = new Player("red");
+        Player white = new Player("white");
+        Player watcher = new Player("watcher");
+        playerLobby.signIn(red);
+        playerLobby.signIn(white);
+        playerLobby.signIn(watcher);
+        playerLobby.startGame(red, white.getName());
+        playerLobby.spectateGame(watcher, red.getName());
+        red.getGame().validateMove(new Move(new Position(2, 7), new Position(3, 6)));
+        routeMetrics.time("GET", "/", (req, res) -> "").handle(request, response);
+
+        String metrics = (String) CuT.handle(request, response);
+
+        verify(response).type(GetMetricsRoute.PROMETHEUS_TYPE);
+        Assertions.assertTrue(metrics.contains("# TYPE webcheckers_games_active gauge\nwebcheckers_games_active 1\n"));
+        Assertions.assertTrue(metrics.contains("\nwebcheckers_players_online 3\n"));
+        Assertions.assertTrue(metrics.contains("\nwebcheckers_spectators 1\n"));
+        Assertions.assertTrue(metrics.contains("\nwebcheckers_pending_moves 1\n"));
+        Assertions.assertTrue(metrics.contains(RouteMetrics.LATENCY_METRIC
+                + "_count{method=\"GET\",route=\"/\",outcome=\"other\"} 1\n"), metrics);
+    }
+
+    /**
+     * Test that the archived games and the games evicted from the archive are exported
+     */
+    @Test
+    public void testArchivedGames() {
+        // The archive keeps a single game
+        playerLobby = new PlayerLobby(1, 60_000, 1);
+        CuT = new GetMetricsRoute(routeMetrics, playerLobby);
+        String metrics = (String) CuT.handle(request, response);
+        Assertions.assertTrue(metrics.contains(
+                "# TYPE webcheckers_games_archived gauge\nwebcheckers_games_archived 0\n"));
+        Assertions.assertTrue(metrics.contains(
+                "# TYPE webcheckers_games_evicted_total counter\nwebcheckers_games_evicted_total 0\n"));
+
+        for (int gameIdx = 0; gameIdx < 2; gameIdx++) {
+            Player red = new Player("red" + gameIdx);
+            Player white = new Player("white" + gameIdx);
+            playerLobby.signIn(red);
+            playerLobby.signIn(white);
+            playerLobby.startGame(red, white.getName());
+            playerLobby.resignGame(red);
+            red.leaveGame();
+            white.leaveGame();
+            playerLobby.sweepGames();
+        }
+
+        metrics = (String) CuT.handle(request, response);
+        Assertions.assertTrue(metrics.contains("\nwebcheckers_games_archived 1\n"), metrics);
+        Assertions.assertTrue(metrics.contains("\nwebcheckers_games_evicted_total 1\n"), metrics);
+    }
+}
@@ -67,7 +67,7 @@ public class GetSpectateGameRouteTest {
         lobby.signIn(player3);
         response = mock(Response.class);
 
-        CuT = new GetSpectateGameRoute(engine, lobby);
+        CuT = new GetSpectateGameRoute(engine, lobby, new GameBoardCache(engine));
     }
 
     /**
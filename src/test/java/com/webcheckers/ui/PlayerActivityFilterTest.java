@@ -0,0 +1,83 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link PlayerActivityFilter} component.
+ */
+@Tag("UI-tier")
+public class PlayerActivityFilterTest {
+
+    /** the Component-under-test (CuT)*/
+    private PlayerActivityFilter CuT;
+
+    /** Attributes holding mock objects */
+    private PlayerLobby playerLobby;
+    private Request request;
+    private Session session;
+    private Response response;
+    private Player currentUser;
+
+    /**
+     * Initialize CuT and mock classes before each test
+     */
+    @BeforeEach
+    public void setup() {
+        playerLobby = new PlayerLobby();
+        CuT = new PlayerActivityFilter(playerLobby);
+
+        currentUser = new Player("player");
+        currentUser.touch(0);
+        session = mock(Session.class);
+        when(session.attribute(PlayerActivityFilter.CURRENT_USER_ATTR)).thenReturn(currentUser);
+        request = mock(Request.class);
+        when(request.session(false)).thenReturn(session);
+        response = mock(Response.class);
+    }
+
+    /**
+     * Verify a request of a signed in player records their activity
+     */
+    @Test
+    public void touch_signed_in_player() {
+        playerLobby.signIn(currentUser);
+
+        CuT.handle(request, response);
+
+        Assertions.assertTrue(currentUser.getLastActivity() > 0);
+        verify(session, never()).removeAttribute(anyString());
+    }
+
+    /**
+     * Verify a player who was signed out while idle is signed out of their session
+     */
+    @Test
+    public void sign_out_session_of_reaped_player() {
+        CuT.handle(request, response);
+
+        Assertions.assertEquals(0, currentUser.getLastActivity());
+        verify(session).removeAttribute(PlayerActivityFilter.CURRENT_USER_ATTR);
+    }
+
+    /**
+     * Verify a request without a session is left alone
+     */
+    @Test
+    public void ignore_request_without_session() {
+        when(request.session(false)).thenReturn(null);
+
+        CuT.handle(request, response);
+
+        verify(request, never()).session();
+    }
+}
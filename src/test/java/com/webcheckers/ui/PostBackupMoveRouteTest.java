@@ -75,21 +75,19 @@ public class PostBackupMoveRouteTest {
 
         testMove = new Move(new Position(2, 1), new Position(3, 2));
 
-        Space[][] boardCopy = testGame.createBoardCopy(board);
-        testGame.addToPendingMoveBoards(board);
-
         when(session.attribute(CURRENT_USER)).thenReturn(testUser1);
         //no pending moves
 
         Assertions.assertEquals(0, testGame.getSizePendingMoves());
         //1 pending move
-        testGame.validateMove(testMove, boardCopy);
+        testGame.validateMove(testMove);
         Assertions.assertEquals(1, testGame.getSizePendingMoves());
 
         //start test
         Object returnMessage = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), returnMessage);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) returnMessage);
+        Assertions.assertEquals(0, testGame.getSizePendingMoves());
     }
 
     /**
@@ -105,26 +103,46 @@ public class PostBackupMoveRouteTest {
         //adding pieces to jump
         board[3][2].addPiece(new Piece(Piece.Type.KING, Piece.PieceColor.WHITE));
         board[5][2].addPiece(new Piece(Piece.Type.KING, Piece.PieceColor.WHITE));
-        board[6][2].removePiece();
-        Space[][] boardCopy = testGame.createBoardCopy(board);
-        testGame.addToPendingMoveBoards(board);
+        board[6][1].removePiece();
+        testGame.modifyActualBoard(board);
 
         when(session.attribute(CURRENT_USER)).thenReturn(testUser1);
         //no pending moves
 
         Assertions.assertEquals(0, testGame.getSizePendingMoves());
         //1 pending move
-        testGame.validateMove(testMove, boardCopy);
+        testGame.validateMove(testMove);
         Assertions.assertEquals(1, testGame.getSizePendingMoves());
 
         //2 pending moves
-        Move testMove2 = new Move(new Position(4, 3), new Position(6, 2));
-        testGame.validateMove(testMove2, boardCopy);
+        Move testMove2 = new Move(new Position(4, 3), new Position(6, 1));
+        testGame.validateMove(testMove2);
+        Assertions.assertEquals(2, testGame.getSizePendingMoves());
+
+        Object returnMessage = CuT.handle(request, response);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) returnMessage);
+        Assertions.assertEquals(1, testGame.getSizePendingMoves());
+
+        returnMessage = CuT.handle(request, response);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) returnMessage);
+        Assertions.assertEquals(0, testGame.getSizePendingMoves());
 
+    }
+
+    /**
+     * Test that a player cannot take back the moves of their opponent
+     */
+    @Test
+    public void test_not_your_turn() {
+        Message expectedReturnMessage = Message.error(PostValidateMoveRoute.NOT_YOUR_TURN);
+
+        testGame.validateMove(new Move(new Position(2, 1), new Position(3, 2)));
+        when(session.attribute(CURRENT_USER)).thenReturn(testUser2);
 
         Object returnMessage = CuT.handle(request, response);
-        Assertions.assertEquals(expectedReturnMessage.toJson(), returnMessage);
-        Assertions.assertEquals(expectedReturnMessage.toJson(), returnMessage);
 
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) returnMessage);
+        Assertions.assertEquals(1, testGame.getSizePendingMoves());
     }
+
 }
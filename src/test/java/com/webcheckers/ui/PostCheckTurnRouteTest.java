@@ -37,8 +37,8 @@ public class PostCheckTurnRouteTest {
     static final String CURRENT_USER_ATTR = "currentUser";
     static final String CURRENT_USER_NAME = "CURRENT USER";
     static final String OPPONENT_NAME = "OPPONENT";
-    static final String TRUE_MESSAGE = Message.info(PostCheckTurnRoute.TRUE).toJson();
-    static final String FALSE_MESSAGE = Message.info(PostCheckTurnRoute.FALSE).toJson();
+    static final byte[] TRUE_MESSAGE = Message.info(PostCheckTurnRoute.TRUE).toJsonBytes();
+    static final byte[] FALSE_MESSAGE = Message.info(PostCheckTurnRoute.FALSE).toJsonBytes();
 
     /**
      * Initialize CuT and mock classes before each test
@@ -46,7 +46,7 @@ public class PostCheckTurnRouteTest {
     @BeforeEach
     private void setup(){
         // CuT initialize
-        CuT = new PostCheckTurnRoute();
+        CuT = new PostCheckTurnRoute(new TurnWaiter());
 
         // players
         currentUser = mock(Player.class);
@@ -69,7 +69,7 @@ public class PostCheckTurnRouteTest {
      *   it is their turn when it is their turn
      */
     @Test
-    public void check_return_message_when_red_player_request_on_turn(){
+    public void check_return_message_when_red_player_request_on_turn() throws Exception {
         Game game = mock(Game.class); // create game
         when(game.isRedPlayerTurn()).thenReturn(true); // red players turn
         when(game.getPlayers()).thenReturn(new Player[]{currentUser, opponent}); // add players
@@ -79,10 +79,10 @@ public class PostCheckTurnRouteTest {
         Object retObject = CuT.handle(request, response);
 
         // analyze results
-        //      - returned a string (JSON string)
-        Assertions.assertEquals(retObject.getClass(), String.class);
+        //      - returned the bytes of a JSON string
+        Assertions.assertEquals(retObject.getClass(), byte[].class);
         //      - returned the proper message
-        Assertions.assertEquals((String)retObject, TRUE_MESSAGE);
+        Assertions.assertArrayEquals(TRUE_MESSAGE, (byte[]) retObject);
 
     }
 
@@ -91,7 +91,7 @@ public class PostCheckTurnRouteTest {
      *   it is their turn when it is their turn
      */
     @Test
-    public void check_return_message_when_white_player_request_on_turn(){
+    public void check_return_message_when_white_player_request_on_turn() throws Exception {
         Game game = mock(Game.class); // create game
         when(game.isWhitePlayerTurn()).thenReturn(true); // white players turn
         when(game.getPlayers()).thenReturn(new Player[]{opponent, currentUser}); // add players
@@ -101,10 +101,10 @@ public class PostCheckTurnRouteTest {
         Object retObject = CuT.handle(request, response);
 
         // analyze results
-        //      - returned a string (JSON string)
-        Assertions.assertEquals(retObject.getClass(), String.class);
+        //      - returned the bytes of a JSON string
+        Assertions.assertEquals(retObject.getClass(), byte[].class);
         //      - returned the proper message
-        Assertions.assertEquals((String)retObject, TRUE_MESSAGE);
+        Assertions.assertArrayEquals(TRUE_MESSAGE, (byte[]) retObject);
     }
 
     /**
@@ -112,7 +112,7 @@ public class PostCheckTurnRouteTest {
      *   it is their turn when it is NOT their turn
      */
     @Test
-    public void check_return_message_when_red_player_request_not_on_turn(){
+    public void check_return_message_when_red_player_request_not_on_turn() throws Exception {
         Game game = mock(Game.class); // create game
         when(game.isWhitePlayerTurn()).thenReturn(true); // white players turn
         when(game.getPlayers()).thenReturn(new Player[]{currentUser, opponent}); // add players
@@ -122,10 +122,10 @@ public class PostCheckTurnRouteTest {
         Object retObject = CuT.handle(request, response);
 
         // analyze results
-        //      - returned a string (JSON string)
-        Assertions.assertEquals(retObject.getClass(), String.class);
+        //      - returned the bytes of a JSON string
+        Assertions.assertEquals(retObject.getClass(), byte[].class);
         //      - returned the proper message
-        Assertions.assertEquals((String)retObject, FALSE_MESSAGE);
+        Assertions.assertArrayEquals(FALSE_MESSAGE, (byte[]) retObject);
 
     }
 
@@ -134,7 +134,7 @@ public class PostCheckTurnRouteTest {
      *   it is their turn when it is NOT their turn
      */
     @Test
-    public void check_return_message_when_white_player_request_not_on_turn(){
+    public void check_return_message_when_white_player_request_not_on_turn() throws Exception {
         Game game = mock(Game.class); // create game
         when(game.isRedPlayerTurn()).thenReturn(true); // red players turn
         when(game.getPlayers()).thenReturn(new Player[]{opponent, currentUser}); // add players
@@ -144,9 +144,9 @@ public class PostCheckTurnRouteTest {
         Object retObject = CuT.handle(request, response);
 
         // analyze results
-        //      - returned a string (JSON string)
-        Assertions.assertEquals(retObject.getClass(), String.class);
+        //      - returned the bytes of a JSON string
+        Assertions.assertEquals(retObject.getClass(), byte[].class);
         //      - returned the proper message
-        Assertions.assertEquals((String)retObject, FALSE_MESSAGE);
+        Assertions.assertArrayEquals(FALSE_MESSAGE, (byte[]) retObject);
     }
 }
@@ -0,0 +1,71 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Message;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Session;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link PostSocketTicketRoute} component.
+ */
+@Tag("UI-tier")
+public class PostSocketTicketRouteTest {
+
+    /** the Component-under-test (CuT)*/
+    private PostSocketTicketRoute CuT;
+
+    /** Attributes holding mock objects */
+    private GameSocketHandler socketHandler;
+    private Request request;
+    private Response response;
+    private Player currentUser;
+
+    /**
+     * Initialize CuT and mock classes before each test
+     */
+    @BeforeEach
+    public void setup() {
+        socketHandler = mock(GameSocketHandler.class);
+        CuT = new PostSocketTicketRoute(socketHandler);
+
+        currentUser = mock(Player.class);
+        Session session = mock(Session.class);
+        when(session.attribute(PostSocketTicketRoute.CURRENT_USER_ATTR)).thenReturn(currentUser);
+        request = mock(Request.class);
+        when(request.session()).thenReturn(session);
+        response = mock(Response.class);
+    }
+
+    /**
+     * Verify a player in a game is issued a ticket
+     */
+    @Test
+    public void issue_ticket_when_in_game() {
+        when(currentUser.inGame()).thenReturn(true);
+        when(socketHandler.issueTicket(currentUser)).thenReturn("ticket");
+
+        Assertions.assertEquals(Message.info("ticket").toJson(), CuT.handle(request, response));
+    }
+
+    /**
+     * Verify players who are not playing a game are not issued a ticket
+     */
+    @Test
+    public void no_ticket_when_not_playing() {
+        when(currentUser.inGame()).thenReturn(false);
+        Assertions.assertEquals(Message.error(GameSocketHandler.NO_GAME).toJson(), CuT.handle(request, response));
+
+        when(currentUser.inGame()).thenReturn(true);
+        when(currentUser.getSpectatorStatus()).thenReturn(true);
+        Assertions.assertEquals(Message.error(GameSocketHandler.NO_GAME).toJson(), CuT.handle(request, response));
+
+        verify(socketHandler, never()).issueTicket(any());
+    }
+}
@@ -32,8 +32,8 @@ public class PostSpectatorCheckTurnRouteTest {
     /** Constants */
     static final String CURRENT_USER_ATTR = "currentUser";
     static final String CURRENT_USER_NAME = "CURRENT USER";
-    static final String TRUE_MESSAGE = Message.info(PostSpectatorCheckTurnRoute.TRUE).toJson();
-    static final String FALSE_MESSAGE = Message.info(PostSpectatorCheckTurnRoute.FALSE).toJson();
+    static final byte[] TRUE_MESSAGE = Message.info(PostSpectatorCheckTurnRoute.TRUE).toJsonBytes();
+    static final byte[] FALSE_MESSAGE = Message.info(PostSpectatorCheckTurnRoute.FALSE).toJsonBytes();
 
     /**
      * Initialize CuT and mock classes before each test
@@ -41,7 +41,7 @@ public class PostSpectatorCheckTurnRouteTest {
     @BeforeEach
     private void setup(){
         // CuT initialize
-        CuT = new PostSpectatorCheckTurnRoute();
+        CuT = new PostSpectatorCheckTurnRoute(new TurnWaiter());
 
         // players
         currentUser = mock(Player.class);
@@ -61,7 +61,7 @@ public class PostSpectatorCheckTurnRouteTest {
      * Verify correct JSON Message returned when a change in turn has occurred
      */
     @Test
-    public void check_return_message_when_change_occurred(){
+    public void check_return_message_when_change_occurred() throws Exception {
         when(currentUser.spectateDidTurnUpdate()).thenReturn(true);
 
         // call the CuT
@@ -70,17 +70,17 @@ public class PostSpectatorCheckTurnRouteTest {
         // analyze results
         //      - check change turn called
         verify(currentUser).spectateDidTurnUpdate();
-        //      - returned a string (JSON string)
-        Assertions.assertEquals(retObject.getClass(), String.class);
+        //      - returned the bytes of a JSON string
+        Assertions.assertEquals(retObject.getClass(), byte[].class);
         //      - returned the proper message
-        Assertions.assertEquals(retObject, TRUE_MESSAGE);
+        Assertions.assertArrayEquals(TRUE_MESSAGE, (byte[]) retObject);
     }
 
     /**
      * Verify correct JSON Message returned when NO change in turn has occurred
      */
     @Test
-    public void check_return_message_when_no_change_occurred(){
+    public void check_return_message_when_no_change_occurred() throws Exception {
         when(currentUser.spectateDidTurnUpdate()).thenReturn(false);
 
         // call the CuT
@@ -89,9 +89,9 @@ public class PostSpectatorCheckTurnRouteTest {
         // analyze results
         //      - check change turn called
         verify(currentUser).spectateDidTurnUpdate();
-        //      - returned a string (JSON string)
-        Assertions.assertEquals(retObject.getClass(), String.class);
+        //      - returned the bytes of a JSON string
+        Assertions.assertEquals(retObject.getClass(), byte[].class);
         //      - returned the proper message
-        Assertions.assertEquals(retObject, FALSE_MESSAGE);
+        Assertions.assertArrayEquals(FALSE_MESSAGE, (byte[]) retObject);
     }
 }
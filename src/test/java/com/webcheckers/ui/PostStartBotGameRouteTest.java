@@ -0,0 +1,105 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.appl.PlayerLobby;
+import com.webcheckers.model.Player;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.*;
+
+import org.mockito.Mockito;
+import spark.*;
+
+/**
+ * Testing the functionality of the PostStartBotGameRoute
+ */
+@Tag("UI-tier")
+public class PostStartBotGameRouteTest {
+
+    private static final String CURRENT_USER = "currentUser";
+
+    /**
+     * The component-under-test (CuT)
+     */
+    private PostStartBotGameRoute CuT;
+
+    /**
+     * Attributes holding mock objects
+     */
+    private Request request;
+    private Session session;
+    private Response response;
+
+    // friendly
+    private PlayerLobby playerLobby;
+
+    @BeforeEach
+    public void setup() {
+        request = mock(Request.class);
+        session = mock(Session.class);
+        when(request.session()).thenReturn(session);
+        response = mock(Response.class);
+        playerLobby = new PlayerLobby();
+
+        CuT = new PostStartBotGameRoute(playerLobby);
+    }
+
+    /**
+     * Verify that a signed in player starts a game against the computer
+     */
+    @Test
+    public void testStartBotGame() {
+        Player testUser1 = new Player("testUser1");
+        playerLobby.signIn(testUser1);
+        when(session.attribute(eq(CURRENT_USER))).thenReturn(testUser1);
+
+        CuT.handle(request, response);
+
+        verify(response).redirect(eq("/game"));
+        Assertions.assertTrue(playerLobby.inRealGame(testUser1));
+        Assertions.assertEquals(Player.Status.PLAYING, testUser1.getStatus());
+        Assertions.assertEquals(1, playerLobby.getPlayerCount());
+    }
+
+    /**
+     * Verify that a player already playing a game is redirected home with an error
+     */
+    @Test
+    public void testAlreadyInGame() {
+        Player testUser1 = new Player("testUser1");
+        playerLobby.signIn(testUser1);
+        when(session.attribute(eq(CURRENT_USER))).thenReturn(testUser1);
+
+        CuT.handle(request, response);
+        CuT.handle(request, response);
+
+        verify(response).redirect(Mockito.argThat(s -> s.contains("/?redirectMessage=") && s.contains("&t=")));
+    }
+
+    /**
+     * Verify that a player who is not signed in is redirected home with an error
+     */
+    @Test
+    public void testInvalidCurrentUser() {
+        when(session.attribute(eq(CURRENT_USER))).thenReturn(new Player("testUser1"));
+
+        CuT.handle(request, response);
+
+        verify(response).redirect(Mockito.argThat(s -> s.contains("/?redirectMessage=") && s.contains("&t=")));
+    }
+
+    /**
+     * Verify that if the session is null that the server will redirect you home
+     */
+    @Test
+    public void testInvalidSession() {
+        when(request.session()).thenReturn(null);
+
+        CuT.handle(request, response);
+
+        verify(response).redirect(eq("/"));
+    }
+}
@@ -50,8 +50,6 @@ public class PostSubmitTurnRouteTest {
     private Player opponent;
     private Game currentUserGame;
     private Space[][] board;
-    private Space[][] initialBoardCopy;
-    private Space[][] boardCopy;
     private Message expectedReturnMessage;
     private Object messageRouteReturns;
 
@@ -84,23 +82,16 @@ public class PostSubmitTurnRouteTest {
         board[0][5].removePiece();
         board[2][3].removePiece();
         board[2][3].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        currentUserGame.modifyActualBoard(board);
+        currentUserGame.changeTurn();
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[5][0].removePiece();
-        board[4][1].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(5, 0), new Position(4, 1)));
+        currentUserGame.validateMove(new Move(new Position(5, 0), new Position(4, 1)));
 
         expectedReturnMessage = Message.error(PostSubmitTurnRoute.JUMP_MOVE_AVAIL_MSG);
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
     /**
@@ -108,30 +99,16 @@ public class PostSubmitTurnRouteTest {
      */
     @Test
     public void test_one_single_move_only_error() {
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
+        currentUserGame.changeTurn();
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
-        board[5][0].removePiece();
-        board[4][1].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(5, 0), new Position(4, 1)));
-
-        board[5][2].removePiece();
-        board[4][3].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(5, 2), new Position(4, 3)));
+        currentUserGame.validateMove(new Move(new Position(5, 0), new Position(4, 1)));
+        currentUserGame.validateMove(new Move(new Position(5, 2), new Position(4, 3)));
 
         expectedReturnMessage = Message.error(PostSubmitTurnRoute.ONE_SINGLE_MOVE_ONLY_MSG);
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
     /**
@@ -144,33 +121,17 @@ public class PostSubmitTurnRouteTest {
 
         board[2][3].removePiece();
         board[3][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.RED));
+        currentUserGame.modifyActualBoard(board);
+        currentUserGame.changeTurn();
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[4][1].removePiece();
-        board[2][3].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        board[3][2].removePiece();
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(4, 1), new Position(2, 3)));
-
-        board[5][0].removePiece();
-        board[4][1].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(5, 0), new Position(4, 1)));
+        currentUserGame.validateMove(new Move(new Position(4, 1), new Position(2, 3)));
+        currentUserGame.validateMove(new Move(new Position(5, 0), new Position(4, 1)));
 
         expectedReturnMessage = Message.error(PostSubmitTurnRoute.JUMP_MOVES_ONLY_MSG);
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
     /**
@@ -185,25 +146,16 @@ public class PostSubmitTurnRouteTest {
         board[3][2].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.RED));
 
         board[0][5].removePiece();
+        currentUserGame.modifyActualBoard(board);
+        currentUserGame.changeTurn();
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[4][1].removePiece();
-        board[2][3].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        board[3][2].removePiece();
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(4, 1), new Position(2, 3)));
+        currentUserGame.validateMove(new Move(new Position(4, 1), new Position(2, 3)));
 
         expectedReturnMessage = Message.error(PostSubmitTurnRoute.JUMP_MOVE_PARTIAL_MSG);
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
     /**
@@ -211,22 +163,17 @@ public class PostSubmitTurnRouteTest {
      */
     @Test
     public void test_valid_turn_for_White_player() {
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[5][0].removePiece();
-        board[4][1].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
+        currentUserGame.changeTurn();
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(5, 0), new Position(4, 1)));
+        currentUserGame.validateMove(new Move(new Position(5, 0), new Position(4, 1)));
 
         expectedReturnMessage = Message.info(PostSubmitTurnRoute.VALID_TURN);
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
+        Assertions.assertEquals(Piece.PieceColor.WHITE, board[4][1].getPiece().getColor());
+        Assertions.assertNull(board[5][0].getPiece());
     }
 
     /**
@@ -234,22 +181,14 @@ public class PostSubmitTurnRouteTest {
      */
     @Test
     public void test_valid_turn_for_Red_player() {
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[2][1].removePiece();
-        board[3][0].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.RED));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(2, 1), new Position(3, 0)));
+        currentUserGame.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
 
         expectedReturnMessage = Message.info(PostSubmitTurnRoute.VALID_TURN);
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
+        Assertions.assertEquals(Piece.PieceColor.RED, board[3][0].getPiece().getColor());
+        Assertions.assertNull(board[2][1].getPiece());
     }
 
     /**
@@ -262,20 +201,11 @@ public class PostSubmitTurnRouteTest {
 
         board[5][0].removePiece();
         board[2][3].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
+        currentUserGame.modifyActualBoard(board);
+        currentUserGame.changeTurn();
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[2][3].removePiece();
-        board[0][5].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        board[1][4].removePiece();
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(2, 3), new Position(0, 5)));
+        currentUserGame.validateMove(new Move(new Position(2, 3), new Position(0, 5)));
 
         CuT.handle(request, response);
 
@@ -299,18 +229,11 @@ public class PostSubmitTurnRouteTest {
         board[2][3].removePiece();
         board[2][5].removePiece();
         board[2][7].removePiece();
+        currentUserGame.modifyActualBoard(board);
+        currentUserGame.changeTurn();
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[5][0].removePiece();
-        board[4][1].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.WHITE));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(5, 0), new Position(4, 1)));
+        currentUserGame.validateMove(new Move(new Position(5, 0), new Position(4, 1)));
 
         CuT.handle(request, response);
 
@@ -334,24 +257,29 @@ public class PostSubmitTurnRouteTest {
         board[7][2].removePiece();
         board[7][4].removePiece();
         board[7][6].removePiece();
+        currentUserGame.modifyActualBoard(board);
 
-        initialBoardCopy = currentUserGame.createBoardCopy(currentUserGame.getBoard());
-
-        currentUserGame.addToPendingMoveBoards(initialBoardCopy);
-
-        board[2][1].removePiece();
-        board[3][0].addPiece(new Piece(Piece.Type.SINGLE, Piece.PieceColor.RED));
-
-        boardCopy = currentUserGame.createBoardCopy(board);
-
-        currentUserGame.addToPendingMoveBoards(boardCopy);
-        currentUserGame.addToPendingMoves(new Move(new Position(2, 1), new Position(3, 0)));
+        currentUserGame.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
 
         CuT.handle(request, response);
 
         Assertions.assertEquals(currentUser.getName(), currentUser.getGame().getPlayers()[0].getName());
     }
 
-}
+    /**
+     * Test that a player cannot submit a turn when it is not their turn
+     */
+    @Test
+    public void test_not_your_turn() {
+        currentUserGame.validateMove(new Move(new Position(2, 1), new Position(3, 0)));
+        when(session.attribute(PostSubmitTurnRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
 
+        expectedReturnMessage = Message.error(PostValidateMoveRoute.NOT_YOUR_TURN);
+        messageRouteReturns = CuT.handle(request, response);
+
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
+        Assertions.assertTrue(currentUserGame.isRedPlayerTurn());
+        Assertions.assertTrue(currentUserGame.hasMoves());
+    }
 
+}
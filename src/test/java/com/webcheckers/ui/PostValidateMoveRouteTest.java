@@ -2,6 +2,8 @@ package com.webcheckers.ui;
 
 import com.google.gson.Gson;
 import com.webcheckers.model.Game;
+import com.webcheckers.model.Move;
+import com.webcheckers.model.Position;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Tag;
@@ -86,7 +88,7 @@ public class PostValidateMoveRouteTest {
 
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
     /**
@@ -110,7 +112,7 @@ public class PostValidateMoveRouteTest {
 
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
     /**
@@ -135,12 +137,12 @@ public class PostValidateMoveRouteTest {
 
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
     /**
      * Test proper functionality when moveAsJson is a valid simple move JSON String, and
-     * there is a pending move board before move validation
+     * there is a pending move before move validation
      */
     @Test
     public void test_valid_simple_move_moveAsJson_and_pending_move_board() {
@@ -158,14 +160,39 @@ public class PostValidateMoveRouteTest {
 
         Game currentUserGame = currentUser.getGame();
 
-        currentUserGame.addToPendingMoveBoards(currentUserGame.createBoardCopy(currentUserGame.getBoard()));
+        currentUserGame.validateMove(new Move(new Position(2, 1), new Position(3, 2)));
 
         expectedReturnMessage = Message.info(VALID_SIMPLE_MOVE_MESSAGE);
 
         messageRouteReturns = CuT.handle(request, response);
 
-        Assertions.assertEquals(expectedReturnMessage.toJson(), messageRouteReturns);
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
     }
 
-}
+    /**
+     * Test that a player cannot move when it is not their turn
+     */
+    @Test
+    public void test_not_your_turn() {
+        when(request.queryParams(PostValidateMoveRoute.ACTION_DATA_QUERY_PARAM))
+                .thenReturn("{\"start\":{\"row\":5,\"cell\":0},\"end\":{\"row\":4,\"cell\":1}}");
+
+        currentUser = new Player(CURRENT_USER_USERNAME);
+        opponent = new Player(OPPONENT_USERNAME);
 
+        //Create a game
+        playerLobby.signIn(currentUser);
+        playerLobby.signIn(opponent);
+        playerLobby.startGame(currentUser, opponent.getName());
+
+        when(session.attribute(PostValidateMoveRoute.CURRENT_USER_ATTR)).thenReturn(opponent);
+
+        expectedReturnMessage = Message.error(PostValidateMoveRoute.NOT_YOUR_TURN);
+
+        messageRouteReturns = CuT.handle(request, response);
+
+        Assertions.assertArrayEquals(expectedReturnMessage.toJsonBytes(), (byte[]) messageRouteReturns);
+        Assertions.assertFalse(opponent.getGame().hasMoves());
+    }
+
+}
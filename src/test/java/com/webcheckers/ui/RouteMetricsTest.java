@@ -0,0 +1,107 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.util.Message;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+import spark.Route;
+
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+/**
+ * Unit testing of RouteMetrics functionality
+ */
+@Tag("UI-tier")
+public class RouteMetricsTest {
+
+    private static final String LABELS = "method=\"POST\",route=\"/validateMove\"";
+
+    /**
+     * Component Under Test
+     */
+    private RouteMetrics CuT;
+
+    /**
+     * Mock objects
+     */
+    private Request request;
+    private Response response;
+
+    @BeforeEach
+    public void setup() {
+        CuT = new RouteMetrics();
+        request = mock(Request.class);
+        response = mock(Response.class);
+    }
+
+    private String render() {
+        StringBuilder out = new StringBuilder();
+        CuT.writeTo(out);
+        return out.toString();
+    }
+
+    /**
+     * Test that the answers of a timed route are passed on and counted by outcome
+     */
+    @Test
+    public void testOutcomes() throws Exception {
+        Message info = Message.info("ok");
+        Route timed = CuT.time("POST", "/validateMove", (req, res) -> req.queryParams("fail") == null
+                ? info.toJsonBytes() : Message.error("no").toJsonBytes());
+
+        Assertions.assertSame(info.toJsonBytes(), timed.handle(request, response));
+        Assertions.assertSame(info.toJsonBytes(), timed.handle(request, response));
+        when(request.queryParams("fail")).thenReturn("true");
+        timed.handle(request, response);
+
+        String metrics = render();
+        Assertions.assertTrue(metrics.contains("# TYPE " + RouteMetrics.LATENCY_METRIC + " histogram\n"));
+        Assertions.assertTrue(metrics.contains(RouteMetrics.LATENCY_METRIC + "_count{" + LABELS
+                + ",outcome=\"info\"} 2\n"), metrics);
+        Assertions.assertTrue(metrics.contains(RouteMetrics.LATENCY_METRIC + "_bucket{" + LABELS
+                + ",outcome=\"error\",le=\"+Inf\"} 1\n"), metrics);
+        Assertions.assertTrue(metrics.contains(",le=\"0.0005\"}"), metrics);
+        Assertions.assertFalse(metrics.contains("outcome=\"exception\""));
+    }
+
+    /**
+     * Test that a route that throws is counted and its exception passed on
+     */
+    @Test
+    public void testException() {
+        Route timed = CuT.time("GET", "/game", (req, res) -> {
+            throw new IllegalStateException("broken");
+        });
+
+        Assertions.assertThrows(IllegalStateException.class, () -> timed.handle(request, response));
+        Assertions.assertTrue(render().contains("_count{method=\"GET\",route=\"/game\",outcome=\"exception\"} 1\n"));
+    }
+
+    /**
+     * Test the outcome of pages, redirects and HTTP errors
+     */
+    @Test
+    public void testOutcomeOf() {
+        Assertions.assertEquals(RouteMetrics.Outcome.OTHER, RouteMetrics.outcomeOf("<html></html>", response));
+        Assertions.assertEquals(RouteMetrics.Outcome.OTHER, RouteMetrics.outcomeOf(null, response));
+        Assertions.assertEquals(RouteMetrics.Outcome.INFO,
+                RouteMetrics.outcomeOf(Message.info("ok").toJsonBytes(), response));
+
+        when(response.status()).thenReturn(404);
+        Assertions.assertEquals(RouteMetrics.Outcome.ERROR, RouteMetrics.outcomeOf("not found", response));
+    }
+
+    /**
+     * Test that routes without requests write no series
+     */
+    @Test
+    public void testEmpty() {
+        CuT.time("GET", "/", (req, res) -> "");
+
+        Assertions.assertFalse(render().contains("_count"));
+    }
+}
@@ -0,0 +1,229 @@
+package com.webcheckers.ui;
+
+import com.webcheckers.model.Game;
+import com.webcheckers.model.Player;
+import com.webcheckers.util.Message;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import spark.Request;
+import spark.Response;
+
+import javax.servlet.AsyncContext;
+import javax.servlet.ServletOutputStream;
+import javax.servlet.WriteListener;
+import javax.servlet.http.HttpServletRequest;
+import javax.servlet.http.HttpServletResponse;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.TimeUnit;
+
+import static org.mockito.Mockito.*;
+
+/**
+ * The unit test suite for the {@link TurnWaiter} component.
+ */
+@Tag("UI-tier")
+public class TurnWaiterTest {
+
+    /** the Component-under-test (CuT)*/
+    private TurnWaiter CuT;
+
+    /** Attributes holding mock objects */
+    private ScheduledExecutorService executor;
+    private Game game;
+    private Player red;
+    private Request request;
+    private Response response;
+    private AsyncContext context;
+    private ByteArrayOutputStream written;
+
+    /**
+     * Initialize CuT and a long-poll request before each test
+     */
+    @BeforeEach
+    public void setup() throws IOException {
+        executor = Executors.newSingleThreadScheduledExecutor();
+        CuT = new TurnWaiter(executor, TimeUnit.HOURS.toMillis(1));
+        red = new Player("red");
+        game = new Game(1, red, new Player("white"));
+
+        written = new ByteArrayOutputStream();
+        HttpServletResponse rawResponse = mock(HttpServletResponse.class);
+        when(rawResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+            }
+
+            @Override
+            public void write(int b) {
+                written.write(b);
+            }
+        });
+        context = mock(AsyncContext.class);
+        when(context.getResponse()).thenReturn(rawResponse);
+        HttpServletRequest rawRequest = mock(HttpServletRequest.class);
+        when(rawRequest.startAsync()).thenReturn(context);
+
+        request = mock(Request.class);
+        when(request.queryParams(TurnWaiter.LONG_POLL_PARAM)).thenReturn("true");
+        when(request.raw()).thenReturn(rawRequest);
+        response = mock(Response.class);
+        when(response.raw()).thenReturn(rawResponse);
+    }
+
+    @AfterEach
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Waits for every answer queued so far to be written
+     */
+    private String drain() throws Exception {
+        executor.submit(() -> { }).get();
+        return new String(written.toByteArray(), StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Checks whether it is the turn of white
+     */
+    private Message isWhiteTurn() {
+        return Message.info(game.isWhitePlayerTurn() ? PostCheckTurnRoute.TRUE : PostCheckTurnRoute.FALSE);
+    }
+
+    /**
+     * Verify a request that is not a long poll is answered right away
+     */
+    @Test
+    public void answer_short_poll_now() throws Exception {
+        when(request.queryParams(TurnWaiter.LONG_POLL_PARAM)).thenReturn(null);
+
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.FALSE), CuT.checkOrPark(request, response, game,
+                this::isWhiteTurn));
+        Assertions.assertEquals(0, CuT.getParkedCount(1));
+        verifyZeroInteractions(context);
+    }
+
+    /**
+     * Verify a long poll whose answer is already true is not parked
+     */
+    @Test
+    public void answer_long_poll_now_when_true() throws Exception {
+        game.changeTurn();
+
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.TRUE), CuT.checkOrPark(request, response, game,
+                this::isWhiteTurn));
+        Assertions.assertEquals(0, CuT.getParkedCount(1));
+    }
+
+    /**
+     * Verify a parked long poll is answered when the turn changes
+     */
+    @Test
+    public void answer_parked_poll_on_turn_change() throws Exception {
+        Assertions.assertNull(CuT.checkOrPark(request, response, game, this::isWhiteTurn));
+        Assertions.assertEquals(1, CuT.getParkedCount(1));
+        Assertions.assertEquals("", drain());
+
+        game.changeTurn();
+
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.TRUE).toJson(), drain());
+        verify(context).complete();
+        Assertions.assertEquals(0, CuT.getParkedCount(1));
+    }
+
+    /**
+     * Verify a parked long poll is answered when the game ends
+     */
+    @Test
+    public void answer_parked_poll_on_game_end() throws Exception {
+        CuT.checkOrPark(request, response, game, this::isWhiteTurn);
+
+        game.endGame(Game.Status.WHITE_RESIGN);
+
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.FALSE).toJson(), drain());
+        verify(context).complete();
+    }
+
+    /**
+     * Verify a parked long poll is answered when it times out
+     */
+    @Test
+    public void answer_parked_poll_on_timeout() throws Exception {
+        CuT = new TurnWaiter(executor, 10);
+
+        CuT.checkOrPark(request, response, game, this::isWhiteTurn);
+        Thread.sleep(50);
+
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.FALSE).toJson(), drain());
+        verify(context).complete();
+        Assertions.assertEquals(0, CuT.getParkedCount(1));
+
+        // The answer is written only once
+        game.changeTurn();
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.FALSE).toJson(), drain());
+    }
+
+    /**
+     * Verify a client that is not ready for its answer does not hold up the answers of other requests
+     */
+    @Test
+    public void stalled_client_does_not_block() throws Exception {
+        WriteListener[] listener = new WriteListener[1];
+        boolean[] ready = { false };
+        ByteArrayOutputStream stalledWritten = new ByteArrayOutputStream();
+        HttpServletResponse stalledResponse = mock(HttpServletResponse.class);
+        when(stalledResponse.getOutputStream()).thenReturn(new ServletOutputStream() {
+            @Override
+            public boolean isReady() {
+                return ready[0];
+            }
+
+            @Override
+            public void setWriteListener(WriteListener writeListener) {
+                listener[0] = writeListener;
+            }
+
+            @Override
+            public void write(int b) {
+                stalledWritten.write(b);
+            }
+        });
+        AsyncContext stalledContext = mock(AsyncContext.class);
+        when(stalledContext.getResponse()).thenReturn(stalledResponse);
+
+        game.getLock().lock();
+        try {
+            CuT.park(game, stalledContext, this::isWhiteTurn);
+            CuT.park(game, context, this::isWhiteTurn);
+        }
+        finally {
+            game.getLock().unlock();
+        }
+
+        game.changeTurn();
+
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.TRUE).toJson(), drain());
+        verify(context).complete();
+        Assertions.assertEquals(0, stalledWritten.size());
+        verify(stalledContext, never()).complete();
+
+        // The container calls back once the client is ready
+        ready[0] = true;
+        listener[0].onWritePossible();
+        Assertions.assertEquals(Message.info(PostCheckTurnRoute.TRUE).toJson(),
+                new String(stalledWritten.toByteArray(), StandardCharsets.UTF_8));
+        verify(stalledContext).complete();
+    }
+}
@@ -0,0 +1,140 @@
+package com.webcheckers.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+
+/**
+ * The unit test suite for the {@link AsyncConsoleHandler} component.
+ */
+@Tag("Util-tier")
+public class AsyncConsoleHandlerTest {
+
+    /**
+     * A handler that keeps what it is given, and can hold up the writer thread
+     */
+    private static class Capture extends Handler {
+        final List<LogRecord> records = new CopyOnWriteArrayList<>();
+        final CountDownLatch entered = new CountDownLatch(1);
+        volatile CountDownLatch gate = new CountDownLatch(0);
+
+        @Override
+        public void publish(LogRecord record) {
+            entered.countDown();
+            try {
+                gate.await();
+            }
+            catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    }
+
+    /**
+     * Test that every record is written, in order, once the handler is flushed
+     */
+    @Test
+    public void testWritesInOrder() {
+        Capture console = new Capture();
+        AsyncConsoleHandler CuT = new AsyncConsoleHandler(console, 16);
+
+        for (int i = 0; i < 10; i++) {
+            CuT.publish(new LogRecord(Level.INFO, "record " + i));
+        }
+        CuT.flush();
+        CuT.close();
+
+        Assertions.assertEquals(10, console.records.size());
+        for (int i = 0; i < 10; i++) {
+            Assertions.assertEquals("record " + i, console.records.get(i).getMessage());
+        }
+        Assertions.assertEquals(0, CuT.getDroppedCount());
+    }
+
+    /**
+     * Test that a flush waits for the record the writer thread is still writing, not just for an empty buffer
+     */
+    @Test
+    public void testFlushWaitsForWrite() throws InterruptedException {
+        Capture console = new Capture();
+        console.gate = new CountDownLatch(1);
+        AsyncConsoleHandler CuT = new AsyncConsoleHandler(console, 4);
+
+        // the writer takes the only record and waits at the gate, leaving the buffer empty
+        CuT.publish(new LogRecord(Level.INFO, "first"));
+        Assertions.assertTrue(console.entered.await(5, TimeUnit.SECONDS));
+        Thread flusher = new Thread(CuT::flush);
+        flusher.start();
+        flusher.join(200);
+        Assertions.assertTrue(flusher.isAlive());
+
+        console.gate.countDown();
+        flusher.join(5000);
+        Assertions.assertFalse(flusher.isAlive());
+        Assertions.assertEquals(1, console.records.size());
+        CuT.close();
+    }
+
+    /**
+     * Test that a full buffer drops records instead of blocking, and reports them once it catches up
+     */
+    @Test
+    public void testDropsWhenFull() throws InterruptedException {
+        Capture console = new Capture();
+        console.gate = new CountDownLatch(1);
+        AsyncConsoleHandler CuT = new AsyncConsoleHandler(console, 2);
+
+        // the writer takes the first record and waits at the gate
+        CuT.publish(new LogRecord(Level.INFO, "first"));
+        Assertions.assertTrue(console.entered.await(5, TimeUnit.SECONDS));
+        for (int i = 0; i < 5; i++) {
+            CuT.publish(new LogRecord(Level.INFO, "queued " + i));
+        }
+        Assertions.assertEquals(3, CuT.getDroppedCount());
+
+        console.gate.countDown();
+        CuT.close();
+
+        Assertions.assertEquals("first", console.records.get(0).getMessage());
+        LogRecord warning = console.records.get(1);
+        Assertions.assertEquals(Level.WARNING, warning.getLevel());
+        Assertions.assertArrayEquals(new Object[] { 3L }, warning.getParameters());
+        Assertions.assertEquals("queued 0", console.records.get(2).getMessage());
+        Assertions.assertEquals("queued 1", console.records.get(3).getMessage());
+        Assertions.assertEquals(4, console.records.size());
+    }
+
+    /**
+     * Test that records below the level of the handler are not queued
+     */
+    @Test
+    public void testLevel() {
+        Capture console = new Capture();
+        AsyncConsoleHandler CuT = new AsyncConsoleHandler(console, 4);
+        CuT.setLevel(Level.INFO);
+
+        CuT.publish(new LogRecord(Level.FINE, "fine"));
+        CuT.publish(new LogRecord(Level.INFO, "info"));
+        CuT.close();
+
+        Assertions.assertEquals(1, console.records.size());
+        Assertions.assertEquals("info", console.records.get(0).getMessage());
+    }
+}
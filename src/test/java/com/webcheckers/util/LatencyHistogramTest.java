@@ -0,0 +1,90 @@
+package com.webcheckers.util;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * The unit test suite for the {@link LatencyHistogram} component.
+ */
+@Tag("Util-tier")
+public class LatencyHistogramTest {
+
+    /**
+     * Test that an empty histogram answers zero
+     */
+    @Test
+    public void testEmpty() {
+        LatencyHistogram histogram = new LatencyHistogram();
+
+        Assertions.assertEquals(0, histogram.getCount());
+        Assertions.assertEquals(0, histogram.getPercentileMicros(99));
+        Assertions.assertEquals(0, histogram.getMaxMicros());
+    }
+
+    /**
+     * Test that short latencies are counted exactly
+     */
+    @Test
+    public void testExact() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int micros = 1; micros <= 50; micros++) {
+            histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(micros));
+        }
+
+        Assertions.assertEquals(50, histogram.getCount());
+        Assertions.assertEquals(25, histogram.getPercentileMicros(50));
+        Assertions.assertEquals(50, histogram.getPercentileMicros(100));
+        Assertions.assertEquals(1, histogram.getPercentileMicros(0));
+        Assertions.assertEquals(50 * 51 / 2, histogram.getSumMicros());
+    }
+
+    /**
+     * Test that long latencies are read back within the precision of their bucket
+     */
+    @Test
+    public void testPrecision() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        for (int millis = 1; millis <= 1000; millis++) {
+            histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(millis));
+        }
+
+        long p50 = histogram.getPercentileMicros(50);
+        long p99 = histogram.getPercentileMicros(99);
+        long p999 = histogram.getPercentileMicros(99.9);
+        Assertions.assertTrue(p50 >= 500_000 && p50 <= 500_000 * 1.04, "p50 " + p50);
+        Assertions.assertTrue(p99 >= 990_000 && p99 <= 990_000 * 1.04, "p99 " + p99);
+        Assertions.assertTrue(p999 >= 999_000 && p999 <= 1_000_000, "p999 " + p999);
+        Assertions.assertEquals(1_000_000, histogram.getMaxMicros());
+    }
+
+    /**
+     * Test the counts at or below each bound
+     */
+    @Test
+    public void testCumulativeCounts() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(10));
+        histogram.recordNanos(TimeUnit.MICROSECONDS.toNanos(900));
+        histogram.recordNanos(TimeUnit.MILLISECONDS.toNanos(40));
+        histogram.recordNanos(TimeUnit.SECONDS.toNanos(20));
+
+        long[] counts = histogram.getCumulativeCounts(new long[] { 5, 1_000, 50_000, 10_000_000 });
+        Assertions.assertArrayEquals(new long[] { 0, 2, 3, 3, 4 }, counts);
+    }
+
+    /**
+     * Test that negative and huge latencies are clamped
+     */
+    @Test
+    public void testClamp() {
+        LatencyHistogram histogram = new LatencyHistogram();
+        histogram.recordNanos(-5);
+        histogram.recordNanos(TimeUnit.DAYS.toNanos(3));
+
+        Assertions.assertEquals(0, histogram.getPercentileMicros(50));
+        Assertions.assertEquals(TimeUnit.DAYS.toMicros(1), histogram.getPercentileMicros(100));
+    }
+}
@@ -0,0 +1,141 @@
+package com.webcheckers.util;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Handler;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.Logger;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * The unit test suite for the {@link Log} component.
+ */
+@Tag("Util-tier")
+public class LogTest {
+
+    /**
+     * Attributes
+     */
+    private Logger logger;
+    private Level oldLevel;
+    private final List<LogRecord> records = new ArrayList<>();
+    private final Handler capture = new Handler() {
+        @Override
+        public void publish(LogRecord record) {
+            records.add(record);
+        }
+
+        @Override
+        public void flush() {
+        }
+
+        @Override
+        public void close() {
+        }
+    };
+
+    private Log CuT;
+
+    /**
+     * Set up the logger before each test
+     */
+    @BeforeEach
+    public void setup() {
+        logger = Logger.getLogger(LogTest.class.getName());
+        oldLevel = logger.getLevel();
+        logger.setLevel(Level.FINE);
+        logger.addHandler(capture);
+
+        CuT = Log.getLog(LogTest.class);
+    }
+
+    /**
+     * Restore the logger after each test
+     */
+    @AfterEach
+    public void teardown() {
+        logger.removeHandler(capture);
+        logger.setLevel(oldLevel);
+    }
+
+    /**
+     * Test that a message is logged with its parameters, unformatted
+     */
+    @Test
+    public void testParameters() {
+        Object param = new Object();
+        CuT.fine("{0} and {1}", param, "b");
+
+        Assertions.assertEquals(1, records.size());
+        LogRecord record = records.get(0);
+        Assertions.assertEquals(Level.FINE, record.getLevel());
+        Assertions.assertEquals("{0} and {1}", record.getMessage());
+        Assertions.assertArrayEquals(new Object[] { param, "b" }, record.getParameters());
+    }
+
+    /**
+     * Test that a level that is not logged never touches the parameters
+     */
+    @Test
+    public void testLevelGuard() {
+        Object param = new Object() {
+            @Override
+            public String toString() {
+                throw new AssertionError("the parameter was formatted");
+            }
+        };
+        CuT.finer("{0} created.", param);
+        CuT.finest("JSON body: [{0}]", param);
+
+        Assertions.assertTrue(records.isEmpty());
+        Assertions.assertFalse(CuT.isLoggable(Level.FINER));
+        Assertions.assertTrue(CuT.isLoggable(Level.FINE));
+    }
+
+    /**
+     * Test that the source of a record is the logger, so the stack is never walked
+     */
+    @Test
+    public void testSource() {
+        CuT.severe("no parameters");
+
+        LogRecord record = records.get(0);
+        Assertions.assertEquals(LogTest.class.getName(), record.getLoggerName());
+        Assertions.assertEquals(LogTest.class.getName(), record.getSourceClassName());
+        Assertions.assertNull(record.getSourceMethodName());
+        Assertions.assertNull(record.getParameters());
+    }
+
+    /**
+     * Test that a thrown exception is logged with its message
+     */
+    @Test
+    public void testThrown() {
+        RuntimeException e = new RuntimeException();
+        CuT.log(Level.SEVERE, e, "The turn of {0} failed", "bot");
+
+        LogRecord record = records.get(0);
+        Assertions.assertSame(e, record.getThrown());
+        Assertions.assertEquals(LogTest.class.getName(), record.getSourceClassName());
+        Assertions.assertArrayEquals(new Object[] { "bot" }, record.getParameters());
+    }
+
+    /**
+     * Test that quoted parameters, as in the bad property warning of the Application, format as intended
+     */
+    @Test
+    public void testQuotedParameters() {
+        CuT.warning("Bad ''{0}'' value, ''{1}''; must be a boolean.", "demoMode", "yes");
+
+        Assertions.assertEquals(1, records.size());
+        Assertions.assertEquals("Bad 'demoMode' value, 'yes'; must be a boolean.",
+                new SimpleFormatter().formatMessage(records.get(0)));
+    }
+}
@@ -58,4 +58,34 @@ public class MessageTest {
         Assertions.assertFalse(testMessage1.equals(testMessage5));
     }
 
+    /**
+     * Test that the JSON of a message is written once and leaves out its cached forms.
+     */
+    @Test
+    public void testToJson() {
+        Message testMessage = Message.error("caf\u00e9");
+
+        Assertions.assertEquals("{\"text\":\"caf\u00e9\",\"type\":\"ERROR\"}", testMessage.toJson());
+        Assertions.assertSame(testMessage.toJson(), testMessage.toJson());
+        Assertions.assertArrayEquals(testMessage.toJson().getBytes(java.nio.charset.StandardCharsets.UTF_8),
+                testMessage.toJsonBytes());
+        Assertions.assertSame(testMessage.toJsonBytes(), testMessage.toJsonBytes());
+        // the cached JSON is not part of the JSON of a message inside another object
+        Assertions.assertEquals(testMessage.toJson(), new com.google.gson.Gson().toJson(testMessage));
+    }
+
+    /**
+     * Test that the type of a message is read back from its JSON.
+     */
+    @Test
+    public void testTypeOfJson() {
+        Assertions.assertEquals(Message.Type.INFO, Message.typeOfJson(Message.info("ok").toJsonBytes()));
+        Assertions.assertEquals(Message.Type.ERROR, Message.typeOfJson(Message.error("no").toJsonBytes()));
+        // a text that looks like the type field is escaped
+        Assertions.assertEquals(Message.Type.INFO,
+                Message.typeOfJson(Message.info("\"type\":\"ERROR\"}").toJsonBytes()));
+        Assertions.assertNull(Message.typeOfJson("<html></html>".getBytes(java.nio.charset.StandardCharsets.UTF_8)));
+        Assertions.assertNull(Message.typeOfJson(new byte[0]));
+    }
+
 }